@@ -8,6 +8,9 @@
 plugins {
     // Apply the application plugin to add support for building a CLI application in Java.
     application
+
+    // Benchmarks in src/jmh, run with ./gradlew jmh.
+    alias(libs.plugins.jmh)
 }
 
 repositories {
@@ -43,7 +46,31 @@ tasks.jar {
     }
 }
 
+jmh {
+    jmhVersion = libs.versions.jmh.asProvider()
+    benchmarkMode = listOf("thrpt")
+    // Allocation rate and GC counts next to throughput.
+    profilers = listOf("gc")
+    fork = 1
+    warmupIterations = 3
+    iterations = 5
+    // Corpus inputs are read from test-code. -PjmhIncludes=<regex> runs a subset of the benchmarks.
+    jvmArgsAppend = listOf("-Dbench.corpus=${rootDir}/test-code")
+    (findProperty("jmhIncludes") as String?)?.let { includes = listOf(it) }
+}
+
+// Scaling curves: time and heap of each phase against generated program size, as CSV on stdout.
+// -PscalingMax=<classes> sets the largest program.
+tasks.register<JavaExec>("scaling") {
+    group = "benchmark"
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass = "bench.Scaling"
+    args = listOfNotNull(findProperty("scalingMax") as String?)
+}
+
 tasks.named<Test>("test") {
     // Use JUnit Platform for unit tests.
     useJUnitPlatform()
+    // Tests also compile the typed programs in test-code.
+    systemProperty("test.corpus", "${rootDir}/test-code")
 }
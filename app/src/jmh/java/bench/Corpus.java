@@ -0,0 +1,33 @@
+package bench;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import gen.ProgramGenerator;
+
+// benchmark inputs: a file from test-code, or synthetic-<n>, ProgramGenerator's program with n classes
+// and otherwise default sizes. its methods take no args, since simple SSA rejects args that are live
+// across a loop
+final class Corpus {
+    private static final String DIR = System.getProperty("bench.corpus", "test-code");
+
+    private Corpus() {
+    }
+
+    static String load(String input) {
+        if (input.startsWith("synthetic-"))
+            return synthetic(Integer.parseInt(input.substring("synthetic-".length())));
+        try {
+            return Files.readString(Path.of(DIR, input), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read benchmark input " + input + " from " + DIR, e);
+        }
+    }
+
+    static String synthetic(int classes) {
+        return ProgramGenerator.generate(ProgramGenerator.Config.defaults().withClasses(classes).withMaxArgs(0));
+    }
+}
@@ -0,0 +1,191 @@
+package bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import cfg.CtrlFlowGraph;
+import cfg.IRWriter;
+import parser.ParsedCode;
+import parser.Parser;
+import tokenize.Tokenizer;
+import tokenize.token.Eof;
+
+// throughput of each compiler phase on its own. phases that change the CFG in place get a fresh one,
+// built up to just before them, for every invocation - the compiler keeps the program in CtrlFlowGraph's
+// static fields, so these states must not be shared between threads
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PhaseBenchmarks {
+    @State(Scope.Thread)
+    public static class Source {
+        @Param({ "simplestack-2.comp", "complexstack.comp", "unary.comp", "synthetic-10", "synthetic-100" })
+        public String input;
+        public String code;
+
+        @Setup(Level.Trial)
+        public void load() {
+            code = Corpus.load(input);
+        }
+
+        ParsedCode parse() {
+            return new Parser(new Tokenizer(code)).parse();
+        }
+    }
+
+    // simple SSA exits the compiler on complexstack, whose stk is only assigned on some paths
+    @State(Scope.Thread)
+    public static class SimpleSSASource {
+        @Param({ "simplestack-2.comp", "unary.comp", "synthetic-10", "synthetic-100" })
+        public String simpleInput;
+        public String code;
+        public CtrlFlowGraph cfg;
+
+        @Setup(Level.Trial)
+        public void load() {
+            code = Corpus.load(simpleInput);
+        }
+
+        @Setup(Level.Invocation)
+        public void build() {
+            cfg = new CtrlFlowGraph();
+            cfg.mkCfg(new Parser(new Tokenizer(code)).parse());
+        }
+    }
+
+    // the program, compiled as App does up to some phase
+    public abstract static class Compiled extends Source {
+        public CtrlFlowGraph cfg;
+
+        @Setup(Level.Invocation)
+        public void build() {
+            cfg = new CtrlFlowGraph();
+            cfg.mkCfg(parse());
+            prepare();
+        }
+
+        abstract void prepare();
+    }
+
+    @State(Scope.Thread)
+    public static class Parsed extends Source {
+        public ParsedCode parsed;
+
+        @Setup(Level.Invocation)
+        public void build() {
+            parsed = parse();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Built extends Compiled {
+        @Override
+        void prepare() {
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class InSSA extends Compiled {
+        @Override
+        void prepare() {
+            cfg.toSSA(false);
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Numbered extends Compiled {
+        @Override
+        void prepare() {
+            cfg.toSSA(false);
+            cfg.localValueNumber();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Optimized extends Compiled {
+        @Override
+        void prepare() {
+            cfg.toSSA(false);
+            cfg.localValueNumber();
+            cfg.cleanBlocks();
+        }
+    }
+
+    @Benchmark
+    public void tokenize(Source s, Blackhole bh) {
+        Tokenizer t = new Tokenizer(s.code);
+        Object tok;
+        do {
+            tok = t.next();
+            bh.consume(tok);
+        } while (!(tok instanceof Eof));
+    }
+
+    @Benchmark
+    public ParsedCode parse(Source s) {
+        return s.parse();
+    }
+
+    @Benchmark
+    public CtrlFlowGraph mkCfg(Parsed s) {
+        CtrlFlowGraph cfg = new CtrlFlowGraph();
+        cfg.mkCfg(s.parsed);
+        return cfg;
+    }
+
+    @Benchmark
+    public CtrlFlowGraph toSSA(Built s) {
+        s.cfg.toSSA(false);
+        return s.cfg;
+    }
+
+    @Benchmark
+    public CtrlFlowGraph toSimpleSSA(SimpleSSASource s) {
+        s.cfg.toSSA(true);
+        return s.cfg;
+    }
+
+    @Benchmark
+    public CtrlFlowGraph localValueNumber(InSSA s) {
+        s.cfg.localValueNumber();
+        return s.cfg;
+    }
+
+    @Benchmark
+    public CtrlFlowGraph cleanBlocks(Numbered s) {
+        s.cfg.cleanBlocks();
+        return s.cfg;
+    }
+
+    @Benchmark
+    public void writeIR(Optimized s) throws IOException {
+        IRWriter out = new IRWriter(Writer.nullWriter());
+        out.writeProgram();
+        out.flush();
+    }
+
+    // every phase together, as App runs them
+    @Benchmark
+    public CtrlFlowGraph compile(Source s) throws IOException {
+        CtrlFlowGraph cfg = new CtrlFlowGraph();
+        cfg.mkCfg(s.parse());
+        cfg.toSSA(false);
+        cfg.localValueNumber();
+        cfg.cleanBlocks();
+        IRWriter out = new IRWriter(Writer.nullWriter());
+        out.writeProgram();
+        out.flush();
+        return cfg;
+    }
+}
@@ -0,0 +1,182 @@
+package bench;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.List;
+
+import cfg.CtrlFlowGraph;
+import cfg.IRWriter;
+import gen.ProgramGenerator;
+import parser.ParsedCode;
+import parser.Parser;
+import tokenize.Tokenizer;
+import tokenize.token.Eof;
+
+// scaling curves: time and heap of each compiler phase against program size, on ProgramGenerator's
+// programs with 1, 2, 4 .. max classes. prints CSV, one line per size and phase:
+//   classes,lines,phase,ms,alloc_mb,live_mb
+// ms is the fastest of the timed runs, alloc_mb what the phase allocated, and live_mb how much the live
+// heap grew over the phase - what it leaves behind for the phases after it. live_mb can be negative:
+// phases that work in place can free more than they add, and parsing replaces the previous program's
+// types in DataType's table
+//
+// Scaling [max classes] [runs]
+public final class Scaling {
+    private interface Step {
+        Object run(Object in) throws IOException;
+    }
+
+    // prepare builds the phase's input from the source, untimed
+    private record Phase(String name, Step prepare, Step run) {
+    }
+
+    private static final Step SOURCE = in -> in;
+
+    private static final List<Phase> PHASES = List.of(
+            new Phase("tokenize", SOURCE, in -> tokenize((String) in)),
+            new Phase("parse", SOURCE, in -> parse((String) in)),
+            new Phase("mkCfg", in -> parse((String) in), in -> build((ParsedCode) in)),
+            new Phase("toSSA", in -> build(parse((String) in)), in -> {
+                ((CtrlFlowGraph) in).toSSA(false);
+                return in;
+            }),
+            new Phase("toSimpleSSA", in -> build(parse((String) in)), in -> {
+                ((CtrlFlowGraph) in).toSSA(true);
+                return in;
+            }),
+            new Phase("localValueNumber", in -> inSSA((String) in), in -> {
+                ((CtrlFlowGraph) in).localValueNumber();
+                return in;
+            }),
+            new Phase("cleanBlocks", in -> numbered((String) in), in -> {
+                ((CtrlFlowGraph) in).cleanBlocks();
+                return in;
+            }),
+            new Phase("writeIR", in -> {
+                CtrlFlowGraph cfg = numbered((String) in);
+                cfg.cleanBlocks();
+                return cfg;
+            }, in -> {
+                IRWriter out = new IRWriter(Writer.nullWriter());
+                out.writeProgram();
+                out.flush();
+                return in;
+            }));
+
+    private Scaling() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        int max = args.length > 0 ? Integer.parseInt(args[0]) : 256;
+        int runs = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+
+        System.out.println("classes,lines,phase,ms,alloc_mb,live_mb");
+        for (int classes = 1; classes <= max; classes *= 2) {
+            // no args, so simple SSA accepts every method
+            String code = ProgramGenerator
+                    .generate(ProgramGenerator.Config.defaults().withClasses(classes).withMaxArgs(0));
+            long lines = code.lines().count();
+            for (Phase phase : PHASES) {
+                timed(phase, code); // warmup
+                long best = Long.MAX_VALUE;
+                for (int run = 0; run < runs; run++)
+                    best = Math.min(best, timed(phase, code));
+                long[] heap = measured(phase, code, threads);
+                System.out.printf("%d,%d,%s,%.3f,%.3f,%.3f%n", classes, lines, phase.name(), best / 1e6,
+                        heap[0] / 1e6, heap[1] / 1e6);
+            }
+        }
+    }
+
+    // each run in a method of its own, so nothing from one run is still reachable in the next
+
+    private static long timed(Phase phase, String code) throws IOException {
+        forget();
+        Object in = phase.prepare().run(code);
+        long start = System.nanoTime();
+        phase.run().run(in);
+        return System.nanoTime() - start;
+    }
+
+    // {bytes allocated, bytes the live heap grew}
+    private static long[] measured(Phase phase, String code, com.sun.management.ThreadMXBean threads)
+            throws IOException {
+        forget();
+        Object in = phase.prepare().run(code);
+        long heapBefore = liveHeap();
+        long allocBefore = threads.getCurrentThreadAllocatedBytes();
+        Object out = phase.run().run(in);
+        long alloc = threads.getCurrentThreadAllocatedBytes() - allocBefore;
+        long live = liveHeap() - heapBefore;
+        reachable(in);
+        reachable(out);
+        return new long[] { alloc, live };
+    }
+
+    private static volatile Object sink;
+
+    // the heap left after a full collection, by pool, which is exact where MemoryMXBean rounds to regions
+    private static long liveHeap() {
+        System.gc();
+        long used = 0;
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans())
+            if (pool.getType() == MemoryType.HEAP && pool.getCollectionUsage() != null)
+                used += pool.getCollectionUsage().getUsed();
+        return used;
+    }
+
+    // keeps a phase's input and output reachable until the heap after it has been measured
+    private static void reachable(Object o) {
+        sink = o;
+        sink = null;
+    }
+
+    // drops the program the last run left in CtrlFlowGraph's static fields, which would otherwise be
+    // freed in the middle of the next phase that builds one
+    private static void forget() {
+        CtrlFlowGraph.CFGDataBlock = null;
+        CtrlFlowGraph.globals = null;
+        CtrlFlowGraph.methods = null;
+        CtrlFlowGraph.main = null;
+        CtrlFlowGraph.classes = null;
+        CtrlFlowGraph.parsedCode = null;
+    }
+
+    private static Object tokenize(String code) {
+        Tokenizer t = new Tokenizer(code);
+        Object tok;
+        int n = 0;
+        do {
+            tok = t.next();
+            n++;
+        } while (!(tok instanceof Eof));
+        return n;
+    }
+
+    private static ParsedCode parse(String code) {
+        return new Parser(new Tokenizer(code)).parse();
+    }
+
+    private static CtrlFlowGraph build(ParsedCode parsed) {
+        CtrlFlowGraph cfg = new CtrlFlowGraph();
+        cfg.mkCfg(parsed);
+        return cfg;
+    }
+
+    private static CtrlFlowGraph inSSA(String code) {
+        CtrlFlowGraph cfg = build(parse(code));
+        cfg.toSSA(false);
+        return cfg;
+    }
+
+    private static CtrlFlowGraph numbered(String code) {
+        CtrlFlowGraph cfg = inSSA(code);
+        cfg.localValueNumber();
+        return cfg;
+    }
+}
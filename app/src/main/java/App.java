@@ -1,13 +1,23 @@
 
+import java.io.BufferedOutputStream;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
 import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.function.Supplier;
 
 
 import cfg.*;
+import events.PhaseEvent;
+import interp.*;
 import tokenize.Tokenizer;
 import util.*;
 import parser.*;
 
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.charset.StandardCharsets;
 
@@ -17,14 +27,22 @@ import java.nio.charset.StandardCharsets;
 public class App {
     public static CtrlFlowGraph cfg;
     static boolean debug = false;
+    static String debugPhases = ""; // set by -d=<phases>
+    static CompileStats stats; // set by -stats
+    static String input; // the file being compiled, for PhaseEvents
+    static final int OUT_BUFFER_SIZE = 1 << 16;
     public static void main(String[] args) {
         if (args.length < 1) {
             System.err.println("Usage: <comp> infile [-o outfile] [args...]");
             System.exit(1);
         }
+        cfg = new CtrlFlowGraph();
         String inFilePath = args[0];
-        String outFilePath = "";
-        boolean ssa = true, outName = false, simple = false, vn = true;
+        input = inFilePath;
+        String outFilePath = "", profileIn = "", profileOut = "";
+        int level = 2; // -O<n>
+        ArrayList<String> enabled = new ArrayList<>(), disabled = new ArrayList<>(); // -enable= and -disable=
+        boolean outName = false, simple = false, vn = true, stream = false, binary = false, irInput = false, run = false, tree = false, jit = false, jar = false, c = false;
         if(args.length >= 3 && args[1].equals("-o")) {
             
         }
@@ -32,13 +50,39 @@ public class App {
         for(int nextArg =  1; nextArg < args.length; nextArg++) {
             switch (args[nextArg]) {
                 case "-noSSA":
-                    ssa = false;
+                    disabled.add("ssa");
                     break;
                 case "-simpleSSA":
                     simple = true;
                     break;
                 case "-noVN":
-                    vn = false;
+                    disabled.add("vn");
+                    break;
+                case "-stream":
+                    stream = true;
+                    break;
+                case "-binary":
+                    binary = true;
+                    break;
+                case "-jar":
+                    jar = true;
+                    break;
+                case "-c":
+                    c = true;
+                    break;
+                case "-ir":
+                    irInput = true;
+                    break;
+                case "-run":
+                    run = true;
+                    break;
+                case "-runTree":
+                    run = true;
+                    tree = true;
+                    break;
+                case "-jit":
+                    run = true;
+                    jit = true;
                     break;
                 case "-o":
                     if(nextArg >= (args.length - 1))
@@ -49,48 +93,294 @@ public class App {
                     outFilePath = args[nextArg];
                     outName = true;
                     break;
+                case "-profile":
+                    if(nextArg >= (args.length - 1))
+                        throw new IllegalArgumentException("Error: received -profile flag but no following arg to designate profile file");
+                    profileIn = args[++nextArg];
+                    break;
+                case "-writeProfile":
+                    if(nextArg >= (args.length - 1))
+                        throw new IllegalArgumentException("Error: received -writeProfile flag but no following arg to designate profile file");
+                    profileOut = args[++nextArg];
+                    run = true;
+                    tree = true;
+                    break;
                 case "-d":
                     debug = true;
                     break;
+                case "-stats":
+                    stats = new CompileStats();
+                    break;
                 default:
+                    if(args[nextArg].startsWith("-d=")) {
+                        debugPhases = args[nextArg].substring(3);
+                        break;
+                    }
+                    if(args[nextArg].matches("-O[0-9]")) {
+                        level = args[nextArg].charAt(2) - '0';
+                        break;
+                    }
+                    if(args[nextArg].startsWith("-enable=")) {
+                        enabled.add(args[nextArg].substring(8));
+                        break;
+                    }
+                    if(args[nextArg].startsWith("-disable=")) {
+                        disabled.add(args[nextArg].substring(9));
+                        break;
+                    }
                     System.out.print("Command-line arg "+args[nextArg]+" not recognized");
                     System.exit(1);
             }
         }
-        vn = vn && ssa;
-        Output.configure(debug);
+        PassManager passes = null;
+        try {
+            passes = new PassManager(cfg, level, simple);
+            passes.configure(enabled, disabled);
+        } catch(IllegalArgumentException e) {
+            System.out.println(e.getMessage());
+            System.exit(1);
+        }
+        if(binary && !outName)
+            throw new IllegalArgumentException("Error: received -binary flag but no -o file to write it to");
+        if(jar && !outName)
+            throw new IllegalArgumentException("Error: received -jar flag but no -o file to write it to");
+        if(jar && (binary || stream))
+            throw new IllegalArgumentException("Error: -jar output cannot be combined with -binary or -stream");
+        if(c && !outName)
+            throw new IllegalArgumentException("Error: received -c flag but no -o file to write it to");
+        if(c && (binary || stream || jar))
+            throw new IllegalArgumentException("Error: -c output cannot be combined with -binary, -stream or -jar");
+        if(binary && stream)
+            throw new IllegalArgumentException("Error: -binary output cannot be streamed");
+        if(irInput && stream)
+            throw new IllegalArgumentException("Error: -ir input cannot be streamed");
+        if(run && stream)
+            throw new IllegalArgumentException("Error: -run needs the whole program, so it cannot be streamed");
+        if(stats != null && stream)
+            throw new IllegalArgumentException("Error: -stats times each phase over the whole program, so it cannot be streamed");
+        if(debugPhases.isEmpty())
+            Output.configure(debug);
+        else {
+            try {
+                Output.configure(debugPhases);
+            } catch(IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+                System.exit(1);
+            }
+        }
         String code = "";
         try {
-            code = Files.readString(Path.of("test-code/"+inFilePath), StandardCharsets.UTF_8);
+            code = Files.readString(Path.of((irInput ? "test-out/" : "test-code/")+inFilePath), StandardCharsets.UTF_8);
         } catch(Exception e) {
             System.err.println("Failed to locate file "+inFilePath);
             System.exit(1);
         }
+        if(!profileIn.isEmpty()) {
+            try {
+                cfg.loadProfile(Files.readString(Path.of("test-out/"+profileIn), StandardCharsets.UTF_8));
+            } catch(IOException e) {
+                System.err.println("Failed to locate profile "+profileIn);
+                System.exit(1);
+            } catch(IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+                System.exit(1);
+            }
+        }
+        String source = code;
+        if(irInput) { // optimize-only: skip the front end and rebuild the CFG from IR
+            boolean inSSA = false;
+            try {
+                inSSA = phase(CompilePhase.CFG, () -> cfg.readIR(source));
+            } catch(IllegalArgumentException e) {
+                System.out.println(e.getMessage());
+                System.exit(1);
+            }
+            passes.setInSSA(inSSA);
+            optimize(passes);
+            if(run)
+                interpret(tree, jit, profileOut);
+            if(!run || outName)
+                writeOutput(outFilePath, binary, jar, c);
+            writeStats();
+            return;
+        }
+        if(stats != null) // the parser pulls tokens as it needs them, so tokenizing is also timed as a pass of its own
+            phase(CompilePhase.TOKEN, () -> tokenizeAll(source));
         Tokenizer tok = new Tokenizer(code);
         Parser p = new Parser(tok);
-        ParsedCode pc = p.parse();
+        ParsedCode pc = phase(CompilePhase.PARSE, () -> p.parse());
         ErrorAccumulator.emitErrors(); //emit any parser errors
-        cfg = new CtrlFlowGraph();
-        cfg.mkCfg(pc);
+        if(stream) {
+            try {
+                IRWriter out = openOutput(outFilePath);
+                cfg.compileStreaming(pc, out, passes);
+                closeOutput(out, outFilePath);
+            } catch(IOException e) {
+                System.err.println("Cannot write code to file "+outFilePath);
+                e.printStackTrace();
+            }
+            return;
+        }
+        phase(CompilePhase.CFG, () -> cfg.mkCfg(pc));
         ErrorAccumulator.emitErrors(); //emit any CFG errors
-        if(ssa)
-            cfg.toSSA(simple);
-        ErrorAccumulator.emitErrors(); //emit any SSA errors
-        if(vn)
-            cfg.localValueNumber();
-        cfg.cleanBlocks();
-        ErrorAccumulator.emitErrors(); //emit any VN errors
-        if(outFilePath == "") {
-            System.out.println(cfg);
+        optimize(passes);
+        if(run)
+            interpret(tree, jit, profileOut);
+        if(!run || outName)
+            writeOutput(outFilePath, binary, jar, c);
+        writeStats();
+    }
+
+    // runs one compiler phase, measured under -stats and recorded as a PhaseEvent when JFR is recording them
+    private static <T> T phase(CompilePhase p, Supplier<T> work) {
+        PhaseEvent event = new PhaseEvent();
+        event.begin();
+        T result = stats == null ? work.get() : stats.measure(p, work);
+        event.end();
+        if(event.shouldCommit()) {
+            event.phase = p.label();
+            event.input = input;
+            CompileStats.IRCounts counts = CompileStats.IRCounts.current();
+            if(counts != null) {
+                event.blocks = counts.blocks();
+                event.ops = counts.ops() + counts.phis();
+            }
+            event.commit();
+        }
+        return result;
+    }
+
+    private static void phase(CompilePhase p, Runnable work) {
+        phase(p, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    private static int tokenizeAll(String code) {
+        Tokenizer tok = new Tokenizer(code);
+        int n = 0;
+        while(!(tok.next() instanceof tokenize.token.Eof))
+            n++;
+        return n;
+    }
+
+    // to stderr, so it stays out of IR written to the console
+    private static void writeStats() {
+        if(stats != null)
+            stats.write(System.err);
+    }
+
+    // run the program in-process and report the same result and stats as ir441
+    private static void interpret(boolean tree, boolean jit, String profileOut) {
+        ExecutionEngine interp = tree
+                ? new Interpreter(CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main, System.out)
+                : jit
+                ? new TieredEngine(CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main, System.out)
+                : new BytecodeEngine(CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main, System.out);
+        if(!profileOut.isEmpty()) // -writeProfile runs on the tree interpreter, which knows the blocks
+            ((Interpreter) interp).recordProfile();
+        try {
+            long result = interp.run();
+            System.out.println("Final result: Data { val: "+result+" }");
+        } catch(IllegalStateException e) {
+            System.out.println(e.getMessage());
+        }
+        System.out.println("Execution stats:");
+        System.out.println(interp.stats());
+        if(!profileOut.isEmpty()) {
+            try (BufferedWriter out = Files.newBufferedWriter(Path.of("test-out/"+profileOut), StandardCharsets.UTF_8)) {
+                ((Interpreter) interp).profile().write(out);
+            } catch(IOException e) {
+                System.err.println("Cannot write profile to file "+profileOut);
+                e.printStackTrace();
+            }
+        }
+    }
+
+    private static void optimize(PassManager passes) {
+        passes.run(App::phase); // emits the errors of each phase as it ends
+    }
+
+    private static void writeOutput(String outFilePath, boolean binary, boolean jar, boolean c) {
+        phase(CompilePhase.EMIT, () -> emit(outFilePath, binary, jar, c));
+    }
+
+    private static void emit(String outFilePath, boolean binary, boolean jar, boolean c) {
+        if(c) {
+            try (BufferedWriter out = Files.newBufferedWriter(Path.of("test-out/"+outFilePath), StandardCharsets.UTF_8)) {
+                CWriter.write(out, CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main);
+            } catch(IOException e) {
+                System.err.println("Cannot write code to file "+outFilePath);
+                e.printStackTrace();
+            }
+            return;
+        }
+        if(jar) {
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(Path.of("test-out/"+outFilePath),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING), OUT_BUFFER_SIZE)) {
+                JarWriter.write(out, CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main);
+            } catch(IOException e) {
+                System.err.println("Cannot write code to file "+outFilePath);
+                e.printStackTrace();
+            }
+            return;
+        }
+        if(binary) {
+            // close() writes the tables even after a failed encode, so the file is built beside the output and
+            // only renamed over it once complete
+            Path target = Path.of("test-out/"+outFilePath).toAbsolutePath(), tmp = null;
+            try {
+                tmp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+                try (BinaryIRWriter out = new BinaryIRWriter(new BufferedOutputStream(Files.newOutputStream(tmp), OUT_BUFFER_SIZE))) {
+                    out.writeProgram();
+                }
+                Files.move(tmp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch(Exception e) {
+                System.err.println("Cannot write code to file "+outFilePath);
+                e.printStackTrace();
+                deleteQuietly(tmp);
+            }
             return;
         }
         try {
-            Files.write(Path.of("test-out/"+outFilePath), cfg.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING);
+            IRWriter out = openOutput(outFilePath);
+            out.writeProgram();
+            closeOutput(out, outFilePath);
         } catch(Exception e) {
             System.err.println("Cannot write code to file "+outFilePath);
             e.printStackTrace();
         }
     }
 
+    // IR goes to test-out/<outFilePath>, or to the console if no output file was given
+    private static IRWriter openOutput(String outFilePath) throws IOException {
+        if(outFilePath == "")
+            return new IRWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), OUT_BUFFER_SIZE));
+        return new IRWriter(new BufferedWriter(new OutputStreamWriter(Files.newOutputStream(Path.of("test-out/"+outFilePath),
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING), StandardCharsets.UTF_8), OUT_BUFFER_SIZE));
+    }
+
+    // console output ends in a newline like println did, and leaves System.out open
+    private static void closeOutput(IRWriter out, String outFilePath) throws IOException {
+        if(outFilePath == "") {
+            out.newLine();
+            out.flush();
+        }
+        else
+            out.close();
+    }
+
+    // the half-written file a failed emit leaves, if any
+    private static void deleteQuietly(Path p) {
+        if(p == null)
+            return;
+        try {
+            Files.deleteIfExists(p);
+        } catch(IOException e) {
+            System.err.println("Cannot remove "+p);
+        }
+    }
+
     
 }
@@ -0,0 +1,55 @@
+package cfg;
+
+import java.util.function.BiFunction;
+
+// the analyses passes share through AnalysisCache
+public final class Analyses {
+    private Analyses() {
+    }
+
+    // the dominator tree of the reachable blocks. passes that edit edges can keep it up to date as they go
+    public static final Analysis<DominatorTree> DOMINATOR_TREE = of("domtree", false,
+            (m, analyses) -> DominatorTree.compute(m));
+
+    // the dominator tree, written out into each block's dominators, inverseDominators, immediateDominator
+    // and dominanceFrontier, which toSSA reads. nothing keeps those fields up to date, so any CFG change
+    // drops this even where the tree itself is kept
+    public static final Analysis<DominatorTree> DOMINANCE = of("dominance", false, (m, analyses) -> {
+        DominatorTree tree = analyses.get(DOMINATOR_TREE, m);
+        CtrlFlowGraph.setDominators(m.blocks(), tree);
+        return tree;
+    });
+
+    // the natural loops and how they nest
+    public static final Analysis<Loops> LOOPS = of("loops", false,
+            (m, analyses) -> Loops.compute(m, analyses.get(DOMINATOR_TREE, m)));
+
+    // the dataflow analyses, see Dataflow
+    public static final Analysis<Liveness> LIVENESS = of("liveness", true, (m, analyses) -> Liveness.compute(m));
+    public static final Analysis<ReachingDefinitions> REACHING_DEFINITIONS = of("reaching", true,
+            (m, analyses) -> ReachingDefinitions.compute(m));
+    public static final Analysis<AvailableExpressions> AVAILABLE_EXPRESSIONS = of("available", true,
+            (m, analyses) -> AvailableExpressions.compute(m));
+    public static final Analysis<ConstantPropagation> CONSTANTS = of("constants", true,
+            (m, analyses) -> ConstantPropagation.compute(m));
+
+    private static <T> Analysis<T> of(String name, boolean dependsOnCode,
+            BiFunction<CFGMethod, AnalysisCache, T> compute) {
+        return new Analysis<>() {
+            @Override
+            public String name() {
+                return name;
+            }
+
+            @Override
+            public boolean dependsOnCode() {
+                return dependsOnCode;
+            }
+
+            @Override
+            public T compute(CFGMethod m, AnalysisCache analyses) {
+                return compute.apply(m, analyses);
+            }
+        };
+    }
+}
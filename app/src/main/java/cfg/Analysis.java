@@ -0,0 +1,11 @@
+package cfg;
+
+// a fact computed about one method, cached by AnalysisCache until a pass changes what it depends on
+public interface Analysis<T> {
+    String name();
+
+    // whether the result depends on ops and phis, and not just on the blocks and their edges
+    boolean dependsOnCode();
+
+    T compute(CFGMethod m, AnalysisCache analyses);
+}
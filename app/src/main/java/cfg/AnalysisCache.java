@@ -0,0 +1,51 @@
+package cfg;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+
+// analysis results per method, computed on first use and dropped when a pass changes the method in a
+// way they depend on
+public final class AnalysisCache {
+    private final IdentityHashMap<CFGMethod, HashMap<Analysis<?>, Object>> results = new IdentityHashMap<>();
+    private int hits, misses;
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Analysis<T> analysis, CFGMethod m) {
+        HashMap<Analysis<?>, Object> cached = results.computeIfAbsent(m, k -> new HashMap<>());
+        T result = (T) cached.get(analysis);
+        if (result != null) {
+            hits++;
+            return result;
+        }
+        misses++;
+        result = analysis.compute(m, this);
+        cached.put(analysis, result);
+        return result;
+    }
+
+    public boolean has(Analysis<?> analysis, CFGMethod m) {
+        HashMap<Analysis<?>, Object> cached = results.get(m);
+        return cached != null && cached.containsKey(analysis);
+    }
+
+    // keep a result a pass maintained itself through its changes
+    public <T> void put(Analysis<T> analysis, CFGMethod m, T result) {
+        results.computeIfAbsent(m, k -> new HashMap<>()).put(analysis, result);
+    }
+
+    // drop what p's run on m may have made stale
+    public void invalidate(CFGMethod m, Pass p, Pass.Effect effect) {
+        HashMap<Analysis<?>, Object> cached = results.get(m);
+        if (cached == null || effect == Pass.Effect.NONE)
+            return;
+        cached.keySet().removeIf(a -> !p.preserves(a) && (effect == Pass.Effect.CFG || a.dependsOnCode()));
+    }
+
+    public int hits() {
+        return hits;
+    }
+
+    public int misses() {
+        return misses;
+    }
+}
@@ -0,0 +1,86 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import cfg.expr.CFGBinOp;
+import cfg.expr.data.CFGVar;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+
+// the arithmetic and comparisons already computed on every path to the top of each block, with none of
+// their operands assigned since. expressions are told apart by how they print, e.g. %x1 + 1, so the same
+// text in two places is the same expression. loads, calls and allocations are never available
+public final class AvailableExpressions {
+    private final ArrayList<String> exprs = new ArrayList<>();
+    private final HashMap<String, Integer> index = new HashMap<>();
+    private final Dataflow.Result<BitSet> result;
+
+    private AvailableExpressions(CFGMethod m) {
+        result = Dataflow.solve(m, new Problem(m));
+    }
+
+    public static AvailableExpressions compute(CFGMethod m) {
+        return new AvailableExpressions(m);
+    }
+
+    public boolean availableIn(BasicBlock b, CFGBinOp e) {
+        Integer i = index.get(e.toString());
+        BitSet in = result.in().get(b);
+        return i != null && in != null && in.get(i);
+    }
+
+    // null for unreachable blocks
+    public HashSet<String> availableIn(BasicBlock b) {
+        BitSet bits = result.in().get(b);
+        if (bits == null)
+            return null;
+        HashSet<String> available = new HashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+            available.add(exprs.get(i));
+        return available;
+    }
+
+    public int visits() {
+        return result.visits();
+    }
+
+    private final class Problem extends Dataflow.BitVector {
+        Problem(CFGMethod m) {
+            super(Dataflow.Direction.FORWARD, false);
+            HashMap<String, BitSet> readers = new HashMap<>(); // the expressions reading each variable
+            for (BasicBlock b : m.blocks())
+                for (CFGOp o : b.getOps())
+                    if (o instanceof CFGAssn a && a.expr() instanceof CFGBinOp e && !index.containsKey(e.toString())) {
+                        index.put(e.toString(), exprs.size());
+                        exprs.add(e.toString());
+                        e.forEachOperand(x -> {
+                            if (x instanceof CFGVar v)
+                                readers.computeIfAbsent(v.toString(), k -> new BitSet()).set(exprs.size() - 1);
+                        });
+                    }
+            BitSet none = new BitSet();
+            for (BasicBlock b : m.blocks()) {
+                BitSet g = new BitSet(), k = new BitSet();
+                for (CFGAssn phi : b.getPhis())
+                    k.or(readers.getOrDefault(phi.var().toString(), none));
+                for (CFGOp o : b.getOps()) {
+                    if (!(o instanceof CFGAssn a))
+                        continue;
+                    if (a.expr() instanceof CFGBinOp e) {
+                        g.set(index.get(e.toString()));
+                        k.clear(index.get(e.toString()));
+                    }
+                    BitSet killed = readers.getOrDefault(a.var().toString(), none);
+                    g.andNot(killed);
+                    k.or(killed);
+                }
+                gen.put(b, g);
+                kill.put(b, k);
+            }
+            size = exprs.size();
+        }
+    }
+}
@@ -1,17 +1,15 @@
 package cfg;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 
 import cfg.expr.*;
 import cfg.jump.*;
 import cfg.expr.data.*;
 import cfg.op.*;
-import parser.expression.*;
-import parser.statement.*;
-import util.DataType;
+import util.CompilePhase;
 import util.Output;
 
 public // identifier: name of the basic block
@@ -19,12 +17,10 @@ public // identifier: name of the basic block
 // ops: non-jumping operations, in order
 // jump: jump, return, or conditional that ends the block
 class BasicBlock {
-    public static int blockId = 0;
     public static int ptrFails = 0;
     public static int numberFails = 0;
     public static int fieldFails = 0;
     public static int methodFails = 0;
-    private static BasicBlock currBlock;
 
     private String identifier;
     private HashSet<CFGVar> actives;
@@ -46,12 +42,15 @@ class BasicBlock {
         return ops;
     }
 
-    // replace predecessor "a" with "b"
+    // replace predecessor "a" with "b", in the phis too
     public void replacePred(BasicBlock a, BasicBlock b) {
+        for (CFGAssn phi : phis)
+            ((CFGPhi) phi.expr()).blocks().replaceAll(p -> p == a ? b : p);
         preds.remove(a);
         preds.add(b);
         a.succs.remove(this);
-        b.succs.add(this);
+        if (!b.succs.contains(this))
+            b.succs.add(this);
     }
 
     public void setJmp(CFGJumpOp jmp) {
@@ -62,24 +61,36 @@ class BasicBlock {
         this.ops.addAll(ops);
     }
 
+    // drop the edge to s, and what s's phis took along it
     public void removeSucc(BasicBlock s) {
         succs.remove(s);
         s.preds.remove(this);
+        for (CFGAssn phi : s.phis) {
+            CFGPhi p = (CFGPhi) phi.expr();
+            int i = p.blocks().indexOf(this);
+            if (i >= 0) {
+                p.blocks().remove(i);
+                p.varVersions().remove(i);
+            }
+        }
     }
 
     public CFGJumpOp getJmp() {
         return jmp;
     }
 
-    public void doLocalValueNumbering() {
+    // returns how many passes over the block it took
+    public int doLocalValueNumbering() {
         ArrayList<CFGExpr> vn = new ArrayList<>();
         ArrayList<CFGVar> names = new ArrayList<>(); // list of already-defined variables
         ArrayList<CFGOp> deadOps = new ArrayList<>();
-        int index;
+        int index, passes = 0;
         boolean changed = true;
         while (changed) {
             changed = false;
+            passes++;
             vn.clear();
+            names.clear(); // names.get(i) is the variable holding vn.get(i)
             for (CFGOp o : ops) {
                 switch (o) {
                     case CFGAssn a:
@@ -119,6 +130,7 @@ class BasicBlock {
                 ops.remove(o);
             }
         }
+        return passes;
     }
 
     // replace ALL usages of oldVar in the method with newVar
@@ -132,77 +144,13 @@ class BasicBlock {
         }
     }
 
-    // replace usages of the CFGVar old with new (in expressions)
+    // replace usages of the CFGVar old with new (in expressions), rewriting operands in place
     public void replaceUsages(CFGVar oldVar, CFGValue newVar) {
-        for (CFGAssn p : phis) {
-            p.setExpr(replaceUsagesExpr(p.expr(), oldVar, newVar));
-        }
-        for (CFGOp o : ops) {
-            switch (o) {
-                // need cases for all op types calling replaceUsagesExpr on their exprs
-                case CFGAssn a:
-                    a.setExpr(replaceUsagesExpr(a.expr(), oldVar, newVar));
-                    break;
-                case CFGStore s:
-                    s.setBase((CFGVar) replaceUsagesExpr(s.base(), oldVar, newVar));
-                    s.setIndex((CFGData) replaceUsagesExpr(s.index(), oldVar, newVar));
-                    break;
-                case CFGSet s:
-                    s.setAddr((CFGVar) replaceUsagesExpr(s.addr(), oldVar, newVar));
-                    s.setIndex((CFGValue) replaceUsagesExpr(s.index(), oldVar, newVar));
-                    s.setVal((CFGData) replaceUsagesExpr(s.val(), oldVar, newVar));
-                    break;
-                case CFGPrint p:
-                    p.setVal((CFGValue) replaceUsagesExpr(p.val(), oldVar, newVar));
-                    break;
-                default:
-                    break;
-            }
-        }
-        switch (jmp) {
-            case CFGRetOp r:
-                r.setVal((CFGValue) replaceUsagesExpr(r.val(), oldVar, newVar));
-                break;
-            case CFGCondOp c:
-                c.setCond((CFGValue) replaceUsagesExpr(c.cond(), oldVar, newVar));
-                break;
-            default:
-                break;
-        }
-    }
-
-    // replace usages of oldVar with newVar in the expression e
-    public CFGExpr replaceUsagesExpr(CFGExpr e, CFGVar oldVar, CFGValue newVar) {
-        switch (e) {
-            case CFGVar v:
-                return v.equals(oldVar) ? newVar : v;
-            case CFGBinOp b:
-                return new CFGBinOp(oldVar.equals(b.lhs()) ? newVar : b.lhs(), b.op(),
-                        oldVar.equals(b.rhs()) ? newVar : b.rhs());
-            case CFGGet g:
-                return new CFGGet(oldVar.equals(g.arr()) ? (CFGVar) newVar : g.arr(),
-                        oldVar.equals(g.val()) ? newVar : g.val());
-            case CFGLoad l:
-                return new CFGLoad(oldVar.equals(l.base()) ? (CFGVar) newVar : l.base());
-            case CFGCall c:
-                CFGValue[] newArgs = new CFGValue[c.args().length];
-                for (int i = 0; i < newArgs.length; i++) {
-                    CFGValue oldArg = c.args()[i];
-                    newArgs[i] = oldVar.equals(oldArg) ? newVar : oldArg;
-                }
-                return new CFGCall(oldVar.equals(c.addr()) ? (CFGVar) newVar : c.addr(),
-                        oldVar.equals(c.receiver()) ? (CFGVar) newVar : c.receiver(), newArgs);
-            case CFGPhi p:
-                ArrayList<CFGValue> vars = p.varVersions();
-                for (int i = 0; i < vars.size(); i++) {
-                    CFGValue var = vars.get(i);
-                    vars.set(i, oldVar.equals(var) ? newVar : var);
-                }
-                return p;
-            default: // CFGPrimitive,
-                return e;
-
-        }
+        for (CFGAssn p : phis)
+            p.replaceOperand(oldVar, newVar);
+        for (CFGOp o : ops)
+            o.replaceOperand(oldVar, newVar);
+        jmp.replaceOperand(oldVar, newVar);
     }
 
     public void addPhi(CFGVar v) {
@@ -228,25 +176,16 @@ class BasicBlock {
         return phis;
     }
 
-    public BasicBlock(ArrayList<BasicBlock> blocksInMethod, String blockBaseName, ArrayList<ASTStatement> stmts,
-            int startIndex, HashSet<CFGVar> actives,
-            HashSet<BasicBlock> preds, CFGVar[] locals, BasicBlock jmpBack) {
-        this(blocksInMethod, preds, actives);
-        this.setupBlock(blocksInMethod, blockBaseName, stmts, startIndex, locals, jmpBack);
-    }
-
     public ArrayList<BasicBlock> getSuccs() {
         return succs;
     }
 
     public BasicBlock(ArrayList<BasicBlock> blocksInMethod) { // placeholder constructor to just initialize arraylists
         inSSA = false;
-        currBlock = this;
         blocksInMethod.add(this);
-        CtrlFlowGraph.basicBlocks.add(this);
-        preds = new HashSet<>();
+        preds = new LinkedHashSet<>(); // in the order edges were added, which orders phi operands
         succs = new ArrayList<>();
-        actives = new HashSet<>();
+        actives = new LinkedHashSet<>();
         dominators = new HashSet<>();
         inverseDominators = new HashSet<>();
         dominanceFrontier = new HashSet<>();
@@ -266,9 +205,10 @@ class BasicBlock {
     // create a fail block
     public BasicBlock(ArrayList<BasicBlock> blocksInMethod, CFGFailOpt failType, HashSet<BasicBlock> preds) {
         this(blocksInMethod);
-        this.preds = new HashSet<>(preds);
+        this.preds = new LinkedHashSet<>(preds);
         for (BasicBlock p : this.preds) {
-            p.succs.add(this);
+            if (!p.succs.contains(this))
+                p.succs.add(this);
         }
         jmp = new CFGFail(this, failType);
         identifier = failType.toString();
@@ -292,168 +232,8 @@ class BasicBlock {
         }
     }
 
-    // do majority of work to actually set up block - despite being non-static,
-    // mostly operates on the static field currBlock
-    private void setupBlock(ArrayList<BasicBlock> blocksInMethod, String blockBaseName, ArrayList<ASTStatement> stmts,
-            int startIndex,
-            CFGVar[] locals, BasicBlock jmpBack) {
-        if (identifier == null || identifier.equals(""))
-            setIdentifier(blockBaseName);
-        HashSet<BasicBlock> localPreds = new HashSet<>();
-        // make phis
-        BasicBlock afterIf = null, ifBlk, branchEntryBlock;
-        CFGValue cond;
-        for (int i = startIndex; i < stmts.size(); i++) {
-            ASTStatement s = stmts.get(i);
-            switch (s) {
-                case ASTAssignStmt a:
-                    CFGVar assignment = null;
-                    String name = a.var().name();
-                    CFGVar base = getActive(name);
-                    if (base != null) {
-                        if (base.isThis())
-                            throw new IllegalArgumentException("Error: illegal write to \"this\"");
-                        assignment = base; // variable has already been initialized, we are reassigning it
-                    }
-                    for (CFGVar v : locals) {
-                        if (v.name().equals(name)) {
-                            assignment = v; // variable is a local that has not been initalized yet, we need to
-                                            // initialize it
-                            currBlock.actives.add(assignment);
-                            break;
-                        }
-                    }
-                    CFGExpr operand = exprToCFG(assignment, blocksInMethod, blockBaseName, a.rhs(), locals, false);
-                    // CFGExpr tagged = operand;
-                    // if(operand instanceof CFGBinOp) {
-                    // tmp = new CFGVar(tmp);
-                    // tmp.setShouldTag(true);
-                    // tagged = tmp;
-                    // currBlock.addOp(new CFGAssn((CFGVar)tagged, operand));
-                    // }
-                    if (assignment == null)
-                        throw new IllegalArgumentException("Post-Parse error: Cannot initialize variable " + name
-                                + " as it was neither passed as an argument nor declared as a local.");
-                    if (assignment != operand)
-                        currBlock.addOp(new CFGAssn(assignment, operand));
-                    break;
-                case ASTIfElseStmt ie:
-                    cond = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, ie.cond(), locals, true);
-
-                    localPreds.add(currBlock);
-                    branchEntryBlock = currBlock;
-                    ifBlk = new BasicBlock(blocksInMethod);
-                    if (i < stmts.size() - 1) {
-                        afterIf = new BasicBlock(blocksInMethod);
-                        blocksInMethod.remove(blocksInMethod.indexOf(afterIf));
-                    }
-                    ifBlk.setPredsActives(localPreds, actives);
-
-                    currBlock = ifBlk;
-                    ifBlk.setupBlock(blocksInMethod, blockBaseName, ie.body(), 0, locals, afterIf);
-                    BasicBlock endIf = currBlock;
-                    BasicBlock elseBlk = new BasicBlock(blocksInMethod);
-                    elseBlk.setPredsActives(localPreds, actives);
-                    currBlock = elseBlk;
-                    elseBlk.setupBlock(blocksInMethod, blockBaseName, ie.elseBody(), 0, locals, afterIf);
-                    localPreds.remove(branchEntryBlock);
-                    localPreds.add(currBlock);
-                    localPreds.add(endIf);
-                    if (afterIf != null) {
-                        blocksInMethod.add(afterIf);
-                        currBlock = afterIf;
-                        afterIf.setPredsActives(localPreds, actives);
-                        afterIf.setupBlock(blocksInMethod, blockBaseName, stmts, i + 1, locals, jmpBack);
-                    }
-                    branchEntryBlock.jmp = new CFGCondOp(branchEntryBlock, cond, ifBlk, elseBlk);
-                    localPreds.clear();
-                    return;
-                case ASTIfOnlyStmt io:
-                    cond = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, io.cond(), locals, true);
-                    localPreds.add(currBlock);
-                    branchEntryBlock = currBlock;
-                    ifBlk = new BasicBlock(blocksInMethod);
-                    ifBlk.setPredsActives(localPreds, actives);
-                    currBlock = ifBlk;
-                    ifBlk.setupBlock(blocksInMethod, blockBaseName, io.body(), 0, locals, afterIf);
-                    afterIf = new BasicBlock(blocksInMethod);
-                    afterIf.setPredsActives(localPreds, actives);
-                    afterIf.setupBlock(blocksInMethod, blockBaseName, stmts, i + 1, locals, jmpBack);
-                    branchEntryBlock.jmp = new CFGCondOp(branchEntryBlock, cond, ifBlk, afterIf);
-                    localPreds.clear();
-                    return;
-                case ASTWhileStmt w:
-                    branchEntryBlock = currBlock;
-                    localPreds.add(branchEntryBlock);
-                    BasicBlock loopheadStart = new BasicBlock(blocksInMethod);
-                    loopheadStart.setPredsActives(localPreds, actives);
-                    localPreds.remove(branchEntryBlock);
-                    loopheadStart.setIdentifier(blockBaseName);
-                    cond = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, w.cond(), locals, true);
-                    BasicBlock loopheadEnd = currBlock;
-                    localPreds.add(loopheadEnd);
-                    loopheadEnd.addActives(actives);
-                    BasicBlock body = new BasicBlock(blocksInMethod, blockBaseName, w.body(), 0, actives, localPreds,
-                            locals, loopheadStart);
-                    loopheadEnd.addPred(body);
-                    BasicBlock after = new BasicBlock(blocksInMethod, blockBaseName, stmts, i + 1, actives, localPreds,
-                            locals, jmpBack);
-                    localPreds.remove(loopheadEnd);
-                    loopheadEnd.addJump(new CFGCondOp(loopheadEnd, cond, body, after)); // add jump at end
-                    branchEntryBlock.jmp = new CFGAutoJumpOp(branchEntryBlock, loopheadStart);
-                    return;
-                case ASTPrintStmt p:
-                    CFGValue prt = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, p.str(), locals, true);
-
-                    currBlock.addOp(new CFGPrint(prt));
-                    break;
-                case ASTFieldWriteStmt f: // can break if writing ptr to field
-                    CFGValue objToStore = (CFGValue) currBlock.exprToCFG(null, blocksInMethod, blockBaseName, f.rhs(),
-                            locals, true); // evaluate rhs first
-                    // can safely cast obj since it is known to be a var identifier by tokenizer
-                    CFGVar obj = (CFGVar) exprToCFG(null, blocksInMethod, blockBaseName, f.base(), locals, true);
-                    int fieldId = CtrlFlowGraph.getFieldId(f.fieldname()); // get index of field in fields arr
-                    if (fieldId == -1)
-                        throw new IllegalArgumentException("Attempt to modify never-declared field " + f.fieldname());
-                    BasicBlock getField = currBlock;
-
-                    CFGVar offset = CFGVar.makeTmpVar(null);
-                    CFGClass cl = CtrlFlowGraph.findClass(obj.type().typeName());
-                    fieldId = cl.getFieldId(f.fieldname());
-                    getField.addOp(new CFGAssn(offset, new CFGBinOp(obj, "+", CFGPrimitive.getPrimitive(8 * fieldId))));
-                    getField.addOp(new CFGStore(offset, objToStore));
-                    break;
-                case ASTReturnStmt r:
-                    CFGValue valToReturn = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, r.output(), locals,
-                            true);
-
-                    currBlock.jmp = new CFGRetOp(currBlock, valToReturn);
-                    break;
-                case ASTVoidStmt v:
-                    CFGValue voidRslt = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, v.rhs(), locals,
-                            true);
-                    currBlock.addOp(new CFGAssn(CFGVar.makeTmpVar(null), voidRslt));
-                    break;
-                default:
-                    break;
-            }
-            if (jmp != null && !(i == stmts.size() - 1)) { // basic block has been finished in a submethod
-                currBlock.setupBlock(blocksInMethod, blockBaseName, stmts, i + 1, locals, jmpBack);
-                return;
-            }
-        }
-        if (currBlock.jmp == null) {
-            if (jmpBack == null)
-                currBlock.jmp = new CFGRetOp(currBlock, CFGPrimitive.getPrimitive(0));
-            else {
-                jmpBack.addPred(currBlock);
-                currBlock.jmp = new CFGAutoJumpOp(currBlock, jmpBack);
-            }
-        }
-        return;
-    }
-
-    public void toSSA(HashMap<String, CFGVar> varMap, HashMap<String, CFGVar> maxVer) {
+    // renames this block and then, with the names it ends with, the blocks it immediately dominates
+    public void toSSA(HashMap<String, CFGVar> varMap, HashMap<String, CFGVar> maxVer, DominatorTree tree) {
         if (inSSA)
             return;
         inSSA = true;
@@ -469,7 +249,7 @@ class BasicBlock {
         }
         jumpToSSA(varMap);
         for (BasicBlock succ : succs) { // put all succs of this block that it also dominates into SSA
-            Output.debug("Updating phis for successor: " + succ.identifier);
+            Output.debug(CompilePhase.SSA_1, () -> "Updating phis for successor: " + succ.identifier);
             HashMap<String, CFGVar> outVars = new HashMap<>(varMap);
             for (CFGAssn a : succ.phis) {
                 CFGVar phiVar = a.var();
@@ -488,10 +268,15 @@ class BasicBlock {
                 }
             }
             if (inverseDominators.contains(succ)) {
-                Output.debug(identifier + " dominates " + succ.identifier);
-                succ.toSSA(outVars, maxVer);
+                Output.debug(CompilePhase.SSA_1, () -> identifier + " dominates " + succ.identifier);
+                succ.toSSA(outVars, maxVer, tree);
             }
         }
+        if (!tree.reachable(this))
+            return;
+        for (BasicBlock child : tree.children(this)) // joins this dominates without an edge from it
+            if (!child.inSSA)
+                child.toSSA(new HashMap<>(varMap), maxVer, tree);
     }
 
     void opToSSA(CFGOp o, HashMap<String, CFGVar> varMap, HashMap<String, CFGVar> maxVer) {
@@ -503,7 +288,7 @@ class BasicBlock {
                 CFGVar storedVar = varMap.get(base.name());
                 if (storedVar == null) // assignment to temporary value
                     return;
-                CFGVar newVar = new CFGVar(storedVar, storedVar.type());
+                CFGVar newVar = new CFGVar(maxVer.get(base.name()), storedVar.type()); // past every version so far
                 a.setVar(newVar);
                 varMap.replace(storedVar.name(), newVar);
                 maxVer.replace(newVar.name(), newVar);
@@ -539,13 +324,12 @@ class BasicBlock {
     }
 
     // set identifier (name) of a block
-    private void setIdentifier(String blockBaseName) {
-        this.identifier = blockBaseName + (blockId > 0 ? blockId : "");
-        blockId++;
+    void setIdentifier(String identifier) {
+        this.identifier = identifier;
     }
 
     // sets predecessors and active variable lists of a block
-    private void setPredsActives(HashSet<BasicBlock> preds, HashSet<CFGVar> actives) {
+    void setPredsActives(HashSet<BasicBlock> preds, HashSet<CFGVar> actives) {
         this.preds.clear();
         this.succs.clear();
         this.actives.clear();
@@ -555,38 +339,21 @@ class BasicBlock {
         else
             this.actives.addAll(preds.iterator().next().getActives());
         for (BasicBlock p : this.preds) {
-            p.succs.add(this);
+            if (!p.succs.contains(this)) // a block may already have been linked to this one by addPred
+                p.succs.add(this);
         }
     }
 
-    public void findNearestDominator() {
-        ArrayDeque<BasicBlock> bfsQueue = new ArrayDeque<>();
-        bfsQueue.add(this);
-        BasicBlock curr;
-        while (!bfsQueue.isEmpty()) {
-            curr = bfsQueue.remove();
-            if (curr != this && dominators.contains(curr)) {
-                immediateDominator = curr;
-                return;
-            }
-            for (BasicBlock p : curr.getPreds()) {
-                bfsQueue.add(p);
-            }
-
-        }
-        immediateDominator = null;
-    }
-
     // print block as a String
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
         for (CFGAssn phi : phis)
-            sb.append("\t" + phi + "\n");
+            sb.append('\t').append(phi).append('\n');
         for (CFGOp op : ops) {
-            sb.append("\t" + op + "\n");
+            sb.append('\t').append(op).append('\n');
         }
-        sb.append("\t" + jmp);
+        sb.append('\t').append(jmp);
         return sb.toString();
     }
 
@@ -612,10 +379,6 @@ class BasicBlock {
         ops.add(0, c);
     }
 
-    private void addJump(CFGJumpOp j) {
-        jmp = j;
-    }
-
     public String getIdentifier() {
         return identifier;
     }
@@ -635,112 +398,16 @@ class BasicBlock {
         return this.dominators;
     }
 
-    public void setDominators(HashSet<BasicBlock> dominatorSet) {
-        this.dominators = new HashSet<>();
-        dominators.addAll(dominatorSet);
-    }
-
     public void addDominator(BasicBlock b) {
         this.dominators.add(b);
     }
 
-    // convert a potentially complex CFG expr into a series of statements
-    public CFGExpr exprToCFG(CFGVar assn, ArrayList<BasicBlock> blocksInMethod, String blockBaseName,
-            ASTExpression expr, CFGVar[] locals, boolean requireVal) {
-        CFGExpr out;
-        switch (expr) {
-            case ASTConstant c:
-                return CFGPrimitive.getPrimitive(c.value());
-            case ASTNullExpr n:
-                return CFGPrimitive.getPrimitive(0);
-            case ASTVariable v:
-                CFGVar tmpVar = getActive(v.name());
-                if (tmpVar == null)
-                    throw new IllegalArgumentException("Attempted to access nonexistent or uninitialized variable "
-                            + v.name() + " (expr " + expr + ")");
-                return tmpVar;
-            case ASTBinop b:
-                CFGExpr lhs, rhs;
-                lhs = exprToCFG(null, blocksInMethod, blockBaseName, b.lhs(), locals, true);
-                rhs = exprToCFG(null, blocksInMethod, blockBaseName, b.rhs(), locals, true);
-
-                CFGVar tmp;
-                if (lhs instanceof CFGBinOp) {
-                    tmp = CFGVar.makeTmpVar(null);
-                    currBlock.addOp(new CFGAssn(tmp, lhs));
-                    lhs = tmp;
-                }
-                if (rhs instanceof CFGBinOp) {
-                    tmp = CFGVar.makeTmpVar(null);
-                    currBlock.addOp(new CFGAssn(tmp, rhs));
-                    rhs = tmp;
-                }
-
-                out = new CFGBinOp((CFGValue) lhs, b.op(), (CFGValue) rhs);
-                break;
-            case ASTClassRef c: // used for class reference in a complex expression, so we need to return an
-                                // anonymous(temp) value
-                CFGClass classData = CtrlFlowGraph.findClass(c.classname());
-                CFGVar cRef = assn;
-                if (classData == null)
-                    throw new IllegalArgumentException("Class " + c.classname() + " is undefined");
-                if (cRef == null) {
-                    cRef = CFGVar.makeTmpVar(null);
-                    actives.add(cRef);
-                }
-                currBlock.addOp(new CFGAssn(cRef, new CFGAlloc(
-                CFGPrimitive.getPrimitive(classData.numFields() + 1))));
-                currBlock.addOp(new CFGStore(cRef, classData.vtable()));
-                out = cRef;
-                break;
-            case ASTFieldRead f:
-                int fieldId = CtrlFlowGraph.getFieldId(f.fieldname());
-                if (fieldId == -1)
-                    throw new IllegalArgumentException(
-                            "Code attempts to read from never-defined field " + f.fieldname());
-                CFGVar obj = (CFGVar) exprToCFG(null, blocksInMethod, blockBaseName, f.base(), locals, true), field;
-                CFGVar offset = CFGVar.makeTmpVar(null);
-                CFGClass cl = CtrlFlowGraph.findClass(obj.type().typeName());
-                fieldId = cl.getFieldId(f.fieldname());
-                currBlock.addOp(new CFGAssn(offset, new CFGBinOp(obj, "+", CFGPrimitive.getPrimitive(8 * fieldId))));
-                field = CFGVar.makeTmpVar(null);
-                currBlock.addOp(new CFGAssn(field, new CFGLoad(offset)));
-                out = field;
-                break;
-            case ASTMethodCall m:
-                int methodId = CtrlFlowGraph.getMethodId(m.methodname());
-                if (methodId == -1)
-                    throw new IllegalArgumentException("Attempt to call nonexistent method" + m.methodname());
-                obj = (CFGVar) exprToCFG(null, blocksInMethod, blockBaseName, m.base(), locals, true);
-                BasicBlock getMethodId = currBlock;
-                // load vtable, find method
-                CFGVar vtbl = CFGVar.makeTmpVar(null);
-                getMethodId.addOp(new CFGAssn(vtbl, new CFGLoad(obj)));
-                CFGVar methodAddr = CFGVar.makeTmpVar(null);
-                getMethodId.addOp(new CFGAssn(methodAddr, new CFGGet(vtbl, CFGPrimitive.getPrimitive(methodId)))); // get
-                                                                                                                   // vtable
-                                                                                                                   // id
-                CFGVar callRslt = CFGVar.makeTmpVar(null);
-                CFGValue[] args = new CFGValue[m.args().size()];
-                for (int i = 0; i < args.length; i++) {
-                    ASTExpression e = m.args().get(i);
-                    args[i] = (CFGValue) exprToCFG(null, blocksInMethod, blockBaseName, e, locals, true);
-                }
-
-                currBlock.addOp(new CFGAssn(callRslt, new CFGCall(methodAddr, obj, args))); // figure out receiver
-                out = callRslt;
-                break;
-            case ASTThisExpr t:
-                return getActive("this");
-            default:
-                return null;
-        }
-        if (requireVal && !(out instanceof CFGVar)) {
-            CFGVar tmp = CFGVar.makeTmpVar(null);
-            currBlock.addOp(new CFGAssn(tmp, out));
-            out = tmp;
-        }
-        return out;
+    // forget the dominance of an earlier CFG before it is computed again
+    public void clearDominance() {
+        dominators = new HashSet<>();
+        inverseDominators = new HashSet<>();
+        dominanceFrontier = new HashSet<>();
+        immediateDominator = null;
     }
 
     // determine if a name corresponds with an active variable
@@ -0,0 +1,226 @@
+package cfg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import cfg.expr.data.CFGArray;
+
+// reads a file written by BinaryIRWriter
+// the file is memory-mapped; the header, data block, classes and method index are decoded up front,
+// but strings and method bodies are only decoded the first time they are asked for
+public class BinaryIRReader {
+    public record ClassEntry(String name, ArrayList<String> fieldNames, String vtable, int firstMethod, int numMethods) {
+    }
+
+    private final ByteBuffer buf;
+    private final int[] stringStart, stringLength;
+    private final String[] strings;
+    private final DataBlock data;
+    private final ArrayList<ClassEntry> classes;
+    private final int[] methodNames, methodOffsets;
+    private final PackedMethod[] methods;
+    private final HashMap<String, Integer> methodIds;
+    private final int bodyStart;
+
+    private BinaryIRReader(ByteBuffer buf) {
+        this.buf = buf;
+        if (buf.limit() < 4 || buf.getInt(0) != BinaryIRWriter.MAGIC)
+            throw new IllegalArgumentException("Not a binary IR file");
+        Cursor in = new Cursor(4);
+        int version = in.varint();
+        if (version != BinaryIRWriter.VERSION)
+            throw new IllegalArgumentException("Unsupported binary IR version " + version);
+
+        int numStrings = in.varint();
+        stringStart = new int[numStrings];
+        stringLength = new int[numStrings];
+        strings = new String[numStrings];
+        for (int i = 0; i < numStrings; i++) {
+            stringLength[i] = in.varint();
+            stringStart[i] = in.pos;
+            in.pos += stringLength[i];
+        }
+
+        data = new DataBlock(new ArrayList<>());
+        int numArrays = in.varint();
+        for (int i = 0; i < numArrays; i++) {
+            String name = in.string();
+            String[] elems = new String[in.varint()];
+            for (int j = 0; j < elems.length; j++)
+                elems[j] = in.string();
+            data.data().add(new CFGArray(name, elems));
+        }
+
+        classes = new ArrayList<>();
+        int numClasses = in.varint(), firstMethod = 0;
+        for (int i = 0; i < numClasses; i++) {
+            String name = in.string();
+            ArrayList<String> fieldNames = new ArrayList<>();
+            for (int j = in.varint(); j > 0; j--)
+                fieldNames.add(in.string());
+            String vtable = in.string();
+            int numMethods = in.varint();
+            classes.add(new ClassEntry(name, fieldNames, vtable, firstMethod, numMethods));
+            firstMethod += numMethods;
+        }
+
+        int numMethods = in.varint();
+        methodNames = new int[numMethods];
+        methodOffsets = new int[numMethods];
+        methods = new PackedMethod[numMethods];
+        methodIds = new HashMap<>();
+        for (int i = 0; i < numMethods; i++) {
+            methodNames[i] = in.varint();
+            methodOffsets[i] = in.varint();
+        }
+        bodyStart = in.pos;
+    }
+
+    public static BinaryIRReader open(Path path) throws IOException {
+        try (FileChannel ch = FileChannel.open(path, StandardOpenOption.READ)) {
+            // the mapping stays valid after the channel is closed
+            return new BinaryIRReader(ch.map(FileChannel.MapMode.READ_ONLY, 0, ch.size()));
+        }
+    }
+
+    public DataBlock data() {
+        return data;
+    }
+
+    public ArrayList<ClassEntry> classes() {
+        return classes;
+    }
+
+    public int numMethods() {
+        return methods.length;
+    }
+
+    public String methodName(int i) {
+        return string(methodNames[i]);
+    }
+
+    // decoded on first use, then cached
+    public PackedMethod method(int i) {
+        if (methods[i] == null)
+            methods[i] = decodeMethod(i);
+        return methods[i];
+    }
+
+    public PackedMethod method(String name) {
+        if (methodIds.isEmpty())
+            for (int i = 0; i < methods.length; i++)
+                methodIds.put(methodName(i), i);
+        Integer id = methodIds.get(name);
+        if (id == null)
+            throw new IllegalArgumentException("No method " + name + " in binary IR");
+        return method(id);
+    }
+
+    public PackedMethod main() {
+        return method(methods.length - 1);
+    }
+
+    private String string(int id) {
+        if (strings[id] == null) {
+            byte[] bytes = new byte[stringLength[id]];
+            buf.get(stringStart[id], bytes);
+            strings[id] = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return strings[id];
+    }
+
+    // mirrors BinaryIRWriter.writeBody
+    private PackedMethod decodeMethod(int i) {
+        Cursor in = new Cursor(bodyStart + methodOffsets[i]);
+        int[] args = new int[in.varint()];
+        for (int j = 0; j < args.length; j++)
+            args[j] = in.varint();
+        ArrayList<String> valueNames = new ArrayList<>();
+        for (int j = in.varint(); j > 0; j--)
+            valueNames.add(in.string());
+        long[] constants = new long[in.varint()];
+        for (int j = 0; j < constants.length; j++)
+            constants[j] = in.zigzag();
+        ArrayList<String> globals = new ArrayList<>();
+        for (int j = in.varint(); j > 0; j--)
+            globals.add(in.string());
+        int numBlocks = in.varint();
+        String[] blockNames = new String[numBlocks];
+        int[] blockStart = new int[numBlocks + 1];
+        for (int blk = 0; blk < numBlocks; blk++) {
+            blockNames[blk] = in.string();
+            blockStart[blk + 1] = blockStart[blk] + in.varint();
+        }
+        int numOps = blockStart[numBlocks];
+        int[] kind = new int[numOps], dst = new int[numOps], a = new int[numOps], b = new int[numOps],
+                c = new int[numOps];
+        for (int op = 0; op < numOps; op++) {
+            kind[op] = in.varint();
+            int fields = BinaryIRWriter.FIELDS[kind[op]];
+            dst[op] = (fields & BinaryIRWriter.DST) != 0 ? in.varint() : -1;
+            if ((fields & BinaryIRWriter.A) != 0)
+                a[op] = in.varint();
+            if ((fields & BinaryIRWriter.B) != 0)
+                b[op] = in.varint();
+            if ((fields & BinaryIRWriter.C) != 0)
+                c[op] = in.varint();
+        }
+        int[] extra = new int[in.varint()];
+        for (int j = 0; j < extra.length; j++)
+            extra[j] = in.varint();
+        return new PackedMethod(methodName(i), args, kind, dst, a, b, c, extra, blockStart, blockNames, valueNames,
+                constants, globals);
+    }
+
+    // same text as CtrlFlowGraph.toString - decodes every method
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(data).append("code:\n\n");
+        for (ClassEntry c : classes) {
+            for (int i = c.firstMethod(); i < c.firstMethod() + c.numMethods(); i++)
+                sb.append(method(i)).append('\n');
+            sb.append('\n');
+        }
+        sb.append(main());
+        return sb.toString();
+    }
+
+    private class Cursor {
+        int pos;
+
+        Cursor(int pos) {
+            this.pos = pos;
+        }
+
+        int varint() {
+            int v = 0;
+            for (int shift = 0;; shift += 7) {
+                byte next = buf.get(pos++);
+                v |= (next & 0x7f) << shift;
+                if (next >= 0)
+                    return v;
+            }
+        }
+
+        long zigzag() {
+            long z = 0;
+            for (int shift = 0;; shift += 7) {
+                byte next = buf.get(pos++);
+                z |= (long) (next & 0x7f) << shift;
+                if (next >= 0)
+                    return z >>> 1 ^ -(z & 1);
+            }
+        }
+
+        String string() {
+            return BinaryIRReader.this.string(varint());
+        }
+    }
+}
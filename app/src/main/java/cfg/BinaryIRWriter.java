@@ -0,0 +1,190 @@
+package cfg;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+
+import cfg.expr.data.CFGArray;
+
+// compact binary encoding of a compiled program, read back by BinaryIRReader
+// everything is buffered and the file is only written on close, since the string table has to come first
+//
+// layout - ints are unsigned LEB128 varints, constants are zigzag varints, names are string table indices:
+//   magic "IR41" (4 bytes), version
+//   string table: count, then each string as its UTF-8 byte length and bytes
+//   data block: count, then each global array as name, size, elements
+//   classes: count, then each class as name, field count, field names, vtable name, method count
+//   method index: count, then each method as name and body offset (relative to the first body)
+//   method bodies, back to back (see writeBody)
+// the methods of each class are listed in class order and main is always the last method
+public class BinaryIRWriter implements Closeable {
+    static final int MAGIC = 0x49523431;
+    static final int VERSION = 2;
+
+    // which of dst/a/b/c each PackedMethod kind uses - the others are not written
+    static final int DST = 1, A = 2, B = 4, C = 8;
+    static final int[] FIELDS = {
+            DST | A, // COPY
+            DST | A | B | C, // BINOP
+            DST | A, // ALLOC
+            DST | A, // LOAD
+            DST | A | B, // GET
+            DST | A | B | C, // CALL
+            DST | C, // PHI
+            A, // PRINT
+            A | B, // STORE
+            A | B | C, // SET
+            A, // JUMP
+            A | B | C, // BRANCH
+            A, // RET
+            A, // FAIL
+    };
+
+    private final OutputStream out;
+    private final HashMap<String, Integer> stringIds = new HashMap<>();
+    private final ArrayList<String> strings = new ArrayList<>();
+    private final Encoder data = new Encoder(), classes = new Encoder(), index = new Encoder(), bodies = new Encoder();
+    private int numArrays, numClasses, numMethods;
+
+    public BinaryIRWriter(OutputStream out) {
+        this.out = out;
+    }
+
+    // the whole program: data block, every class, then main
+    public void writeProgram() {
+        writeData(CtrlFlowGraph.CFGDataBlock);
+        for (CFGClass c : CtrlFlowGraph.classes)
+            writeClass(c);
+        writeMethod(CtrlFlowGraph.main);
+    }
+
+    public void writeData(DataBlock d) {
+        for (CFGArray arr : d.data()) {
+            data.varint(string(arr.name()));
+            data.varint(arr.size());
+            for (Object elem : arr.elems())
+                data.varint(string(elem.toString()));
+            numArrays++;
+        }
+    }
+
+    public void writeClass(CFGClass c) {
+        classes.varint(string(c.name()));
+        classes.varint(c.fieldNames().size());
+        for (String f : c.fieldNames())
+            classes.varint(string(f));
+        classes.varint(string(c.vtable().name()));
+        classes.varint(c.methods().size());
+        numClasses++;
+        for (CFGMethod m : c.methods())
+            writeMethod(m);
+    }
+
+    public void writeMethod(CFGMethod m) {
+        writeMethod(PackedMethod.pack(m));
+    }
+
+    public void writeMethod(PackedMethod p) {
+        index.varint(string(p.name()));
+        index.varint(bodies.size());
+        numMethods++;
+        writeBody(p);
+    }
+
+    // args, value names, constant pool, globals, blocks (name and op count), ops, then the extra table
+    // each op is its kind followed by whichever of dst/a/b/c FIELDS says it uses
+    private void writeBody(PackedMethod p) {
+        bodies.varint(p.args().length);
+        for (int arg : p.args())
+            bodies.varint(arg);
+        bodies.varint(p.numValues());
+        for (int v = 0; v < p.numValues(); v++)
+            bodies.varint(string(p.valueName(v)));
+        bodies.varint(p.numConstants());
+        for (int i = 0; i < p.numConstants(); i++)
+            bodies.zigzag(p.constantAt(i));
+        bodies.varint(p.numGlobals());
+        for (int i = 0; i < p.numGlobals(); i++)
+            bodies.varint(string(p.globalAt(i)));
+        bodies.varint(p.numBlocks());
+        for (int blk = 0; blk < p.numBlocks(); blk++) {
+            bodies.varint(string(p.blockName(blk)));
+            bodies.varint(p.blockEnd(blk) - p.blockStart(blk));
+        }
+        for (int op = 0; op < p.numOps(); op++) {
+            int fields = FIELDS[p.kind(op)];
+            bodies.varint(p.kind(op));
+            if ((fields & DST) != 0)
+                bodies.varint(p.dst(op));
+            if ((fields & A) != 0)
+                bodies.varint(p.a(op));
+            if ((fields & B) != 0)
+                bodies.varint(p.b(op));
+            if ((fields & C) != 0)
+                bodies.varint(p.c(op));
+        }
+        bodies.varint(p.extraLength());
+        for (int i = 0; i < p.extraLength(); i++)
+            bodies.varint(p.extraAt(i));
+    }
+
+    private int string(String s) {
+        Integer id = stringIds.get(s);
+        if (id == null) {
+            id = strings.size();
+            stringIds.put(s, id);
+            strings.add(s);
+        }
+        return id;
+    }
+
+    @Override
+    public void close() throws IOException {
+        Encoder head = new Encoder();
+        head.write(MAGIC >>> 24);
+        head.write(MAGIC >>> 16);
+        head.write(MAGIC >>> 8);
+        head.write(MAGIC);
+        head.varint(VERSION);
+        head.varint(strings.size());
+        for (String s : strings) {
+            byte[] bytes = s.getBytes(StandardCharsets.UTF_8);
+            head.varint(bytes.length);
+            head.write(bytes, 0, bytes.length);
+        }
+        head.varint(numArrays);
+        data.writeTo(head);
+        head.varint(numClasses);
+        classes.writeTo(head);
+        head.varint(numMethods);
+        index.writeTo(head);
+        head.writeTo(out);
+        bodies.writeTo(out);
+        out.close();
+    }
+
+    private static class Encoder extends ByteArrayOutputStream {
+        void varint(int v) {
+            if (v < 0)
+                throw new IllegalArgumentException("Cannot encode negative varint " + v);
+            while ((v & ~0x7f) != 0) {
+                write(v & 0x7f | 0x80);
+                v >>>= 7;
+            }
+            write(v);
+        }
+
+        void zigzag(long v) {
+            long z = v << 1 ^ v >> 63;
+            while ((z & ~0x7fL) != 0) {
+                write((int) (z & 0x7f) | 0x80);
+                z >>>= 7;
+            }
+            write((int) z);
+        }
+    }
+}
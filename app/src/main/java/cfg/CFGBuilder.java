@@ -0,0 +1,332 @@
+package cfg;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+import cfg.expr.*;
+import cfg.jump.*;
+import cfg.expr.data.*;
+import cfg.op.*;
+import parser.expression.*;
+import parser.statement.*;
+import util.Opcode;
+
+// lowers the body of a single method into basic blocks
+// statement lists are walked with an explicit work stack instead of recursion, so the java stack
+// does not grow with the number of statements or control-flow statements in a method
+class CFGBuilder {
+    private final ArrayList<BasicBlock> blocksInMethod;
+    private final String blockBaseName;
+    private final CFGVar[] locals;
+    private final ArrayDeque<Task> work; // pending tasks, the top of the stack runs next
+    private BasicBlock currBlock; // block that lowered ops are appended to
+    private int blockId;
+
+    // each task is either a statement list to lower or the work left over once a nested statement
+    // list (if body, else body, loop body) has been fully lowered
+    private sealed interface Task permits LowerStmts, ElseBranch, JoinIfElse, JoinIfOnly, JoinWhile {}
+
+    // lower stmts[start...] into block, jumping to jmpBack (or returning 0 if there is none) at the end
+    private record LowerStmts(BasicBlock block, ArrayList<ASTStatement> stmts, int start, BasicBlock jmpBack)
+            implements Task {}
+
+    // if branch of an if/else is done, lower the else branch
+    private record ElseBranch(BasicBlock entry, CFGValue cond, BasicBlock ifBlk, ArrayList<ASTStatement> elseBody,
+            BasicBlock afterIf, ArrayList<ASTStatement> stmts, int next, BasicBlock jmpBack) implements Task {}
+
+    // both branches of an if/else are done, continue after it
+    private record JoinIfElse(BasicBlock endIf, BasicBlock afterIf, ArrayList<ASTStatement> stmts, int next,
+            BasicBlock jmpBack) implements Task {}
+
+    // body of an ifonly is done, continue after it
+    private record JoinIfOnly(BasicBlock entry, CFGValue cond, BasicBlock ifBlk, BasicBlock afterIf,
+            ArrayList<ASTStatement> stmts, int next, BasicBlock jmpBack) implements Task {}
+
+    // body of a while is done, continue after it
+    private record JoinWhile(BasicBlock entry, BasicBlock loopheadStart, BasicBlock loopheadEnd, CFGValue cond,
+            BasicBlock body, ArrayList<ASTStatement> stmts, int next, BasicBlock jmpBack) implements Task {}
+
+    CFGBuilder(ArrayList<BasicBlock> blocksInMethod, String blockBaseName, CFGVar[] locals) {
+        this.blocksInMethod = blocksInMethod;
+        this.blockBaseName = blockBaseName;
+        this.locals = locals;
+        this.work = new ArrayDeque<>();
+        this.blockId = 0;
+    }
+
+    // lower a whole method body and return its entry block
+    BasicBlock build(ArrayList<ASTStatement> body, HashSet<CFGVar> actives) {
+        BasicBlock start = new BasicBlock(blocksInMethod, new HashSet<>(), actives);
+        work.push(new LowerStmts(start, body, 0, null));
+        while (!work.isEmpty()) {
+            switch (work.pop()) {
+                case LowerStmts l:
+                    lowerStmts(l.block(), l.stmts(), l.start(), l.jmpBack());
+                    break;
+                case ElseBranch e:
+                    BasicBlock endIf = currBlock;
+                    BasicBlock elseBlk = new BasicBlock(blocksInMethod);
+                    elseBlk.setPredsActives(predsOf(e.entry()), e.entry().getActives());
+                    e.entry().setJmp(new CFGCondOp(e.entry(), e.cond(), e.ifBlk(), elseBlk));
+                    work.push(new JoinIfElse(endIf, e.afterIf(), e.stmts(), e.next(), e.jmpBack()));
+                    work.push(new LowerStmts(elseBlk, e.elseBody(), 0, e.afterIf()));
+                    break;
+                case JoinIfElse j:
+                    if (j.afterIf() == null) // if/else was the last statement in the list
+                        break;
+                    HashSet<BasicBlock> branchEnds = new LinkedHashSet<>(); // in program order, as IR lists them
+                    branchEnds.add(j.endIf());
+                    branchEnds.add(currBlock);
+                    blocksInMethod.add(j.afterIf());
+                    j.afterIf().setPredsActives(branchEnds, currBlock.getActives());
+                    work.push(new LowerStmts(j.afterIf(), j.stmts(), j.next(), j.jmpBack()));
+                    break;
+                case JoinIfOnly j: // the body's last block has already linked itself to afterIf
+                    HashSet<BasicBlock> ends = new LinkedHashSet<>(predsOf(j.entry()));
+                    ends.addAll(j.afterIf().getPreds());
+                    blocksInMethod.add(j.afterIf());
+                    j.afterIf().setPredsActives(ends, j.entry().getActives());
+                    j.entry().setJmp(new CFGCondOp(j.entry(), j.cond(), j.ifBlk(), j.afterIf()));
+                    work.push(new LowerStmts(j.afterIf(), j.stmts(), j.next(), j.jmpBack()));
+                    break;
+                case JoinWhile j: // the body's last block has already linked itself back to loopheadStart
+                    BasicBlock after = new BasicBlock(blocksInMethod, predsOf(j.loopheadEnd()),
+                            j.entry().getActives());
+                    j.loopheadEnd().setJmp(new CFGCondOp(j.loopheadEnd(), j.cond(), j.body(), after));
+                    j.entry().setJmp(new CFGAutoJumpOp(j.entry(), j.loopheadStart()));
+                    work.push(new LowerStmts(after, j.stmts(), j.next(), j.jmpBack()));
+                    break;
+            }
+        }
+        return start;
+    }
+
+    // lower a list of statements starting at startIndex into block
+    // stops early at the first control-flow statement, which queues up the rest of the list itself
+    private void lowerStmts(BasicBlock block, ArrayList<ASTStatement> stmts, int startIndex, BasicBlock jmpBack) {
+        currBlock = block;
+        if (block.getIdentifier() == null || block.getIdentifier().equals(""))
+            nameBlock(block);
+        BasicBlock ifBlk, branchEntryBlock;
+        CFGValue cond;
+        for (int i = startIndex; i < stmts.size(); i++) {
+            ASTStatement s = stmts.get(i);
+            switch (s) {
+                case ASTAssignStmt a:
+                    CFGVar assignment = null;
+                    String name = a.var().name();
+                    CFGVar base = currBlock.getActive(name);
+                    if (base != null) {
+                        if (base.isThis())
+                            throw new IllegalArgumentException("Error: illegal write to \"this\"");
+                        assignment = base; // variable has already been initialized, we are reassigning it
+                    }
+                    for (CFGVar v : locals) {
+                        if (v.name().equals(name)) {
+                            assignment = v; // variable is a local that has not been initalized yet, we need to
+                                            // initialize it
+                            currBlock.getActives().add(assignment);
+                            break;
+                        }
+                    }
+                    CFGExpr operand = exprToCFG(assignment, a.rhs(), false);
+                    if (assignment == null)
+                        throw new IllegalArgumentException("Post-Parse error: Cannot initialize variable " + name
+                                + " as it was neither passed as an argument nor declared as a local.");
+                    if (assignment != operand)
+                        currBlock.addOp(new CFGAssn(assignment, operand));
+                    break;
+                case ASTIfElseStmt ie:
+                    cond = (CFGValue) exprToCFG(null, ie.cond(), true);
+                    branchEntryBlock = currBlock;
+                    ifBlk = new BasicBlock(blocksInMethod);
+                    BasicBlock afterIf = null;
+                    if (i < stmts.size() - 1) { // afterIf is only placed in the block list once both branches are done
+                        afterIf = new BasicBlock(blocksInMethod);
+                        blocksInMethod.remove(afterIf);
+                    }
+                    ifBlk.setPredsActives(predsOf(branchEntryBlock), branchEntryBlock.getActives());
+                    work.push(new ElseBranch(branchEntryBlock, cond, ifBlk, ie.elseBody(), afterIf, stmts, i + 1,
+                            jmpBack));
+                    work.push(new LowerStmts(ifBlk, ie.body(), 0, afterIf));
+                    return;
+                case ASTIfOnlyStmt io:
+                    cond = (CFGValue) exprToCFG(null, io.cond(), true);
+                    branchEntryBlock = currBlock;
+                    ifBlk = new BasicBlock(blocksInMethod);
+                    ifBlk.setPredsActives(predsOf(branchEntryBlock), branchEntryBlock.getActives());
+                    afterIf = new BasicBlock(blocksInMethod); // placed in the block list once the body is done
+                    blocksInMethod.remove(afterIf);
+                    work.push(new JoinIfOnly(branchEntryBlock, cond, ifBlk, afterIf, stmts, i + 1, jmpBack));
+                    work.push(new LowerStmts(ifBlk, io.body(), 0, afterIf));
+                    return;
+                case ASTWhileStmt w:
+                    branchEntryBlock = currBlock;
+                    BasicBlock loopheadStart = new BasicBlock(blocksInMethod);
+                    loopheadStart.setPredsActives(predsOf(branchEntryBlock), branchEntryBlock.getActives());
+                    nameBlock(loopheadStart);
+                    currBlock = loopheadStart;
+                    cond = (CFGValue) exprToCFG(null, w.cond(), true);
+                    BasicBlock loopheadEnd = currBlock;
+                    HashSet<BasicBlock> headPreds = predsOf(loopheadEnd);
+                    loopheadEnd.addActives(branchEntryBlock.getActives());
+                    BasicBlock body = new BasicBlock(blocksInMethod, headPreds, branchEntryBlock.getActives());
+                    work.push(new JoinWhile(branchEntryBlock, loopheadStart, loopheadEnd, cond, body, stmts, i + 1,
+                            jmpBack));
+                    work.push(new LowerStmts(body, w.body(), 0, loopheadStart));
+                    return;
+                case ASTPrintStmt p:
+                    CFGValue prt = (CFGValue) exprToCFG(null, p.str(), true);
+
+                    currBlock.addOp(new CFGPrint(prt));
+                    break;
+                case ASTFieldWriteStmt f: // can break if writing ptr to field
+                    CFGValue objToStore = (CFGValue) exprToCFG(null, f.rhs(), true); // evaluate rhs first
+                    // can safely cast obj since it is known to be a var identifier by tokenizer
+                    CFGVar obj = (CFGVar) exprToCFG(null, f.base(), true);
+                    int fieldId = CtrlFlowGraph.getFieldId(f.fieldname()); // get index of field in fields arr
+                    if (fieldId == -1)
+                        throw new IllegalArgumentException("Attempt to modify never-declared field " + f.fieldname());
+                    BasicBlock getField = currBlock;
+
+                    CFGVar offset = CFGVar.makeTmpVar(null);
+                    CFGClass cl = CtrlFlowGraph.findClass(obj.type().typeName());
+                    fieldId = cl.getFieldId(f.fieldname());
+                    getField.addOp(new CFGAssn(offset, new CFGBinOp(obj, Opcode.ADD, CFGPrimitive.getPrimitive(8 * fieldId))));
+                    getField.addOp(new CFGStore(offset, objToStore));
+                    break;
+                case ASTReturnStmt r:
+                    CFGValue valToReturn = (CFGValue) exprToCFG(null, r.output(), true);
+
+                    currBlock.setJmp(new CFGRetOp(currBlock, valToReturn));
+                    break;
+                case ASTVoidStmt v:
+                    CFGValue voidRslt = (CFGValue) exprToCFG(null, v.rhs(), true);
+                    currBlock.addOp(new CFGAssn(CFGVar.makeTmpVar(null), voidRslt));
+                    break;
+                default:
+                    break;
+            }
+        }
+        if (currBlock.getJmp() == null) {
+            if (jmpBack == null)
+                currBlock.setJmp(new CFGRetOp(currBlock, CFGPrimitive.getPrimitive(0)));
+            else {
+                jmpBack.addPred(currBlock);
+                currBlock.setJmp(new CFGAutoJumpOp(currBlock, jmpBack));
+            }
+        }
+    }
+
+    // convert a potentially complex CFG expr into a series of statements
+    private CFGExpr exprToCFG(CFGVar assn, ASTExpression expr, boolean requireVal) {
+        CFGExpr out;
+        switch (expr) {
+            case ASTConstant c:
+                return CFGPrimitive.getPrimitive(c.value());
+            case ASTNullExpr n:
+                return CFGPrimitive.getPrimitive(0);
+            case ASTVariable v:
+                CFGVar tmpVar = currBlock.getActive(v.name());
+                if (tmpVar == null)
+                    throw new IllegalArgumentException("Attempted to access nonexistent or uninitialized variable "
+                            + v.name() + " (expr " + expr + ")");
+                return tmpVar;
+            case ASTBinop b:
+                CFGExpr lhs, rhs;
+                lhs = exprToCFG(null, b.lhs(), true);
+                rhs = exprToCFG(null, b.rhs(), true);
+
+                CFGVar tmp;
+                if (lhs instanceof CFGBinOp) {
+                    tmp = CFGVar.makeTmpVar(null);
+                    currBlock.addOp(new CFGAssn(tmp, lhs));
+                    lhs = tmp;
+                }
+                if (rhs instanceof CFGBinOp) {
+                    tmp = CFGVar.makeTmpVar(null);
+                    currBlock.addOp(new CFGAssn(tmp, rhs));
+                    rhs = tmp;
+                }
+
+                out = new CFGBinOp((CFGValue) lhs, b.op(), (CFGValue) rhs);
+                break;
+            case ASTClassRef c: // used for class reference in a complex expression, so we need to return an
+                                // anonymous(temp) value
+                CFGClass classData = CtrlFlowGraph.findClass(c.classname());
+                CFGVar cRef = assn;
+                if (classData == null)
+                    throw new IllegalArgumentException("Class " + c.classname() + " is undefined");
+                if (cRef == null) {
+                    cRef = CFGVar.makeTmpVar(null);
+                    currBlock.getActives().add(cRef);
+                }
+                currBlock.addOp(new CFGAssn(cRef, new CFGAlloc(
+                CFGPrimitive.getPrimitive(classData.numFields() + 1))));
+                currBlock.addOp(new CFGStore(cRef, classData.vtable()));
+                out = cRef;
+                break;
+            case ASTFieldRead f:
+                int fieldId = CtrlFlowGraph.getFieldId(f.fieldname());
+                if (fieldId == -1)
+                    throw new IllegalArgumentException(
+                            "Code attempts to read from never-defined field " + f.fieldname());
+                CFGVar obj = (CFGVar) exprToCFG(null, f.base(), true), field;
+                CFGVar offset = CFGVar.makeTmpVar(null);
+                CFGClass cl = CtrlFlowGraph.findClass(obj.type().typeName());
+                fieldId = cl.getFieldId(f.fieldname());
+                currBlock.addOp(new CFGAssn(offset, new CFGBinOp(obj, Opcode.ADD, CFGPrimitive.getPrimitive(8 * fieldId))));
+                field = CFGVar.makeTmpVar(null);
+                currBlock.addOp(new CFGAssn(field, new CFGLoad(offset)));
+                out = field;
+                break;
+            case ASTMethodCall m:
+                int methodId = CtrlFlowGraph.getMethodId(m.methodname());
+                if (methodId == -1)
+                    throw new IllegalArgumentException("Attempt to call nonexistent method" + m.methodname());
+                obj = (CFGVar) exprToCFG(null, m.base(), true);
+                BasicBlock getMethodId = currBlock;
+                // load vtable, find method
+                CFGVar vtbl = CFGVar.makeTmpVar(null);
+                getMethodId.addOp(new CFGAssn(vtbl, new CFGLoad(obj)));
+                CFGVar methodAddr = CFGVar.makeTmpVar(null);
+                getMethodId.addOp(new CFGAssn(methodAddr, new CFGGet(vtbl, CFGPrimitive.getPrimitive(methodId)))); // get
+                                                                                                                   // vtable
+                                                                                                                   // id
+                CFGVar callRslt = CFGVar.makeTmpVar(null);
+                CFGValue[] args = new CFGValue[m.args().size()];
+                for (int i = 0; i < args.length; i++) {
+                    ASTExpression e = m.args().get(i);
+                    args[i] = (CFGValue) exprToCFG(null, e, true);
+                }
+
+                currBlock.addOp(new CFGAssn(callRslt, new CFGCall(methodAddr, obj, args))); // figure out receiver
+                out = callRslt;
+                break;
+            case ASTThisExpr t:
+                return currBlock.getActive("this");
+            default:
+                return null;
+        }
+        if (requireVal && !(out instanceof CFGVar)) {
+            CFGVar tmp = CFGVar.makeTmpVar(null);
+            currBlock.addOp(new CFGAssn(tmp, out));
+            out = tmp;
+        }
+        return out;
+    }
+
+    // set identifier (name) of a block - the first block in a method gets the bare method name
+    private void nameBlock(BasicBlock b) {
+        b.setIdentifier(blockBaseName + (blockId > 0 ? blockId : ""));
+        blockId++;
+    }
+
+    private static HashSet<BasicBlock> predsOf(BasicBlock b) {
+        HashSet<BasicBlock> preds = new LinkedHashSet<>();
+        preds.add(b);
+        return preds;
+    }
+}
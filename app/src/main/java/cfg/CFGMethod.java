@@ -3,12 +3,14 @@ package cfg;
 import java.util.ArrayList;
 import java.util.HashSet;
 
-import java.util.Iterator;
 
 import cfg.expr.*;
 import cfg.jump.*;
+import events.CondenseEvent;
+import util.CompilePhase;
 import util.Output;
 import cfg.expr.data.*;
+import cfg.op.CFGAssn;
 
 public record CFGMethod(String name, CFGVar[] args, CFGVar[] locals, BasicBlock addr, ArrayList<BasicBlock> blocks, ArrayList<CFGVar> vars) implements CFGElement {
     @Override
@@ -36,23 +38,43 @@ public record CFGMethod(String name, CFGVar[] args, CFGVar[] locals, BasicBlock
         vars.add(v);
     }
 
-    public void condenseBlocks() {
+    // true if any block was merged, removed or lost a branch
+    public boolean condenseBlocks() {
+        return condenseBlocks(null);
+    }
+
+    // as above, updating dom (when not null) edge by edge as blocks are merged and branches dropped
+    public boolean condenseBlocks(DominatorTree dom) {
+        CondenseEvent event = new CondenseEvent();
+        event.begin();
+        int blocksBefore = blocks.size(), iterations = 0;
         boolean changed = true;
         while(changed) {
             changed = false;
+            iterations++;
             for(BasicBlock b : blocks) {
                 switch (b.getJmp()) {
                     case CFGAutoJumpOp a:
                         BasicBlock succ = a.target();
                         ArrayList<BasicBlock> targetSuccs = succ.getSuccs();
                         if(succ.getPreds().size() == 1) { //b is only prececessor of succ
+                            for(CFGAssn phi : succ.getPhis()) { // with one pred left, each phi is a copy
+                                CFGPhi p = (CFGPhi) phi.expr();
+                                b.addOp(new CFGAssn(phi.var(), p.varVersions().get(p.blocks().indexOf(b))));
+                            }
                             b.addOps(succ.getOps());
                             b.setJmp(succ.getJmp());
                             succ.setJmp(new CFGRetOp(succ, CFGPrimitive.getPrimitive(0)));
-                            b.removeSucc(succ);
                             for(BasicBlock s : new ArrayList<BasicBlock>(targetSuccs)) {
                                 s.replacePred(succ, b);
+                                if(dom != null) { // b takes over succ's edges before succ goes, so nothing is cut off
+                                    dom.insertEdge(b, s);
+                                    dom.deleteEdge(succ, s);
+                                }
                             }
+                            b.removeSucc(succ);
+                            if(dom != null)
+                                dom.deleteEdge(b, succ);
                             changed = true;
                         }
                         break;
@@ -61,28 +83,94 @@ public record CFGMethod(String name, CFGVar[] args, CFGVar[] locals, BasicBlock
                         if(cond instanceof CFGPrimitive) { //if will always evaluate to same value
                             changed = true;
                             long val = ((CFGPrimitive)cond).value();
-                            BasicBlock target = val > 0 ? c.yes() : c.no(); //branch always taken
-                            BasicBlock fakeBranch = val < 0 ? c.yes() : c.no(); //branch never taken
+                            BasicBlock target = val != 0 ? c.yes() : c.no(); //branch always taken
+                            BasicBlock fakeBranch = val != 0 ? c.no() : c.yes(); //branch never taken
                             b.setJmp(new CFGAutoJumpOp(b, target));
-                            b.removeSucc(fakeBranch);
+                            if(fakeBranch != target) {
+                                b.removeSucc(fakeBranch);
+                                if(dom != null)
+                                    dom.deleteEdge(b, fakeBranch);
+                            }
                         }
                         break;
                     default: //return is unaffected
                         break;
                 }
             }
-            Output.debug(this.toString());
+            Output.debug(CompilePhase.DCE, this::toString);
             HashSet<BasicBlock> deadBlocks = new HashSet<>(); 
            for(BasicBlock b : blocks) {
                 if(b.getPreds().size() == 0 && b != blocks.get(0)) {
                     deadBlocks.add(b);
                     
-                    Iterator<BasicBlock> succIter = b.getSuccs().iterator();
-                    for(int i = b.getSuccs().size() - 1; i >= 0; i--)
-                        b.removeSucc(succIter.next());
+                    for(BasicBlock s : new ArrayList<>(b.getSuccs()))
+                        b.removeSucc(s);
                 }
             }
             blocks.removeAll(deadBlocks);
         }
+        if(dom != null)
+            Output.debug(CompilePhase.DCE, () -> name + ": dominator tree " + (dom.verify() ? "matches" : "differs from")
+                    + " a full recomputation, after " + dom.rebuilds() + " rebuilds");
+        event.end();
+        if(event.shouldCommit()) {
+            event.method = name;
+            event.iterations = iterations;
+            event.blocksBefore = blocksBefore;
+            event.blocksAfter = blocks.size();
+            event.commit();
+        }
+        return iterations > 1 || blocks.size() != blocksBefore;
+    }
+
+    // reorder blocks so each is followed by its hottest successor, by the counts in p. the entry block
+    // stays first, each chain of hot successors starts from the hottest block not yet placed, and blocks
+    // that never ran keep their order at the end
+    public void layoutBlocks(Profile p) {
+        if(!p.hasMethod(name))
+            return;
+        ArrayList<BasicBlock> order = new ArrayList<>();
+        HashSet<BasicBlock> placed = new HashSet<>();
+        BasicBlock start = blocks.get(0);
+        while(start != null) {
+            for(BasicBlock b = start; b != null; b = hotSuccessor(p, b, placed)) {
+                order.add(b);
+                placed.add(b);
+            }
+            start = null;
+            long hottest = 0;
+            for(BasicBlock b : blocks) {
+                long count = p.blockCount(name, b.getIdentifier());
+                if(!placed.contains(b) && count > hottest) {
+                    start = b;
+                    hottest = count;
+                }
+            }
+        }
+        for(BasicBlock b : blocks)
+            if(!placed.contains(b))
+                order.add(b);
+        blocks.clear();
+        blocks.addAll(order);
+    }
+
+    // the unplaced successor b went to most often, or null if it never went to one
+    private BasicBlock hotSuccessor(Profile p, BasicBlock b, HashSet<BasicBlock> placed) {
+        switch (b.getJmp()) {
+            case CFGAutoJumpOp a:
+                BasicBlock t = a.target();
+                return !placed.contains(t) && p.blockCount(name, t.getIdentifier()) > 0 ? t : null;
+            case CFGCondOp c:
+                long[] counts = p.branchCounts(name, b.getIdentifier());
+                boolean yesFirst = counts[0] >= counts[1];
+                BasicBlock hot = yesFirst ? c.yes() : c.no(), cold = yesFirst ? c.no() : c.yes();
+                if(!placed.contains(hot) && Math.max(counts[0], counts[1]) > 0)
+                    return hot;
+                if(!placed.contains(cold) && Math.min(counts[0], counts[1]) > 0)
+                    return cold;
+                return null;
+            default:
+                return null;
+        }
     }
 }
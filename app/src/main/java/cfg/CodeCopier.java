@@ -0,0 +1,120 @@
+package cfg;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.function.Consumer;
+
+import cfg.expr.CFGAlloc;
+import cfg.expr.CFGBinOp;
+import cfg.expr.CFGCall;
+import cfg.expr.CFGExpr;
+import cfg.expr.CFGGet;
+import cfg.expr.CFGLoad;
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+import cfg.op.CFGPrint;
+import cfg.op.CFGSet;
+import cfg.op.CFGStore;
+
+// copies straight-line code for the passes that duplicate it before SSA. named variables are copied as
+// they are, since toSSA numbers each assignment anyway, but a temp is only ever assigned once, so the temps
+// assigned in each copy get new numbers above any the method already uses. temps read in a copy but
+// assigned before it are left alone
+final class CodeCopier {
+    private final HashMap<String, CFGVar> renamed = new HashMap<>(); // the temps of the current copy
+    private int nextTemp;
+
+    CodeCopier(CFGMethod m) {
+        for (BasicBlock b : m.blocks()) {
+            for (CFGOp o : b.getOps()) {
+                if (o instanceof CFGAssn a)
+                    see(a.var());
+                o.forEachOperand(this::see);
+            }
+            b.getJmp().forEachOperand(this::see);
+        }
+    }
+
+    private void see(CFGData d) {
+        if (d instanceof CFGVar v && v.isTmp())
+            nextTemp = Math.max(nextTemp, v.version() + 1);
+    }
+
+    // whether a temp b assigns is read in another block, where a copy of b could not stand in for b
+    static boolean readOutside(CFGMethod m, BasicBlock b) {
+        HashSet<String> temps = new HashSet<>();
+        for (CFGOp o : b.getOps())
+            if (o instanceof CFGAssn a && a.var().isTmp())
+                temps.add(a.var().toString());
+        boolean[] read = { false };
+        Consumer<CFGData> check = d -> read[0] |= d instanceof CFGVar v && temps.contains(v.toString());
+        for (BasicBlock other : m.blocks()) {
+            if (other == b)
+                continue;
+            for (CFGAssn phi : other.getPhis())
+                phi.forEachOperand(check);
+            for (CFGOp o : other.getOps())
+                o.forEachOperand(check);
+            other.getJmp().forEachOperand(check);
+        }
+        return read[0];
+    }
+
+    // start a new copy: temps assigned from here on are renamed again
+    void next() {
+        renamed.clear();
+    }
+
+    CFGOp copy(CFGOp o) {
+        return switch (o) {
+            case CFGAssn a -> {
+                CFGExpr e = copy(a.expr()); // the operands first, for x = x + 1
+                yield new CFGAssn(assign(a.var()), e);
+            }
+            case CFGPrint p -> new CFGPrint(value(p.val()));
+            case CFGSet s -> new CFGSet(var(s.addr()), value(s.index()), data(s.val()));
+            case CFGStore s -> new CFGStore(var(s.base()), data(s.index()));
+        };
+    }
+
+    // what v reads as in the current copy
+    CFGValue value(CFGValue v) {
+        return v instanceof CFGVar var ? var(var) : v;
+    }
+
+    private CFGVar var(CFGVar v) {
+        return v.isTmp() ? renamed.getOrDefault(v.toString(), v) : v;
+    }
+
+    private CFGData data(CFGData d) {
+        return d instanceof CFGValue v ? value(v) : d;
+    }
+
+    private CFGVar assign(CFGVar v) {
+        if (!v.isTmp())
+            return v;
+        CFGVar fresh = new CFGVar("", nextTemp++, v.type());
+        renamed.put(v.toString(), fresh);
+        return fresh;
+    }
+
+    private CFGExpr copy(CFGExpr e) {
+        return switch (e) {
+            case CFGValue v -> value(v);
+            case CFGBinOp op -> new CFGBinOp(value(op.lhs()), op.op(), value(op.rhs()));
+            case CFGLoad l -> new CFGLoad(var(l.base()));
+            case CFGGet g -> new CFGGet(var(g.arr()), value(g.val()));
+            case CFGCall c -> {
+                CFGValue[] args = new CFGValue[c.args().length];
+                for (int i = 0; i < args.length; i++)
+                    args[i] = value(c.args()[i]);
+                yield new CFGCall(var(c.addr()), var(c.receiver()), args);
+            }
+            case CFGAlloc a -> a; // reads nothing and is never changed in place
+            default -> throw new IllegalStateException("cannot copy " + e);
+        };
+    }
+}
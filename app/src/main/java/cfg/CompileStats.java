@@ -0,0 +1,109 @@
+package cfg;
+
+import java.io.PrintStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.function.Supplier;
+import java.util.function.ToIntFunction;
+
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+import util.CompilePhase;
+
+// what each compiler phase cost, for -stats: wall and CPU time, bytes allocated by this thread, and the
+// size of the IR before and after it. the IR is whatever CtrlFlowGraph holds, so phases before the CFG
+// exists show no counts
+public final class CompileStats {
+    // temps are assignments to the compiler's unnamed temporaries
+    public record IRCounts(int blocks, int ops, int phis, int temps) {
+        // the program in CtrlFlowGraph, or null if there is none yet
+        public static IRCounts current() {
+            return of(CtrlFlowGraph.classes, CtrlFlowGraph.main);
+        }
+
+        static IRCounts of(ArrayList<CFGClass> classes, CFGMethod main) {
+            if (main == null)
+                return null;
+            int[] n = new int[4];
+            for (CFGClass c : classes)
+                for (CFGMethod m : c.methods())
+                    count(m, n);
+            count(main, n);
+            return new IRCounts(n[0], n[1], n[2], n[3]);
+        }
+
+        private static void count(CFGMethod m, int[] n) {
+            for (BasicBlock b : m.blocks()) {
+                n[0]++;
+                n[1] += b.getOps().size();
+                n[2] += b.getPhis().size();
+                for (CFGAssn phi : b.getPhis())
+                    if (phi.var().name().isEmpty())
+                        n[3]++;
+                for (CFGOp o : b.getOps())
+                    if (o instanceof CFGAssn a && a.var().name().isEmpty())
+                        n[3]++;
+            }
+        }
+    }
+
+    public record Measurement(CompilePhase phase, long wallNanos, long cpuNanos, long allocBytes, IRCounts before,
+            IRCounts after) {
+    }
+
+    private final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+            .getThreadMXBean();
+    private final ArrayList<Measurement> measurements = new ArrayList<>();
+
+    public <T> T measure(CompilePhase phase, Supplier<T> work) {
+        IRCounts before = IRCounts.current();
+        long cpu = threads.getCurrentThreadCpuTime();
+        long alloc = threads.getCurrentThreadAllocatedBytes();
+        long wall = System.nanoTime();
+        T result = work.get();
+        wall = System.nanoTime() - wall;
+        alloc = threads.getCurrentThreadAllocatedBytes() - alloc;
+        cpu = threads.getCurrentThreadCpuTime() - cpu;
+        measurements.add(new Measurement(phase, wall, cpu, alloc, before, IRCounts.current()));
+        return result;
+    }
+
+    public void measure(CompilePhase phase, Runnable work) {
+        measure(phase, () -> {
+            work.run();
+            return null;
+        });
+    }
+
+    public ArrayList<Measurement> measurements() {
+        return measurements;
+    }
+
+    // one row per phase, in the order they ran, then the totals
+    public void write(PrintStream out) {
+        String format = "%-9s %10s %10s %12s %17s %17s %17s %17s%n";
+        out.printf(format, "phase", "wall ms", "cpu ms", "alloc KB", "blocks", "ops", "phis", "temps");
+        long wall = 0, cpu = 0, alloc = 0;
+        for (Measurement m : measurements) {
+            out.printf(format, m.phase().label(), millis(m.wallNanos()), millis(m.cpuNanos()),
+                    String.format("%.1f", m.allocBytes() / 1024.0),
+                    change(m.before(), m.after(), IRCounts::blocks), change(m.before(), m.after(), IRCounts::ops),
+                    change(m.before(), m.after(), IRCounts::phis), change(m.before(), m.after(), IRCounts::temps));
+            wall += m.wallNanos();
+            cpu += m.cpuNanos();
+            alloc += m.allocBytes();
+        }
+        out.printf("%-9s %10s %10s %12s%n", "total", millis(wall), millis(cpu), String.format("%.1f", alloc / 1024.0));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%.3f", nanos / 1e6);
+    }
+
+    private static String change(IRCounts before, IRCounts after, ToIntFunction<IRCounts> count) {
+        if (after == null)
+            return "-";
+        return (before == null ? "-" : Integer.toString(count.applyAsInt(before))) + " -> "
+                + count.applyAsInt(after);
+    }
+}
@@ -0,0 +1,142 @@
+package cfg;
+
+import java.util.HashMap;
+
+import cfg.expr.CFGBinOp;
+import cfg.expr.CFGExpr;
+import cfg.expr.CFGPhi;
+import cfg.expr.data.CFGPrimitive;
+import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+import util.Opcode;
+
+// the variables holding the same number on every path to each point. each block maps a variable (by how
+// it prints, as in Liveness) to its constant, or to null once two paths disagree or it comes from memory,
+// a call or an argument; a variable not in the map has not been assigned on any path yet
+public final class ConstantPropagation {
+    private final Dataflow.Result<HashMap<String, Long>> result;
+
+    private ConstantPropagation(CFGMethod m) {
+        result = Dataflow.solve(m, new Problem());
+    }
+
+    public static ConstantPropagation compute(CFGMethod m) {
+        return new ConstantPropagation(m);
+    }
+
+    // v's value at the top of b, before its phis, or null if it isn't known to be constant there
+    public Long constantIn(BasicBlock b, CFGVar v) {
+        HashMap<String, Long> in = result.in().get(b);
+        return in == null ? null : in.get(v.toString());
+    }
+
+    // v's value after b's last op
+    public Long constantOut(BasicBlock b, CFGVar v) {
+        HashMap<String, Long> out = result.out().get(b);
+        return out == null ? null : out.get(v.toString());
+    }
+
+    // what v is whenever b's jump reads it, v being a variable or a number
+    public Long valueOut(BasicBlock b, CFGValue v) {
+        return v instanceof CFGPrimitive p ? (Long) p.value() : v instanceof CFGVar var ? constantOut(b, var) : null;
+    }
+
+    public int visits() {
+        return result.visits();
+    }
+
+    private static final class Problem implements Dataflow.Problem<HashMap<String, Long>> {
+        @Override
+        public Dataflow.Direction direction() {
+            return Dataflow.Direction.FORWARD;
+        }
+
+        // arguments, this and the locals not yet assigned vary
+        @Override
+        public HashMap<String, Long> boundary(CFGMethod m) {
+            HashMap<String, Long> entry = new HashMap<>();
+            for (CFGVar v : m.args())
+                entry.put(v.toString(), null);
+            for (CFGVar v : m.locals())
+                entry.put(v.toString(), null);
+            entry.put("%this", null);
+            return entry;
+        }
+
+        @Override
+        public HashMap<String, Long> initial(CFGMethod m) {
+            return new HashMap<>();
+        }
+
+        @Override
+        public HashMap<String, Long> meet(HashMap<String, Long> a, HashMap<String, Long> b) {
+            HashMap<String, Long> m = new HashMap<>(a);
+            for (String v : b.keySet()) {
+                Long x = b.get(v);
+                if (!m.containsKey(v))
+                    m.put(v, x);
+                else if (x == null || !x.equals(m.get(v)))
+                    m.put(v, null);
+            }
+            return m;
+        }
+
+        @Override
+        public HashMap<String, Long> transfer(BasicBlock b, HashMap<String, Long> in) {
+            HashMap<String, Long> values = new HashMap<>(in);
+            for (CFGAssn phi : b.getPhis())
+                assign(values, phi.var(), phi(in, (CFGPhi) phi.expr()));
+            for (CFGOp o : b.getOps())
+                if (o instanceof CFGAssn a)
+                    assign(values, a.var(), eval(values, a.expr()));
+            return values;
+        }
+
+        // {value} for a constant, {} for not yet known, null for varying
+        private static long[] eval(HashMap<String, Long> values, CFGExpr e) {
+            switch (e) {
+                case CFGPrimitive p:
+                    return new long[] { p.value() };
+                case CFGVar v:
+                    if (!values.containsKey(v.toString()))
+                        return new long[0];
+                    Long c = values.get(v.toString());
+                    return c == null ? null : new long[] { c };
+                case CFGBinOp op:
+                    long[] l = eval(values, op.lhs()), r = eval(values, op.rhs());
+                    if (l == null || r == null)
+                        return null;
+                    if (l.length == 0 || r.length == 0)
+                        return new long[0];
+                    if (op.op() == Opcode.DIV && r[0] == 0) // left for the program to trap on
+                        return null;
+                    return new long[] { op.op().eval(l[0], r[0]) };
+                default: // memory, calls and allocations
+                    return null;
+            }
+        }
+
+        private static long[] phi(HashMap<String, Long> in, CFGPhi phi) {
+            long[] value = new long[0];
+            for (CFGValue v : phi.varVersions()) {
+                long[] x = eval(in, v);
+                if (x == null || (x.length == 1 && value.length == 1 && x[0] != value[0]))
+                    return null;
+                if (x.length == 1)
+                    value = x;
+            }
+            return value;
+        }
+
+        private static void assign(HashMap<String, Long> values, CFGVar v, long[] value) {
+            if (value == null)
+                values.put(v.toString(), null);
+            else if (value.length == 0)
+                values.remove(v.toString());
+            else
+                values.put(v.toString(), value[0]);
+        }
+    }
+}
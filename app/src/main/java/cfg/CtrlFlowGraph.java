@@ -1,33 +1,61 @@
 package cfg;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map.Entry;
+import java.util.function.Consumer;
 
+import events.ValueNumberEvent;
 import parser.*;
 import util.DataType;
+import util.ErrorAccumulator;
 import cfg.op.*;
 import cfg.expr.*;
 import cfg.expr.data.*;
 
 public class CtrlFlowGraph {
-    public static ArrayList<BasicBlock> basicBlocks;
     public static DataBlock CFGDataBlock;
     public static ArrayList<String> globals;
     public static ArrayList<String> methods;
     public static CFGMethod main;
     public static ArrayList<CFGClass> classes;
     public static ParsedCode parsedCode;
+    private Profile profile; // counts from an earlier run, or null
 
     public CtrlFlowGraph() {
         //empty constructor
     }
 
     public void mkCfg (ParsedCode code) {
+        mkLayouts(code);
+        for(int i = 0; i < code.classes.size(); i++) {
+            ASTClass c = code.classes.get(i);
+            CFGClass cfgClass = classes.get(i);
+            for(ASTMethod m : c.iterMethods()) {
+                cfgClass.methods().add(methodToCfg(m, c.name(), c.type(), false));
+            }
+        }
+
+        main = methodToCfg(code.main, "", null, true);
+
+    }
+
+    // rebuild the program from textual IR instead of source, so it can be re-optimized on its own
+    // returns whether the IR is already in SSA, i.e. has a phi anywhere - IR without phis is treated as
+    // pre-SSA, which at worst means straight-line SSA code gets its variables renumbered
+    public boolean readIR(String ir) {
+        parsedCode = null;
+        return new IRParser(ir).parseProgram();
+    }
+
+    // set up field ids, method ids and vtables - everything lowering a single method depends on
+    public void mkLayouts(ParsedCode code) {
         classes = new ArrayList<>();
         parsedCode = code;
         CFGDataBlock = new DataBlock(new ArrayList<>());
@@ -67,18 +95,30 @@ public class CtrlFlowGraph {
             CFGDataBlock.data().add(vtable);
             classes.add(new CFGClass(c.name(), new ArrayList<String>(c.fields().keySet()), vtable, c.fields().size(), new ArrayList<>()));
         }
+    }
 
-        basicBlocks = new ArrayList<>();
-        for(int i = 0; i < code.classes.size(); i++) {
-            ASTClass c = code.classes.get(i);
-            CFGClass cfgClass = classes.get(i);
+    // lower, optimize and write one method at a time instead of building the whole program first
+    // each method (and its AST body) is dropped as soon as it is written, so memory use is bounded
+    // by the largest method rather than the size of the program
+    public void compileStreaming(ParsedCode code, IRWriter out, PassManager passes) throws IOException {
+        mkLayouts(code);
+        out.writeData(CFGDataBlock);
+        out.writeCodeHeader();
+        for(ASTClass c : code.classes) {
             for(ASTMethod m : c.iterMethods()) {
-                cfgClass.methods().add(methodToCfg(m, c.name(), c.type(), false));
+                out.writeClassMethod(compileMethod(m, c.name(), c.type(), false, passes));
             }
+            out.endClass();
         }
+        out.writeMethod(compileMethod(code.main, "", null, true, passes));
+    }
 
-        main = methodToCfg(code.main, "", null, true);
-
+    private CFGMethod compileMethod(ASTMethod m, String classname, DataType classType, boolean isMain, PassManager passes) {
+        CFGMethod cfgMethod = methodToCfg(m, classname, classType, isMain);
+        m.body().clear(); // AST for this method is no longer needed
+        ErrorAccumulator.emitErrors();
+        passes.run(cfgMethod);
+        return cfgMethod;
     }
 
     public static CFGClass findClass(String s) {
@@ -91,7 +131,7 @@ public class CtrlFlowGraph {
     
     private CFGMethod methodToCfg(ASTMethod m, String classname, DataType classType, boolean isMain) {
         CFGVar.resetTmp();
-        HashSet<CFGVar> activeVars = new HashSet<>();
+        HashSet<CFGVar> activeVars = new LinkedHashSet<>();
         CFGVar[] args = new CFGVar[0];
         Iterator<Entry<String, DataType>> iterator;
         Entry<String, DataType> entry;
@@ -112,12 +152,10 @@ public class CtrlFlowGraph {
             entry = iterator.next();
             locals[i] = new CFGVar(entry.getKey(), entry.getValue());
         }
-        BasicBlock.blockId = 0;
-        
         ArrayList<BasicBlock> blocksInMethod = new ArrayList<>();
         ArrayList <CFGVar> vars = new ArrayList<>(Arrays.asList(args));
         vars.addAll(Arrays.asList(locals));
-        BasicBlock start = new BasicBlock(blocksInMethod, m.name()+classname, m.body(), 0, activeVars, new HashSet<>(), locals, null);
+        BasicBlock start = new CFGBuilder(blocksInMethod, m.name()+classname, locals).build(m.body(), activeVars);
         return new CFGMethod(m.name()+classname, args, locals, start, blocksInMethod, vars);
     }
 
@@ -147,78 +185,52 @@ public class CtrlFlowGraph {
     }
 
     public void toSSA(boolean simple) {
-        HashMap<String, CFGVar> varMap, maxVer;
-        varMap = new HashMap<>();
-        for(CFGVar v : main.vars())
-            varMap.put(v.name(), v);
-        setDominators(main.blocks());
-        if (simple)
-            mkSimplePhis(main.blocks()); // insert temp phis - simple ver
-        else
-            mkPhis(main.blocks()); // insert temp phis
-        maxVer = new HashMap<>(varMap);
-        for (BasicBlock b : main.blocks())
-            b.toSSA(varMap, maxVer);
-            
-
+        AnalysisCache analyses = new AnalysisCache();
+        methodToSSA(main, simple, analyses);
         for(CFGClass c : classes) {
             for(CFGMethod m : c.methods()) {
-                varMap = new HashMap<>();
-                for(CFGVar v : m.vars())
-                    varMap.put(v.name(), v);
-                maxVer = new HashMap<>(varMap);
-                setDominators(m.blocks());
-                if(simple)
-                    mkSimplePhis(m.blocks());
-                else
-                    mkPhis(m.blocks()); //insert temp phis
-                for(BasicBlock b : m.blocks())
-                    b.toSSA(varMap, maxVer);
+                methodToSSA(m, simple, analyses);
             }
         }
     }
 
+    void methodToSSA(CFGMethod m, boolean simple, AnalysisCache analyses) {
+        HashMap<String, CFGVar> varMap, maxVer;
+        varMap = new HashMap<>();
+        for(CFGVar v : m.vars())
+            varMap.put(v.name(), v);
+        maxVer = new HashMap<>(varMap);
+        DominatorTree tree = analyses.get(Analyses.DOMINANCE, m);
+        if(simple)
+            mkSimplePhis(m.blocks()); // insert temp phis - simple ver
+        else
+            mkPhis(m.blocks(), analyses.get(Analyses.LIVENESS, m)); //insert temp phis
+        for(BasicBlock b : m.blocks()) // the entry reaches every block it dominates; this catches unreachable ones
+            b.toSSA(varMap, maxVer, tree);
+    }
+
     //calculate dominators, inverse dominators, nearest dominator, and dominance frontier for a set of blocks
-    private void setDominators(ArrayList<BasicBlock> blocks) {
-        HashSet<BasicBlock> allBlocks = new HashSet<>(blocks), tempDoms;
-        blocks.get(0).addDominator(blocks.get(0));
-        boolean changed = true;
-        for(int i = 1; i < blocks.size(); i++) {
-            blocks.get(i).setDominators(allBlocks);
-        }
-        while(changed) {
-            changed = false;
-            for(int i = 1; i < blocks.size(); i++) {
-                BasicBlock b = blocks.get(i);
-                tempDoms = new HashSet<>();
-                for(BasicBlock p : b.getPreds()) {
-                    if(tempDoms.size() == 0)
-                        tempDoms.addAll(p.getDominators()); //initialize temp dominators to the dominators of the first pred
-                    else
-                        tempDoms.retainAll(p.getDominators()); //continually intersect temp with each successive pred
-                }
-                tempDoms.add(b); //add curr block to its own dominators
-                if(!tempDoms.equals(b.getDominators())) {
-                    changed = true;
-                    b.setDominators(tempDoms);
-                }
-            }
-        }
+    //from their dominator tree. unreachable blocks dominate only themselves
+    static void setDominators(ArrayList<BasicBlock> blocks, DominatorTree tree) {
         for(BasicBlock b : blocks) {
-            b.findNearestDominator();
-	    for(BasicBlock d : b.dominators) { //add inverse dominators, this is maybe necessary but I'm not sure
+            b.clearDominance();
+            b.immediateDominator = tree.idom(b);
+            for(BasicBlock d = b; d != null; d = tree.idom(d)) {
+                b.addDominator(d);
                 d.inverseDominators.add(b);
             }
         }
-	    calcDominanceFrontiers(blocks);
+        calcDominanceFrontiers(blocks, tree);
     }
 
-    private void calcDominanceFrontiers(ArrayList<BasicBlock> blocks) {
+    private static void calcDominanceFrontiers(ArrayList<BasicBlock> blocks, DominatorTree tree) {
         BasicBlock tmp;
         for (BasicBlock b : blocks) {
-            if (b.getPreds().size() <= 1)
+            if (b.getPreds().size() <= 1 || !tree.reachable(b))
                 continue;
             for (BasicBlock p : b.getPreds()) {
+                if (!tree.reachable(p))
+                    continue;
                 tmp = p;
                 while (tmp != b.immediateDominator) {
                     tmp.dominanceFrontier.add(b);
@@ -228,78 +240,31 @@ public class CtrlFlowGraph {
         }
     }
 
-    private void mkPhis(ArrayList<BasicBlock> blocks) {
-        HashSet<CFGVar> globals = new HashSet<>(); // variables read aacross basic block
+    private void mkPhis(ArrayList<BasicBlock> blocks, Liveness live) {
+        HashSet<CFGVar> globals = new LinkedHashSet<>(); // variables read aacross basic block, in program order
         HashMap<CFGVar, ArrayList<BasicBlock>> varBlocks = new HashMap<>(); //key = variable, val = blocks where variable is assigned
-        HashSet<CFGVar> varKill; //vars assigned locally in-block
         ArrayList<BasicBlock> workList; // blocks needing phi work
         for (BasicBlock b : blocks) { // (incomplete) initial pass
-            varKill = new HashSet<>();
+            HashSet<CFGVar> varKill = new HashSet<>(); //vars assigned locally in-block
+            Consumer<CFGData> readVar = x -> { // any var read before it is assigned in-block is global
+                if (x instanceof CFGVar && !varKill.contains(x))
+                    globals.add((CFGVar) x);
+            };
             for (CFGOp c : b.getOps()) {
-                switch (c) {
-                    case CFGAssn a:
-                        CFGVar out = a.var();
-                        switch (a.expr()) {
-                            case CFGBinOp n:
-                                if (n.lhs() instanceof CFGVar && !varKill.contains(n.lhs()))
-                                    globals.add((CFGVar) n.lhs());
-                                if (n.rhs() instanceof CFGVar && !varKill.contains(n.rhs()))
-                                    globals.add((CFGVar) n.rhs());
-                                break;
-                            case CFGVar v:
-                                if (!varKill.contains(v))
-                                    globals.add(v);
-                                break;
-                            case CFGCall l:
-                                if (!varKill.contains(l.addr()))
-                                    globals.add(l.addr());
-                                if (!varKill.contains(l.receiver()))
-                                    globals.add(l.receiver());
-                                for (CFGValue x : l.args()) {
-                                    if (x instanceof CFGVar && !varKill.contains(x))
-                                        globals.add((CFGVar) x);
-                                }
-                                break;
-                            case CFGGet g:
-                                if (!varKill.contains(g.arr()))
-                                    globals.add(g.arr());
-                                if (g.val() instanceof CFGVar && !varKill.contains(g.val()))
-                                    globals.add((CFGVar) g.val());
-                                break;
-                            default:
-                                break;
-                        }
-                        varKill.add(out);
-                        ArrayList<BasicBlock> blocksOut = varBlocks.get(out);
-                        if(out.name().equals(""))
-                            continue;
-                        else if (blocksOut == null)
-                            varBlocks.put(out, new ArrayList<>(Arrays.asList(b)));
-                        else if (!blocksOut.contains(b))
-                            blocksOut.add(b);
-                        break;
-                    case CFGSet s:
-                        if(!varKill.contains(s.addr()))
-                            globals.add(s.addr());
-                        if(s.index() instanceof CFGVar && !varKill.contains(s.index()))
-                            globals.add((CFGVar)s.index());
-                        if(s.val() instanceof CFGVar && !varKill.contains(s.val()))
-                            globals.add((CFGVar)s.val());
-                        break;
-                    case CFGPrint p:
-                        if(p.val() instanceof CFGVar && !varKill.contains(p.val()))
-                            globals.add((CFGVar)p.val());
-                        break;
-                    case CFGStore st:
-                        if(!varKill.contains(st.base()))
-                            globals.add(st.base());
-                        if(st.index() instanceof CFGVar && !varKill.contains(st.index()))
-                            globals.add((CFGVar)st.index());
-                        break;
-                    default:
-                        break;
+                c.forEachOperand(readVar);
+                if (c instanceof CFGAssn a) {
+                    CFGVar out = a.var();
+                    varKill.add(out);
+                    ArrayList<BasicBlock> blocksOut = varBlocks.get(out);
+                    if(out.name().equals(""))
+                        continue;
+                    else if (blocksOut == null)
+                        varBlocks.put(out, new ArrayList<>(Arrays.asList(b)));
+                    else if (!blocksOut.contains(b))
+                        blocksOut.add(b);
                 }
             }
+            b.getJmp().forEachOperand(readVar);
         }
         for(CFGVar v : globals) {
             
@@ -309,7 +274,9 @@ public class CtrlFlowGraph {
             for(int i = 0; i < workList.size(); i++) {
                 BasicBlock b = workList.get(i);
                 for(BasicBlock d : b.dominanceFrontier) {
-                    if(!d.hasPhi(v)) {
+                    // only where v is live: a dead phi may take v from a pred it was never assigned on
+                    HashSet<String> liveIn = live.liveIn(d);
+                    if(!d.hasPhi(v) && liveIn != null && liveIn.contains(v.toString())) {
                         d.addPhi(v);
                         if(!workList.contains(d))
                             workList.add(d);
@@ -343,20 +310,48 @@ public class CtrlFlowGraph {
     }
 
     public void localValueNumber() {
-        for(BasicBlock b : main.blocks())
-            b.doLocalValueNumbering();
+        localValueNumber(main);
 
         for(CFGClass c : classes)
             for(CFGMethod m : c.methods())
-                for(BasicBlock b : m.blocks())
-                    b.doLocalValueNumbering();
+                localValueNumber(m);
+    }
+
+    void localValueNumber(CFGMethod m) {
+        for(BasicBlock b : m.blocks()) {
+            ValueNumberEvent event = new ValueNumberEvent();
+            event.begin();
+            int passes = b.doLocalValueNumbering();
+            event.end();
+            if(passes > 1 && event.shouldCommit()) {
+                event.method = m.name();
+                event.block = b.getIdentifier();
+                event.retries = passes - 1;
+                event.commit();
+            }
+        }
     }
     
     public void cleanBlocks() {
-        main.condenseBlocks();
-
+        cleanBlocks(main);
         for(CFGClass c : classes)
             for(CFGMethod m : c.methods())
-                m.condenseBlocks();
+                cleanBlocks(m);
+    }
+
+    private void cleanBlocks(CFGMethod m) {
+        m.condenseBlocks();
+        if(profile != null)
+            m.layoutBlocks(profile);
+    }
+
+    // counts from an earlier run, or null
+    public Profile profile() {
+        return profile;
+    }
+
+    // use the counts of an earlier run (see Profile) in the passes that follow
+    public void loadProfile(String text) {
+        profile = Profile.read(text);
     }
 }
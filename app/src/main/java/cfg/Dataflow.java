@@ -0,0 +1,190 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+
+// an iterative dataflow solver, shared by Liveness, ReachingDefinitions, AvailableExpressions and
+// ConstantPropagation. blocks are numbered in reverse postorder from the entry and the worklist is a
+// BitSet of those numbers, swept in order for forward problems and backwards for backward ones, so each
+// block is visited after the blocks that feed it wherever the CFG allows: an acyclic method converges in
+// one visit per block, and loops in about one more sweep per nesting level. only blocks reachable from
+// the entry are solved
+public final class Dataflow {
+    public enum Direction {
+        FORWARD, BACKWARD
+    }
+
+    // a lattice and its transfer functions. meet and transfer must not change their arguments
+    public interface Problem<T> {
+        Direction direction();
+
+        // what flows into the entry (forward) or out of each block without successors (backward)
+        T boundary(CFGMethod m);
+
+        // where every other block starts: the top of the lattice, the identity of meet
+        T initial(CFGMethod m);
+
+        T meet(T a, T b);
+
+        // the value at the far end of b, from the value at the near end
+        T transfer(BasicBlock b, T value);
+
+        // the value carried along from -> to, e.g. for the operands of to's phis that come from from
+        default T edge(BasicBlock from, BasicBlock to, T value) {
+            return value;
+        }
+    }
+
+    // in is the value at the top of each block, before its phis are read, and out the value after its jump
+    public record Result<T>(HashMap<BasicBlock, T> in, HashMap<BasicBlock, T> out, int visits) {
+    }
+
+    // a problem over a fixed set of facts, one bit each, with per-block gen and kill sets:
+    //   far end = gen | (near end & ~kill)
+    public abstract static class BitVector implements Problem<BitSet> {
+        private final Direction direction;
+        private final boolean union; // meet is union, else intersection
+        protected final HashMap<BasicBlock, BitSet> gen = new HashMap<>(), kill = new HashMap<>();
+        protected int size; // number of facts
+
+        protected BitVector(Direction direction, boolean union) {
+            this.direction = direction;
+            this.union = union;
+        }
+
+        @Override
+        public Direction direction() {
+            return direction;
+        }
+
+        @Override
+        public BitSet boundary(CFGMethod m) {
+            return new BitSet(size);
+        }
+
+        @Override
+        public BitSet initial(CFGMethod m) {
+            BitSet top = new BitSet(size);
+            if (!union)
+                top.set(0, size);
+            return top;
+        }
+
+        @Override
+        public BitSet meet(BitSet a, BitSet b) {
+            BitSet m = (BitSet) a.clone();
+            if (union)
+                m.or(b);
+            else
+                m.and(b);
+            return m;
+        }
+
+        @Override
+        public BitSet transfer(BasicBlock b, BitSet value) {
+            BitSet out = (BitSet) value.clone();
+            out.andNot(kill.get(b));
+            out.or(gen.get(b));
+            return out;
+        }
+    }
+
+    private Dataflow() {
+    }
+
+    // the blocks reachable from the entry, in reverse postorder
+    public static ArrayList<BasicBlock> reversePostorder(CFGMethod m) {
+        ArrayList<BasicBlock> post = new ArrayList<>();
+        HashSet<BasicBlock> seen = new HashSet<>();
+        ArrayList<BasicBlock> stack = new ArrayList<>();
+        ArrayList<Integer> next = new ArrayList<>(); // the succ of each stacked block to look at next
+        BasicBlock entry = m.blocks().get(0);
+        stack.add(entry);
+        next.add(0);
+        seen.add(entry);
+        while (!stack.isEmpty()) {
+            int top = stack.size() - 1;
+            BasicBlock b = stack.get(top);
+            int i = next.get(top);
+            if (i < b.getSuccs().size()) {
+                next.set(top, i + 1);
+                BasicBlock s = b.getSuccs().get(i);
+                if (seen.add(s)) {
+                    stack.add(s);
+                    next.add(0);
+                }
+            } else {
+                post.add(b);
+                stack.remove(top);
+                next.remove(top);
+            }
+        }
+        ArrayList<BasicBlock> rpo = new ArrayList<>(post.size());
+        for (int i = post.size() - 1; i >= 0; i--)
+            rpo.add(post.get(i));
+        return rpo;
+    }
+
+    public static <T> Result<T> solve(CFGMethod m, Problem<T> p) {
+        ArrayList<BasicBlock> order = reversePostorder(m);
+        HashMap<BasicBlock, Integer> number = new HashMap<>();
+        for (int i = 0; i < order.size(); i++)
+            number.put(order.get(i), i);
+        boolean forward = p.direction() == Direction.FORWARD;
+        HashMap<BasicBlock, T> in = new HashMap<>(), out = new HashMap<>();
+        HashMap<BasicBlock, T> near = forward ? in : out, far = forward ? out : in;
+        T top = p.initial(m);
+        for (BasicBlock b : order)
+            far.put(b, top);
+        BitSet work = new BitSet(order.size());
+        work.set(0, order.size());
+        int visits = 0, at = forward ? 0 : order.size() - 1;
+        while (!work.isEmpty()) {
+            // sweep on from the last block visited and start the next sweep when none are left, so a loop
+            // isn't run to a fixed point again each time the code in front of it changes
+            int i = forward ? work.nextSetBit(at) : work.previousSetBit(at);
+            if (i < 0)
+                i = forward ? work.nextSetBit(0) : work.length() - 1;
+            at = i;
+            work.clear(i);
+            visits++;
+            BasicBlock b = order.get(i);
+            // meet what flows in from the blocks on the near side
+            T value = null;
+            if (forward) {
+                if (i == 0)
+                    value = p.boundary(m);
+                for (BasicBlock pred : b.getPreds())
+                    if (number.containsKey(pred)) {
+                        T v = p.edge(pred, b, out.get(pred));
+                        value = value == null ? v : p.meet(value, v);
+                    }
+            } else {
+                if (b.getSuccs().isEmpty())
+                    value = p.boundary(m);
+                for (BasicBlock succ : b.getSuccs()) {
+                    T v = p.edge(b, succ, in.get(succ));
+                    value = value == null ? v : p.meet(value, v);
+                }
+            }
+            near.put(b, value == null ? top : value);
+            T result = p.transfer(b, near.get(b));
+            if (result.equals(far.get(b)))
+                continue;
+            far.put(b, result);
+            if (forward) {
+                for (BasicBlock succ : b.getSuccs())
+                    work.set(number.get(succ));
+            } else {
+                for (BasicBlock pred : b.getPreds()) {
+                    Integer n = number.get(pred);
+                    if (n != null)
+                        work.set(n);
+                }
+            }
+        }
+        return new Result<>(in, out, visits);
+    }
+}
@@ -0,0 +1,346 @@
+package cfg;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.PriorityQueue;
+
+// the dominator tree of a method's reachable blocks, built with semi-NCA and kept up to date as edges
+// are added and removed, so passes that edit the CFG one edge at a time don't recompute it from scratch
+//   insertEdge: the blocks the new edge affects are found by a depth-ordered search from its target and
+//               moved under the nearest common dominator of its ends
+//   deleteEdge: semi-NCA is rerun on the subtree of the nearest common dominator of its ends; blocks
+//               that can no longer be reached leave the tree
+// both are called after the edge has been changed in the blocks' succs and preds. an edge that makes
+// unreachable blocks reachable again rebuilds the whole tree
+public final class DominatorTree {
+    private static final class Node {
+        final BasicBlock block;
+        Node idom;
+        int depth;
+        final ArrayList<Node> children = new ArrayList<>();
+
+        Node(BasicBlock block) {
+            this.block = block;
+        }
+    }
+
+    private final BasicBlock entry;
+    private final HashMap<BasicBlock, Node> nodes = new HashMap<>();
+    private int rebuilds; // full rebuilds since the tree was built
+
+    private DominatorTree(BasicBlock entry) {
+        this.entry = entry;
+    }
+
+    public static DominatorTree compute(CFGMethod m) {
+        return compute(m.blocks().get(0));
+    }
+
+    public static DominatorTree compute(BasicBlock entry) {
+        DominatorTree t = new DominatorTree(entry);
+        Node root = new Node(entry);
+        t.nodes.put(entry, root);
+        t.semiNCA(root, null);
+        return t;
+    }
+
+    public BasicBlock entry() {
+        return entry;
+    }
+
+    public boolean reachable(BasicBlock b) {
+        return nodes.containsKey(b);
+    }
+
+    // null for the entry and for unreachable blocks
+    public BasicBlock idom(BasicBlock b) {
+        Node n = nodes.get(b);
+        return n == null || n.idom == null ? null : n.idom.block;
+    }
+
+    // the entry is at depth 0
+    public int depth(BasicBlock b) {
+        return node(b).depth;
+    }
+
+    // the blocks b immediately dominates, in the order they were attached
+    public List<BasicBlock> children(BasicBlock b) {
+        ArrayList<BasicBlock> children = new ArrayList<>();
+        for (Node c : node(b).children)
+            children.add(c.block);
+        return children;
+    }
+
+    public boolean dominates(BasicBlock a, BasicBlock b) {
+        Node na = nodes.get(a), nb = nodes.get(b);
+        if (na == null || nb == null)
+            return false;
+        while (nb.depth > na.depth)
+            nb = nb.idom;
+        return nb == na;
+    }
+
+    public BasicBlock nearestCommonDominator(BasicBlock a, BasicBlock b) {
+        return nca(node(a), node(b)).block;
+    }
+
+    public int rebuilds() {
+        return rebuilds;
+    }
+
+    // call after adding from -> to to the CFG
+    public void insertEdge(BasicBlock from, BasicBlock to) {
+        Node f = nodes.get(from);
+        if (f == null) // an edge out of unreachable code changes nothing
+            return;
+        Node t = nodes.get(to);
+        if (t == null) { // to and whatever it reaches are reachable now
+            rebuild();
+            return;
+        }
+        Node ncd = nca(f, t);
+        if (ncd == t || ncd == t.idom)
+            return;
+        // t's subtree can only move up, to hang off ncd. a block v is affected iff depth(ncd) + 1 < depth(v) and
+        // some path from t to v never goes above v's depth, so candidates are taken deepest first and each one
+        // searches below its own depth for more
+        PriorityQueue<Node> bucket = new PriorityQueue<>((a, b) -> b.depth - a.depth);
+        HashSet<Node> visited = new HashSet<>();
+        ArrayList<Node> affected = new ArrayList<>();
+        ArrayDeque<Node> stack = new ArrayDeque<>();
+        bucket.add(t);
+        visited.add(t);
+        while (!bucket.isEmpty()) {
+            Node n = bucket.poll();
+            affected.add(n);
+            int level = n.depth;
+            for (Node v = n; v != null; v = stack.poll()) {
+                for (BasicBlock succ : v.block.getSuccs()) {
+                    Node s = nodes.get(succ);
+                    if (s == null || s.depth <= ncd.depth + 1 || !visited.add(s))
+                        continue;
+                    if (s.depth > level)
+                        stack.push(s);
+                    else
+                        bucket.add(s);
+                }
+            }
+        }
+        for (Node n : affected)
+            setIdom(n, ncd);
+        updateDepths(ncd);
+    }
+
+    // call after removing from -> to from the CFG
+    public void deleteEdge(BasicBlock from, BasicBlock to) {
+        Node f = nodes.get(from), t = nodes.get(to);
+        if (f == null || t == null)
+            return;
+        Node ncd = nca(f, t);
+        if (ncd == t) // a back edge: every path that used it reached to before
+            return;
+        if (t.idom == f && !supported(t)) {
+            // to is unreachable now, and so is everything it dominated. what it led to outside its subtree may
+            // have lost a path, so the subtree rerun is rooted where those blocks meet
+            ArrayList<Node> dead = subtree(t);
+            Node root = null;
+            for (Node n : dead)
+                for (BasicBlock succ : n.block.getSuccs()) {
+                    Node s = nodes.get(succ);
+                    if (s != null && !isAncestor(t, s))
+                        root = root == null ? nca(f, s) : nca(root, s);
+                }
+            if (root == null) { // nothing else was reached through it
+                for (Node n : dead)
+                    remove(n);
+                return;
+            }
+            ncd = root;
+        }
+        semiNCA(ncd, subtree(ncd));
+    }
+
+    // to still has a pred it doesn't dominate, so it is still reachable
+    private boolean supported(Node to) {
+        for (BasicBlock p : to.block.getPreds()) {
+            Node n = nodes.get(p);
+            if (n != null && !isAncestor(to, n))
+                return true;
+        }
+        return false;
+    }
+
+    private void rebuild() {
+        rebuilds++;
+        nodes.clear();
+        Node root = new Node(entry);
+        nodes.put(entry, root);
+        semiNCA(root, null);
+    }
+
+    // true if the tree matches one computed from scratch, for checking the incremental updates
+    public boolean verify() {
+        DominatorTree fresh = compute(entry);
+        if (fresh.nodes.size() != nodes.size())
+            return false;
+        for (Node n : fresh.nodes.values()) {
+            Node mine = nodes.get(n.block);
+            if (mine == null || (mine.idom == null ? n.idom != null : n.idom == null || mine.idom.block != n.idom.block)
+                    || mine.depth != n.depth)
+                return false;
+        }
+        return true;
+    }
+
+    // (re)computes the idoms of the blocks below root, which keeps its own place in the tree. scope is the
+    // blocks the search may enter besides root, or null for all; those in it that it can't reach are dropped
+    private void semiNCA(Node root, ArrayList<Node> scope) {
+        HashSet<BasicBlock> allowed = null;
+        if (scope != null) {
+            allowed = new HashSet<>();
+            for (Node n : scope)
+                allowed.add(n.block);
+        }
+        // depth-first numbering from root
+        ArrayList<BasicBlock> vertex = new ArrayList<>();
+        ArrayList<Integer> parent = new ArrayList<>();
+        HashMap<BasicBlock, Integer> number = new HashMap<>();
+        ArrayDeque<BasicBlock> stack = new ArrayDeque<>();
+        ArrayDeque<Integer> from = new ArrayDeque<>();
+        stack.push(root.block);
+        from.push(-1);
+        while (!stack.isEmpty()) {
+            BasicBlock b = stack.pop();
+            int p = from.pop();
+            if (number.containsKey(b))
+                continue;
+            number.put(b, vertex.size());
+            vertex.add(b);
+            parent.add(p);
+            ArrayList<BasicBlock> succs = b.getSuccs();
+            for (int i = succs.size() - 1; i >= 0; i--) { // so succs are visited in order
+                BasicBlock s = succs.get(i);
+                if (!number.containsKey(s) && (allowed == null || allowed.contains(s))) {
+                    stack.push(s);
+                    from.push(number.get(b));
+                }
+            }
+        }
+        int n = vertex.size();
+        int[] semi = new int[n], label = new int[n], ancestor = new int[n], idom = new int[n];
+        for (int i = 0; i < n; i++) {
+            semi[i] = i;
+            label[i] = i;
+            ancestor[i] = -1;
+        }
+        // semidominators, by Lengauer-Tarjan's eval over a path-compressed forest
+        for (int w = n - 1; w > 0; w--) {
+            for (BasicBlock p : vertex.get(w).getPreds()) {
+                Integer v = number.get(p);
+                if (v == null)
+                    continue;
+                int u = eval(v, ancestor, label, semi);
+                if (semi[u] < semi[w])
+                    semi[w] = semi[u];
+            }
+            ancestor[w] = parent.get(w);
+        }
+        // each idom is the nearest ancestor of the DFS parent numbered no higher than the semidominator
+        idom[0] = -1;
+        for (int w = 1; w < n; w++) {
+            int d = parent.get(w);
+            while (d > semi[w])
+                d = idom[d];
+            idom[w] = d;
+        }
+        if (scope != null)
+            for (Node old : scope)
+                if (!number.containsKey(old.block))
+                    remove(old);
+        Node[] built = new Node[n];
+        built[0] = root;
+        root.children.clear();
+        for (int w = 1; w < n; w++) {
+            Node node = nodes.computeIfAbsent(vertex.get(w), Node::new);
+            node.children.clear();
+            built[w] = node;
+        }
+        for (int w = 1; w < n; w++) {
+            built[w].idom = built[idom[w]];
+            built[w].idom.children.add(built[w]);
+            built[w].depth = built[w].idom.depth + 1; // an idom is always numbered before the block
+        }
+    }
+
+    // the vertex with the lowest semidominator on v's compressed path to its forest root
+    private static int eval(int v, int[] ancestor, int[] label, int[] semi) {
+        if (ancestor[v] == -1)
+            return v;
+        ArrayDeque<Integer> path = new ArrayDeque<>();
+        for (int u = v; ancestor[ancestor[u]] != -1; u = ancestor[u])
+            path.push(u);
+        while (!path.isEmpty()) { // compress from the top down
+            int u = path.pop();
+            if (semi[label[ancestor[u]]] < semi[label[u]])
+                label[u] = label[ancestor[u]];
+            ancestor[u] = ancestor[ancestor[u]];
+        }
+        return label[v];
+    }
+
+    private Node node(BasicBlock b) {
+        Node n = nodes.get(b);
+        if (n == null)
+            throw new IllegalArgumentException("Error: block " + b.getIdentifier() + " is unreachable");
+        return n;
+    }
+
+    private static Node nca(Node a, Node b) {
+        while (a.depth > b.depth)
+            a = a.idom;
+        while (b.depth > a.depth)
+            b = b.idom;
+        while (a != b) {
+            a = a.idom;
+            b = b.idom;
+        }
+        return a;
+    }
+
+    private static boolean isAncestor(Node a, Node b) {
+        while (b.depth > a.depth)
+            b = b.idom;
+        return a == b;
+    }
+
+    private void setIdom(Node n, Node idom) {
+        n.idom.children.remove(n);
+        n.idom = idom;
+        idom.children.add(n);
+    }
+
+    private void remove(Node n) {
+        nodes.remove(n.block);
+        if (n.idom != null)
+            n.idom.children.remove(n);
+        n.idom = null;
+    }
+
+    // root and every block below it, root first
+    private ArrayList<Node> subtree(Node root) {
+        ArrayList<Node> all = new ArrayList<>();
+        all.add(root);
+        for (int i = 0; i < all.size(); i++)
+            all.addAll(all.get(i).children);
+        return all;
+    }
+
+    private void updateDepths(Node root) {
+        for (Node n : subtree(root))
+            for (Node c : n.children)
+                c.depth = n.depth + 1;
+    }
+}
@@ -0,0 +1,360 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+import cfg.expr.*;
+import cfg.expr.data.*;
+import cfg.jump.*;
+import cfg.op.*;
+import util.Opcode;
+
+// rebuilds the CFG from the textual IR printed by CtrlFlowGraph.toString / IRWriter
+// a single forward pass over the lines, no regexes or tokenizer
+//
+// the data block holds one vtable per class, in class order, so the i-th blank-line separated group
+// of methods belongs to the class of the i-th vtable
+// field names are not part of the IR, so rebuilt classes have none
+class IRParser {
+    private final String text;
+    private int pos; // start of the next unread line
+    private int lineNo; // number of the line last read, for errors
+    private final HashMap<String, CFGArray> arrays = new HashMap<>();
+    private boolean sawPhi;
+
+    // per-method state
+    private String methodName;
+    private HashMap<String, BasicBlock> blocks;
+    private HashMap<String, CFGVar> vars;
+    private ArrayList<CFGVar> locals;
+
+    IRParser(String text) {
+        this.text = text;
+    }
+
+    // fills in the CtrlFlowGraph statics, as mkCfg would - returns whether any phi was read
+    boolean parseProgram() {
+        CtrlFlowGraph.CFGDataBlock = new DataBlock(new ArrayList<>());
+        CtrlFlowGraph.classes = new ArrayList<>();
+        CtrlFlowGraph.globals = new ArrayList<>();
+        CtrlFlowGraph.methods = new ArrayList<>();
+        expect("data:");
+        while (peekLine().startsWith("global array "))
+            parseArray(nextLine());
+        expect("code:");
+        expect("");
+        for (CFGArray vtable : CtrlFlowGraph.CFGDataBlock.data()) {
+            if (!vtable.name().startsWith("vtbl")) // field tables from untyped code
+                continue;
+            CFGClass c = new CFGClass(vtable.name().substring(4), new ArrayList<>(), vtable, 0, new ArrayList<>());
+            while (!peekLine().isEmpty())
+                c.methods().add(parseMethod());
+            expect("");
+            CtrlFlowGraph.classes.add(c);
+        }
+        if (!peekLine().equals("main:"))
+            throw error("expected main");
+        CtrlFlowGraph.main = parseMethod();
+        while (pos < text.length())
+            if (!nextLine().isEmpty())
+                throw error("unexpected text after main");
+        return sawPhi;
+    }
+
+    // global array <name>: { <elem>, <elem> }
+    private void parseArray(String line) {
+        int colon = line.indexOf(": {");
+        if (colon == -1 || !line.endsWith("}"))
+            throw error("malformed global array");
+        String name = line.substring("global array ".length(), colon);
+        String body = line.substring(colon + 3, line.length() - 1).trim();
+        String[] elems = body.isEmpty() ? new String[0] : body.split(", ");
+        CFGArray arr = new CFGArray(name, elems);
+        arrays.put(name, arr);
+        CtrlFlowGraph.CFGDataBlock.data().add(arr);
+    }
+
+    private CFGMethod parseMethod() {
+        String header = nextLine();
+        if (!header.endsWith(":"))
+            throw error("expected method header");
+        vars = new HashMap<>();
+        locals = new ArrayList<>();
+        blocks = new HashMap<>();
+        CFGVar[] args;
+        if (header.equals("main:")) {
+            methodName = "main";
+            args = new CFGVar[0];
+        } else {
+            int paren = header.indexOf('(');
+            if (paren == -1 || !header.endsWith("):"))
+                throw error("malformed method header");
+            methodName = header.substring(0, paren);
+            String argList = header.substring(paren + 1, header.length() - 2);
+            String[] argNames = argList.isEmpty() ? new String[0] : argList.split(", ");
+            args = new CFGVar[argNames.length];
+            for (int i = 0; i < args.length; i++)
+                args[i] = var(argNames[i]);
+            locals.clear(); // args were registered as locals by var()
+        }
+        CtrlFlowGraph.methods.add(methodName);
+
+        // first pass: split the lines into blocks, so jumps and phis can refer to later blocks
+        ArrayList<BasicBlock> blocksInMethod = new ArrayList<>();
+        ArrayList<ArrayList<String>> blockLines = new ArrayList<>();
+        ArrayList<Integer> blockLineNos = new ArrayList<>();
+        newBlock(blocksInMethod, methodName);
+        blockLines.add(new ArrayList<>());
+        blockLineNos.add(lineNo + 1);
+        while (pos < text.length() && isMethodLine(peekLine())) {
+            String line = nextLine();
+            if (line.startsWith("\t"))
+                blockLines.get(blockLines.size() - 1).add(line.substring(1));
+            else {
+                newBlock(blocksInMethod, line.substring(0, line.length() - 1));
+                blockLines.add(new ArrayList<>());
+                blockLineNos.add(lineNo + 1);
+            }
+        }
+        int endLineNo = lineNo;
+
+        // second pass: ops, then predecessors from the jumps
+        for (int i = 0; i < blocksInMethod.size(); i++) {
+            lineNo = blockLineNos.get(i);
+            parseBlock(blocksInMethod.get(i), blockLines.get(i));
+        }
+        lineNo = endLineNo;
+        for (BasicBlock b : blocksInMethod) {
+            switch (b.getJmp()) {
+                case CFGAutoJumpOp j:
+                    j.target().addPred(b);
+                    break;
+                case CFGCondOp j:
+                    j.yes().addPred(b);
+                    j.no().addPred(b);
+                    break;
+                default:
+                    break;
+            }
+        }
+
+        ArrayList<CFGVar> methodVars = new ArrayList<>();
+        for (CFGVar a : args)
+            methodVars.add(a);
+        methodVars.addAll(locals);
+        for (BasicBlock b : blocksInMethod) // every named var counts as active everywhere, for -simpleSSA
+            b.addActives(new LinkedHashSet<>(methodVars));
+        return new CFGMethod(methodName, args, locals.toArray(new CFGVar[0]), blocksInMethod.get(0), blocksInMethod,
+                methodVars);
+    }
+
+    // ops are tab-indented and block labels end in ':' - anything else ends the method
+    private boolean isMethodLine(String line) {
+        if (line.startsWith("\t"))
+            return true;
+        return line.endsWith(":") && line.indexOf('(') == -1 && !line.equals("main:") && !line.isEmpty();
+    }
+
+    private void newBlock(ArrayList<BasicBlock> blocksInMethod, String name) {
+        if (blocks.containsKey(name))
+            throw error("duplicate block " + name);
+        BasicBlock b = new BasicBlock(blocksInMethod);
+        b.setIdentifier(name);
+        blocks.put(name, b);
+    }
+
+    private void parseBlock(BasicBlock b, ArrayList<String> lines) {
+        if (lines.isEmpty())
+            throw error("block " + b.getIdentifier() + " has no jump");
+        for (int i = 0; i < lines.size() - 1; i++, lineNo++) {
+            CFGOp op = parseOp(lines.get(i));
+            if (op instanceof CFGAssn a && a.expr() instanceof CFGPhi) {
+                b.getPhis().add(a);
+                sawPhi = true;
+            } else
+                b.addOp(op);
+        }
+        b.setJmp(parseJump(b, lines.get(lines.size() - 1)));
+    }
+
+    private CFGOp parseOp(String line) {
+        if (line.startsWith("print("))
+            return new CFGPrint(value(args(line, "print(", 1)[0]));
+        if (line.startsWith("store(")) {
+            String[] a = args(line, "store(", 2);
+            return new CFGStore(var(a[0]), data(a[1]));
+        }
+        if (line.startsWith("setelt(")) {
+            String[] a = args(line, "setelt(", 3);
+            return new CFGSet(var(a[0]), value(a[1]), data(a[2]));
+        }
+        int eq = line.indexOf(" = ");
+        if (eq == -1)
+            throw error("unknown op " + line);
+        return new CFGAssn(var(line.substring(0, eq)), parseExpr(line.substring(eq + 3)));
+    }
+
+    private CFGExpr parseExpr(String expr) {
+        if (expr.startsWith("alloc(")) {
+            if (!(data(args(expr, "alloc(", 1)[0]) instanceof CFGPrimitive size))
+                throw error("alloc size must be a constant");
+            return new CFGAlloc(size);
+        }
+        if (expr.startsWith("load("))
+            return new CFGLoad(var(args(expr, "load(", 1)[0]));
+        if (expr.startsWith("getelt(")) {
+            String[] a = args(expr, "getelt(", 2);
+            return new CFGGet(var(a[0]), value(a[1]));
+        }
+        if (expr.startsWith("call(")) {
+            String[] a = args(expr, "call(", -1);
+            if (a.length < 2)
+                throw error("call needs an address and a receiver");
+            CFGValue[] callArgs = new CFGValue[a.length - 2];
+            for (int i = 0; i < callArgs.length; i++)
+                callArgs[i] = value(a[i + 2]);
+            return new CFGCall(var(a[0]), var(a[1]), callArgs);
+        }
+        if (expr.startsWith("phi(")) {
+            String[] a = args(expr, "phi(", -1);
+            if (a.length % 2 != 0)
+                throw error("phi needs block/value pairs");
+            ArrayList<BasicBlock> phiBlocks = new ArrayList<>();
+            ArrayList<CFGValue> versions = new ArrayList<>();
+            for (int i = 0; i < a.length; i += 2) {
+                phiBlocks.add(block(a[i]));
+                versions.add(value(a[i + 1]));
+            }
+            return new CFGPhi(phiBlocks, versions);
+        }
+        int space = expr.indexOf(' ');
+        if (space == -1)
+            return data(expr);
+        int rhs = expr.indexOf(' ', space + 1);
+        Opcode op = rhs == -1 ? null : Opcode.fromSymbol(expr.substring(space + 1, rhs));
+        if (op == null)
+            throw error("unknown expression " + expr);
+        return new CFGBinOp(value(expr.substring(0, space)), op, value(expr.substring(rhs + 1)));
+    }
+
+    private CFGJumpOp parseJump(BasicBlock b, String line) {
+        if (line.startsWith("jump "))
+            return new CFGAutoJumpOp(b, block(line.substring(5)));
+        if (line.startsWith("ret "))
+            return new CFGRetOp(b, value(line.substring(4)));
+        if (line.startsWith("if ")) {
+            int then = line.indexOf(" then "), els = line.indexOf(" else ");
+            if (then == -1 || els < then)
+                throw error("malformed branch " + line);
+            return new CFGCondOp(b, value(line.substring(3, then)), block(line.substring(then + 6, els)),
+                    block(line.substring(els + 6)));
+        }
+        if (line.startsWith("fail ")) {
+            try {
+                return new CFGFail(b, CFGFailOpt.valueOf(line.substring(5)));
+            } catch (IllegalArgumentException e) {
+                throw error("unknown failure " + line.substring(5));
+            }
+        }
+        throw error("block " + b.getIdentifier() + " does not end in a jump");
+    }
+
+    // comma-separated operands of "<prefix>...)" - count is checked unless it is -1
+    private String[] args(String s, String prefix, int count) {
+        if (!s.endsWith(")"))
+            throw error("missing ) in " + s);
+        String inner = s.substring(prefix.length(), s.length() - 1);
+        String[] a = inner.isEmpty() ? new String[0] : inner.split(", ");
+        if (count != -1 && a.length != count)
+            throw error(prefix + ") takes " + count + " operands");
+        return a;
+    }
+
+    private CFGVar var(String s) {
+        if (!s.startsWith("%") || s.length() == 1)
+            throw error("expected a variable, found " + s);
+        CFGVar v = vars.get(s);
+        if (v == null) {
+            String name = s.substring(1);
+            if (isNumber(name)) // temps print as their version only
+                v = new CFGVar("", Integer.parseInt(name), null);
+            else {
+                v = new CFGVar(name, null);
+                if (!v.isThis())
+                    locals.add(v);
+            }
+            vars.put(s, v);
+        }
+        return v;
+    }
+
+    private CFGValue value(String s) {
+        if (!(data(s) instanceof CFGValue v))
+            throw error("global " + s + " cannot be used here");
+        return v;
+    }
+
+    private CFGData data(String s) {
+        if (s.startsWith("%"))
+            return var(s);
+        if (s.startsWith("@")) {
+            CFGArray arr = arrays.get(s.substring(1));
+            if (arr == null)
+                throw error("unknown global " + s);
+            return arr;
+        }
+        try {
+            return CFGPrimitive.getPrimitive(Long.parseLong(s));
+        } catch (NumberFormatException e) {
+            throw error("unknown operand " + s);
+        }
+    }
+
+    private BasicBlock block(String name) {
+        BasicBlock b = blocks.get(name);
+        if (b == null)
+            throw error("unknown block " + name + " in " + methodName);
+        return b;
+    }
+
+    private static boolean isNumber(String s) {
+        for (int i = 0; i < s.length(); i++)
+            if (s.charAt(i) < '0' || s.charAt(i) > '9')
+                return false;
+        return true;
+    }
+
+    private String peekLine() {
+        if (pos >= text.length())
+            return "";
+        int end = text.indexOf('\n', pos);
+        return stripCR(text.substring(pos, end == -1 ? text.length() : end));
+    }
+
+    private String nextLine() {
+        if (pos >= text.length())
+            throw error("unexpected end of IR");
+        int end = text.indexOf('\n', pos);
+        if (end == -1)
+            end = text.length();
+        String line = stripCR(text.substring(pos, end));
+        pos = end + 1;
+        lineNo++;
+        return line;
+    }
+
+    private static String stripCR(String line) {
+        return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+    }
+
+    private void expect(String line) {
+        if (!nextLine().equals(line))
+            throw error("expected \"" + line + "\"");
+    }
+
+    private IllegalArgumentException error(String msg) {
+        return new IllegalArgumentException("Error in IR on line " + lineNo + ": " + msg);
+    }
+}
@@ -0,0 +1,116 @@
+package cfg;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+
+import cfg.expr.data.CFGArray;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+
+// streams textual IR straight to a writer instead of building the whole program as one String
+// output matches CtrlFlowGraph.toString exactly
+public class IRWriter implements Closeable {
+    private final Writer out;
+
+    public IRWriter(Writer out) {
+        this.out = out;
+    }
+
+    // write the whole program: data block, every class, then main
+    public void writeProgram() throws IOException {
+        writeData(CtrlFlowGraph.CFGDataBlock);
+        writeCodeHeader();
+        for (CFGClass c : CtrlFlowGraph.classes)
+            writeClass(c);
+        writeMethod(CtrlFlowGraph.main);
+    }
+
+    public void writeCodeHeader() throws IOException {
+        out.write("code:\n\n");
+    }
+
+    public void writeData(DataBlock d) throws IOException {
+        out.write("data:\n");
+        for (CFGArray arr : d.data()) {
+            out.write("global array ");
+            out.write(arr.name());
+            out.write(": { ");
+            for (int i = 0; i < arr.size(); i++) {
+                out.write(arr.elems()[i].toString());
+                if (i != arr.size() - 1)
+                    out.write(',');
+                out.write(' ');
+            }
+            out.write("}\n");
+        }
+    }
+
+    public void writeClass(CFGClass c) throws IOException {
+        for (CFGMethod m : c.methods())
+            writeClassMethod(m);
+        endClass();
+    }
+
+    // write a method that belongs to a class, followed by the separator between methods
+    public void writeClassMethod(CFGMethod m) throws IOException {
+        writeMethod(m);
+        out.write('\n');
+    }
+
+    // write the separator that closes off the methods of a class
+    public void endClass() throws IOException {
+        out.write('\n');
+    }
+
+    public void writeMethod(CFGMethod m) throws IOException {
+        if (m.name().equals("main"))
+            out.write("main:\n");
+        else {
+            out.write(m.name());
+            out.write('(');
+            for (int i = 0; i < m.args().length; i++) {
+                out.write(m.args()[i].toString());
+                if (i < m.args().length - 1)
+                    out.write(", ");
+            }
+            out.write("):\n");
+        }
+        writeBlock(m.addr());
+        for (int i = 1; i < m.blocks().size(); i++) {
+            BasicBlock b = m.blocks().get(i);
+            out.write('\n');
+            out.write(b.getIdentifier());
+            out.write(":\n");
+            writeBlock(b);
+        }
+    }
+
+    public void writeBlock(BasicBlock b) throws IOException {
+        for (CFGAssn phi : b.getPhis())
+            writeLine(phi.toString());
+        for (CFGOp op : b.getOps())
+            writeLine(op.toString());
+        out.write('\t');
+        out.write(b.getJmp().toString());
+    }
+
+    private void writeLine(String op) throws IOException {
+        out.write('\t');
+        out.write(op);
+        out.write('\n');
+    }
+
+    public void newLine() throws IOException {
+        out.write('\n');
+    }
+
+    public void flush() throws IOException {
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        out.close();
+    }
+}
@@ -0,0 +1,113 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import cfg.expr.CFGPhi;
+import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+
+// the variables each block may still read before writing, in or out of SSA. a phi's operands are live out
+// of the pred they come from, not into the phi's block, and the phi's own variable is written on entry.
+// variables are told apart by how they print, e.g. %x3, as in the interpreter's frames
+public final class Liveness {
+    private final ArrayList<String> names = new ArrayList<>();
+    private final HashMap<String, Integer> index = new HashMap<>();
+    private final Dataflow.Result<BitSet> result;
+
+    private Liveness(CFGMethod m) {
+        Problem p = new Problem(m);
+        result = Dataflow.solve(m, p);
+    }
+
+    public static Liveness compute(CFGMethod m) {
+        return new Liveness(m);
+    }
+
+    // live at the top of b, after its phis; null for unreachable blocks
+    public HashSet<String> liveIn(BasicBlock b) {
+        return decode(result.in().get(b));
+    }
+
+    public HashSet<String> liveOut(BasicBlock b) {
+        return decode(result.out().get(b));
+    }
+
+    public boolean isLiveOut(BasicBlock b, CFGVar v) {
+        Integer i = index.get(v.toString());
+        BitSet out = result.out().get(b);
+        return i != null && out != null && out.get(i);
+    }
+
+    public int visits() {
+        return result.visits();
+    }
+
+    private HashSet<String> decode(BitSet bits) {
+        if (bits == null)
+            return null;
+        HashSet<String> vars = new HashSet<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+            vars.add(names.get(i));
+        return vars;
+    }
+
+    private int id(CFGVar v) {
+        return index.computeIfAbsent(v.toString(), name -> {
+            names.add(name);
+            return names.size() - 1;
+        });
+    }
+
+    private final class Problem extends Dataflow.BitVector {
+        // the operands each block's phis take from each pred
+        private final HashMap<BasicBlock, HashMap<BasicBlock, BitSet>> phiUses = new HashMap<>();
+
+        Problem(CFGMethod m) {
+            super(Dataflow.Direction.BACKWARD, true);
+            for (BasicBlock b : m.blocks()) {
+                BitSet use = new BitSet(), def = new BitSet();
+                HashMap<BasicBlock, BitSet> fromPreds = new HashMap<>();
+                for (CFGAssn phi : b.getPhis()) {
+                    def.set(id(phi.var()));
+                    CFGPhi expr = (CFGPhi) phi.expr();
+                    for (int i = 0; i < expr.blocks().size(); i++) {
+                        CFGValue v = expr.varVersions().get(i);
+                        if (v instanceof CFGVar var)
+                            fromPreds.computeIfAbsent(expr.blocks().get(i), k -> new BitSet()).set(id(var));
+                    }
+                }
+                for (CFGOp o : b.getOps()) {
+                    o.forEachOperand(x -> {
+                        if (x instanceof CFGVar v && !def.get(id(v)))
+                            use.set(id(v));
+                    });
+                    if (o instanceof CFGAssn a)
+                        def.set(id(a.var()));
+                }
+                b.getJmp().forEachOperand(x -> {
+                    if (x instanceof CFGVar v && !def.get(id(v)))
+                        use.set(id(v));
+                });
+                gen.put(b, use);
+                kill.put(b, def);
+                phiUses.put(b, fromPreds);
+            }
+            size = names.size();
+        }
+
+        @Override
+        public BitSet edge(BasicBlock from, BasicBlock to, BitSet value) {
+            BitSet uses = phiUses.get(to).get(from);
+            if (uses == null)
+                return value;
+            BitSet live = (BitSet) value.clone();
+            live.or(uses);
+            return live;
+        }
+    }
+}
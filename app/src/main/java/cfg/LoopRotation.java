@@ -0,0 +1,59 @@
+package cfg;
+
+import java.util.HashSet;
+
+import cfg.jump.CFGAutoJumpOp;
+import cfg.jump.CFGCondOp;
+import cfg.op.CFGOp;
+import util.CompilePhase;
+import util.Output;
+
+// turns while loops into guarded do-whiles, before SSA. a while is built as
+//   pre: ...; jump head
+//   head: test; if c then body else exit
+//   ...; latch: ...; jump head
+// so each time round it jumps back only to test again. rotating copies the test into pre, which then
+// branches straight to body or exit, leaving head reached only from the latch. condense later merges
+// head into the latch, so the loop ends in the test and one jump per iteration is gone. only loops with
+// a one-block test of at most MAX_TEST_OPS ops, one latch and a preheader are rotated
+public final class LoopRotation {
+    static final int MAX_TEST_OPS = 8;
+
+    private LoopRotation() {
+    }
+
+    // returns how many loops were rotated. dom is kept up to date
+    public static int rotate(CFGMethod m, Loops loops, DominatorTree dom) {
+        CodeCopier copier = new CodeCopier(m);
+        int rotated = 0;
+        for (Loops.Loop l : loops.loops()) {
+            if (rotate(m, l, copier, dom)) {
+                rotated++;
+                Output.debug(CompilePhase.LOOP, () -> m.name() + ": rotated " + l);
+            }
+        }
+        return rotated;
+    }
+
+    private static boolean rotate(CFGMethod m, Loops.Loop l, CodeCopier copier, DominatorTree dom) {
+        BasicBlock head = l.header(), latch = l.latch(), pre = l.preheader();
+        if (latch == null || pre == null || !head.getPhis().isEmpty() || head.getOps().size() > MAX_TEST_OPS
+                || !(head.getJmp() instanceof CFGCondOp c) || !(latch.getJmp() instanceof CFGAutoJumpOp)
+                || !(pre.getJmp() instanceof CFGAutoJumpOp))
+            return false;
+        HashSet<BasicBlock> inLoop = new HashSet<>(l.blocks());
+        if (inLoop.contains(c.yes()) == inLoop.contains(c.no()) || CodeCopier.readOutside(m, head))
+            return false;
+        copier.next();
+        for (CFGOp o : head.getOps())
+            pre.addOp(copier.copy(o));
+        pre.setJmp(new CFGCondOp(pre, copier.value(c.cond()), c.yes(), c.no()));
+        c.yes().addPred(pre);
+        c.no().addPred(pre);
+        dom.insertEdge(pre, c.yes());
+        dom.insertEdge(pre, c.no());
+        pre.removeSucc(head);
+        dom.deleteEdge(pre, head);
+        return true;
+    }
+}
@@ -0,0 +1,289 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+
+import cfg.expr.CFGBinOp;
+import cfg.expr.CFGExpr;
+import cfg.expr.data.CFGPrimitive;
+import cfg.expr.data.CFGVar;
+import cfg.jump.CFGAutoJumpOp;
+import cfg.jump.CFGCondOp;
+import cfg.jump.CFGFail;
+import cfg.jump.CFGRetOp;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+import util.CompilePhase;
+import util.Opcode;
+import util.Output;
+
+// unrolls while loops that run a known number of times, before SSA. the count comes from a counter: the
+// one variable the test reads, which starts out constant (see ConstantPropagation) and which the loop
+// assigns exactly once, on every iteration, from itself and numbers (w = w - 1). a loop that runs n times
+//   - is replaced by n copies of its body if n <= MAX_FULL_TRIPS and they fit in BUDGET ops, so its test
+//     and back edge go away altogether
+//   - or else keeps k copies of its body per test and runs the n % k iterations left over in front of it,
+//     so the test holds after every k iterations exactly as the original one would; k is the largest of
+//     8, 4 and 2 that leaves at least two trips round and whose extra copies fit in BUDGET ops. with a
+//     profile loaded, this is only done in methods that ran
+// as in LoopRotation, the test must be a one-block header, here of nothing but arithmetic into temps
+public final class LoopUnrolling {
+    static final int MAX_FULL_TRIPS = 16;
+    static final int BUDGET = 64; // the most ops unrolling one loop may add
+    private static final int MAX_TRIPS = 1 << 16; // counting trips gives up past this
+
+    // the counter's assignment and the block it is in
+    private record Step(BasicBlock block, CFGAssn op) {
+    }
+
+    private LoopUnrolling() {
+    }
+
+    // returns how many loops were unrolled. profile may be null
+    public static int unroll(CFGMethod m, DominatorTree dom, Loops loops, ConstantPropagation constants,
+            Profile profile) {
+        // constants stays sound as loops are unrolled, since the copies compute what the loop did; it just
+        // knows nothing about the copies themselves. the loops are found again after each change
+        boolean hot = profile == null || profile.hasMethod(m.name());
+        CodeCopier copier = new CodeCopier(m);
+        HashSet<BasicBlock> tried = new HashSet<>();
+        int unrolled = 0;
+        boolean changed = true;
+        while (changed) {
+            changed = false;
+            for (Loops.Loop l : loops.loops()) {
+                if (!tried.add(l.header()) || !unroll(m, l, dom, loops, constants, hot, copier))
+                    continue;
+                unrolled++;
+                dom = DominatorTree.compute(m);
+                loops = Loops.compute(m, dom);
+                changed = true;
+                break;
+            }
+        }
+        return unrolled;
+    }
+
+    private static boolean unroll(CFGMethod m, Loops.Loop l, DominatorTree dom, Loops loops,
+            ConstantPropagation constants, boolean hot, CodeCopier copier) {
+        BasicBlock head = l.header(), pre = l.preheader();
+        if (pre == null || !(pre.getJmp() instanceof CFGAutoJumpOp) || !head.getPhis().isEmpty()
+                || !(head.getJmp() instanceof CFGCondOp c) || CodeCopier.readOutside(m, head))
+            return false;
+        for (CFGOp o : head.getOps())
+            if (!(o instanceof CFGAssn a && a.var().isTmp() && (a.expr() instanceof CFGBinOp
+                    || a.expr() instanceof CFGPrimitive || a.expr() instanceof CFGVar)))
+                return false;
+        HashSet<BasicBlock> inLoop = new HashSet<>(l.blocks());
+        if (inLoop.contains(c.yes()) == inLoop.contains(c.no()))
+            return false;
+        boolean goOnIfTrue = inLoop.contains(c.yes());
+        BasicBlock exit = goOnIfTrue ? c.no() : c.yes();
+        CFGVar counter = counter(head, c);
+        Step step = counter == null ? null : step(l, dom, loops, counter);
+        Long start = step == null ? null : constants.constantOut(pre, counter);
+        if (start == null)
+            return false;
+        int trips = trips(head, c, goOnIfTrue, counter, start, step);
+        if (trips < 0)
+            return false;
+        // the body in reverse postorder, so each temp is copied before it is read
+        ArrayList<BasicBlock> body = new ArrayList<>();
+        int bodyOps = 0;
+        for (BasicBlock b : Dataflow.reversePostorder(m)) {
+            if (b != head && inLoop.contains(b)) {
+                body.add(b);
+                bodyOps += b.getOps().size() + 1;
+            }
+        }
+        if (trips <= MAX_FULL_TRIPS && (long) trips * bodyOps <= BUDGET) {
+            // pre -> copy 1 -> ... -> copy n -> exit, and the loop goes
+            BasicBlock next = exit;
+            for (int i = trips; i >= 1; i--)
+                next = copy(m, body, head, next, m.blocks().indexOf(head), copier, "u" + i);
+            retarget(pre, head, next);
+            for (BasicBlock b : inLoop)
+                for (BasicBlock s : new ArrayList<>(b.getSuccs()))
+                    b.removeSucc(s);
+            m.blocks().removeAll(inLoop);
+            Output.debug(CompilePhase.LOOP, () -> m.name() + ": unrolled " + l + ", " + trips + " trips");
+            return true;
+        }
+        for (int k = 8; k >= 2 && hot; k /= 2) {
+            int left = trips % k;
+            if (trips / k < 2 || (long) (k - 1 + left) * bodyOps > BUDGET)
+                continue;
+            // copies 2..k follow the body round the loop, and copies of the leftover trips go in front of it
+            int end = 0;
+            for (BasicBlock b : body)
+                end = Math.max(end, m.blocks().indexOf(b) + 1);
+            BasicBlock next = head;
+            for (int i = k; i >= 2; i--)
+                next = copy(m, body, head, next, end, copier, "u" + i);
+            BasicBlock round = next;
+            next = head;
+            for (int i = left; i >= 1; i--)
+                next = copy(m, body, head, next, m.blocks().indexOf(head), copier, "r" + i);
+            for (BasicBlock latch : new ArrayList<>(l.latches()))
+                retarget(latch, head, round);
+            retarget(pre, head, next);
+            int factor = k;
+            Output.debug(CompilePhase.LOOP, () -> m.name() + ": unrolled " + l + " by " + factor + ", " + trips
+                    + " trips with " + left + " in front");
+            return true;
+        }
+        return false;
+    }
+
+    // the one named variable the test reads, or null if it reads none or several
+    private static CFGVar counter(BasicBlock head, CFGCondOp c) {
+        HashMap<String, CFGVar> read = new HashMap<>();
+        for (CFGOp o : head.getOps())
+            o.forEachOperand(d -> {
+                if (d instanceof CFGVar v && !v.isTmp())
+                    read.put(v.toString(), v);
+            });
+        if (c.cond() instanceof CFGVar v && !v.isTmp())
+            read.put(v.toString(), v);
+        return read.size() == 1 ? read.values().iterator().next() : null;
+    }
+
+    // the counter's only assignment in the loop, if it is made once on every trip round: outside any inner
+    // loop, in a block that dominates every latch
+    private static Step step(Loops.Loop l, DominatorTree dom, Loops loops, CFGVar counter) {
+        Step step = null;
+        for (BasicBlock b : l.blocks()) {
+            for (CFGOp o : b.getOps()) {
+                if (!(o instanceof CFGAssn a && a.var().toString().equals(counter.toString())))
+                    continue;
+                if (step != null)
+                    return null;
+                step = new Step(b, a);
+            }
+        }
+        if (step == null || loops.loopOf(step.block()) != l)
+            return null;
+        for (BasicBlock latch : l.latches())
+            if (!dom.dominates(step.block(), latch))
+                return null;
+        return step;
+    }
+
+    // how many times the body runs, or -1 if that can't be worked out or is more than MAX_TRIPS
+    private static int trips(BasicBlock head, CFGCondOp c, boolean goOnIfTrue, CFGVar counter, long start,
+            Step step) {
+        BasicBlock at = step.block();
+        int stepAt = at.getOps().indexOf(step.op());
+        long value = start;
+        for (int trips = 0; trips <= MAX_TRIPS; trips++) {
+            Long test = eval(c.cond(), head, head.getOps().size(), counter, value);
+            if (test == null)
+                return -1;
+            if ((test != 0) != goOnIfTrue)
+                return trips;
+            Long next = eval(step.op().expr(), at, stepAt, counter, value);
+            if (next == null)
+                return -1;
+            value = next;
+        }
+        return -1;
+    }
+
+    // e's value before b's op'th op on the trip round where the counter started out as value, if it is
+    // worked out from the counter and numbers by ops earlier in b; null if not
+    private static Long eval(CFGExpr e, BasicBlock b, int op, CFGVar counter, long value) {
+        switch (e) {
+            case CFGPrimitive p:
+                return p.value();
+            case CFGVar v:
+                if (v.toString().equals(counter.toString()))
+                    return value;
+                if (!v.isTmp())
+                    return null;
+                for (int i = op - 1; i >= 0; i--)
+                    if (b.getOps().get(i) instanceof CFGAssn a && a.var().toString().equals(v.toString()))
+                        return eval(a.expr(), b, i, counter, value);
+                return null;
+            case CFGBinOp bin:
+                Long l = eval(bin.lhs(), b, op, counter, value), r = eval(bin.rhs(), b, op, counter, value);
+                if (l == null || r == null || (bin.op() == Opcode.DIV && r == 0))
+                    return null;
+                return bin.op().eval(l, r);
+            default:
+                return null;
+        }
+    }
+
+    // copies body, sending its jumps to head on to next instead, puts the copies at index in m's blocks
+    // and returns the copy of the first block
+    private static BasicBlock copy(CFGMethod m, ArrayList<BasicBlock> body, BasicBlock head, BasicBlock next,
+            int index, CodeCopier copier, String suffix) {
+        copier.next();
+        HashSet<String> names = new HashSet<>();
+        for (BasicBlock b : m.blocks())
+            names.add(b.getIdentifier());
+        ArrayList<BasicBlock> copies = new ArrayList<>();
+        HashMap<BasicBlock, BasicBlock> copyOf = new HashMap<>();
+        for (BasicBlock b : body) {
+            BasicBlock cb = new BasicBlock(copies);
+            String name = b.getIdentifier() + suffix;
+            for (int i = 1; names.contains(name); i++)
+                name = b.getIdentifier() + suffix + "_" + i;
+            names.add(name);
+            cb.setIdentifier(name);
+            cb.addActives(new LinkedHashSet<>(b.getActives()));
+            copyOf.put(b, cb);
+        }
+        for (BasicBlock b : body) {
+            BasicBlock cb = copyOf.get(b);
+            for (CFGOp o : b.getOps())
+                cb.addOp(copier.copy(o));
+            switch (b.getJmp()) {
+                case CFGAutoJumpOp a:
+                    cb.setJmp(new CFGAutoJumpOp(cb, target(a.target(), head, next, copyOf)));
+                    break;
+                case CFGCondOp c:
+                    cb.setJmp(new CFGCondOp(cb, copier.value(c.cond()), target(c.yes(), head, next, copyOf),
+                            target(c.no(), head, next, copyOf)));
+                    break;
+                case CFGRetOp r:
+                    cb.setJmp(new CFGRetOp(cb, copier.value(r.val())));
+                    break;
+                case CFGFail f:
+                    cb.setJmp(new CFGFail(cb, f.fail()));
+                    break;
+                default:
+                    throw new IllegalStateException("cannot copy " + b.getJmp());
+            }
+            for (BasicBlock s : b.getSuccs())
+                target(s, head, next, copyOf).addPred(cb);
+        }
+        m.blocks().addAll(index, copies);
+        return copyOf.get(body.get(0));
+    }
+
+    private static BasicBlock target(BasicBlock t, BasicBlock head, BasicBlock next,
+            HashMap<BasicBlock, BasicBlock> copyOf) {
+        return t == head ? next : copyOf.getOrDefault(t, t);
+    }
+
+    // points b's jump at to where it went to from
+    private static void retarget(BasicBlock b, BasicBlock from, BasicBlock to) {
+        if (from == to)
+            return;
+        switch (b.getJmp()) {
+            case CFGAutoJumpOp a:
+                b.setJmp(new CFGAutoJumpOp(b, to));
+                break;
+            case CFGCondOp c:
+                b.setJmp(new CFGCondOp(b, c.cond(), c.yes() == from ? to : c.yes(), c.no() == from ? to : c.no()));
+                break;
+            default:
+                return;
+        }
+        b.removeSucc(from);
+        to.addPred(b);
+    }
+}
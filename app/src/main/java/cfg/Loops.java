@@ -0,0 +1,210 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+// the natural loops of a method and how they nest. a loop is a header and the blocks that reach one of its
+// back edges (an edge into a block that dominates its source) without passing through the header again.
+// loops with the same header are one loop. headers are visited in dominator tree postorder, so inner
+// loops are found before the loops around them; searching back from an outer loop's latches, a block
+// already in an inner loop jumps straight to that loop's header, so each block and edge is looked at
+// about once. cycles with more than one way in (irreducible ones) have no header and are not loops
+public final class Loops {
+    public final class Loop {
+        private final BasicBlock header;
+        private final ArrayList<BasicBlock> latches = new ArrayList<>();
+        private final ArrayList<BasicBlock> own = new ArrayList<>(); // blocks not in an inner loop, header first
+        private final ArrayList<Loop> children = new ArrayList<>();
+        private Loop parent;
+        private int depth;
+
+        private Loop(BasicBlock header) {
+            this.header = header;
+        }
+
+        public BasicBlock header() {
+            return header;
+        }
+
+        // the blocks with a back edge to the header
+        public List<BasicBlock> latches() {
+            return latches;
+        }
+
+        // the only latch, or null if there are several
+        public BasicBlock latch() {
+            return latches.size() == 1 ? latches.get(0) : null;
+        }
+
+        public Loop parent() {
+            return parent;
+        }
+
+        public List<Loop> children() {
+            return children;
+        }
+
+        // 1 for an outermost loop
+        public int depth() {
+            return depth;
+        }
+
+        // every block in the loop, inner loops included, header first
+        public ArrayList<BasicBlock> blocks() {
+            ArrayList<BasicBlock> all = new ArrayList<>(own);
+            for (Loop c : children)
+                all.addAll(c.blocks());
+            return all;
+        }
+
+        public boolean contains(Loop l) {
+            while (l != null && l.depth > depth)
+                l = l.parent;
+            return l == this;
+        }
+
+        // the blocks outside the loop that it can jump to
+        public ArrayList<BasicBlock> exits() {
+            ArrayList<BasicBlock> exits = new ArrayList<>();
+            for (BasicBlock b : blocks())
+                for (BasicBlock s : b.getSuccs())
+                    if (!contains(innermost.get(s)) && !exits.contains(s))
+                        exits.add(s);
+            return exits;
+        }
+
+        // the header's only pred from outside the loop, if that pred goes nowhere else; null if there is none.
+        // a loop headed by the entry is entered from outside the method, so its preds outside it are dead code
+        public BasicBlock preheader() {
+            if (header == entry)
+                return null;
+            BasicBlock pre = null;
+            for (BasicBlock p : header.getPreds()) {
+                if (contains(innermost.get(p)))
+                    continue;
+                if (pre != null)
+                    return null;
+                pre = p;
+            }
+            return pre != null && pre.getSuccs().size() == 1 ? pre : null;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("loop ").append(header.getIdentifier()).append(" depth ").append(depth)
+                    .append(':');
+            for (BasicBlock b : blocks())
+                sb.append(' ').append(b.getIdentifier());
+            return sb.toString();
+        }
+    }
+
+    private final HashMap<BasicBlock, Loop> innermost = new HashMap<>();
+    private final ArrayList<Loop> topLevel = new ArrayList<>();
+    private final ArrayList<Loop> all = new ArrayList<>(); // inner loops before the loops around them
+    private BasicBlock entry;
+
+    private Loops() {
+    }
+
+    public static Loops compute(CFGMethod m, DominatorTree dom) {
+        Loops loops = new Loops();
+        loops.entry = dom.entry();
+        loops.discover(dom.entry(), dom);
+        for (Loop l : loops.all)
+            if (l.parent == null)
+                loops.topLevel.add(l);
+        for (int i = loops.all.size() - 1; i >= 0; i--) { // outer loops first
+            Loop l = loops.all.get(i);
+            l.depth = l.parent == null ? 1 : l.parent.depth + 1;
+        }
+        for (BasicBlock b : Dataflow.reversePostorder(m)) { // a loop's header comes before the rest of it
+            Loop l = loops.innermost.get(b);
+            if (l != null)
+                l.own.add(b);
+        }
+        return loops;
+    }
+
+    // finds the loops headed in entry's dominator subtree, bottom up
+    private void discover(BasicBlock entry, DominatorTree dom) {
+        ArrayList<BasicBlock> postorder = new ArrayList<>();
+        ArrayList<BasicBlock> stack = new ArrayList<>();
+        ArrayList<Boolean> expanded = new ArrayList<>();
+        stack.add(entry);
+        expanded.add(false);
+        while (!stack.isEmpty()) {
+            int top = stack.size() - 1;
+            if (expanded.get(top)) {
+                postorder.add(stack.remove(top));
+                expanded.remove(top);
+                continue;
+            }
+            expanded.set(top, true);
+            List<BasicBlock> children = dom.children(stack.get(top));
+            for (int i = children.size() - 1; i >= 0; i--) {
+                stack.add(children.get(i));
+                expanded.add(false);
+            }
+        }
+        for (BasicBlock header : postorder) {
+            ArrayList<BasicBlock> work = new ArrayList<>();
+            for (BasicBlock p : header.getPreds())
+                if (dom.dominates(header, p))
+                    work.add(p);
+            if (work.isEmpty())
+                continue;
+            Loop loop = new Loop(header);
+            loop.latches.addAll(work);
+            innermost.put(header, loop);
+            while (!work.isEmpty()) {
+                BasicBlock b = work.remove(work.size() - 1);
+                Loop sub = innermost.get(b);
+                if (sub == null) {
+                    if (!dom.reachable(b))
+                        continue;
+                    innermost.put(b, loop);
+                    if (b != header)
+                        work.addAll(b.getPreds());
+                    continue;
+                }
+                while (sub.parent != null)
+                    sub = sub.parent;
+                if (sub == loop)
+                    continue;
+                sub.parent = loop;
+                loop.children.add(sub);
+                for (BasicBlock p : sub.header.getPreds()) // go on from where the inner loop is entered
+                    if (!dom.dominates(sub.header, p))
+                        work.add(p);
+            }
+            all.add(loop);
+        }
+    }
+
+    // the innermost loop b is in, or null
+    public Loop loopOf(BasicBlock b) {
+        return innermost.get(b);
+    }
+
+    // how many loops b is in
+    public int depth(BasicBlock b) {
+        Loop l = innermost.get(b);
+        return l == null ? 0 : l.depth;
+    }
+
+    public boolean isHeader(BasicBlock b) {
+        Loop l = innermost.get(b);
+        return l != null && l.header == b;
+    }
+
+    public List<Loop> topLevel() {
+        return topLevel;
+    }
+
+    // every loop, inner loops before the loops around them
+    public List<Loop> loops() {
+        return all;
+    }
+}
@@ -0,0 +1,493 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import cfg.expr.*;
+import cfg.expr.data.*;
+import cfg.jump.*;
+import cfg.op.*;
+import util.Opcode;
+
+// struct-of-arrays encoding of a finished CFGMethod
+// every op (phis and block terminators included) is one row across the kind/dst/a/b/c arrays, and
+// every variable gets a dense value id, so passes can scan primitive arrays instead of chasing refs
+//
+// operands are tagged ints: value ids, constant pool indices and global array indices share an int
+// using the low 2 bits as the tag (see value(), constant(), global())
+// ops with a variable number of operands (call, phi) keep them in extra: c points at a length
+// followed by the operands (call) or by block/operand pairs (phi)
+public class PackedMethod {
+    public static final int COPY = 0; // dst = a
+    public static final int BINOP = 1; // dst = a <Opcode c> b
+    public static final int ALLOC = 2; // dst = alloc(a)
+    public static final int LOAD = 3; // dst = load(a)
+    public static final int GET = 4; // dst = getelt(a, b)
+    public static final int CALL = 5; // dst = call(a, b, extra args)
+    public static final int PHI = 6; // dst = phi(extra block/operand pairs)
+    public static final int PRINT = 7; // print(a)
+    public static final int STORE = 8; // store(a, b)
+    public static final int SET = 9; // setelt(a, b, c)
+    public static final int JUMP = 10; // jump block a
+    public static final int BRANCH = 11; // if a then block b else block c
+    public static final int RET = 12; // ret a
+    public static final int FAIL = 13; // fail CFGFailOpt a
+
+    private static final int TAG_VALUE = 0, TAG_CONST = 1, TAG_GLOBAL = 2;
+    private static final Opcode[] opcodes = Opcode.values();
+    private static final CFGFailOpt[] failOpts = CFGFailOpt.values();
+
+    private final String name;
+    private final boolean isMain;
+    private int[] args; // value ids of the arguments, %this first
+    private int numOps;
+    private int[] kind, dst, a, b, c;
+    private int numExtra;
+    private int[] extra;
+    private int[] blockStart; // ops of block i are [blockStart[i], blockStart[i+1]), phis first, terminator last
+    private String[] blockNames;
+    private final ArrayList<String> valueNames; // printed name of each value id
+    private long[] constants;
+    private int numConstants;
+    private final ArrayList<String> globals; // names of the global arrays referenced by this method
+
+    private PackedMethod(String name, int expectedOps, int numBlocks) {
+        this.name = name;
+        this.isMain = name.equals("main");
+        this.kind = new int[expectedOps];
+        this.dst = new int[expectedOps];
+        this.a = new int[expectedOps];
+        this.b = new int[expectedOps];
+        this.c = new int[expectedOps];
+        this.extra = new int[16];
+        this.blockStart = new int[numBlocks + 1];
+        this.blockNames = new String[numBlocks];
+        this.valueNames = new ArrayList<>();
+        this.constants = new long[16];
+        this.globals = new ArrayList<>();
+    }
+
+    // rebuild a method from arrays decoded by BinaryIRReader
+    PackedMethod(String name, int[] args, int[] kind, int[] dst, int[] a, int[] b, int[] c, int[] extra,
+            int[] blockStart, String[] blockNames, ArrayList<String> valueNames, long[] constants,
+            ArrayList<String> globals) {
+        this.name = name;
+        this.isMain = name.equals("main");
+        this.args = args;
+        this.numOps = kind.length;
+        this.kind = kind;
+        this.dst = dst;
+        this.a = a;
+        this.b = b;
+        this.c = c;
+        this.numExtra = extra.length;
+        this.extra = extra;
+        this.blockStart = blockStart;
+        this.blockNames = blockNames;
+        this.valueNames = valueNames;
+        this.constants = constants;
+        this.numConstants = constants.length;
+        this.globals = globals;
+    }
+
+    // encode a method - blocks keep the order of m.blocks(), so block 0 is the entry block
+    public static PackedMethod pack(CFGMethod m) {
+        int expectedOps = 0;
+        for (BasicBlock blk : m.blocks())
+            expectedOps += blk.getPhis().size() + blk.getOps().size() + 1;
+        PackedMethod p = new PackedMethod(m.name(), expectedOps, m.blocks().size());
+        new Packer(p, m).run();
+        return p;
+    }
+
+    // per-pack lookup tables, dropped once the method is encoded
+    private static class Packer {
+        private final PackedMethod p;
+        private final CFGMethod m;
+        private final HashMap<String, Integer> valueIds = new HashMap<>();
+        private final HashMap<Long, Integer> constIds = new HashMap<>();
+        private final HashMap<BasicBlock, Integer> blockIds = new HashMap<>();
+
+        Packer(PackedMethod p, CFGMethod m) {
+            this.p = p;
+            this.m = m;
+        }
+
+        void run() {
+            for (int i = 0; i < m.blocks().size(); i++) {
+                blockIds.put(m.blocks().get(i), i);
+                p.blockNames[i] = m.blocks().get(i).getIdentifier();
+            }
+            p.args = new int[m.args().length];
+            for (int i = 0; i < p.args.length; i++)
+                p.args[i] = valueId(m.args()[i]);
+            for (int i = 0; i < m.blocks().size(); i++) {
+                BasicBlock blk = m.blocks().get(i);
+                p.blockStart[i] = p.numOps;
+                for (CFGAssn phi : blk.getPhis())
+                    packAssn(phi);
+                for (CFGOp o : blk.getOps()) {
+                    switch (o) {
+                        case CFGAssn x:
+                            packAssn(x);
+                            break;
+                        case CFGPrint x:
+                            p.add(PRINT, -1, operand(x.val()), 0, 0);
+                            break;
+                        case CFGStore x:
+                            p.add(STORE, -1, operand(x.base()), operand(x.index()), 0);
+                            break;
+                        case CFGSet x:
+                            p.add(SET, -1, operand(x.addr()), operand(x.index()), operand(x.val()));
+                            break;
+                    }
+                }
+                switch (blk.getJmp()) {
+                    case CFGAutoJumpOp j:
+                        p.add(JUMP, -1, blockIds.get(j.target()), 0, 0);
+                        break;
+                    case CFGCondOp j:
+                        p.add(BRANCH, -1, operand(j.cond()), blockIds.get(j.yes()), blockIds.get(j.no()));
+                        break;
+                    case CFGRetOp j:
+                        p.add(RET, -1, operand(j.val()), 0, 0);
+                        break;
+                    case CFGFail j:
+                        p.add(FAIL, -1, j.fail().ordinal(), 0, 0);
+                        break;
+                    default:
+                        throw new IllegalArgumentException("Cannot pack unknown jump " + blk.getJmp());
+                }
+            }
+            p.blockStart[m.blocks().size()] = p.numOps;
+        }
+
+        private void packAssn(CFGAssn x) {
+            int out = valueId(x.var());
+            switch (x.expr()) {
+                case CFGBinOp e:
+                    p.add(BINOP, out, operand(e.lhs()), operand(e.rhs()), e.op().ordinal());
+                    break;
+                case CFGAlloc e:
+                    p.add(ALLOC, out, operand(e.size()), 0, 0);
+                    break;
+                case CFGLoad e:
+                    p.add(LOAD, out, operand(e.base()), 0, 0);
+                    break;
+                case CFGGet e:
+                    p.add(GET, out, operand(e.arr()), operand(e.val()), 0);
+                    break;
+                case CFGCall e:
+                    int args = p.reserveExtra(e.args().length + 1);
+                    p.extra[args] = e.args().length;
+                    for (int i = 0; i < e.args().length; i++)
+                        p.extra[args + 1 + i] = operand(e.args()[i]);
+                    p.add(CALL, out, operand(e.addr()), operand(e.receiver()), args);
+                    break;
+                case CFGPhi e:
+                    // condenseBlocks leaves entries for blocks it removed as dead; they can never be taken
+                    int n = 0;
+                    for (BasicBlock b : e.blocks())
+                        if (blockIds.containsKey(b))
+                            n++;
+                    int pairs = p.reserveExtra(2 * n + 1);
+                    p.extra[pairs] = n;
+                    for (int i = 0, j = 0; i < e.blocks().size(); i++) {
+                        Integer from = blockIds.get(e.blocks().get(i));
+                        if (from == null)
+                            continue;
+                        p.extra[pairs + 1 + 2 * j] = from;
+                        p.extra[pairs + 2 + 2 * j] = operand(e.varVersions().get(i));
+                        j++;
+                    }
+                    p.add(PHI, out, 0, 0, pairs);
+                    break;
+                case CFGData e: // plain copy of a var, primitive, or global
+                    p.add(COPY, out, operand(e), 0, 0);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Cannot pack unknown expression " + x.expr());
+            }
+        }
+
+        private int valueId(CFGVar v) {
+            String key = v.toString();
+            Integer id = valueIds.get(key);
+            if (id == null) {
+                id = p.valueNames.size();
+                valueIds.put(key, id);
+                p.valueNames.add(key);
+            }
+            return id;
+        }
+
+        private int operand(CFGExpr e) {
+            switch (e) {
+                case CFGVar v:
+                    return valueId(v) << 2 | TAG_VALUE;
+                case CFGPrimitive v:
+                    Integer id = constIds.get(v.value());
+                    if (id == null) {
+                        id = p.numConstants;
+                        constIds.put(v.value(), id);
+                        if (p.numConstants == p.constants.length)
+                            p.constants = Arrays.copyOf(p.constants, p.numConstants * 2);
+                        p.constants[p.numConstants++] = v.value();
+                    }
+                    return id << 2 | TAG_CONST;
+                case CFGArray v:
+                    int global = p.globals.indexOf(v.name());
+                    if (global == -1) {
+                        global = p.globals.size();
+                        p.globals.add(v.name());
+                    }
+                    return global << 2 | TAG_GLOBAL;
+                default:
+                    throw new IllegalArgumentException("Cannot pack operand " + e);
+            }
+        }
+    }
+
+    private void add(int k, int d, int x, int y, int z) {
+        if (numOps == kind.length) {
+            int size = Math.max(16, numOps * 2);
+            kind = Arrays.copyOf(kind, size);
+            dst = Arrays.copyOf(dst, size);
+            a = Arrays.copyOf(a, size);
+            b = Arrays.copyOf(b, size);
+            c = Arrays.copyOf(c, size);
+        }
+        kind[numOps] = k;
+        dst[numOps] = d;
+        a[numOps] = x;
+        b[numOps] = y;
+        c[numOps] = z;
+        numOps++;
+    }
+
+    // reserve len slots in extra, returning the index of the first one
+    private int reserveExtra(int len) {
+        if (numExtra + len > extra.length)
+            extra = Arrays.copyOf(extra, Math.max(extra.length * 2, numExtra + len));
+        int start = numExtra;
+        numExtra += len;
+        return start;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public int[] args() {
+        return args;
+    }
+
+    public int numOps() {
+        return numOps;
+    }
+
+    public int numBlocks() {
+        return blockNames.length;
+    }
+
+    public int numValues() {
+        return valueNames.size();
+    }
+
+    public int blockStart(int block) {
+        return blockStart[block];
+    }
+
+    // one past the last op (the terminator) of a block
+    public int blockEnd(int block) {
+        return blockStart[block + 1];
+    }
+
+    public String blockName(int block) {
+        return blockNames[block];
+    }
+
+    public String valueName(int value) {
+        return valueNames.get(value);
+    }
+
+    public int kind(int op) {
+        return kind[op];
+    }
+
+    public int dst(int op) {
+        return dst[op];
+    }
+
+    public int a(int op) {
+        return a[op];
+    }
+
+    public int b(int op) {
+        return b[op];
+    }
+
+    public int c(int op) {
+        return c[op];
+    }
+
+    public Opcode opcode(int op) {
+        return opcodes[c[op]];
+    }
+
+    public CFGFailOpt failOpt(int op) {
+        return failOpts[a[op]];
+    }
+
+    // number of call args or phi inputs
+    public int numExtra(int op) {
+        return extra[c[op]];
+    }
+
+    public int callArg(int op, int i) {
+        return extra[c[op] + 1 + i];
+    }
+
+    public int phiBlock(int op, int i) {
+        return extra[c[op] + 1 + 2 * i];
+    }
+
+    public int phiValue(int op, int i) {
+        return extra[c[op] + 2 + 2 * i];
+    }
+
+    // raw tables, used by BinaryIRWriter
+    int extraLength() {
+        return numExtra;
+    }
+
+    int extraAt(int i) {
+        return extra[i];
+    }
+
+    int numConstants() {
+        return numConstants;
+    }
+
+    long constantAt(int i) {
+        return constants[i];
+    }
+
+    int numGlobals() {
+        return globals.size();
+    }
+
+    String globalAt(int i) {
+        return globals.get(i);
+    }
+
+    public static boolean isValue(int operand) {
+        return (operand & 3) == TAG_VALUE;
+    }
+
+    public static boolean isConstant(int operand) {
+        return (operand & 3) == TAG_CONST;
+    }
+
+    public static boolean isGlobal(int operand) {
+        return (operand & 3) == TAG_GLOBAL;
+    }
+
+    public static int value(int operand) {
+        return operand >>> 2;
+    }
+
+    public long constant(int operand) {
+        return constants[operand >>> 2];
+    }
+
+    public String global(int operand) {
+        return globals.get(operand >>> 2);
+    }
+
+    public String operandToString(int operand) {
+        switch (operand & 3) {
+            case TAG_VALUE:
+                return valueNames.get(operand >>> 2);
+            case TAG_CONST:
+                return "" + constants[operand >>> 2];
+            default:
+                return "@" + globals.get(operand >>> 2);
+        }
+    }
+
+    public String opToString(int op) {
+        String out = dst[op] >= 0 ? valueNames.get(dst[op]) + " = " : "";
+        switch (kind[op]) {
+            case COPY:
+                return out + operandToString(a[op]);
+            case BINOP:
+                return out + operandToString(a[op]) + " " + opcode(op) + " " + operandToString(b[op]);
+            case ALLOC:
+                return out + "alloc(" + operandToString(a[op]) + ")";
+            case LOAD:
+                return out + "load(" + operandToString(a[op]) + ")";
+            case GET:
+                return out + "getelt(" + operandToString(a[op]) + ", " + operandToString(b[op]) + ")";
+            case CALL:
+                StringBuilder call = new StringBuilder(out).append("call(");
+                call.append(operandToString(a[op])).append(", ").append(operandToString(b[op]));
+                for (int i = 0; i < numExtra(op); i++)
+                    call.append(", ").append(operandToString(callArg(op, i)));
+                return call.append(')').toString();
+            case PHI:
+                StringBuilder phi = new StringBuilder(out).append("phi(");
+                for (int i = 0; i < numExtra(op); i++) {
+                    phi.append(blockNames[phiBlock(op, i)]).append(", ").append(operandToString(phiValue(op, i)));
+                    if (i < numExtra(op) - 1)
+                        phi.append(", ");
+                }
+                return phi.append(')').toString();
+            case PRINT:
+                return "print(" + operandToString(a[op]) + ")";
+            case STORE:
+                return "store(" + operandToString(a[op]) + ", " + operandToString(b[op]) + ")";
+            case SET:
+                return "setelt(" + operandToString(a[op]) + ", " + operandToString(b[op]) + ", "
+                        + operandToString(c[op]) + ")";
+            case JUMP:
+                return "jump " + blockNames[a[op]];
+            case BRANCH:
+                return "if " + operandToString(a[op]) + " then " + blockNames[b[op]] + " else " + blockNames[c[op]];
+            case RET:
+                return "ret " + operandToString(a[op]);
+            case FAIL:
+                return "fail " + failOpt(op).name();
+            default:
+                return "";
+        }
+    }
+
+    // same text as CFGMethod.toString
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        if (isMain)
+            sb.append("main:\n");
+        else {
+            sb.append(name).append('(');
+            for (int i = 0; i < args.length; i++) {
+                sb.append(valueNames.get(args[i]));
+                if (i < args.length - 1)
+                    sb.append(", ");
+            }
+            sb.append("):\n");
+        }
+        for (int blk = 0; blk < numBlocks(); blk++) {
+            if (blk > 0)
+                sb.append('\n').append(blockNames[blk]).append(":\n");
+            for (int op = blockStart[blk]; op < blockStart[blk + 1]; op++) {
+                sb.append('\t').append(opToString(op));
+                if (op < blockStart[blk + 1] - 1)
+                    sb.append('\n');
+            }
+        }
+        return sb.toString();
+    }
+}
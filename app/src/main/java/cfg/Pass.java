@@ -0,0 +1,36 @@
+package cfg;
+
+import util.CompilePhase;
+
+// an optimization pass over one method at a time, run by PassManager
+public interface Pass {
+    // what a run changed, so PassManager knows which cached analyses still hold
+    enum Effect {
+        NONE, // nothing
+        CODE, // ops or phis, but not which blocks there are or how they connect
+        CFG // blocks or edges
+    }
+
+    // the name used by -enable= and -disable=
+    String name();
+
+    // the phase -stats and the JFR events count it under
+    CompilePhase phase();
+
+    // passes that need SSA form are skipped until the program is in it
+    default boolean needsSSA() {
+        return false;
+    }
+
+    // passes that rewrite code SSA would have to repair are skipped once the program is in it
+    default boolean beforeSSA() {
+        return false;
+    }
+
+    // analyses the pass keeps up to date itself, which survive whatever it changed
+    default boolean preserves(Analysis<?> analysis) {
+        return false;
+    }
+
+    Effect run(CFGMethod m, AnalysisCache analyses);
+}
@@ -0,0 +1,275 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+
+import events.PassEvent;
+import util.CompilePhase;
+import util.ErrorAccumulator;
+
+// runs the optimization pipeline: the passes an -O level turns on, adjusted by -enable= and -disable=,
+// in a fixed order. each pass runs over every method before the next starts, sharing one AnalysisCache
+//   -O0  nothing, the CFG as built
+//   -O1  condense, layout
+//   -O2  ssa, vn, condense, layout (the default)
+//   -O3  unroll, rotate, ssa, vn, condense, layout
+// unroll and rotate are skipped for input already in SSA, layout only does anything with a profile loaded,
+// and vn is skipped unless ssa ran or the input was already in SSA
+public final class PassManager {
+    // runs the passes of one phase, e.g. timing them for -stats
+    public interface PhaseRunner {
+        void run(CompilePhase phase, Runnable work);
+    }
+
+    public static final int MAX_LEVEL = 3;
+
+    private final CtrlFlowGraph cfg;
+    private final LinkedHashMap<String, Pass> passes = new LinkedHashMap<>(); // every pass, in pipeline order
+    private final LinkedHashMap<String, Boolean> enabled = new LinkedHashMap<>();
+    private final AnalysisCache analyses = new AnalysisCache();
+    private boolean inSSA;
+
+    public PassManager(CtrlFlowGraph cfg, int level, boolean simpleSSA) {
+        if (level < 0 || level > MAX_LEVEL)
+            throw new IllegalArgumentException("Error: optimization level must be 0 to " + MAX_LEVEL + ", got " + level);
+        this.cfg = cfg;
+        add(unroll(), level >= 3);
+        add(rotate(), level >= 3);
+        add(ssa(simpleSSA), level >= 2);
+        add(valueNumber(), level >= 2);
+        add(condense(), level >= 1);
+        add(layout(), level >= 1);
+    }
+
+    private void add(Pass p, boolean on) {
+        passes.put(p.name(), p);
+        enabled.put(p.name(), on);
+    }
+
+    public void enable(String name) {
+        set(name, true);
+    }
+
+    public void disable(String name) {
+        set(name, false);
+    }
+
+    // the comma-separated pass lists of -enable= and -disable=, each as given; -disable= wins over -enable=
+    public void configure(List<String> enable, List<String> disable) {
+        for (String list : enable)
+            for (String name : list.split(","))
+                enable(name.strip());
+        for (String list : disable)
+            for (String name : list.split(","))
+                disable(name.strip());
+    }
+
+    private void set(String name, boolean on) {
+        if (!passes.containsKey(name))
+            throw new IllegalArgumentException("Error: unknown pass " + name + ", expected one of " + passes.keySet());
+        enabled.put(name, on);
+    }
+
+    // input read back from IR that already has phis
+    public void setInSSA(boolean inSSA) {
+        this.inSSA = inSSA;
+    }
+
+    public AnalysisCache analyses() {
+        return analyses;
+    }
+
+    // the passes that will run, in order
+    public List<Pass> pipeline() {
+        ArrayList<Pass> pipeline = new ArrayList<>();
+        boolean ssa = inSSA;
+        for (Pass p : passes.values()) {
+            if (!enabled.get(p.name()) || (p.needsSSA() && !ssa) || (p.beforeSSA() && ssa)
+                    || (p.name().equals("ssa") && inSSA))
+                continue;
+            pipeline.add(p);
+            ssa |= p.name().equals("ssa");
+        }
+        return pipeline;
+    }
+
+    // the whole program, pass by pass. consecutive passes of the same phase run as one phase
+    public void run(PhaseRunner runner) {
+        List<Pass> pipeline = pipeline();
+        for (int i = 0; i < pipeline.size();) {
+            CompilePhase phase = pipeline.get(i).phase();
+            int end = i;
+            while (end < pipeline.size() && pipeline.get(end).phase() == phase)
+                end++;
+            List<Pass> group = pipeline.subList(i, end);
+            runner.run(phase, () -> {
+                for (Pass p : group) {
+                    run(p, CtrlFlowGraph.main);
+                    for (CFGClass c : CtrlFlowGraph.classes)
+                        for (CFGMethod m : c.methods())
+                            run(p, m);
+                }
+            });
+            ErrorAccumulator.emitErrors();
+            i = end;
+        }
+        inSSA |= pipeline.stream().anyMatch(p -> p.name().equals("ssa"));
+    }
+
+    // every pass on one method, for -stream
+    public void run(CFGMethod m) {
+        for (Pass p : pipeline()) {
+            run(p, m);
+            ErrorAccumulator.emitErrors();
+        }
+    }
+
+    private void run(Pass p, CFGMethod m) {
+        PassEvent event = new PassEvent();
+        event.begin();
+        Pass.Effect effect = p.run(m, analyses);
+        analyses.invalidate(m, p, effect);
+        event.end();
+        if (event.shouldCommit()) {
+            event.pass = p.name();
+            event.method = m.name();
+            event.blocks = m.blocks().size();
+            for (BasicBlock b : m.blocks())
+                event.ops += b.getPhis().size() + b.getOps().size();
+            event.commit();
+        }
+    }
+
+    private Pass unroll() {
+        return new Pass() {
+            public String name() {
+                return "unroll";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.LOOP;
+            }
+
+            public boolean beforeSSA() {
+                return true;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                Loops loops = analyses.get(Analyses.LOOPS, m);
+                if (loops.loops().isEmpty())
+                    return Effect.NONE;
+                return LoopUnrolling.unroll(m, analyses.get(Analyses.DOMINATOR_TREE, m), loops,
+                        analyses.get(Analyses.CONSTANTS, m), cfg.profile()) > 0 ? Effect.CFG : Effect.NONE;
+            }
+        };
+    }
+
+    private Pass rotate() {
+        return new Pass() {
+            public String name() {
+                return "rotate";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.LOOP;
+            }
+
+            public boolean beforeSSA() {
+                return true;
+            }
+
+            public boolean preserves(Analysis<?> analysis) {
+                return analysis == Analyses.DOMINATOR_TREE;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                Loops loops = analyses.get(Analyses.LOOPS, m);
+                if (loops.loops().isEmpty())
+                    return Effect.NONE;
+                return LoopRotation.rotate(m, loops, analyses.get(Analyses.DOMINATOR_TREE, m)) > 0 ? Effect.CFG
+                        : Effect.NONE;
+            }
+        };
+    }
+
+    private Pass ssa(boolean simple) {
+        return new Pass() {
+            public String name() {
+                return "ssa";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.SSA_1;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                cfg.methodToSSA(m, simple, analyses);
+                return Effect.CODE;
+            }
+        };
+    }
+
+    private Pass valueNumber() {
+        return new Pass() {
+            public String name() {
+                return "vn";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.OPT_VN;
+            }
+
+            public boolean needsSSA() {
+                return true;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                cfg.localValueNumber(m);
+                return Effect.CODE;
+            }
+        };
+    }
+
+    private Pass condense() {
+        return new Pass() {
+            public String name() {
+                return "condense";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.DCE;
+            }
+
+            public boolean preserves(Analysis<?> analysis) {
+                return analysis == Analyses.DOMINATOR_TREE;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                // a tree some earlier pass built is updated as blocks merge, rather than dropped
+                DominatorTree dom = analyses.has(Analyses.DOMINATOR_TREE, m) ? analyses.get(Analyses.DOMINATOR_TREE, m)
+                        : null;
+                return m.condenseBlocks(dom) ? Effect.CFG : Effect.NONE;
+            }
+        };
+    }
+
+    private Pass layout() {
+        return new Pass() {
+            public String name() {
+                return "layout";
+            }
+
+            public CompilePhase phase() {
+                return CompilePhase.DCE;
+            }
+
+            public Effect run(CFGMethod m, AnalysisCache analyses) {
+                if (cfg.profile() == null)
+                    return Effect.NONE;
+                m.layoutBlocks(cfg.profile());
+                return Effect.CODE; // only the order of the blocks changes
+            }
+        };
+    }
+}
@@ -0,0 +1,109 @@
+package cfg;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.TreeMap;
+
+// execution counts from a run of the program, for profile-guided optimization: how often each block
+// ran, which way each CFGCondOp went, and which functions each call site reached
+//
+// everything is keyed by method name and block identifier rather than by object, so a profile written
+// by one compile can be loaded into the next one of the same program with the same flags. the file is
+// one count per line:
+//   block <method> <block> <count>
+//   branch <method> <block> <taken> <not taken>
+//   call <method> <block> <op index> <target> <count>
+public final class Profile {
+    private final TreeMap<String, Long> blocks = new TreeMap<>();
+    private final TreeMap<String, long[]> branches = new TreeMap<>();
+    private final TreeMap<String, TreeMap<String, Long>> calls = new TreeMap<>();
+
+    private static String key(String method, String block) {
+        return method + " " + block;
+    }
+
+    public void addBlock(String method, String block, long count) {
+        blocks.merge(key(method, block), count, Long::sum);
+    }
+
+    public void addBranch(String method, String block, long taken, long notTaken) {
+        long[] counts = branches.computeIfAbsent(key(method, block), k -> new long[2]);
+        counts[0] += taken;
+        counts[1] += notTaken;
+    }
+
+    public void addCall(String method, String block, int op, String target, long count) {
+        calls.computeIfAbsent(key(method, block) + " " + op, k -> new TreeMap<>()).merge(target, count, Long::sum);
+    }
+
+    // 0 for blocks that never ran, or that the profile does not know
+    public long blockCount(String method, String block) {
+        return blocks.getOrDefault(key(method, block), 0L);
+    }
+
+    public boolean hasMethod(String method) {
+        String from = method + " ";
+        String first = blocks.ceilingKey(from);
+        return first != null && first.startsWith(from);
+    }
+
+    // {taken, not taken} for the CFGCondOp ending block
+    public long[] branchCounts(String method, String block) {
+        long[] counts = branches.get(key(method, block));
+        return counts == null ? new long[2] : counts.clone();
+    }
+
+    // how often the op'th op of block called each function, by name
+    public Map<String, Long> callTargets(String method, String block, int op) {
+        TreeMap<String, Long> targets = calls.get(key(method, block) + " " + op);
+        return targets == null ? Map.of() : targets;
+    }
+
+    public void write(Writer out) throws IOException {
+        for (Map.Entry<String, Long> e : blocks.entrySet())
+            out.write("block " + e.getKey() + " " + e.getValue() + "\n");
+        for (Map.Entry<String, long[]> e : branches.entrySet())
+            out.write("branch " + e.getKey() + " " + e.getValue()[0] + " " + e.getValue()[1] + "\n");
+        for (Map.Entry<String, TreeMap<String, Long>> site : calls.entrySet())
+            for (Map.Entry<String, Long> e : site.getValue().entrySet())
+                out.write("call " + site.getKey() + " " + e.getKey() + " " + e.getValue() + "\n");
+    }
+
+    public static Profile read(String text) {
+        Profile p = new Profile();
+        String[] lines = text.split("\n");
+        for (int i = 0; i < lines.length; i++) {
+            String line = lines[i].strip();
+            if (line.isEmpty() || line.startsWith("#"))
+                continue;
+            String[] f = line.split("\\s+");
+            try {
+                switch (f[0]) {
+                    case "block":
+                        expectFields(f, 4);
+                        p.addBlock(f[1], f[2], Long.parseLong(f[3]));
+                        break;
+                    case "branch":
+                        expectFields(f, 5);
+                        p.addBranch(f[1], f[2], Long.parseLong(f[3]), Long.parseLong(f[4]));
+                        break;
+                    case "call":
+                        expectFields(f, 6);
+                        p.addCall(f[1], f[2], Integer.parseInt(f[3]), f[4], Long.parseLong(f[5]));
+                        break;
+                    default:
+                        throw new IllegalArgumentException("unknown entry " + f[0]);
+                }
+            } catch (IllegalArgumentException e) { // includes NumberFormatException
+                throw new IllegalArgumentException("Error in profile on line " + (i + 1) + ": " + e.getMessage());
+            }
+        }
+        return p;
+    }
+
+    private static void expectFields(String[] f, int n) {
+        if (f.length != n)
+            throw new IllegalArgumentException(f[0] + " takes " + (n - 1) + " fields, got " + (f.length - 1));
+    }
+}
@@ -0,0 +1,88 @@
+package cfg;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
+
+import cfg.expr.data.CFGVar;
+import cfg.op.CFGAssn;
+import cfg.op.CFGOp;
+
+// which assignments (phis included) may have given each variable its value at the top of each block. in SSA
+// there is one per variable, so this mostly matters before toSSA and after passes that copy code. method
+// arguments and unassigned locals have no definition
+public final class ReachingDefinitions {
+    private final ArrayList<CFGAssn> defs = new ArrayList<>();
+    private final ArrayList<String> defVars = new ArrayList<>(); // the variable each def assigns
+    private final Dataflow.Result<BitSet> result;
+
+    private ReachingDefinitions(CFGMethod m) {
+        result = Dataflow.solve(m, new Problem(m));
+    }
+
+    public static ReachingDefinitions compute(CFGMethod m) {
+        return new ReachingDefinitions(m);
+    }
+
+    // the definitions reaching the top of b, before its phis; null for unreachable blocks
+    public ArrayList<CFGAssn> reachingIn(BasicBlock b) {
+        return decode(result.in().get(b), null);
+    }
+
+    public ArrayList<CFGAssn> reachingOut(BasicBlock b) {
+        return decode(result.out().get(b), null);
+    }
+
+    // the definitions of v reaching the top of b
+    public ArrayList<CFGAssn> reachingIn(BasicBlock b, CFGVar v) {
+        return decode(result.in().get(b), v.toString());
+    }
+
+    public int visits() {
+        return result.visits();
+    }
+
+    private ArrayList<CFGAssn> decode(BitSet bits, String var) {
+        if (bits == null)
+            return null;
+        ArrayList<CFGAssn> reaching = new ArrayList<>();
+        for (int i = bits.nextSetBit(0); i >= 0; i = bits.nextSetBit(i + 1))
+            if (var == null || defVars.get(i).equals(var))
+                reaching.add(defs.get(i));
+        return reaching;
+    }
+
+    private final class Problem extends Dataflow.BitVector {
+        Problem(CFGMethod m) {
+            super(Dataflow.Direction.FORWARD, true);
+            HashMap<String, BitSet> byVar = new HashMap<>(); // every def of each variable
+            HashMap<BasicBlock, HashMap<String, Integer>> last = new HashMap<>(); // each block's last def of each
+            for (BasicBlock b : m.blocks()) {
+                HashMap<String, Integer> lastDefs = new HashMap<>();
+                ArrayList<CFGAssn> assns = new ArrayList<>(b.getPhis());
+                for (CFGOp o : b.getOps())
+                    if (o instanceof CFGAssn a)
+                        assns.add(a);
+                for (CFGAssn a : assns) {
+                    String var = a.var().toString();
+                    defs.add(a);
+                    defVars.add(var);
+                    byVar.computeIfAbsent(var, k -> new BitSet()).set(defs.size() - 1);
+                    lastDefs.put(var, defs.size() - 1);
+                }
+                last.put(b, lastDefs);
+            }
+            for (BasicBlock b : m.blocks()) {
+                BitSet g = new BitSet(), k = new BitSet();
+                for (Map.Entry<String, Integer> d : last.get(b).entrySet()) {
+                    k.or(byVar.get(d.getKey()));
+                    g.set(d.getValue());
+                }
+                gen.put(b, g);
+                kill.put(b, k);
+            }
+            size = defs.size();
+        }
+    }
+}
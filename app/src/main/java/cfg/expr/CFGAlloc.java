@@ -1,5 +1,8 @@
 package cfg.expr;
 
+import java.util.function.Consumer;
+
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGPrimitive;
 
 public class CFGAlloc extends CFGExpr {
@@ -9,6 +12,15 @@ public class CFGAlloc extends CFGExpr {
         this.size = size;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(size);
+    }
+
+    public CFGPrimitive size() {
+        return size;
+    }
+
     @Override
     public String toString() {
         return "alloc(" + size + ")";
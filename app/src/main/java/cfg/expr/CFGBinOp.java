@@ -4,14 +4,17 @@ import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGPrimitive;
+import util.Opcode;
 
 public class CFGBinOp extends CFGExpr {
     private CFGValue lhs, rhs;
-    private String op;
+    private Opcode op;
 
-    public CFGBinOp(CFGValue lhs, String op, CFGValue rhs) {
+    public CFGBinOp(CFGValue lhs, Opcode op, CFGValue rhs) {
         this.lhs = lhs;
         this.rhs = rhs;
         this.op = op;
@@ -25,7 +28,7 @@ public class CFGBinOp extends CFGExpr {
         return rhs;
     }
 
-    public String op() {
+    public Opcode op() {
         return op;
     }
 
@@ -42,52 +45,18 @@ public class CFGBinOp extends CFGExpr {
         return this.lhs == b.lhs && this.op == b.op && this.rhs == b.rhs;
     }
 
+    @Override
+    public int hashCode() { // operands are compared by identity in equals, so they are hashed by identity here
+        return (System.identityHashCode(lhs) * 31 + op.ordinal()) * 31 + System.identityHashCode(rhs);
+    }
+
     public CFGExpr evalBinOp() {
         if (lhs instanceof CFGPrimitive && rhs instanceof CFGPrimitive) { // optimize out double-constant binops
             CFGPrimitive lprim = (CFGPrimitive) lhs;
             CFGPrimitive rprim = (CFGPrimitive) rhs;
-            long rslt;
-            switch (op) {
-                case "+":
-                    rslt = lprim.value() + rprim.value();
-                    break;
-                case "-":
-                    rslt = lprim.value() - rprim.value();
-                    break;
-                case "*":
-                    rslt = lprim.value() * rprim.value();
-                    break;
-                case "/":
-                    rslt = lprim.value() / rprim.value();
-                    break;
-                case ">":
-                    rslt = lprim.value() > rprim.value() ? 1 : 0;
-                    break;
-                case "<":
-                    rslt = lprim.value() < rprim.value() ? 1 : 0;
-                    break;
-                case "<<":
-                    rslt = lprim.value() << rprim.value();
-                    break;
-                case ">>":
-                    rslt = lprim.value() >> rprim.value();
-                    break;
-                case "<=":
-                    rslt = lprim.value() <= rprim.value() ? 1 : 0;
-                    break;
-                case ">=":
-                    rslt = lprim.value() >= rprim.value() ? 1 : 0;
-                    break;
-                case "==":
-                    rslt = lprim.value() == rprim.value() ? 1 : 0;
-                    break;
-                case "!=":rslt = lprim.value() != rprim.value() ? 1 : 0;
-                    break;
-                case "&": rslt = lprim.value() & rprim.value(); break;
-                default: // should be unreachable
-                    rslt = 0;
-            }
-            return CFGPrimitive.getPrimitive(rslt);
+            if (op == Opcode.DIV && rprim.value() == 0) // left for the program to trap on
+                return this;
+            return CFGPrimitive.getPrimitive(op.eval(lprim.value(), rprim.value()));
         }
         return this;
     }
@@ -98,4 +67,18 @@ public class CFGBinOp extends CFGExpr {
         rhs = (CFGValue)rhs.toSSA(varMap);
         return this;
     }
+
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(lhs);
+        f.accept(rhs);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(lhs))
+            lhs = newVal;
+        if (oldVar.equals(rhs))
+            rhs = newVal;
+    }
 }
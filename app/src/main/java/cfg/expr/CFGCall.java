@@ -1,7 +1,9 @@
 package cfg.expr;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
@@ -25,6 +27,26 @@ public class CFGCall extends CFGExpr {
         return this;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(addr);
+        f.accept(receiver);
+        for (CFGValue a : args)
+            f.accept(a);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(addr))
+            addr = (CFGVar) newVal;
+        if (oldVar.equals(receiver))
+            receiver = (CFGVar) newVal;
+        for (int i = 0; i < args.length; i++) {
+            if (oldVar.equals(args[i]))
+                args[i] = newVal;
+        }
+    }
+
     @Override
     public String toString() {
         StringBuilder sb = new StringBuilder();
@@ -1,8 +1,11 @@
 package cfg.expr;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
 import cfg.CFGElement;
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
 public abstract class CFGExpr implements CFGElement {
@@ -13,4 +16,10 @@ public abstract class CFGExpr implements CFGElement {
     public CFGExpr toSSA(HashMap<String, CFGVar> varMap) {
         return this;
     }
+
+    // pass every value read by this expression to f
+    public void forEachOperand(Consumer<CFGData> f) {}
+
+    // replace reads of oldVar with newVal, in place
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {}
 }
@@ -3,7 +3,9 @@ package cfg.expr;
 import cfg.expr.data.CFGVar;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
 
 public class CFGGet extends CFGExpr {
@@ -34,6 +36,20 @@ public class CFGGet extends CFGExpr {
         return this;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(arr);
+        f.accept(val);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(arr))
+            arr = (CFGVar) newVal;
+        if (oldVar.equals(val))
+            val = newVal;
+    }
+
     public CFGVar arr() {
         return arr;
     }
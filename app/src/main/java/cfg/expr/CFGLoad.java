@@ -1,7 +1,10 @@
 package cfg.expr;
 
 import java.util.HashMap;
+import java.util.function.Consumer;
 
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
 public class CFGLoad extends CFGExpr {
@@ -33,4 +36,15 @@ public class CFGLoad extends CFGExpr {
         base = (CFGVar)base.toSSA(varMap);
         return this;
     }
+
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(base);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(base))
+            base = (CFGVar) newVal;
+    }
 }
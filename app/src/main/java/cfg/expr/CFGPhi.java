@@ -1,9 +1,12 @@
 package cfg.expr;
 
 import java.util.ArrayList;
+import java.util.function.Consumer;
 
 import cfg.BasicBlock;
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public class CFGPhi extends CFGExpr {
     private ArrayList<BasicBlock> blocks;
@@ -32,4 +35,18 @@ public class CFGPhi extends CFGExpr {
     public ArrayList<CFGValue> varVersions() {
         return varVersions;
     }
+
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        for (CFGValue v : varVersions)
+            f.accept(v);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        for (int i = 0; i < varVersions.size(); i++) {
+            if (oldVar.equals(varVersions.get(i)))
+                varVersions.set(i, newVal);
+        }
+    }
 }
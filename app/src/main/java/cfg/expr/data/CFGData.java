@@ -1,5 +1,12 @@
 package cfg.expr.data;
 
+import java.util.function.Consumer;
+
 import cfg.expr.CFGExpr;
 
-public abstract class CFGData extends CFGExpr {}
\ No newline at end of file
+public abstract class CFGData extends CFGExpr {
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) { // a plain value just reads itself
+        f.accept(this);
+    }
+}
\ No newline at end of file
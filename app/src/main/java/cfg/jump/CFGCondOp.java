@@ -1,7 +1,11 @@
 package cfg.jump;
 
+import java.util.function.Consumer;
+
 import cfg.BasicBlock;
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public class CFGCondOp extends CFGJumpOp
 {
@@ -30,6 +34,17 @@ public class CFGCondOp extends CFGJumpOp
         this.cond = cond;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(cond);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(cond))
+            cond = newVal;
+    }
+
     @Override
     public String toString() {
         return "if " + cond + " then " + yes.getIdentifier() + " else " + no.getIdentifier();
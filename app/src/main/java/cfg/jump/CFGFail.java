@@ -11,5 +11,9 @@ public class CFGFail extends CFGJumpOp
         this.fail = fail;
     }
 
+    public CFGFailOpt fail() {
+        return fail;
+    }
+
     @Override public String toString() {return "fail "+fail.name(); }
 }
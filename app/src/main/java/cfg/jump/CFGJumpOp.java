@@ -1,7 +1,12 @@
 package cfg.jump;
 
+import java.util.function.Consumer;
+
 import cfg.BasicBlock;
 import cfg.CFGElement;
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public  abstract class CFGJumpOp implements CFGElement {
     protected BasicBlock parent;
@@ -9,4 +14,10 @@ public  abstract class CFGJumpOp implements CFGElement {
     public CFGJumpOp(BasicBlock parent) {
         this.parent = parent;
     }
+
+    // pass every value read by this jump to f
+    public void forEachOperand(Consumer<CFGData> f) {}
+
+    // replace reads of oldVar with newVal, in place
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {}
 }
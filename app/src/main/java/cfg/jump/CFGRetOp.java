@@ -1,7 +1,11 @@
 package cfg.jump;
 
+import java.util.function.Consumer;
+
 import cfg.BasicBlock;
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public class CFGRetOp extends CFGJumpOp {
     private CFGValue val;
@@ -19,6 +23,17 @@ public class CFGRetOp extends CFGJumpOp {
         this.val = val;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(val);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(val))
+            val = newVal;
+    }
+
     @Override
     public String toString() {
         return "ret " + val;
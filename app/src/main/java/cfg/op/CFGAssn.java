@@ -1,6 +1,10 @@
 package cfg.op;
 
+import java.util.function.Consumer;
+
 import cfg.expr.CFGExpr;
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
 public non-sealed class CFGAssn implements CFGOp {
@@ -28,6 +32,19 @@ public non-sealed class CFGAssn implements CFGOp {
         this.expr = expr;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        expr.forEachOperand(f);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(expr)) // plain copy of oldVar
+            expr = newVal;
+        else
+            expr.replaceOperand(oldVar, newVal);
+    }
+
     public CFGAssn(CFGVar var, CFGExpr expr) {
         this.var = var;
         this.expr = expr;
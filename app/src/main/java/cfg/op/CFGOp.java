@@ -1,7 +1,17 @@
 package cfg.op;
 
+import java.util.function.Consumer;
+
 import cfg.CFGElement;
+import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public sealed interface CFGOp extends CFGElement
     permits CFGAssn, CFGPrint, CFGSet, CFGStore {
+    // pass every value read by this op to f
+    void forEachOperand(Consumer<CFGData> f);
+
+    // replace reads of oldVar with newVal, in place
+    void replaceOperand(CFGVar oldVar, CFGValue newVal);
 }
\ No newline at end of file
@@ -1,6 +1,10 @@
 package cfg.op;
 
+import java.util.function.Consumer;
+
+import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
+import cfg.expr.data.CFGVar;
 
 public non-sealed class CFGPrint implements CFGOp {
     private CFGValue val;
@@ -17,6 +21,17 @@ public non-sealed class CFGPrint implements CFGOp {
         this.val = val;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(val);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(val))
+            val = newVal;
+    }
+
     @Override
     public String toString() {
         return "print(" + val + ")";
@@ -1,5 +1,7 @@
 package cfg.op;
 
+import java.util.function.Consumer;
+
 import cfg.expr.data.CFGData;
 import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
@@ -41,6 +43,23 @@ public non-sealed class CFGSet implements CFGOp{
 
 
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(addr);
+        f.accept(index);
+        f.accept(val);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(addr))
+            addr = (CFGVar) newVal;
+        if (oldVar.equals(index))
+            index = newVal;
+        if (oldVar.equals(val))
+            val = newVal;
+    }
+
     @Override
     public String toString() {
         return "setelt(" + addr + ", " + index + ", " + val + ")";
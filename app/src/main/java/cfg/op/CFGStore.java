@@ -1,6 +1,9 @@
 package cfg.op;
 
+import java.util.function.Consumer;
+
 import cfg.expr.data.CFGData;
+import cfg.expr.data.CFGValue;
 import cfg.expr.data.CFGVar;
 
 public non-sealed class CFGStore implements CFGOp {
@@ -28,6 +31,20 @@ public non-sealed class CFGStore implements CFGOp {
         this.index = i;
     }
 
+    @Override
+    public void forEachOperand(Consumer<CFGData> f) {
+        f.accept(base);
+        f.accept(index);
+    }
+
+    @Override
+    public void replaceOperand(CFGVar oldVar, CFGValue newVal) {
+        if (oldVar.equals(base))
+            base = (CFGVar) newVal;
+        if (oldVar.equals(index))
+            index = newVal;
+    }
+
     @Override
     public String toString() {
         return "store(" + base + ", " + index + ")";
@@ -0,0 +1,29 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// condenseBlocks reaching its fixpoint on one method
+@Name("compiler.Condense")
+@Label("Condense Blocks")
+@Category("Compiler")
+@Description("condenseBlocks merging and removing blocks of one method until nothing changes")
+@StackTrace(false)
+public class CondenseEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Iterations")
+    @Description("Passes over the blocks, including the last one that changed nothing")
+    public int iterations;
+
+    @Label("Blocks Before")
+    public int blocksBefore;
+
+    @Label("Blocks After")
+    public int blocksAfter;
+}
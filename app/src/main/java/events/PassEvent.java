@@ -0,0 +1,30 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// one optimization pass over one method
+@Name("compiler.Pass")
+@Label("Optimization Pass")
+@Category("Compiler")
+@Description("An optimization pass over one method")
+@StackTrace(false)
+public class PassEvent extends Event {
+    @Label("Pass")
+    public String pass;
+
+    @Label("Method")
+    public String method;
+
+    @Label("Blocks")
+    @Description("Blocks in the method after the pass")
+    public int blocks;
+
+    @Label("Ops")
+    @Description("Ops and phis in the method after the pass")
+    public int ops;
+}
@@ -0,0 +1,31 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// one compiler phase (a CompilePhase) over the whole program, with the size of the IR it left
+@Name("compiler.Phase")
+@Label("Compile Phase")
+@Category("Compiler")
+@Description("A compiler phase over the whole program")
+@StackTrace(false)
+public class PhaseEvent extends Event {
+    @Label("Phase")
+    public String phase;
+
+    @Label("Input")
+    @Description("The file being compiled")
+    public String input;
+
+    @Label("Blocks")
+    @Description("Blocks in the program after the phase, 0 before the CFG exists")
+    public int blocks;
+
+    @Label("Ops")
+    @Description("Ops and phis in the program after the phase, 0 before the CFG exists")
+    public int ops;
+}
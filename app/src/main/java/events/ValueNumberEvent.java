@@ -0,0 +1,26 @@
+package events;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// a block that local value numbering had to go over more than once
+@Name("compiler.ValueNumberRetry")
+@Label("Value Numbering Retry")
+@Category("Compiler")
+@Description("doLocalValueNumbering going over a block again after replacing a value")
+@StackTrace(false)
+public class ValueNumberEvent extends Event {
+    @Label("Method")
+    public String method;
+
+    @Label("Block")
+    public String block;
+
+    @Label("Retries")
+    @Description("Passes over the block after the first")
+    public int retries;
+}
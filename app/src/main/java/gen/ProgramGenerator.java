@@ -0,0 +1,258 @@
+package gen;
+
+import java.util.ArrayList;
+import java.util.Random;
+
+// generates valid, typed programs of any size for scaling tests - the same config always gives the
+// same program
+//
+// class Ci has int fields f0.. and methods m0.., where mj takes j % (maxArgs + 1) int args in every
+// class, so vtable slots line up. mj only calls mk with k < j of classes after Ci, and every loop counts
+// a local of its own down from a small constant, so programs also run in reasonable time. all locals
+// are assigned on entry, so SSA never sees a use before a definition
+public final class ProgramGenerator {
+    // statements is the length of each method body, counting the statements inside ifs and whiles;
+    // callDensity is the chance that a statement is a call, where there is a class to call
+    public record Config(long seed, int classes, int fields, int methods, int statements, int depth,
+            double callDensity, int maxArgs) {
+        public Config {
+            if (classes < 1 || fields < 0 || methods < 1 || statements < 1 || depth < 0 || maxArgs < 0)
+                throw new IllegalArgumentException("Generator sizes must be positive");
+            if (callDensity < 0 || callDensity > 1)
+                throw new IllegalArgumentException("Call density must be between 0 and 1");
+        }
+
+        public static Config defaults() {
+            return new Config(1, 10, 3, 4, 20, 2, 0.1, 2);
+        }
+
+        public Config withSeed(long s) {
+            return new Config(s, classes, fields, methods, statements, depth, callDensity, maxArgs);
+        }
+
+        public Config withClasses(int n) {
+            return new Config(seed, n, fields, methods, statements, depth, callDensity, maxArgs);
+        }
+
+        public Config withMaxArgs(int n) {
+            return new Config(seed, classes, fields, methods, statements, depth, callDensity, n);
+        }
+    }
+
+    private static final String[] OPS = { "+", "-", "*", "<", ">", "<=", ">=", "==", "!=" };
+    private static final int LOCALS = 4; // int locals per method, besides loop counters
+
+    private final Config config;
+    private final Random random;
+    private final StringBuilder out = new StringBuilder();
+    private int cls; // class being generated
+    private int method, args; // the method being generated and its arity
+    private ArrayList<Integer> callees; // classes the method holds an object of
+
+    private ProgramGenerator(Config config) {
+        this.config = config;
+        this.random = new Random(config.seed());
+    }
+
+    public static String generate(Config config) {
+        ProgramGenerator g = new ProgramGenerator(config);
+        for (int c = 0; c < config.classes(); c++)
+            g.writeClass(c);
+        g.writeMain();
+        return g.out.toString();
+    }
+
+    private int arity(int method) {
+        return method % (config.maxArgs() + 1);
+    }
+
+    private void writeClass(int c) {
+        cls = c;
+        out.append("class C").append(c).append(" [\n    fields");
+        for (int f = 0; f < config.fields(); f++)
+            out.append(f == 0 ? " " : ", ").append('f').append(f).append(":int");
+        out.append('\n');
+        for (int m = 0; m < config.methods(); m++)
+            writeMethod(m);
+        out.append("]\n");
+    }
+
+    private void writeMethod(int m) {
+        method = m;
+        args = arity(m);
+        callees = new ArrayList<>();
+        if (m > 0 && cls + 1 < config.classes() && config.callDensity() > 0)
+            for (int i = 0; i < 2; i++) {
+                int callee = cls + 1 + random.nextInt(config.classes() - cls - 1);
+                if (!callees.contains(callee))
+                    callees.add(callee);
+            }
+        out.append("    method m").append(m).append('(');
+        for (int a = 0; a < args; a++)
+            out.append(a == 0 ? "" : ", ").append('a').append(a).append(":int");
+        out.append(") returning int with locals");
+        ArrayList<String> locals = new ArrayList<>();
+        for (int v = 0; v < LOCALS; v++)
+            locals.add("v" + v + ":int");
+        for (int d = 0; d < config.depth(); d++)
+            locals.add("w" + d + ":int");
+        for (int callee : callees)
+            locals.add("p" + callee + ":C" + callee);
+        for (int i = 0; i < locals.size(); i++)
+            out.append(i == 0 ? " " : ", ").append(locals.get(i));
+        out.append(":\n");
+        for (int v = 0; v < LOCALS; v++)
+            line(2, "v" + v + " = " + random.nextInt(10));
+        for (int d = 0; d < config.depth(); d++)
+            line(2, "w" + d + " = 0");
+        for (int callee : callees)
+            line(2, "p" + callee + " = @C" + callee);
+        statements(2, 0, config.statements());
+        line(2, "return " + expr(2));
+    }
+
+    // n statements at the given nesting depth
+    private void statements(int indent, int depth, int n) {
+        while (n > 0) {
+            int nested = n - 1; // statements left for the body of an if or while
+            if (depth < config.depth() && nested >= 2 && random.nextInt(4) == 0) {
+                int body = 1 + random.nextInt(Math.min(nested, Math.max(1, config.statements() / 3)));
+                compound(indent, depth, body);
+                n -= body + 1;
+            } else {
+                simple(indent);
+                n--;
+            }
+        }
+    }
+
+    private void compound(int indent, int depth, int body) {
+        switch (random.nextInt(3)) {
+            case 0:
+                line(indent, "if " + cond() + ": {");
+                int yes = Math.max(1, body / 2);
+                statements(indent + 1, depth + 1, yes);
+                line(indent, "} else {");
+                statements(indent + 1, depth + 1, Math.max(1, body - yes));
+                line(indent, "}");
+                break;
+            case 1:
+                line(indent, "ifonly " + cond() + ": {");
+                statements(indent + 1, depth + 1, body);
+                line(indent, "}");
+                break;
+            default:
+                String counter = "w" + depth;
+                line(indent, counter + " = " + (2 + random.nextInt(3)));
+                line(indent, "while (" + counter + " > 0): {");
+                statements(indent + 1, depth + 1, body);
+                line(indent + 1, counter + " = (" + counter + " - 1)");
+                line(indent, "}");
+                break;
+        }
+    }
+
+    private void simple(int indent) {
+        if (!callees.isEmpty() && random.nextDouble() < config.callDensity()) {
+            line(indent, local() + " = " + call());
+            return;
+        }
+        switch (random.nextInt(config.fields() > 0 ? 6 : 5)) {
+            case 0:
+                line(indent, "print(" + expr(1) + ")");
+                break;
+            case 5:
+                line(indent, "!this.f" + random.nextInt(config.fields()) + " = " + expr(2));
+                break;
+            default:
+                line(indent, local() + " = " + expr(2));
+                break;
+        }
+    }
+
+    private String call() {
+        int callee = callees.get(random.nextInt(callees.size()));
+        int m = random.nextInt(method);
+        StringBuilder s = new StringBuilder("^p").append(callee).append(".m").append(m).append('(');
+        for (int a = 0; a < arity(m); a++)
+            s.append(a == 0 ? "" : ", ").append(expr(1));
+        return s.append(')').toString();
+    }
+
+    private String cond() {
+        return "(" + leaf() + " " + OPS[3 + random.nextInt(OPS.length - 3)] + " " + leaf() + ")";
+    }
+
+    // an int expression at most depth operators deep
+    private String expr(int depth) {
+        if (depth == 0 || random.nextInt(3) == 0)
+            return leaf();
+        if (random.nextInt(8) == 0) // division and shifts only by constants, so they cannot trap
+            return "(" + expr(depth - 1) + (random.nextBoolean() ? " / " + (1 + random.nextInt(7))
+                    : random.nextBoolean() ? " << " + random.nextInt(4) : " >> " + random.nextInt(4)) + ")";
+        return "(" + expr(depth - 1) + " " + OPS[random.nextInt(OPS.length)] + " " + expr(depth - 1) + ")";
+    }
+
+    private String leaf() {
+        int pick = random.nextInt(10);
+        if (pick < 2)
+            return Integer.toString(random.nextInt(100));
+        if (pick < 4 && args > 0)
+            return "a" + random.nextInt(args);
+        if (pick < 5 && config.fields() > 0)
+            return "&this.f" + random.nextInt(config.fields());
+        return local();
+    }
+
+    private String local() {
+        return "v" + random.nextInt(LOCALS);
+    }
+
+    private void writeMain() {
+        out.append("main with x:int");
+        for (int c = 0; c < config.classes(); c++)
+            out.append(", o").append(c).append(":C").append(c);
+        out.append(":\n");
+        line(1, "x = 0");
+        for (int c = 0; c < config.classes(); c++) {
+            line(1, "o" + c + " = @C" + c);
+            int m = config.methods() - 1;
+            StringBuilder call = new StringBuilder("x = (x + ^o").append(c).append(".m").append(m).append('(');
+            for (int a = 0; a < arity(m); a++)
+                call.append(a == 0 ? "" : ", ").append(c + a);
+            line(1, call.append("))").toString());
+        }
+        line(1, "print(x)");
+    }
+
+    private void line(int indent, String s) {
+        out.append("    ".repeat(indent)).append(s).append('\n');
+    }
+
+    // ProgramGenerator [-seed n] [-classes n] [-fields n] [-methods n] [-statements n] [-depth n]
+    //                  [-calls density] [-args n] - writes the program to stdout
+    public static void main(String[] argv) {
+        Config c = Config.defaults();
+        long seed = c.seed();
+        int classes = c.classes(), fields = c.fields(), methods = c.methods(), statements = c.statements(),
+                depth = c.depth(), maxArgs = c.maxArgs();
+        double calls = c.callDensity();
+        for (int i = 0; i < argv.length; i++) {
+            if (i + 1 >= argv.length)
+                throw new IllegalArgumentException("Error: " + argv[i] + " needs a value");
+            String value = argv[++i];
+            switch (argv[i - 1]) {
+                case "-seed" -> seed = Long.parseLong(value);
+                case "-classes" -> classes = Integer.parseInt(value);
+                case "-fields" -> fields = Integer.parseInt(value);
+                case "-methods" -> methods = Integer.parseInt(value);
+                case "-statements" -> statements = Integer.parseInt(value);
+                case "-depth" -> depth = Integer.parseInt(value);
+                case "-calls" -> calls = Double.parseDouble(value);
+                case "-args" -> maxArgs = Integer.parseInt(value);
+                default -> throw new IllegalArgumentException("Error: unknown generator option " + argv[i - 1]);
+            }
+        }
+        System.out.print(generate(new Config(seed, classes, fields, methods, statements, depth, calls, maxArgs)));
+    }
+}
@@ -0,0 +1,91 @@
+package interp;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.PrintStream;
+import java.util.Arrays;
+import java.util.function.LongSupplier;
+
+// runtime for programs compiled by JarWriter, which copies this class into the jar - so it may only use
+// java.base. the heap works like Heap's, and prints are buffered until the program ends
+public final class AotRuntime {
+    private static final int WORD = 8;
+
+    private static long[] words;
+    private static int top;
+    private static final PrintStream out = new PrintStream(
+            new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 1 << 16), false);
+
+    private AotRuntime() {
+    }
+
+    // start the heap from the words the compiler laid out
+    public static void init(long[] image) {
+        words = Arrays.copyOf(image, Math.max(1024, image.length));
+        top = image.length;
+    }
+
+    // run the program and print its result, like -run without the stats
+    public static void run(LongSupplier program) {
+        int status = 0;
+        try {
+            out.println("Final result: Data { val: " + program.getAsLong() + " }");
+        } catch (IllegalStateException e) {
+            out.println(e.getMessage());
+            status = 1;
+        }
+        out.flush();
+        if (status != 0)
+            System.exit(status);
+    }
+
+    public static long alloc(long n) {
+        if (n < 0 || top + n > Integer.MAX_VALUE)
+            throw new IllegalStateException("Cannot allocate " + n + " words");
+        if (top + n > words.length)
+            words = Arrays.copyOf(words, (int) Math.max(words.length * 2L, top + n));
+        long addr = (long) top * WORD;
+        top = (int) (top + n);
+        return addr;
+    }
+
+    public static long load(long addr) {
+        return words[index(addr)];
+    }
+
+    public static void store(long addr, long val) {
+        words[index(addr)] = val;
+    }
+
+    private static int index(long addr) {
+        if (addr <= 0 || addr % WORD != 0 || addr / WORD >= top)
+            throw new IllegalStateException("Bad memory access at " + addr);
+        return (int) (addr / WORD);
+    }
+
+    public static long div(long a, long b) {
+        if (b == 0)
+            throw new IllegalStateException("Division by zero");
+        return a / b;
+    }
+
+    public static void print(long val) {
+        out.println(val);
+    }
+
+    // the function id of a function value, or -1
+    public static int functionId(long value) {
+        long id = -value / WORD - 1;
+        return value >= 0 || value % WORD != 0 || id > Integer.MAX_VALUE ? -1 : (int) id;
+    }
+
+    public static IllegalStateException badCall(long value, int nargs) {
+        return new IllegalStateException("Called " + value + " with " + nargs
+                + " args, which is not a function taking that many");
+    }
+
+    public static IllegalStateException fail(String message) {
+        return new IllegalStateException(message);
+    }
+}
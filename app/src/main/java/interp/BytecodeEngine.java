@@ -0,0 +1,238 @@
+package interp;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+import cfg.PackedMethod;
+import cfg.jump.CFGFailOpt;
+
+// runs a compiled program as register bytecode (see BytecodeMethod), with the same heap and
+// ExecStats counts as Interpreter - methods are lowered the first time they are called
+public class BytecodeEngine implements ExecutionEngine {
+    static final CFGFailOpt[] failOpts = CFGFailOpt.values();
+
+    final PrintStream out;
+    final ExecStats stats = new ExecStats();
+    final Heap heap;
+    private final BytecodeMethod[] compiled; // by function id
+    private final CFGMethod main;
+
+    public BytecodeEngine(DataBlock data, ArrayList<CFGClass> classes, CFGMethod main, PrintStream out) {
+        this.main = main;
+        this.out = out;
+        this.heap = new Heap(data, classes);
+        this.compiled = new BytecodeMethod[heap.functions().size()];
+    }
+
+    @Override
+    public ExecStats stats() {
+        return stats;
+    }
+
+    @Override
+    public long run() {
+        BytecodeMethod m = BytecodeMethod.compile(PackedMethod.pack(main), heap);
+        return invoke(m, m.template.clone());
+    }
+
+    // run m on a fresh frame
+    long invoke(BytecodeMethod m, long[] regs) {
+        return exec(m, regs);
+    }
+
+    // called on every backward jump - returning true makes the loop continue in osr instead
+    boolean backEdge(BytecodeMethod m) {
+        return false;
+    }
+
+    // continue running m from pc, with the registers as they are
+    long osr(BytecodeMethod m, int pc, long[] regs) {
+        throw new IllegalStateException("No compiled code to enter " + m.name + " at " + pc);
+    }
+
+    BytecodeMethod function(long value) {
+        int id = heap.functionId(value);
+        if (compiled[id] == null)
+            compiled[id] = BytecodeMethod.compile(PackedMethod.pack(heap.functions().get(id)), heap);
+        return compiled[id];
+    }
+
+    long div(long a, long b) {
+        if (b == 0)
+            throw new IllegalStateException("Division by zero");
+        return a / b;
+    }
+
+    // set up the callee's registers from the nargs args at code[at+1..] and run it
+    private long call(long fn, int[] code, int at, long[] regs) {
+        BytecodeMethod m = function(fn);
+        int nargs = code[at];
+        if (nargs != m.argRegs.length)
+            throw new IllegalStateException(m.name + " takes " + m.argRegs.length + " args, got " + nargs);
+        long[] callee = m.template.clone();
+        for (int i = 0; i < nargs; i++)
+            callee[m.argRegs[i]] = regs[code[at + 1 + i]];
+        stats.calls++;
+        return invoke(m, callee);
+    }
+
+    long exec(BytecodeMethod m, long[] r) {
+        final int[] code = m.code;
+        final ExecStats s = stats;
+        int pc = 0;
+        while (true) {
+            switch (code[pc]) {
+                case BytecodeMethod.MOV:
+                    r[code[pc + 1]] = r[code[pc + 2]];
+                    pc += 3;
+                    break;
+                case BytecodeMethod.ADD:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] + r[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case BytecodeMethod.SUB:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] - r[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case BytecodeMethod.MUL:
+                    s.slowAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] * r[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case BytecodeMethod.DIV:
+                    s.slowAluOps++;
+                    r[code[pc + 1]] = div(r[code[pc + 2]], r[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case BytecodeMethod.SHL:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] << r[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case BytecodeMethod.SHR:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] >> r[code[pc + 3]];
+                    pc += 4;
+                    break;
+                case BytecodeMethod.EQ:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] == r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.NE:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] != r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.LT:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] < r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.GT:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] > r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.LE:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] <= r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.GE:
+                    s.fastAluOps++;
+                    r[code[pc + 1]] = r[code[pc + 2]] >= r[code[pc + 3]] ? 1 : 0;
+                    pc += 4;
+                    break;
+                case BytecodeMethod.ALLOC:
+                    s.allocs++;
+                    r[code[pc + 1]] = heap.alloc(r[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case BytecodeMethod.LOAD:
+                    s.memReads++;
+                    r[code[pc + 1]] = heap.load(r[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case BytecodeMethod.GET:
+                    s.memReads++;
+                    s.fastAluOps++;
+                    s.slowAluOps++;
+                    r[code[pc + 1]] = heap.load(r[code[pc + 2]] + r[code[pc + 3]] * Heap.WORD);
+                    pc += 4;
+                    break;
+                case BytecodeMethod.CALL:
+                    r[code[pc + 1]] = call(r[code[pc + 2]], code, pc + 3, r);
+                    pc += 4 + code[pc + 3];
+                    break;
+                case BytecodeMethod.PRINT:
+                    s.prints++;
+                    out.println(r[code[pc + 1]]);
+                    pc += 2;
+                    break;
+                case BytecodeMethod.STORE:
+                    s.memWrites++;
+                    heap.store(r[code[pc + 1]], r[code[pc + 2]]);
+                    pc += 3;
+                    break;
+                case BytecodeMethod.SET:
+                    s.memWrites++;
+                    s.fastAluOps++;
+                    s.slowAluOps++;
+                    heap.store(r[code[pc + 1]] + r[code[pc + 2]] * Heap.WORD, r[code[pc + 3]]);
+                    pc += 4;
+                    break;
+                case BytecodeMethod.JUMP:
+                    s.unconditionalBranches++;
+                    if (code[pc + 1] <= pc && backEdge(m))
+                        return osr(m, code[pc + 1], r);
+                    pc = code[pc + 1];
+                    break;
+                case BytecodeMethod.BRANCH:
+                    s.conditionalBranches++;
+                    int target = r[code[pc + 1]] != 0 ? code[pc + 2] : code[pc + 3];
+                    if (target <= pc && backEdge(m))
+                        return osr(m, target, r);
+                    pc = target;
+                    break;
+                case BytecodeMethod.RET:
+                    s.rets++;
+                    return r[code[pc + 1]];
+                case BytecodeMethod.FAIL:
+                    throw new IllegalStateException("Program failed: " + failOpts[code[pc + 1]]);
+                case BytecodeMethod.PHIS:
+                    s.phis += code[pc + 1];
+                    pc += 2;
+                    break;
+                case BytecodeMethod.GOTO:
+                    if (code[pc + 1] <= pc && backEdge(m))
+                        return osr(m, code[pc + 1], r);
+                    pc = code[pc + 1];
+                    break;
+                case BytecodeMethod.ADD_LOAD:
+                    s.fastAluOps++;
+                    s.memReads++;
+                    r[code[pc + 2]] = r[code[pc + 3]] + r[code[pc + 4]];
+                    r[code[pc + 1]] = heap.load(r[code[pc + 2]]);
+                    pc += 5;
+                    break;
+                case BytecodeMethod.VCALL:
+                    s.memReads += 2;
+                    s.fastAluOps++;
+                    s.slowAluOps++;
+                    r[code[pc + 2]] = heap.load(r[code[pc + 4]]);
+                    r[code[pc + 3]] = heap.load(r[code[pc + 2]] + r[code[pc + 5]] * Heap.WORD);
+                    r[code[pc + 1]] = call(r[code[pc + 3]], code, pc + 6, r);
+                    pc += 7 + code[pc + 6];
+                    break;
+                default:
+                    throw new IllegalStateException("Bad bytecode " + code[pc] + " at " + pc + " in " + m.name);
+            }
+        }
+    }
+}
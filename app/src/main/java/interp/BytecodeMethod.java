@@ -0,0 +1,360 @@
+package interp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import cfg.PackedMethod;
+import util.Opcode;
+
+// a method lowered to register bytecode for BytecodeEngine
+//
+// code is one int[]: an opcode followed by its operands, all of them register numbers or code offsets
+// every PackedMethod value id is a register, and constants and global addresses get registers of their
+// own that are preloaded in template, so no instruction has to decode a tagged operand
+// phis become moves on the edges into their block: inline before a jump, or in a stub after the body
+// for the arms of a branch
+final class BytecodeMethod {
+    static final int MOV = 0; // d s
+    static final int ADD = 1; // d a b - ADD..GE are 1 + Opcode.ordinal()
+    static final int SUB = 2;
+    static final int MUL = 3;
+    static final int DIV = 4;
+    static final int SHL = 5;
+    static final int SHR = 6;
+    static final int EQ = 7;
+    static final int NE = 8;
+    static final int LT = 9;
+    static final int GT = 10;
+    static final int LE = 11;
+    static final int GE = 12;
+    static final int ALLOC = 13; // d size
+    static final int LOAD = 14; // d addr
+    static final int GET = 15; // d base index
+    static final int CALL = 16; // d fn nargs args... (receiver first)
+    static final int PRINT = 17; // a
+    static final int STORE = 18; // addr val
+    static final int SET = 19; // base index val
+    static final int JUMP = 20; // pc
+    static final int BRANCH = 21; // cond yes-pc no-pc
+    static final int RET = 22; // a
+    static final int FAIL = 23; // CFGFailOpt ordinal
+    static final int PHIS = 24; // n - counts the phis resolved by the moves that follow
+    static final int GOTO = 25; // pc - end of an edge stub, not a branch of the program
+    // superinstructions, writing every register their parts would
+    static final int ADD_LOAD = 26; // d t a b: t = a + b, d = load(t)
+    static final int VCALL = 27; // d t1 t2 obj slot nargs args...: t1 = load(obj), t2 = getelt(t1, slot), d = call(t2, args...)
+
+    final String name;
+    final int[] code;
+    final long[] template; // initial registers
+    final int[] argRegs;
+    final int numValues; // registers below this hold values, the rest are constants and the scratch register
+
+    // tiering state, see TieredEngine
+    int invocations, backEdges;
+    JitMethod jit;
+    boolean jitFailed;
+
+    private BytecodeMethod(String name, int[] code, long[] template, int[] argRegs, int numValues) {
+        this.name = name;
+        this.code = code;
+        this.template = template;
+        this.argRegs = argRegs;
+        this.numValues = numValues;
+    }
+
+    // the scratch register phi moves use to break cycles - the only writable register past numValues
+    int scratch() {
+        return template.length - 1;
+    }
+
+    // length of the instruction at pc, in ints
+    int length(int pc) {
+        switch (code[pc]) {
+            case MOV:
+            case ALLOC:
+            case LOAD:
+            case STORE:
+                return 3;
+            case PRINT:
+            case JUMP:
+            case RET:
+            case FAIL:
+            case PHIS:
+            case GOTO:
+                return 2;
+            case CALL:
+                return 4 + code[pc + 3];
+            case ADD_LOAD:
+                return 5;
+            case VCALL:
+                return 7 + code[pc + 6];
+            default: // binops, GET, SET, BRANCH
+                return 4;
+        }
+    }
+
+    static BytecodeMethod compile(PackedMethod p, Heap heap) {
+        return new Compiler(p, heap).run();
+    }
+
+    private static class Compiler {
+        private final PackedMethod p;
+        private final int constBase, globalBase, scratch;
+        private final long[] template;
+        private int[] code = new int[64];
+        private int len;
+        private final int[] blockPc;
+        private final ArrayList<int[]> fixups = new ArrayList<>(); // {code index, block}
+        private final ArrayList<int[]> stubs = new ArrayList<>(); // {code index, from block, to block}
+
+        Compiler(PackedMethod p, Heap heap) {
+            this.p = p;
+            this.blockPc = new int[p.numBlocks()];
+            // registers: values, then constants, then globals, then one scratch for breaking move cycles
+            int numConstants = 0, numGlobals = 0;
+            for (int op = 0; op < p.numOps(); op++)
+                for (int operand : operands(op)) {
+                    if (PackedMethod.isConstant(operand))
+                        numConstants = Math.max(numConstants, PackedMethod.value(operand) + 1);
+                    else if (PackedMethod.isGlobal(operand))
+                        numGlobals = Math.max(numGlobals, PackedMethod.value(operand) + 1);
+                }
+            constBase = p.numValues();
+            globalBase = constBase + numConstants;
+            scratch = globalBase + numGlobals;
+            template = new long[scratch + 1];
+            for (int op = 0; op < p.numOps(); op++)
+                for (int operand : operands(op)) {
+                    if (PackedMethod.isConstant(operand))
+                        template[constBase + PackedMethod.value(operand)] = p.constant(operand);
+                    else if (PackedMethod.isGlobal(operand))
+                        template[globalBase + PackedMethod.value(operand)] = heap.global(p.global(operand));
+                }
+        }
+
+        // every tagged operand an op reads
+        private int[] operands(int op) {
+            switch (p.kind(op)) {
+                case PackedMethod.COPY:
+                case PackedMethod.ALLOC:
+                case PackedMethod.LOAD:
+                case PackedMethod.PRINT:
+                case PackedMethod.RET:
+                    return new int[] { p.a(op) };
+                case PackedMethod.BINOP:
+                case PackedMethod.GET:
+                case PackedMethod.STORE:
+                    return new int[] { p.a(op), p.b(op) };
+                case PackedMethod.SET:
+                    return new int[] { p.a(op), p.b(op), p.c(op) };
+                case PackedMethod.BRANCH:
+                    return new int[] { p.a(op) };
+                case PackedMethod.CALL:
+                    int[] call = new int[p.numExtra(op) + 2];
+                    call[0] = p.a(op);
+                    call[1] = p.b(op);
+                    for (int i = 0; i < p.numExtra(op); i++)
+                        call[i + 2] = p.callArg(op, i);
+                    return call;
+                case PackedMethod.PHI:
+                    int[] phi = new int[p.numExtra(op)];
+                    for (int i = 0; i < phi.length; i++)
+                        phi[i] = p.phiValue(op, i);
+                    return phi;
+                default:
+                    return new int[0];
+            }
+        }
+
+        private int reg(int operand) {
+            switch (operand & 3) {
+                case 0:
+                    return PackedMethod.value(operand);
+                case 1:
+                    return constBase + PackedMethod.value(operand);
+                default:
+                    return globalBase + PackedMethod.value(operand);
+            }
+        }
+
+        BytecodeMethod run() {
+            for (int blk = 0; blk < p.numBlocks(); blk++) {
+                blockPc[blk] = len;
+                int op = p.blockStart(blk), end = p.blockEnd(blk) - 1;
+                while (op < end && p.kind(op) == PackedMethod.PHI)
+                    op++; // resolved on the edges into this block
+                while (op < end)
+                    op = emitOp(op, end);
+                emitTerminator(blk, end);
+            }
+            for (int[] stub : stubs) { // branch arms that need phi moves
+                code[stub[0]] = len;
+                emitPhiMoves(stub[1], stub[2]);
+                emit(GOTO);
+                jumpTo(stub[2]);
+            }
+            for (int[] fixup : fixups)
+                code[fixup[0]] = blockPc[fixup[1]];
+            int[] argRegs = new int[p.args().length];
+            for (int i = 0; i < argRegs.length; i++)
+                argRegs[i] = p.args()[i];
+            return new BytecodeMethod(p.name(), Arrays.copyOf(code, len), template, argRegs, p.numValues());
+        }
+
+        // emit op (fusing it with the ops after it where possible) and return the next op to emit
+        private int emitOp(int op, int end) {
+            if (isVtableCall(op, end)) {
+                emit(VCALL, p.dst(op + 2), p.dst(op), p.dst(op + 1), reg(p.a(op)), reg(p.b(op + 1)));
+                emitCallArgs(op + 2);
+                return op + 3;
+            }
+            if (p.kind(op) == PackedMethod.BINOP && p.opcode(op) == Opcode.ADD && op + 1 < end
+                    && p.kind(op + 1) == PackedMethod.LOAD && isValue(p.a(op + 1), p.dst(op))) {
+                emit(ADD_LOAD, p.dst(op + 1), p.dst(op), reg(p.a(op)), reg(p.b(op)));
+                return op + 2;
+            }
+            switch (p.kind(op)) {
+                case PackedMethod.COPY:
+                    emit(MOV, p.dst(op), reg(p.a(op)));
+                    break;
+                case PackedMethod.BINOP:
+                    emit(ADD + p.opcode(op).ordinal(), p.dst(op), reg(p.a(op)), reg(p.b(op)));
+                    break;
+                case PackedMethod.ALLOC:
+                    emit(ALLOC, p.dst(op), reg(p.a(op)));
+                    break;
+                case PackedMethod.LOAD:
+                    emit(LOAD, p.dst(op), reg(p.a(op)));
+                    break;
+                case PackedMethod.GET:
+                    emit(GET, p.dst(op), reg(p.a(op)), reg(p.b(op)));
+                    break;
+                case PackedMethod.CALL:
+                    emit(CALL, p.dst(op), reg(p.a(op)));
+                    emitCallArgs(op);
+                    break;
+                case PackedMethod.PRINT:
+                    emit(PRINT, reg(p.a(op)));
+                    break;
+                case PackedMethod.STORE:
+                    emit(STORE, reg(p.a(op)), reg(p.b(op)));
+                    break;
+                case PackedMethod.SET:
+                    emit(SET, reg(p.a(op)), reg(p.b(op)), reg(p.c(op)));
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unexpected op in " + p.name() + ": " + p.opToString(op));
+            }
+            return op + 1;
+        }
+
+        // t1 = load(obj); t2 = getelt(t1, slot); d = call(t2, obj, ...)
+        private boolean isVtableCall(int op, int end) {
+            return op + 2 < end && p.kind(op) == PackedMethod.LOAD && PackedMethod.isValue(p.a(op))
+                    && p.kind(op + 1) == PackedMethod.GET && isValue(p.a(op + 1), p.dst(op))
+                    && p.kind(op + 2) == PackedMethod.CALL && isValue(p.a(op + 2), p.dst(op + 1))
+                    && p.b(op + 2) == p.a(op);
+        }
+
+        private static boolean isValue(int operand, int value) {
+            return PackedMethod.isValue(operand) && PackedMethod.value(operand) == value;
+        }
+
+        private void emitCallArgs(int op) {
+            emit(p.numExtra(op) + 1, reg(p.b(op)));
+            for (int i = 0; i < p.numExtra(op); i++)
+                emit(reg(p.callArg(op, i)));
+        }
+
+        private void emitTerminator(int blk, int op) {
+            switch (p.kind(op)) {
+                case PackedMethod.JUMP:
+                    emitPhiMoves(blk, p.a(op));
+                    emit(JUMP);
+                    jumpTo(p.a(op));
+                    break;
+                case PackedMethod.BRANCH:
+                    emit(BRANCH, reg(p.a(op)));
+                    branchTo(blk, p.b(op));
+                    branchTo(blk, p.c(op));
+                    break;
+                case PackedMethod.RET:
+                    emit(RET, reg(p.a(op)));
+                    break;
+                case PackedMethod.FAIL:
+                    emit(FAIL, p.failOpt(op).ordinal());
+                    break;
+                default:
+                    throw new IllegalArgumentException("Block " + p.blockName(blk) + " does not end in a jump");
+            }
+        }
+
+        private void jumpTo(int target) {
+            fixups.add(new int[] { len, target });
+            emit(-1);
+        }
+
+        private void branchTo(int from, int target) {
+            if (numPhis(target) == 0)
+                jumpTo(target);
+            else {
+                stubs.add(new int[] { len, from, target });
+                emit(-1);
+            }
+        }
+
+        private int numPhis(int blk) {
+            int n = 0;
+            for (int op = p.blockStart(blk); op < p.blockEnd(blk) && p.kind(op) == PackedMethod.PHI; op++)
+                n++;
+            return n;
+        }
+
+        // the phis of "to" as one parallel copy, sequenced so no source is overwritten before it is read
+        private void emitPhiMoves(int from, int to) {
+            int n = numPhis(to);
+            if (n == 0)
+                return;
+            emit(PHIS, n);
+            ArrayList<int[]> moves = new ArrayList<>(); // {dst, src}
+            for (int op = p.blockStart(to); op < p.blockStart(to) + n; op++) {
+                int src = -1;
+                for (int i = 0; i < p.numExtra(op); i++)
+                    if (p.phiBlock(op, i) == from)
+                        src = reg(p.phiValue(op, i));
+                if (src == -1)
+                    throw new IllegalArgumentException("Phi " + p.opToString(op) + " has no input from "
+                            + p.blockName(from));
+                if (src != p.dst(op))
+                    moves.add(new int[] { p.dst(op), src });
+            }
+            while (!moves.isEmpty()) {
+                int ready = -1;
+                for (int i = 0; i < moves.size() && ready == -1; i++) {
+                    ready = i;
+                    for (int[] m : moves)
+                        if (m[1] == moves.get(i)[0])
+                            ready = -1;
+                }
+                if (ready == -1) { // every destination is still to be read: save one and read the copy
+                    int[] m = moves.get(0);
+                    emit(MOV, scratch, m[0]);
+                    for (int[] other : moves)
+                        if (other[1] == m[0])
+                            other[1] = scratch;
+                    continue;
+                }
+                int[] m = moves.remove(ready);
+                emit(MOV, m[0], m[1]);
+            }
+        }
+
+        private void emit(int... words) {
+            if (len + words.length > code.length)
+                code = Arrays.copyOf(code, Math.max(code.length * 2, len + words.length));
+            for (int w : words)
+                code[len++] = w;
+        }
+    }
+}
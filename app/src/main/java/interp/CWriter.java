@@ -0,0 +1,375 @@
+package interp;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.TreeSet;
+
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+import cfg.PackedMethod;
+
+// compiles a program to portable C99, for cc -O2
+//
+// every function becomes a C function with its registers as int64_t locals, lowered the way the other
+// engines lower it (BytecodeMethod), so phis are already copies at the end of each predecessor and
+// jumps become gotos. memory is a word array with Heap's layout, starting from the global arrays -
+// the vtables - as a static initializer. calls through function values check the value and arity
+// against a table of the functions before calling, and failures print their message and exit(1)
+//
+// arithmetic wraps and shifts use the low 6 bits of the count, as on the JVM, so results match -run
+public final class CWriter {
+    private static final String PRELUDE = """
+            #include <inttypes.h>
+            #include <stdint.h>
+            #include <stdio.h>
+            #include <stdlib.h>
+            #include <string.h>
+
+            typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+            static int64_t *words;
+            static int64_t cap, top;
+
+            static void trap(const char *msg) {
+                printf("%s\\n", msg);
+                exit(1);
+            }
+
+            static int64_t word(int64_t addr) {
+                if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+                    printf("Bad memory access at %" PRId64 "\\n", addr);
+                    exit(1);
+                }
+                return addr / 8;
+            }
+
+            static inline int64_t load(int64_t addr) {
+                return words[word(addr)];
+            }
+
+            static inline void store(int64_t addr, int64_t val) {
+                words[word(addr)] = val;
+            }
+
+            static inline int64_t alloc(int64_t n) {
+                int64_t addr = top * 8;
+                if (n < 0 || top + n > INT32_MAX) {
+                    printf("Cannot allocate %" PRId64 " words\\n", n);
+                    exit(1);
+                }
+                if (top + n > cap) {
+                    int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+                    words = realloc(words, (size_t) grown * sizeof(int64_t));
+                    if (!words)
+                        trap("Out of memory");
+                    memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+                    cap = grown;
+                }
+                top += n;
+                return addr;
+            }
+
+            static inline void print(int64_t val) {
+                printf("%" PRId64 "\\n", val);
+            }
+
+            static inline int64_t add(int64_t a, int64_t b) {
+                return (int64_t) ((uint64_t) a + (uint64_t) b);
+            }
+
+            static inline int64_t sub(int64_t a, int64_t b) {
+                return (int64_t) ((uint64_t) a - (uint64_t) b);
+            }
+
+            static inline int64_t mul(int64_t a, int64_t b) {
+                return (int64_t) ((uint64_t) a * (uint64_t) b);
+            }
+
+            static inline int64_t div_(int64_t a, int64_t b) {
+                if (b == 0)
+                    trap("Division by zero");
+                return b == -1 ? sub(0, a) : a / b;
+            }
+
+            static inline int64_t shl(int64_t a, int64_t b) {
+                return (int64_t) ((uint64_t) a << (b & 63));
+            }
+
+            static inline int64_t shr(int64_t a, int64_t b) {
+                return a >> (b & 63);
+            }
+
+            static inline int64_t elem(int64_t base, int64_t i) {
+                return add(base, mul(i, 8));
+            }
+            """;
+
+    private final StringBuilder c = new StringBuilder();
+    private final BitSet read = new BitSet(), written = new BitSet(); // registers of the current function
+
+    private CWriter() {
+    }
+
+    public static void write(Writer out, DataBlock data, ArrayList<CFGClass> classes, CFGMethod main)
+            throws IOException {
+        Heap heap = new Heap(data, classes);
+        ArrayList<BytecodeMethod> functions = new ArrayList<>();
+        for (CFGMethod m : heap.functions())
+            functions.add(BytecodeMethod.compile(PackedMethod.pack(m), heap));
+        BytecodeMethod program = BytecodeMethod.compile(PackedMethod.pack(main), heap);
+
+        CWriter w = new CWriter();
+        w.c.append("/* generated C99 - build with cc -O2 */\n").append(PRELUDE).append('\n');
+        for (int id = 0; id < functions.size(); id++)
+            w.c.append("static int64_t f").append(id).append(params(functions.get(id).argRegs.length))
+                    .append(";\n");
+        w.functionTable(functions);
+        w.image(heap.image());
+        for (int id = 0; id < functions.size(); id++)
+            w.function(functions.get(id), "f" + id);
+        w.function(program, "program");
+        w.c.append("""
+
+                int main(void) {
+                    init();
+                    printf("Final result: Data { val: %" PRId64 " }\\n", program());
+                    return 0;
+                }
+                """);
+        out.write(w.c.toString());
+    }
+
+    private static String params(int nargs) {
+        if (nargs == 0)
+            return "(void)";
+        StringBuilder s = new StringBuilder("(");
+        for (int i = 0; i < nargs; i++)
+            s.append(i == 0 ? "" : ", ").append("int64_t a").append(i);
+        return s.append(')').toString();
+    }
+
+    // fns/arity by function id, and callee() to check a function value before calling it
+    private void functionTable(ArrayList<BytecodeMethod> functions) {
+        c.append("\n#define NUM_FNS ").append(functions.size()).append('\n');
+        c.append("static const fn_t fns[NUM_FNS + 1] = {");
+        for (int id = 0; id < functions.size(); id++)
+            c.append(" (fn_t) f").append(id).append(',');
+        c.append(" 0 };\nstatic const int arity[NUM_FNS + 1] = {");
+        for (BytecodeMethod m : functions)
+            c.append(' ').append(m.argRegs.length).append(',');
+        c.append(" 0 };\n");
+        c.append("""
+
+                static inline fn_t callee(int64_t fn, int nargs) {
+                    int64_t id = -(fn / 8) - 1;
+                    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+                        printf("Called %" PRId64 ", which is not a function\\n", fn);
+                        exit(1);
+                    }
+                    if (arity[id] != nargs) {
+                        printf("Function %" PRId64 " takes %d args, got %d\\n", fn, arity[id], nargs);
+                        exit(1);
+                    }
+                    return fns[id];
+                }
+                """);
+    }
+
+    // init() starts the heap from the words Heap laid out, null and the global arrays
+    private void image(long[] image) {
+        c.append("\nstatic const int64_t image[][2] = {");
+        int n = 0;
+        for (int i = 0; i < image.length; i++)
+            if (image[i] != 0) {
+                c.append(n++ % 4 == 0 ? "\n    " : " ").append('{').append(i).append(", ").append(literal(image[i]))
+                        .append("},");
+            }
+        if (n == 0)
+            c.append(" {0, 0}");
+        c.append("\n};\n\nstatic void init(void) {\n");
+        c.append("    size_t i;\n");
+        c.append("    cap = ").append(Math.max(1024, image.length)).append(";\n");
+        c.append("    top = ").append(image.length).append(";\n");
+        c.append("    words = calloc((size_t) cap, sizeof(int64_t));\n");
+        c.append("    if (!words)\n        trap(\"Out of memory\");\n");
+        c.append("    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)\n");
+        c.append("        words[image[i][0]] = image[i][1];\n}\n");
+    }
+
+    private void function(BytecodeMethod m, String name) {
+        int[] bc = m.code;
+        TreeSet<Integer> targets = new TreeSet<>();
+        for (int pc = 0; pc < bc.length; pc += m.length(pc)) {
+            if (bc[pc] == BytecodeMethod.JUMP || bc[pc] == BytecodeMethod.GOTO) {
+                if (bc[pc + 1] != pc + m.length(pc)) // a jump to the next instruction is left out
+                    targets.add(bc[pc + 1]);
+            } else if (bc[pc] == BytecodeMethod.BRANCH) {
+                targets.add(bc[pc + 2]);
+                targets.add(bc[pc + 3]);
+            }
+        }
+        c.append("\n/* ").append(m.name).append(" */\nstatic int64_t ").append(name)
+                .append(params(m.argRegs.length)).append(" {\n");
+        int declarations = c.length();
+        read.clear();
+        written.clear();
+        for (int i = 0; i < m.argRegs.length; i++)
+            assign(m, m.argRegs[i], "a" + i);
+        for (int pc = 0; pc < bc.length; pc += m.length(pc)) {
+            if (targets.contains(pc))
+                c.append("L").append(pc).append(":;\n");
+            instruction(m, pc);
+        }
+        c.append("}\n");
+        // every register used starts at 0, as in the template, so unassigned reads are defined. registers
+        // that are only written are voided, so the C compiler doesn't warn that they are set but not used
+        BitSet used = (BitSet) read.clone();
+        used.or(written);
+        StringBuilder regs = new StringBuilder(), unread = new StringBuilder();
+        int n = 0;
+        for (int reg = used.nextSetBit(0); reg >= 0; reg = used.nextSetBit(reg + 1), n++) {
+            String r = reg == m.scratch() ? "rs" : "r" + reg;
+            regs.append(n % 8 == 0 ? (n == 0 ? "    int64_t " : ",\n        ") : ", ").append(r).append(" = 0");
+            if (!read.get(reg))
+                unread.append("    (void) ").append(r).append(";\n");
+        }
+        if (n > 0)
+            c.insert(declarations, regs.append(";\n").append(unread));
+    }
+
+    private void instruction(BytecodeMethod m, int pc) {
+        int[] bc = m.code;
+        int op = bc[pc];
+        switch (op) {
+            case BytecodeMethod.MOV:
+                assign(m, bc[pc + 1], reg(m, bc[pc + 2]));
+                break;
+            case BytecodeMethod.ADD:
+            case BytecodeMethod.SUB:
+            case BytecodeMethod.MUL:
+            case BytecodeMethod.DIV:
+            case BytecodeMethod.SHL:
+            case BytecodeMethod.SHR:
+                String fn = switch (op) {
+                    case BytecodeMethod.ADD -> "add";
+                    case BytecodeMethod.SUB -> "sub";
+                    case BytecodeMethod.MUL -> "mul";
+                    case BytecodeMethod.DIV -> "div_";
+                    case BytecodeMethod.SHL -> "shl";
+                    default -> "shr";
+                };
+                assign(m, bc[pc + 1], fn + "(" + reg(m, bc[pc + 2]) + ", " + reg(m, bc[pc + 3]) + ")");
+                break;
+            case BytecodeMethod.EQ:
+            case BytecodeMethod.NE:
+            case BytecodeMethod.LT:
+            case BytecodeMethod.GT:
+            case BytecodeMethod.LE:
+            case BytecodeMethod.GE:
+                String cop = switch (op) {
+                    case BytecodeMethod.EQ -> " == ";
+                    case BytecodeMethod.NE -> " != ";
+                    case BytecodeMethod.LT -> " < ";
+                    case BytecodeMethod.GT -> " > ";
+                    case BytecodeMethod.LE -> " <= ";
+                    default -> " >= ";
+                };
+                if (bc[pc + 2] == bc[pc + 3]) // x < x and the like, which cc warns about
+                    assign(m, bc[pc + 1], op == BytecodeMethod.EQ || op == BytecodeMethod.LE
+                            || op == BytecodeMethod.GE ? "1" : "0");
+                else
+                    assign(m, bc[pc + 1], reg(m, bc[pc + 2]) + cop + reg(m, bc[pc + 3]));
+                break;
+            case BytecodeMethod.ALLOC:
+                assign(m, bc[pc + 1], "alloc(" + reg(m, bc[pc + 2]) + ")");
+                break;
+            case BytecodeMethod.LOAD:
+                assign(m, bc[pc + 1], "load(" + reg(m, bc[pc + 2]) + ")");
+                break;
+            case BytecodeMethod.GET:
+                assign(m, bc[pc + 1], "load(elem(" + reg(m, bc[pc + 2]) + ", " + reg(m, bc[pc + 3]) + "))");
+                break;
+            case BytecodeMethod.CALL:
+                assign(m, bc[pc + 1], call(m, reg(m, bc[pc + 2]), pc + 3));
+                break;
+            case BytecodeMethod.PRINT:
+                c.append("    print(").append(reg(m, bc[pc + 1])).append(");\n");
+                break;
+            case BytecodeMethod.STORE:
+                c.append("    store(").append(reg(m, bc[pc + 1])).append(", ").append(reg(m, bc[pc + 2]))
+                        .append(");\n");
+                break;
+            case BytecodeMethod.SET:
+                c.append("    store(elem(").append(reg(m, bc[pc + 1])).append(", ").append(reg(m, bc[pc + 2]))
+                        .append("), ").append(reg(m, bc[pc + 3])).append(");\n");
+                break;
+            case BytecodeMethod.JUMP:
+            case BytecodeMethod.GOTO:
+                if (bc[pc + 1] != pc + m.length(pc))
+                    c.append("    goto L").append(bc[pc + 1]).append(";\n");
+                break;
+            case BytecodeMethod.BRANCH:
+                c.append("    if (").append(reg(m, bc[pc + 1])).append(") goto L").append(bc[pc + 2])
+                        .append("; else goto L").append(bc[pc + 3]).append(";\n");
+                break;
+            case BytecodeMethod.RET:
+                c.append("    return ").append(reg(m, bc[pc + 1])).append(";\n");
+                break;
+            case BytecodeMethod.FAIL:
+                c.append("    trap(\"Program failed: ").append(BytecodeEngine.failOpts[bc[pc + 1]]).append("\");\n");
+                c.append("    return 0;\n");
+                break;
+            case BytecodeMethod.PHIS:
+                break;
+            case BytecodeMethod.ADD_LOAD:
+                assign(m, bc[pc + 2], "add(" + reg(m, bc[pc + 3]) + ", " + reg(m, bc[pc + 4]) + ")");
+                assign(m, bc[pc + 1], "load(" + reg(m, bc[pc + 2]) + ")");
+                break;
+            case BytecodeMethod.VCALL:
+                assign(m, bc[pc + 2], "load(" + reg(m, bc[pc + 4]) + ")");
+                assign(m, bc[pc + 3], "load(elem(" + reg(m, bc[pc + 2]) + ", " + reg(m, bc[pc + 5]) + "))");
+                assign(m, bc[pc + 1], call(m, reg(m, bc[pc + 3]), pc + 6));
+                break;
+            default:
+                throw new IllegalStateException("Bad bytecode " + op + " at " + pc + " in " + m.name);
+        }
+    }
+
+    // ((int64_t (*)(int64_t, ...)) callee(fn, nargs))(args...), for the nargs args at code[at+1..]
+    private String call(BytecodeMethod m, String fn, int at) {
+        int nargs = m.code[at];
+        StringBuilder type = new StringBuilder(), args = new StringBuilder();
+        for (int i = 0; i < nargs; i++) {
+            type.append(i == 0 ? "" : ", ").append("int64_t");
+            args.append(i == 0 ? "" : ", ").append(reg(m, m.code[at + 1 + i]));
+        }
+        return "((int64_t (*)(" + (nargs == 0 ? "void" : type) + ")) callee(" + fn + ", " + nargs + "))(" + args
+                + ")";
+    }
+
+    private void assign(BytecodeMethod m, int dst, String expr) {
+        written.set(dst);
+        c.append("    ").append(dst == m.scratch() ? "rs" : "r" + dst).append(" = ").append(expr).append(";\n");
+    }
+
+    // value registers are locals, the rest are the constants in the template
+    private String reg(BytecodeMethod m, int r) {
+        if (r == m.scratch() || r < m.numValues)
+            read.set(r);
+        if (r == m.scratch())
+            return "rs";
+        if (r < m.numValues)
+            return "r" + r;
+        return literal(m.template[r]);
+    }
+
+    private static String literal(long v) {
+        if (v == Long.MIN_VALUE)
+            return "INT64_MIN";
+        String s = v == (int) v ? Long.toString(v) : "INT64_C(" + v + ")";
+        return v < 0 ? "(" + s + ")" : s;
+    }
+}
@@ -0,0 +1,189 @@
+package interp;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+
+// a minimal class file writer for the backends that emit JVM code (JitCompiler, JarWriter)
+//
+// classes are version 49, the last one before stack map frames, so the verifier infers the types of
+// locals and stack slots itself and code can be emitted in one pass with backpatched branches
+final class ClassFile implements JvmOps {
+    static final int MAX_CODE = 65535;
+
+    private final Code pool = new Code();
+    private final HashMap<String, Integer> entries = new HashMap<>();
+    private int nextEntry = 1;
+    private final Code methods = new Code();
+    private int numMethods;
+    private final int thisClass, superClass;
+    private final int[] interfaces;
+
+    ClassFile(String name, String superName, String... interfaceNames) {
+        thisClass = classRef(name);
+        superClass = classRef(superName);
+        interfaces = new int[interfaceNames.length];
+        for (int i = 0; i < interfaces.length; i++)
+            interfaces[i] = classRef(interfaceNames[i]);
+    }
+
+    void method(int access, String name, String desc, int maxStack, int maxLocals, Code body) {
+        if (body.size() > MAX_CODE)
+            throw new IllegalArgumentException("Method " + name + " is too big for the JVM");
+        methods.u2(access);
+        methods.u2(utf8(name));
+        methods.u2(utf8(desc));
+        methods.u2(1);
+        methods.u2(utf8("Code"));
+        methods.u4(12 + body.size());
+        methods.u2(maxStack);
+        methods.u2(maxLocals);
+        methods.u4(body.size());
+        body.writeTo(methods);
+        methods.u2(0); // exception table
+        methods.u2(0); // attributes
+        numMethods++;
+    }
+
+    // public no-arg constructor
+    void constructor(String superName) {
+        Code body = new Code();
+        body.u1(ALOAD_0);
+        body.u1(INVOKESPECIAL);
+        body.u2(methodRef(superName, "<init>", "()V"));
+        body.u1(RETURN);
+        method(ACC_PUBLIC, "<init>", "()V", 1, 1, body);
+    }
+
+    byte[] toByteArray() {
+        Code out = new Code();
+        out.u4(0xCAFEBABE);
+        out.u2(0);
+        out.u2(49);
+        out.u2(nextEntry);
+        pool.writeTo(out);
+        out.u2(ACC_PUBLIC | ACC_FINAL | ACC_SUPER);
+        out.u2(thisClass);
+        out.u2(superClass);
+        out.u2(interfaces.length);
+        for (int i : interfaces)
+            out.u2(i);
+        out.u2(0); // fields
+        out.u2(numMethods);
+        methods.writeTo(out);
+        out.u2(0); // attributes
+        return out.toByteArray();
+    }
+
+    // constant pool entries, shared between identical constants
+
+    int utf8(String s) {
+        Integer index = entries.get("U" + s);
+        if (index != null)
+            return index;
+        byte[] b = s.getBytes(StandardCharsets.UTF_8);
+        pool.u1(1);
+        pool.u2(b.length);
+        pool.write(b, 0, b.length);
+        return add("U" + s, 1);
+    }
+
+    int classRef(String name) {
+        return ref("C" + name, 7, utf8(name), -1);
+    }
+
+    int string(String s) {
+        return ref("S" + s, 8, utf8(s), -1);
+    }
+
+    int intConst(int v) {
+        Integer index = entries.get("I" + v);
+        if (index != null)
+            return index;
+        pool.u1(3);
+        pool.u4(v);
+        return add("I" + v, 1);
+    }
+
+    int longConst(long v) {
+        Integer index = entries.get("J" + v);
+        if (index != null)
+            return index;
+        pool.u1(5);
+        pool.u4((int) (v >>> 32));
+        pool.u4((int) v);
+        return add("J" + v, 2); // longs take two slots
+    }
+
+    int fieldRef(String owner, String name, String desc) {
+        return ref("F" + owner + "." + name + ":" + desc, 9, classRef(owner), nameAndType(name, desc));
+    }
+
+    int methodRef(String owner, String name, String desc) {
+        return ref("M" + owner + "." + name + ":" + desc, 10, classRef(owner), nameAndType(name, desc));
+    }
+
+    private int nameAndType(String name, String desc) {
+        return ref("N" + name + ":" + desc, 12, utf8(name), utf8(desc));
+    }
+
+    // an entry made of one or two other entries
+    private int ref(String key, int tag, int a, int b) {
+        Integer index = entries.get(key);
+        if (index != null)
+            return index;
+        pool.u1(tag);
+        pool.u2(a);
+        if (b >= 0)
+            pool.u2(b);
+        return add(key, 1);
+    }
+
+    private int add(String key, int slots) {
+        int index = nextEntry;
+        nextEntry += slots;
+        entries.put(key, index);
+        return index;
+    }
+
+    // big-endian byte buffer
+    static final class Code extends ByteArrayOutputStream {
+        void u1(int v) {
+            write(v);
+        }
+
+        void u2(int v) {
+            write(v >>> 8);
+            write(v);
+        }
+
+        void u4(int v) {
+            u2(v >>> 16);
+            u2(v);
+        }
+
+        void patch16(int at, int v) {
+            if (v < Short.MIN_VALUE || v > Short.MAX_VALUE)
+                throw new IllegalStateException("Branch offset out of range");
+            buf[at] = (byte) (v >>> 8);
+            buf[at + 1] = (byte) v;
+        }
+
+        void patch32(int at, int v) {
+            buf[at] = (byte) (v >>> 24);
+            buf[at + 1] = (byte) (v >>> 16);
+            buf[at + 2] = (byte) (v >>> 8);
+            buf[at + 3] = (byte) v;
+        }
+
+        // pad with zeros to a multiple of 4, as the switch instructions need
+        void align() {
+            while (count % 4 != 0)
+                write(0);
+        }
+
+        void writeTo(Code out) {
+            out.write(buf, 0, count);
+        }
+    }
+}
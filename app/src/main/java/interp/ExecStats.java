@@ -0,0 +1,25 @@
+package interp;
+
+// dynamic op counts from a run, printed in the same form as ir441's "Execution stats"
+public class ExecStats {
+    public long fastAluOps; // add, sub, and, shifts, comparisons, and the address add of getelt/setelt
+    public long slowAluOps; // mul, div, and the index scale of getelt/setelt
+    public long conditionalBranches;
+    public long unconditionalBranches;
+    public long calls;
+    public long rets;
+    public long memReads; // load, getelt
+    public long memWrites; // store, setelt
+    public long allocs;
+    public long prints;
+    public long phis; // one per phi evaluated on block entry
+
+    @Override
+    public String toString() {
+        return "ExecStats { fast_alu_ops: " + fastAluOps + ", slow_alu_ops: " + slowAluOps
+                + ", conditional_branches: " + conditionalBranches + ", unconditional_branches: "
+                + unconditionalBranches + ", calls: " + calls + ", rets: " + rets + ", mem_reads: " + memReads
+                + ", mem_writes: " + memWrites + ", allocs: " + allocs + ", prints: " + prints + ", phis: " + phis
+                + " }";
+    }
+}
@@ -0,0 +1,10 @@
+package interp;
+
+// a way of running a compiled program in-process
+public interface ExecutionEngine {
+    // runs main and returns its result - a fail op throws IllegalStateException
+    long run();
+
+    // counts so far, also valid after a fail
+    ExecStats stats();
+}
@@ -0,0 +1,100 @@
+package interp;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+import cfg.expr.data.CFGArray;
+
+// memory model shared by the engines
+//
+// memory is one array of 8-byte words; pointers are byte addresses, so they stay 8-aligned and never
+// look like tagged numbers. address 0 is null and the global arrays sit at the bottom of the heap.
+// vtable entries hold function values, which are negative so they can never alias a heap address
+class Heap {
+    static final int WORD = 8;
+
+    private long[] words = new long[1024];
+    private int top = 1; // in words, word 0 is null
+    private final ArrayList<CFGMethod> functions = new ArrayList<>(); // every class method, in class order
+    private final HashMap<String, Integer> functionIds = new HashMap<>();
+    private final HashMap<String, Long> globals = new HashMap<>(); // global array name -> address
+
+    Heap(DataBlock data, ArrayList<CFGClass> classes) {
+        for (CFGClass c : classes)
+            for (CFGMethod m : c.methods()) {
+                functionIds.put(m.name(), functions.size());
+                functions.add(m);
+            }
+        for (CFGArray arr : data.data())
+            globals.put(arr.name(), alloc(arr.size()));
+        for (CFGArray arr : data.data()) {
+            long addr = globals.get(arr.name());
+            for (int i = 0; i < arr.size(); i++)
+                store(addr + (long) i * WORD, dataValue(arr.elems()[i].toString()));
+        }
+    }
+
+    // vtable entries are method names, or numbers (0 for a missing method)
+    private long dataValue(String elem) {
+        Integer id = functionIds.get(elem);
+        if (id != null)
+            return -WORD * (id + 1L);
+        try {
+            return Long.parseLong(elem);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Unknown global array element " + elem);
+        }
+    }
+
+    long global(String name) {
+        Long addr = globals.get(name);
+        if (addr == null)
+            throw new IllegalArgumentException("Unknown global array @" + name);
+        return addr;
+    }
+
+    ArrayList<CFGMethod> functions() {
+        return functions;
+    }
+
+    // index into functions() of a function value
+    int functionId(long value) {
+        long id = -value / WORD - 1;
+        if (value >= 0 || value % WORD != 0 || id >= functions.size())
+            throw new IllegalStateException("Called " + value + ", which is not a function");
+        return (int) id;
+    }
+
+    // the words in use, from null up
+    long[] image() {
+        return Arrays.copyOf(words, top);
+    }
+
+    long alloc(long n) {
+        if (n < 0 || top + n > Integer.MAX_VALUE)
+            throw new IllegalStateException("Cannot allocate " + n + " words");
+        if (top + n > words.length)
+            words = Arrays.copyOf(words, (int) Math.max(words.length * 2L, top + n));
+        long addr = (long) top * WORD;
+        top = (int) (top + n);
+        return addr;
+    }
+
+    long load(long addr) {
+        return words[index(addr)];
+    }
+
+    void store(long addr, long val) {
+        words[index(addr)] = val;
+    }
+
+    private int index(long addr) {
+        if (addr <= 0 || addr % WORD != 0 || addr / WORD >= top)
+            throw new IllegalStateException("Bad memory access at " + addr);
+        return (int) (addr / WORD);
+    }
+}
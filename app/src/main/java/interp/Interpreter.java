@@ -0,0 +1,239 @@
+package interp;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import cfg.BasicBlock;
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+import cfg.Profile;
+import cfg.expr.*;
+import cfg.expr.data.*;
+import cfg.jump.*;
+import cfg.op.*;
+import util.Opcode;
+
+// runs a compiled program by walking its CFGMethods, counting ops the way ir441 does
+public class Interpreter implements ExecutionEngine {
+    private final PrintStream out;
+    private final ExecStats stats = new ExecStats();
+    private final Heap heap;
+    private final IdentityHashMap<CFGMethod, Frame> frames = new IdentityHashMap<>();
+    private final CFGMethod main;
+    private boolean profiling;
+    // {runs, taken, not taken} per block and calls per target per call site, while profiling
+    private final IdentityHashMap<BasicBlock, long[]> blockCounts = new IdentityHashMap<>();
+    private final IdentityHashMap<CFGCall, IdentityHashMap<CFGMethod, long[]>> callCounts = new IdentityHashMap<>();
+
+    public Interpreter(DataBlock data, ArrayList<CFGClass> classes, CFGMethod main, PrintStream out) {
+        this.main = main;
+        this.out = out;
+        this.heap = new Heap(data, classes);
+    }
+
+    @Override
+    public ExecStats stats() {
+        return stats;
+    }
+
+    // count blocks, branches and call targets as the program runs, for profile()
+    public void recordProfile() {
+        profiling = true;
+    }
+
+    // the counts so far, by method name and block identifier
+    public Profile profile() {
+        Profile p = new Profile();
+        ArrayList<CFGMethod> methods = new ArrayList<>(heap.functions());
+        methods.add(main);
+        for (CFGMethod m : methods)
+            for (BasicBlock b : m.blocks()) {
+                long[] counts = blockCounts.get(b);
+                if (counts == null)
+                    continue;
+                p.addBlock(m.name(), b.getIdentifier(), counts[0]);
+                if (b.getJmp() instanceof CFGCondOp)
+                    p.addBranch(m.name(), b.getIdentifier(), counts[1], counts[2]);
+                for (int i = 0; i < b.getOps().size(); i++)
+                    if (b.getOps().get(i) instanceof CFGAssn a && a.expr() instanceof CFGCall c
+                            && callCounts.containsKey(c))
+                        for (Map.Entry<CFGMethod, long[]> target : callCounts.get(c).entrySet())
+                            p.addCall(m.name(), b.getIdentifier(), i, target.getKey().name(), target.getValue()[0]);
+            }
+        return p;
+    }
+
+    @Override
+    public long run() {
+        return call(main, new long[0]);
+    }
+
+    private long call(CFGMethod m, long[] args) {
+        Frame f = frames.computeIfAbsent(m, Frame::new);
+        if (args.length != m.args().length)
+            throw new IllegalStateException(m.name() + " takes " + m.args().length + " args, got " + args.length);
+        long[] regs = new long[f.numSlots];
+        for (int i = 0; i < args.length; i++)
+            regs[f.slots.get(m.args()[i])] = args[i];
+        BasicBlock prev = null, b = m.blocks().get(0);
+        while (true) {
+            if (!b.getPhis().isEmpty())
+                runPhis(f, regs, b, prev);
+            for (CFGOp o : b.getOps())
+                runOp(f, regs, o);
+            prev = b;
+            long[] counts = profiling ? blockCounts.computeIfAbsent(b, k -> new long[3]) : null;
+            if (counts != null)
+                counts[0]++;
+            switch (b.getJmp()) {
+                case CFGAutoJumpOp j:
+                    stats.unconditionalBranches++;
+                    b = j.target();
+                    break;
+                case CFGCondOp j:
+                    stats.conditionalBranches++;
+                    boolean taken = eval(f, regs, j.cond()) != 0;
+                    if (counts != null)
+                        counts[taken ? 1 : 2]++;
+                    b = taken ? j.yes() : j.no();
+                    break;
+                case CFGRetOp j:
+                    stats.rets++;
+                    return eval(f, regs, j.val());
+                case CFGFail j:
+                    throw new IllegalStateException("Program failed: " + j.fail());
+                default:
+                    throw new IllegalStateException("Unknown jump " + b.getJmp());
+            }
+        }
+    }
+
+    // phis read their inputs before any of them is written
+    private void runPhis(Frame f, long[] regs, BasicBlock b, BasicBlock pred) {
+        ArrayList<CFGAssn> phis = b.getPhis();
+        long[] vals = new long[phis.size()];
+        for (int i = 0; i < vals.length; i++) {
+            CFGPhi phi = (CFGPhi) phis.get(i).expr();
+            int from = phi.blocks().indexOf(pred);
+            if (from == -1)
+                throw new IllegalStateException("No phi input for " + b.getIdentifier() + " from "
+                        + (pred == null ? "method entry" : pred.getIdentifier()));
+            vals[i] = eval(f, regs, phi.varVersions().get(from));
+        }
+        for (int i = 0; i < vals.length; i++)
+            regs[f.slots.get(phis.get(i).var())] = vals[i];
+        stats.phis += vals.length;
+    }
+
+    private void runOp(Frame f, long[] regs, CFGOp o) {
+        switch (o) {
+            case CFGAssn a:
+                regs[f.slots.get(a.var())] = evalExpr(f, regs, a.expr());
+                break;
+            case CFGPrint p:
+                stats.prints++;
+                out.println(eval(f, regs, p.val()));
+                break;
+            case CFGStore s:
+                stats.memWrites++;
+                heap.store(eval(f, regs, s.base()), eval(f, regs, s.index()));
+                break;
+            case CFGSet s:
+                stats.memWrites++;
+                heap.store(element(eval(f, regs, s.addr()), eval(f, regs, s.index())), eval(f, regs, s.val()));
+                break;
+        }
+    }
+
+    private long evalExpr(Frame f, long[] regs, CFGExpr e) {
+        switch (e) {
+            case CFGBinOp b:
+                if (b.op() == Opcode.MUL || b.op() == Opcode.DIV)
+                    stats.slowAluOps++;
+                else
+                    stats.fastAluOps++;
+                long lhs = eval(f, regs, b.lhs()), rhs = eval(f, regs, b.rhs());
+                if (b.op() == Opcode.DIV && rhs == 0)
+                    throw new IllegalStateException("Division by zero");
+                return b.op().eval(lhs, rhs);
+            case CFGAlloc a:
+                stats.allocs++;
+                return heap.alloc(a.size().value());
+            case CFGLoad l:
+                stats.memReads++;
+                return heap.load(eval(f, regs, l.base()));
+            case CFGGet g:
+                stats.memReads++;
+                return heap.load(element(eval(f, regs, g.arr()), eval(f, regs, g.val())));
+            case CFGCall c:
+                stats.calls++;
+                long[] args = new long[c.args().length + 1];
+                args[0] = eval(f, regs, c.receiver());
+                for (int i = 0; i < c.args().length; i++)
+                    args[i + 1] = eval(f, regs, c.args()[i]);
+                CFGMethod callee = heap.functions().get(heap.functionId(eval(f, regs, c.addr())));
+                if (profiling)
+                    callCounts.computeIfAbsent(c, k -> new IdentityHashMap<>())
+                            .computeIfAbsent(callee, k -> new long[1])[0]++;
+                return call(callee, args);
+            case CFGData d:
+                return eval(f, regs, d);
+            default:
+                throw new IllegalStateException("Cannot evaluate " + e);
+        }
+    }
+
+    // getelt/setelt scale the index and add it to the base: one slow and one fast ALU op
+    private long element(long base, long i) {
+        stats.slowAluOps++;
+        stats.fastAluOps++;
+        return base + i * Heap.WORD;
+    }
+
+    private long eval(Frame f, long[] regs, CFGData d) {
+        switch (d) {
+            case CFGPrimitive p:
+                return p.value();
+            case CFGVar v:
+                return regs[f.slots.get(v)];
+            case CFGArray arr:
+                return heap.global(arr.name());
+            default:
+                throw new IllegalStateException("Cannot evaluate " + d);
+        }
+    }
+
+    // register slots for a method - variables that print the same share a slot, since CFGVar
+    // compares by name and version but does not hash that way
+    private static class Frame {
+        final IdentityHashMap<CFGVar, Integer> slots = new IdentityHashMap<>();
+        int numSlots;
+
+        Frame(CFGMethod m) {
+            HashMap<String, Integer> byName = new HashMap<>();
+            Consumer<CFGData> slot = d -> {
+                if (d instanceof CFGVar v && !slots.containsKey(v))
+                    slots.put(v, byName.computeIfAbsent(v.toString(), k -> numSlots++));
+            };
+            for (CFGVar a : m.args())
+                slot.accept(a);
+            for (BasicBlock b : m.blocks()) {
+                for (CFGAssn phi : b.getPhis()) {
+                    slot.accept(phi.var());
+                    phi.forEachOperand(slot);
+                }
+                for (CFGOp o : b.getOps()) {
+                    if (o instanceof CFGAssn a)
+                        slot.accept(a.var());
+                    o.forEachOperand(slot);
+                }
+                b.getJmp().forEachOperand(slot);
+            }
+        }
+    }
+}
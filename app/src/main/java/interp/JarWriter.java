@@ -0,0 +1,148 @@
+package interp;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.jar.Attributes;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.jar.Manifest;
+
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+import cfg.PackedMethod;
+
+// compiles a program ahead of time into a runnable jar, for java -jar
+//
+// every function becomes a static method of one class, Program, lowered the way the JIT lowers it
+// (BytecodeMethod, then JitCompiler), so phis become moves between locals. indirect calls go through a
+// tableswitch on the function id, one dispatcher per arity. memory has Heap's layout, and main passes
+// the initial image - the global arrays - to AotRuntime, which is copied into the jar
+public final class JarWriter implements JvmOps {
+    private static final String PROGRAM = "Program", RUNTIME = "interp/AotRuntime";
+
+    private JarWriter() {
+    }
+
+    public static void write(OutputStream out, DataBlock data, ArrayList<CFGClass> classes, CFGMethod main)
+            throws IOException {
+        Heap heap = new Heap(data, classes);
+        ClassFile cf = new ClassFile(PROGRAM, "java/lang/Object", "java/util/function/LongSupplier");
+        BitSet arities = new BitSet();
+        int[] nargs = new int[heap.functions().size()];
+        for (int id = 0; id < nargs.length; id++) {
+            BytecodeMethod m = BytecodeMethod.compile(PackedMethod.pack(heap.functions().get(id)), heap);
+            nargs[id] = m.argRegs.length;
+            JitCompiler.compileStatic(m, cf, PROGRAM, "f" + id, arities);
+        }
+        JitCompiler.compileStatic(BytecodeMethod.compile(PackedMethod.pack(main), heap), cf, PROGRAM, "program",
+                arities);
+        for (int n = arities.nextSetBit(0); n >= 0; n = arities.nextSetBit(n + 1))
+            dispatcher(cf, n, nargs);
+        cf.constructor("java/lang/Object");
+
+        ClassFile.Code getAsLong = new ClassFile.Code();
+        getAsLong.u1(INVOKESTATIC);
+        getAsLong.u2(cf.methodRef(PROGRAM, "program", "()J"));
+        getAsLong.u1(LRETURN);
+        cf.method(ACC_PUBLIC, "getAsLong", "()J", 2, 1, getAsLong);
+        cf.method(ACC_PUBLIC | ACC_STATIC, "main", "([Ljava/lang/String;)V", 6, 1, mainMethod(cf, heap.image()));
+
+        Manifest manifest = new Manifest();
+        manifest.getMainAttributes().put(Attributes.Name.MANIFEST_VERSION, "1.0");
+        manifest.getMainAttributes().put(Attributes.Name.MAIN_CLASS, PROGRAM);
+        try (JarOutputStream jar = new JarOutputStream(out, manifest)) {
+            jar.putNextEntry(new JarEntry(PROGRAM + ".class"));
+            jar.write(cf.toByteArray());
+            jar.closeEntry();
+            jar.putNextEntry(new JarEntry(RUNTIME + ".class"));
+            try (InputStream in = AotRuntime.class.getResourceAsStream("AotRuntime.class")) {
+                if (in == null)
+                    throw new IOException("Cannot find the AotRuntime class file to copy into the jar");
+                in.transferTo(jar);
+            }
+            jar.closeEntry();
+        }
+    }
+
+    // call<n>(fn, args...): the function fn with n args
+    private static void dispatcher(ClassFile cf, int n, int[] nargs) {
+        ClassFile.Code code = new ClassFile.Code();
+        lload(code, 0);
+        code.u1(INVOKESTATIC);
+        code.u2(cf.methodRef(RUNTIME, "functionId", "(J)I"));
+        int switchAt = code.size();
+        code.u1(TABLESWITCH);
+        code.align();
+        int defaultAt = code.size();
+        code.u4(0);
+        code.u4(0);
+        code.u4(nargs.length - 1);
+        int tableAt = code.size();
+        for (int id = 0; id < nargs.length; id++)
+            code.u4(0);
+        for (int id = 0; id < nargs.length; id++) {
+            if (nargs[id] != n)
+                continue;
+            code.patch32(tableAt + 4 * id, code.size() - switchAt);
+            for (int i = 0; i < n; i++)
+                lload(code, 2 + 2 * i);
+            code.u1(INVOKESTATIC);
+            code.u2(cf.methodRef(PROGRAM, "f" + id, JitCompiler.descriptor(n)));
+            code.u1(LRETURN);
+        }
+        int fail = code.size() - switchAt;
+        code.patch32(defaultAt, fail);
+        for (int id = 0; id < nargs.length; id++)
+            if (nargs[id] != n)
+                code.patch32(tableAt + 4 * id, fail);
+        lload(code, 0);
+        JitCompiler.pushInt(code, cf, n);
+        code.u1(INVOKESTATIC);
+        code.u2(cf.methodRef(RUNTIME, "badCall", "(JI)Ljava/lang/IllegalStateException;"));
+        code.u1(ATHROW);
+        cf.method(ACC_PUBLIC | ACC_STATIC, "call" + n, "(J" + JitCompiler.descriptor(n).substring(1),
+                Math.max(2 * n, 4), 2 + 2 * n, code);
+    }
+
+    // AotRuntime.init(image); AotRuntime.run(new Program())
+    private static ClassFile.Code mainMethod(ClassFile cf, long[] image) {
+        ClassFile.Code code = new ClassFile.Code();
+        JitCompiler.pushInt(code, cf, image.length);
+        code.u1(NEWARRAY);
+        code.u1(T_LONG);
+        for (int i = 0; i < image.length; i++) {
+            if (image[i] == 0)
+                continue;
+            code.u1(DUP);
+            JitCompiler.pushInt(code, cf, i);
+            JitCompiler.pushLong(code, cf, image[i]);
+            code.u1(LASTORE);
+        }
+        code.u1(INVOKESTATIC);
+        code.u2(cf.methodRef(RUNTIME, "init", "([J)V"));
+        code.u1(NEW);
+        code.u2(cf.classRef(PROGRAM));
+        code.u1(DUP);
+        code.u1(INVOKESPECIAL);
+        code.u2(cf.methodRef(PROGRAM, "<init>", "()V"));
+        code.u1(INVOKESTATIC);
+        code.u2(cf.methodRef(RUNTIME, "run", "(Ljava/util/function/LongSupplier;)V"));
+        code.u1(RETURN);
+        return code;
+    }
+
+    private static void lload(ClassFile.Code code, int index) {
+        if (index > 255) {
+            code.u1(WIDE);
+            code.u1(LLOAD);
+            code.u2(index);
+        } else {
+            code.u1(LLOAD);
+            code.u1(index);
+        }
+    }
+}
@@ -0,0 +1,494 @@
+package interp;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.HashMap;
+import java.util.TreeSet;
+
+// translates a BytecodeMethod into JVM code, either as the JitMethod of a hidden class for TieredEngine,
+// or as a static method of a compiled program for JarWriter
+//
+// value registers become long locals and constant registers become ldc2_w. heap access, prints, division
+// and failures go through TieredEngine's package-private methods, or AotRuntime's static ones
+//
+// jitted code counts ExecStats like exec: heap ops count themselves in the runtime helpers, and ALU,
+// branch and phi counts are added up statically and written back before calls, jumps and jump targets,
+// so a trap can lose the ALU ops just before it. invoke(rt, regs, pc) loads every value register from
+// regs and starts at pc - 0 for a call, a loop head for on-stack replacement
+//
+// compiled programs count nothing. their methods take the args as longs and start at pc 0, and indirect
+// calls go through the program's static call<nargs>(fn, args...) dispatchers
+final class JitCompiler implements JvmOps {
+    private static final String ENGINE = "interp/TieredEngine", STATS = "interp/ExecStats",
+            AOT_RUNTIME = "interp/AotRuntime";
+    private static final int MAX_JIT_CODE = 32767; // 16-bit branch offsets
+
+    private static final String[] COUNTERS = { "fastAluOps", "slowAluOps", "phis", "conditionalBranches",
+            "unconditionalBranches", "rets" };
+    private static final int FAST = 0, SLOW = 1, PHIS = 2, COND = 3, UNCOND = 4, RETS = 5;
+
+    private final BytecodeMethod m;
+    private final int[] bc;
+    private final ClassFile cf;
+    private final String program; // the class of a compiled program, null when jitting
+    private final BitSet arities; // nargs of the calls a compiled program makes
+    private final ClassFile.Code code = new ClassFile.Code();
+    private final long[] pending = new long[COUNTERS.length];
+    private final HashMap<Integer, Integer> labels = new HashMap<>(); // bytecode pc -> JVM code offset
+    private final ArrayList<int[]> fixups = new ArrayList<>(); // {offset of branch op, offset of operand, pc}
+    private final TreeSet<Integer> targets = new TreeSet<>(); // pcs that can be jumped to
+
+    private JitCompiler(BytecodeMethod m, ClassFile cf, String program, BitSet arities) {
+        this.m = m;
+        this.bc = m.code;
+        this.cf = cf;
+        this.program = program;
+        this.arities = arities;
+    }
+
+    // null if the method is too big to jit
+    static JitMethod compile(BytecodeMethod m) {
+        ClassFile cf = new ClassFile("interp/JitCode", "java/lang/Object", "interp/JitMethod");
+        JitCompiler c = new JitCompiler(m, cf, null, null);
+        c.emitBody();
+        if (c.code.size() > MAX_JIT_CODE)
+            return null;
+        c.patchJumps();
+        cf.constructor("java/lang/Object");
+        cf.method(ACC_PUBLIC, "invoke", "(L" + ENGINE + ";[JI)J", 16, c.local(m.scratch()) + 2, c.code);
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.lookup().defineHiddenClass(cf.toByteArray(), true);
+            return (JitMethod) lookup.findConstructor(lookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+        } catch (Throwable e) {
+            throw new IllegalStateException("Could not load compiled code for " + m.name, e);
+        }
+    }
+
+    // add m to cf as static method name(J...)J of the program class, noting the call arities it uses
+    static void compileStatic(BytecodeMethod m, ClassFile cf, String program, String name, BitSet arities) {
+        JitCompiler c = new JitCompiler(m, cf, program, arities);
+        c.emitBody();
+        if (c.code.size() > MAX_JIT_CODE)
+            throw new IllegalArgumentException("Method " + m.name + " is too big to compile");
+        c.patchJumps();
+        cf.method(ACC_PUBLIC | ACC_STATIC, name, descriptor(m.argRegs.length), 16, c.local(m.scratch()) + 2,
+                c.code);
+    }
+
+    // (J...)J with nargs longs
+    static String descriptor(int nargs) {
+        return "(" + "J".repeat(nargs) + ")J";
+    }
+
+    // locals: this, rt, regs, pc when jitting, the args of a compiled program's method, then two slots per
+    // value register and the scratch register
+    private int local(int reg) {
+        int base = program == null ? 4 : 2 * m.argRegs.length;
+        return base + 2 * (reg == m.scratch() ? m.numValues : reg);
+    }
+
+    private void emitBody() {
+        for (int pc = 0; pc < bc.length; pc += m.length(pc)) {
+            switch (bc[pc]) {
+                case BytecodeMethod.JUMP:
+                case BytecodeMethod.GOTO:
+                    targets.add(bc[pc + 1]);
+                    break;
+                case BytecodeMethod.BRANCH:
+                    targets.add(bc[pc + 2]);
+                    targets.add(bc[pc + 3]);
+                    break;
+                default:
+                    break;
+            }
+        }
+        int switchAt = program == null ? emitJitEntry() : emitStaticEntry();
+
+        for (int pc = 0; pc < bc.length; pc += m.length(pc)) {
+            if (pc == 0 || targets.contains(pc)) {
+                flush();
+                labels.put(pc, code.size());
+            }
+            emitInstruction(pc);
+        }
+        if (program == null) {
+            int at = switchAt + 1;
+            at += (4 - at % 4) % 4;
+            code.patch32(at, labels.get(0) - switchAt);
+            at += 8;
+            for (int pc : targets) {
+                code.patch32(at + 4, labels.get(pc) - switchAt);
+                at += 8;
+            }
+        }
+    }
+
+    // load the registers from regs and switch on pc to the entry point - returns the switch's offset
+    private int emitJitEntry() {
+        for (int reg = 0; reg < m.numValues; reg++) {
+            code.u1(ALOAD_2);
+            pushInt(reg);
+            code.u1(LALOAD);
+            store(reg);
+        }
+        code.u1(LCONST_0); // the verifier wants scratch assigned on every path
+        store(m.scratch());
+        code.u1(ILOAD_3);
+        int switchAt = code.size();
+        code.u1(LOOKUPSWITCH);
+        code.align();
+        code.u4(0); // default, patched to pc 0
+        code.u4(targets.size());
+        for (int pc : targets) {
+            code.u4(pc);
+            code.u4(0);
+        }
+        return switchAt;
+    }
+
+    // zero the registers, then move the args into theirs
+    private int emitStaticEntry() {
+        for (int reg = 0; reg < m.numValues; reg++) {
+            code.u1(LCONST_0);
+            store(reg);
+        }
+        code.u1(LCONST_0);
+        store(m.scratch());
+        for (int i = 0; i < m.argRegs.length; i++) {
+            localOp(LLOAD, 2 * i);
+            store(m.argRegs[i]);
+        }
+        return -1;
+    }
+
+    private void patchJumps() {
+        for (int[] f : fixups)
+            code.patch16(f[1], labels.get(f[2]) - f[0]);
+    }
+
+    private void emitInstruction(int pc) {
+        int op = bc[pc];
+        switch (op) {
+            case BytecodeMethod.MOV:
+                load(bc[pc + 2]);
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.ADD:
+            case BytecodeMethod.SUB:
+            case BytecodeMethod.MUL:
+            case BytecodeMethod.DIV:
+            case BytecodeMethod.SHL:
+            case BytecodeMethod.SHR:
+                pending[op == BytecodeMethod.MUL || op == BytecodeMethod.DIV ? SLOW : FAST]++;
+                if (op == BytecodeMethod.DIV)
+                    receiver();
+                load(bc[pc + 2]);
+                load(bc[pc + 3]);
+                emitArith(op);
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.EQ:
+            case BytecodeMethod.NE:
+            case BytecodeMethod.LT:
+            case BytecodeMethod.GT:
+            case BytecodeMethod.LE:
+            case BytecodeMethod.GE:
+                pending[FAST]++;
+                load(bc[pc + 2]);
+                load(bc[pc + 3]);
+                code.u1(LCMP);
+                code.u1(negatedCompare(op));
+                code.u2(7); // over lconst_1 and the goto
+                code.u1(LCONST_1);
+                code.u1(GOTO);
+                code.u2(4); // over lconst_0
+                code.u1(LCONST_0);
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.ALLOC:
+                receiver();
+                load(bc[pc + 2]);
+                runtime("alloc", "(J)J");
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.LOAD:
+                receiver();
+                load(bc[pc + 2]);
+                runtime("load", "(J)J");
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.GET:
+                pending[FAST]++;
+                pending[SLOW]++;
+                receiver();
+                element(bc[pc + 2], bc[pc + 3]);
+                runtime("load", "(J)J");
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.CALL:
+                emitCall(bc[pc + 1], bc[pc + 2], pc + 3);
+                break;
+            case BytecodeMethod.PRINT:
+                receiver();
+                load(bc[pc + 1]);
+                runtime("print", "(J)V");
+                break;
+            case BytecodeMethod.STORE:
+                receiver();
+                load(bc[pc + 1]);
+                load(bc[pc + 2]);
+                runtime("store", "(JJ)V");
+                break;
+            case BytecodeMethod.SET:
+                pending[FAST]++;
+                pending[SLOW]++;
+                receiver();
+                element(bc[pc + 1], bc[pc + 2]);
+                load(bc[pc + 3]);
+                runtime("store", "(JJ)V");
+                break;
+            case BytecodeMethod.JUMP:
+                pending[UNCOND]++;
+                flush();
+                jump(GOTO, bc[pc + 1]);
+                break;
+            case BytecodeMethod.GOTO:
+                flush();
+                jump(GOTO, bc[pc + 1]);
+                break;
+            case BytecodeMethod.BRANCH:
+                pending[COND]++;
+                flush();
+                load(bc[pc + 1]);
+                code.u1(LCONST_0);
+                code.u1(LCMP);
+                jump(IFNE, bc[pc + 2]);
+                jump(GOTO, bc[pc + 3]);
+                break;
+            case BytecodeMethod.RET:
+                pending[RETS]++;
+                flush();
+                load(bc[pc + 1]);
+                code.u1(LRETURN);
+                break;
+            case BytecodeMethod.FAIL:
+                flush();
+                receiver();
+                code.u1(LDC_W);
+                code.u2(cf.string("Program failed: " + BytecodeEngine.failOpts[bc[pc + 1]]));
+                runtime("fail", "(Ljava/lang/String;)Ljava/lang/IllegalStateException;");
+                code.u1(ATHROW);
+                break;
+            case BytecodeMethod.PHIS:
+                pending[PHIS] += bc[pc + 1];
+                break;
+            case BytecodeMethod.ADD_LOAD:
+                pending[FAST]++;
+                load(bc[pc + 3]);
+                load(bc[pc + 4]);
+                code.u1(LADD);
+                store(bc[pc + 2]);
+                receiver();
+                load(bc[pc + 2]);
+                runtime("load", "(J)J");
+                store(bc[pc + 1]);
+                break;
+            case BytecodeMethod.VCALL:
+                pending[FAST]++;
+                pending[SLOW]++;
+                receiver();
+                load(bc[pc + 4]);
+                runtime("load", "(J)J");
+                store(bc[pc + 2]);
+                receiver();
+                element(bc[pc + 2], bc[pc + 5]);
+                runtime("load", "(J)J");
+                store(bc[pc + 3]);
+                emitCall(bc[pc + 1], bc[pc + 3], pc + 6);
+                break;
+            default:
+                throw new IllegalStateException("Bad bytecode " + op + " at " + pc + " in " + m.name);
+        }
+    }
+
+    // dst = rt.call(fn, new long[] { args }), or program.call<nargs>(fn, args...)
+    private void emitCall(int dst, int fn, int at) {
+        flush();
+        int nargs = bc[at];
+        if (program != null) {
+            arities.set(nargs);
+            load(fn);
+            for (int i = 0; i < nargs; i++)
+                load(bc[at + 1 + i]);
+            code.u1(INVOKESTATIC);
+            code.u2(cf.methodRef(program, "call" + nargs, "(J" + descriptor(nargs).substring(1)));
+            store(dst);
+            return;
+        }
+        code.u1(ALOAD_1);
+        load(fn);
+        pushInt(nargs);
+        code.u1(NEWARRAY);
+        code.u1(T_LONG);
+        for (int i = 0; i < nargs; i++) {
+            code.u1(DUP);
+            pushInt(i);
+            load(bc[at + 1 + i]);
+            code.u1(LASTORE);
+        }
+        runtime("call", "(J[J)J");
+        store(dst);
+    }
+
+    // base + index * 8, as getelt/setelt address
+    private void element(int base, int index) {
+        load(base);
+        load(index);
+        pushLong(Heap.WORD);
+        code.u1(LMUL);
+        code.u1(LADD);
+    }
+
+    private void emitArith(int op) {
+        switch (op) {
+            case BytecodeMethod.ADD:
+                code.u1(LADD);
+                break;
+            case BytecodeMethod.SUB:
+                code.u1(LSUB);
+                break;
+            case BytecodeMethod.MUL:
+                code.u1(LMUL);
+                break;
+            case BytecodeMethod.DIV:
+                runtime("div", "(JJ)J"); // traps on a zero divisor
+                break;
+            case BytecodeMethod.SHL:
+                code.u1(L2I);
+                code.u1(LSHL);
+                break;
+            default:
+                code.u1(L2I);
+                code.u1(LSHR);
+                break;
+        }
+    }
+
+    // branch taken when the comparison is false, after lcmp
+    private static int negatedCompare(int op) {
+        switch (op) {
+            case BytecodeMethod.EQ:
+                return IFNE;
+            case BytecodeMethod.NE:
+                return IFEQ;
+            case BytecodeMethod.LT:
+                return IFGE;
+            case BytecodeMethod.GT:
+                return IFLE;
+            case BytecodeMethod.LE:
+                return IFGT;
+            default:
+                return IFLT;
+        }
+    }
+
+    // write the counts gathered since the last flush into rt.stats
+    private void flush() {
+        for (int i = 0; i < pending.length; i++) {
+            if (pending[i] == 0)
+                continue;
+            if (program == null) {
+                code.u1(ALOAD_1);
+                code.u1(GETFIELD);
+                code.u2(cf.fieldRef("interp/BytecodeEngine", "stats", "L" + STATS + ";"));
+                code.u1(DUP);
+                code.u1(GETFIELD);
+                code.u2(cf.fieldRef(STATS, COUNTERS[i], "J"));
+                pushLong(pending[i]);
+                code.u1(LADD);
+                code.u1(PUTFIELD);
+                code.u2(cf.fieldRef(STATS, COUNTERS[i], "J"));
+            }
+            pending[i] = 0;
+        }
+    }
+
+    private void jump(int opcode, int pc) {
+        fixups.add(new int[] { code.size(), code.size() + 1, pc });
+        code.u1(opcode);
+        code.u2(0);
+    }
+
+    // push rt for a runtime call - the program runtime is static
+    private void receiver() {
+        if (program == null)
+            code.u1(ALOAD_1);
+    }
+
+    private void runtime(String name, String desc) {
+        code.u1(program == null ? INVOKEVIRTUAL : INVOKESTATIC);
+        code.u2(cf.methodRef(program == null ? ENGINE : AOT_RUNTIME, name, desc));
+    }
+
+    // value registers are locals, the rest are the constants preloaded in the template
+    private void load(int reg) {
+        if (reg < m.numValues || reg == m.scratch())
+            localOp(LLOAD, local(reg));
+        else
+            pushLong(m.template[reg]);
+    }
+
+    private void store(int reg) {
+        if (reg >= m.numValues && reg != m.scratch())
+            throw new IllegalStateException("Write to constant register " + reg + " in " + m.name);
+        localOp(LSTORE, local(reg));
+    }
+
+    private void localOp(int opcode, int index) {
+        if (index > 255) {
+            code.u1(WIDE);
+            code.u1(opcode);
+            code.u2(index);
+        } else {
+            code.u1(opcode);
+            code.u1(index);
+        }
+    }
+
+    private void pushLong(long v) {
+        pushLong(code, cf, v);
+    }
+
+    private void pushInt(int v) {
+        pushInt(code, cf, v);
+    }
+
+    static void pushLong(ClassFile.Code code, ClassFile cf, long v) {
+        if (v == 0)
+            code.u1(LCONST_0);
+        else if (v == 1)
+            code.u1(LCONST_1);
+        else {
+            code.u1(LDC2_W);
+            code.u2(cf.longConst(v));
+        }
+    }
+
+    static void pushInt(ClassFile.Code code, ClassFile cf, int v) {
+        if (v >= -1 && v <= 5)
+            code.u1(ICONST_0 + v);
+        else if (v >= Byte.MIN_VALUE && v <= Byte.MAX_VALUE) {
+            code.u1(BIPUSH);
+            code.u1(v);
+        } else if (v >= Short.MIN_VALUE && v <= Short.MAX_VALUE) {
+            code.u1(SIPUSH);
+            code.u2(v);
+        } else {
+            code.u1(LDC_W);
+            code.u2(cf.intConst(v));
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package interp;
+
+// a BytecodeMethod compiled to JVM code by JitCompiler - runs from pc with the frame in regs
+public interface JitMethod {
+    long invoke(TieredEngine rt, long[] regs, int pc);
+}
@@ -0,0 +1,17 @@
+package interp;
+
+// the JVM opcodes and flags the class-file backends emit
+interface JvmOps {
+    int ACC_PUBLIC = 0x0001, ACC_STATIC = 0x0008, ACC_FINAL = 0x0010, ACC_SUPER = 0x0020;
+
+    int ICONST_0 = 0x03, LCONST_0 = 0x09, LCONST_1 = 0x0a, BIPUSH = 0x10, SIPUSH = 0x11, LDC_W = 0x13,
+            LDC2_W = 0x14, LLOAD = 0x16, ILOAD_3 = 0x1d, ALOAD_0 = 0x2a, ALOAD_1 = 0x2b, ALOAD_2 = 0x2c,
+            LALOAD = 0x2f, LSTORE = 0x37, LASTORE = 0x50, DUP = 0x59, LADD = 0x61, LSUB = 0x65, LMUL = 0x69,
+            LDIV = 0x6d, LSHL = 0x79, LSHR = 0x7b, L2I = 0x88, LCMP = 0x94, IFEQ = 0x99, IFNE = 0x9a,
+            IFLT = 0x9b, IFGE = 0x9c, IFGT = 0x9d, IFLE = 0x9e, GOTO = 0xa7, TABLESWITCH = 0xaa,
+            LOOKUPSWITCH = 0xab, LRETURN = 0xad, RETURN = 0xb1, GETFIELD = 0xb4, PUTFIELD = 0xb5,
+            INVOKEVIRTUAL = 0xb6, INVOKESPECIAL = 0xb7, INVOKESTATIC = 0xb8, NEW = 0xbb, NEWARRAY = 0xbc,
+            ATHROW = 0xbf, WIDE = 0xc4;
+
+    int T_LONG = 11;
+}
@@ -0,0 +1,96 @@
+package interp;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+
+import cfg.CFGClass;
+import cfg.CFGMethod;
+import cfg.DataBlock;
+
+// BytecodeEngine that compiles hot methods to JVM code (see JitCompiler)
+//
+// a method is compiled once it has been called invocationThreshold times, or has taken
+// backEdgeThreshold backward jumps - a loop that gets hot mid-call moves into the compiled code at its
+// loop head, with the registers as they are. the JVM's own tiers then take the compiled code from there
+public class TieredEngine extends BytecodeEngine {
+    public static final int DEFAULT_INVOCATIONS = 1000, DEFAULT_BACK_EDGES = 10000;
+
+    private final int invocationThreshold, backEdgeThreshold;
+
+    public TieredEngine(DataBlock data, ArrayList<CFGClass> classes, CFGMethod main, PrintStream out) {
+        this(data, classes, main, out, DEFAULT_INVOCATIONS, DEFAULT_BACK_EDGES);
+    }
+
+    public TieredEngine(DataBlock data, ArrayList<CFGClass> classes, CFGMethod main, PrintStream out,
+            int invocationThreshold, int backEdgeThreshold) {
+        super(data, classes, main, out);
+        this.invocationThreshold = invocationThreshold;
+        this.backEdgeThreshold = backEdgeThreshold;
+    }
+
+    @Override
+    long invoke(BytecodeMethod m, long[] regs) {
+        if (m.jit == null && ++m.invocations >= invocationThreshold)
+            tierUp(m);
+        if (m.jit != null)
+            return m.jit.invoke(this, regs, 0);
+        return exec(m, regs);
+    }
+
+    @Override
+    boolean backEdge(BytecodeMethod m) {
+        if (m.jit == null && ++m.backEdges >= backEdgeThreshold)
+            tierUp(m);
+        return m.jit != null;
+    }
+
+    @Override
+    long osr(BytecodeMethod m, int pc, long[] regs) {
+        return m.jit.invoke(this, regs, pc);
+    }
+
+    // methods too big for the JVM stay interpreted
+    private void tierUp(BytecodeMethod m) {
+        if (m.jitFailed)
+            return;
+        m.jit = JitCompiler.compile(m);
+        m.jitFailed = m.jit == null;
+    }
+
+    // runtime entry points for compiled code - they count the same ExecStats as exec
+
+    long load(long addr) {
+        stats.memReads++;
+        return heap.load(addr);
+    }
+
+    void store(long addr, long val) {
+        stats.memWrites++;
+        heap.store(addr, val);
+    }
+
+    long alloc(long n) {
+        stats.allocs++;
+        return heap.alloc(n);
+    }
+
+    void print(long val) {
+        stats.prints++;
+        out.println(val);
+    }
+
+    long call(long fn, long[] args) {
+        BytecodeMethod m = function(fn);
+        if (args.length != m.argRegs.length)
+            throw new IllegalStateException(m.name + " takes " + m.argRegs.length + " args, got " + args.length);
+        long[] callee = m.template.clone();
+        for (int i = 0; i < args.length; i++)
+            callee[m.argRegs[i]] = args[i];
+        stats.calls++;
+        return invoke(m, callee);
+    }
+
+    IllegalStateException fail(String message) {
+        return new IllegalStateException(message);
+    }
+}
@@ -24,7 +24,7 @@ public class Parser {
                 // Should be start of a binary operation
                 ASTExpression lhs = parseExpr(method);
                 Token optok = tok.next();
-                if (optok.getType() != TokenType.OPERATOR || ((Operator)optok).getOp().equals("="))
+                if (optok.getType() != TokenType.OPERATOR)
                     throw new IllegalArgumentException("Expected non-assignment operator but found "+optok);
                 ASTExpression rhs = parseExpr(method);
 
@@ -96,7 +96,7 @@ public class Parser {
             case Underscore u: //void: _ = <expr>
                 tok.next();
                 eql = tok.next();
-                    if(eql.getType() != TokenType.OPERATOR && ((Operator) eql).getOp().equals("="))
+                    if(eql.getType() != TokenType.ASSIGN)
                         throw new IllegalArgumentException("Expected '=' but found "+eql);
                 return new ASTVoidStmt(parseExpr(method));
             case Not n: //Field write !expr.field = expr
@@ -109,7 +109,7 @@ public class Parser {
                 if (fname.getType() != TokenType.IDENTIFIER)
                     throw new IllegalArgumentException("Expected valid field name but found " + fname);
                 eql = tok.next();
-                if (eql.getType() != TokenType.OPERATOR && ((Operator) eql).getOp().equals("="))
+                if (eql.getType() != TokenType.ASSIGN)
                     throw new IllegalArgumentException("Expected '=' but found " + eql);
                 ASTExpression rhs = parseExpr(method);
                 return new ASTFieldWriteStmt(base, ((Identifier) fname).name(), rhs);
@@ -195,7 +195,7 @@ public class Parser {
                 switch (parseExpr(method)) {
                     case ASTVariable v: // assignment: v = <expr>
                         eql = tok.next();
-                        if(eql.getType() != TokenType.OPERATOR || !((Operator) eql).getOp().equals("="))
+                        if(eql.getType() != TokenType.ASSIGN)
                             throw new IllegalArgumentException("Expected '=' but found "+eql);
                         return new ASTAssignStmt(v, parseExpr(method));
                     default:
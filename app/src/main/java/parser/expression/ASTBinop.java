@@ -4,10 +4,11 @@ import java.util.HashMap;
 
 import parser.ASTClass;
 import util.DataType;
+import util.Opcode;
 
-public record ASTBinop(ASTExpression lhs, String op, ASTExpression rhs) implements ASTExpression {
+public record ASTBinop(ASTExpression lhs, Opcode op, ASTExpression rhs) implements ASTExpression {
     public boolean isBool() {
-        return op.equals("==") || op.equals("!=") || op.equals(">") || op.equals("<") || op.equals("<=") || op.equals(">=");
+        return op.isBool();
     }
 
     @Override
@@ -1,6 +1,7 @@
 package tokenize;
 
 import tokenize.token.*;
+import util.Opcode;
 
 public class Tokenizer {
 
@@ -36,6 +37,19 @@ public class Tokenizer {
     private final Returning returning = new Returning();
     private final Int intTok = new Int();
     private final NullTok nullTok = new NullTok();
+    private final Assign assign = new Assign();
+    private final Operator add = new Operator(Opcode.ADD);
+    private final Operator sub = new Operator(Opcode.SUB);
+    private final Operator mul = new Operator(Opcode.MUL);
+    private final Operator div = new Operator(Opcode.DIV);
+    private final Operator shl = new Operator(Opcode.SHL);
+    private final Operator shr = new Operator(Opcode.SHR);
+    private final Operator eq = new Operator(Opcode.EQ);
+    private final Operator ne = new Operator(Opcode.NE);
+    private final Operator lt = new Operator(Opcode.LT);
+    private final Operator gt = new Operator(Opcode.GT);
+    private final Operator le = new Operator(Opcode.LE);
+    private final Operator ge = new Operator(Opcode.GE);
 
     private final String text;
     private int current;
@@ -75,7 +89,7 @@ public class Tokenizer {
             case ']': current++; return rbk;
             case ':': current++; return colon;
             case '!':
-                current ++; if(text.charAt(current) == '=') { current++; return new Operator("!="); } 
+                current ++; if(text.charAt(current) == '=') { current++; return ne; } 
                 return not;
             case '@': current++; return at;
             case '^': current++; return caret;
@@ -86,24 +100,24 @@ public class Tokenizer {
 
             case '<':
                 current++; 
-                if (text.charAt(current) == '=') { current++; return new Operator("<="); }
-                else if (text.charAt(current) == '<') { current++; return new Operator("<<"); }
-                return new Operator("<");
+                if (text.charAt(current) == '=') { current++; return le; }
+                else if (text.charAt(current) == '<') { current++; return shl; }
+                return lt;
             case '>':
                 current++; 
-                if (text.charAt(current) == '=') { current++; return new Operator(">="); }
-                else if (text.charAt(current) == '>') { current++; return new Operator(">>"); }
-                return new Operator(">");
-            case '+': current++; return new Operator("+");
-            case '-': current++; return new Operator("-");
-            case '*': current++; return new Operator("*");
-            case '/': current++; return new Operator("/");
+                if (text.charAt(current) == '=') { current++; return ge; }
+                else if (text.charAt(current) == '>') { current++; return shr; }
+                return gt;
+            case '+': current++; return add;
+            case '-': current++; return sub;
+            case '*': current++; return mul;
+            case '/': current++; return div;
             case '=': 
                 current++; 
                 if (text.charAt(current) != '=')
-                    return new Operator("=");
+                    return assign;
                 current++;
-                return new Operator("==");
+                return eq;
             
             default:
                 if (Character.isDigit(text.charAt(current))) {
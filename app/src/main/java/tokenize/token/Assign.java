@@ -0,0 +1,5 @@
+package tokenize.token;
+
+public record Assign() implements Token {
+    @Override public TokenType getType() { return TokenType.ASSIGN; }
+}
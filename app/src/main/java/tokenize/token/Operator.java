@@ -1,6 +1,8 @@
 package tokenize.token;
 
-public record Operator(String op) implements Token {
+import util.Opcode;
+
+public record Operator(Opcode op) implements Token {
     @Override public TokenType getType() { return TokenType.OPERATOR; }
-    public String getOp() { return this.op; }
+    public Opcode getOp() { return this.op; }
 }
@@ -1,7 +1,7 @@
 package tokenize.token;
 
 public sealed interface Token 
-    permits NumberTok, LeftParen, RightParen, Operator, Caret, Ampersand, AtSign, Not, Dot, Underscore, If, IfOnly, Else, While, Return, TMethod, TClass, Print, 
+    permits NumberTok, LeftParen, RightParen, Operator, Assign, Caret, Ampersand, AtSign, Not, Dot, Underscore, If, IfOnly, Else, While, Return, TMethod, TClass, Print, 
     Fields, With, Locals, Main, Colon, LeftBrace, RightBrace, LeftBrack, RightBrack, Identifier, Eof, This, Comma, Returning, Int, NullTok {
     TokenType getType();
 }
\ No newline at end of file
@@ -15,6 +15,7 @@ public enum TokenType {
     COLON,
     COMMA,
     UNDERSCORE,
+    ASSIGN,
     // Keywords
     THIS,
     IF,
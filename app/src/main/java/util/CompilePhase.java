@@ -4,9 +4,11 @@ public enum CompilePhase {
     TOKEN,
     PARSE,
     CFG,
+    LOOP,
     SSA_1,
     OPT_VN,
-    DCE;
+    DCE,
+    EMIT;
 
     @Override
     public String toString() {
@@ -17,12 +19,40 @@ public enum CompilePhase {
                 return "parse";
             case CFG:
                 return "initial CFG construction";
+            case LOOP:
+                return "loop optimization";
             case SSA_1:
                 return "initial SSA";
             case OPT_VN:
                 return "value numbering optimization";
             case DCE:
                 return "dead code elimination";
+            case EMIT:
+                return "code emission";
+            default:
+                return "";
+        }
+    }
+
+    // short name for tables, e.g. -stats
+    public String label() {
+        switch (this) {
+            case TOKEN:
+                return "tokenize";
+            case PARSE:
+                return "parse";
+            case CFG:
+                return "cfg";
+            case LOOP:
+                return "loops";
+            case SSA_1:
+                return "ssa";
+            case OPT_VN:
+                return "vn";
+            case DCE:
+                return "cleanup";
+            case EMIT:
+                return "emit";
             default:
                 return "";
         }
@@ -0,0 +1,83 @@
+package util;
+
+// binary operators, shared by the tokenizer, the AST, and the IR
+public enum Opcode {
+    ADD("+"),
+    SUB("-"),
+    MUL("*"),
+    DIV("/"),
+    SHL("<<"),
+    SHR(">>"),
+    EQ("=="),
+    NE("!="),
+    LT("<"),
+    GT(">"),
+    LE("<="),
+    GE(">=");
+
+    private static final Opcode[] all = values();
+    private final String symbol;
+
+    Opcode(String symbol) {
+        this.symbol = symbol;
+    }
+
+    // the op printed as s, or null if there is none
+    public static Opcode fromSymbol(String s) {
+        for (Opcode op : all)
+            if (op.symbol.equals(s))
+                return op;
+        return null;
+    }
+
+    // comparison ops evaluate to 0 or 1 and are the only ops allowed on objects
+    public boolean isBool() {
+        switch (this) {
+            case EQ:
+            case NE:
+            case LT:
+            case GT:
+            case LE:
+            case GE:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    public long eval(long lhs, long rhs) {
+        switch (this) {
+            case ADD:
+                return lhs + rhs;
+            case SUB:
+                return lhs - rhs;
+            case MUL:
+                return lhs * rhs;
+            case DIV:
+                return lhs / rhs;
+            case SHL:
+                return lhs << rhs;
+            case SHR:
+                return lhs >> rhs;
+            case EQ:
+                return lhs == rhs ? 1 : 0;
+            case NE:
+                return lhs != rhs ? 1 : 0;
+            case LT:
+                return lhs < rhs ? 1 : 0;
+            case GT:
+                return lhs > rhs ? 1 : 0;
+            case LE:
+                return lhs <= rhs ? 1 : 0;
+            case GE:
+                return lhs >= rhs ? 1 : 0;
+            default: // should be unreachable
+                return 0;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return symbol;
+    }
+}
@@ -1,14 +1,38 @@
 package util;
 
+import java.util.function.Supplier;
+
+// debug tracing, by compiler phase. messages are built by a Supplier only when their phase is being
+// traced, so compiles with tracing off never format them
 public class Output {
-    private static boolean debug;
+    private static final boolean[] traced = new boolean[CompilePhase.values().length];
 
+    // trace every phase, or none
     public static void configure(boolean debug) {
-        Output.debug = debug;
+        for (CompilePhase p : CompilePhase.values())
+            traced[p.ordinal()] = debug;
+    }
+
+    // trace the phases named by a comma-separated list of labels, e.g. "ssa,cleanup"
+    public static void configure(String phases) {
+        configure(false);
+        for (String label : phases.split(",")) {
+            CompilePhase phase = null;
+            for (CompilePhase p : CompilePhase.values())
+                if (p.label().equals(label.strip()))
+                    phase = p;
+            if (phase == null)
+                throw new IllegalArgumentException("Error: unknown debug phase " + label.strip());
+            traced[phase.ordinal()] = true;
+        }
+    }
+
+    public static boolean tracing(CompilePhase phase) {
+        return traced[phase.ordinal()];
     }
 
-    public static void debug(String str) {
-        if(debug)
-            System.out.println(str);
+    public static void debug(CompilePhase phase, Supplier<String> message) {
+        if (traced[phase.ordinal()])
+            System.out.println("[" + phase.label() + "] " + message.get());
     }
 }
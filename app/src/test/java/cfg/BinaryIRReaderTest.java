@@ -0,0 +1,56 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// BinaryIRWriter then BinaryIRReader gives back the text form of the program, as built and optimized
+class BinaryIRReaderTest {
+    @TempDir
+    Path dir;
+
+    static Stream<String> programs() {
+        return Stream.concat(Programs.corpus().stream().map(Programs::load),
+                LongStream.rangeClosed(1, 20).mapToObj(Programs::generated));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programs")
+    void roundTripsBuiltCfg(String code) throws IOException {
+        assertRoundTrips(Programs.build(code));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programs")
+    void roundTripsOptimizedCfg(String code) throws IOException {
+        assertRoundTrips(Programs.optimize(code));
+    }
+
+    private void assertRoundTrips(CtrlFlowGraph cfg) throws IOException {
+        Path file = dir.resolve("program.bin");
+        try (BinaryIRWriter out = new BinaryIRWriter(new BufferedOutputStream(Files.newOutputStream(file)))) {
+            out.writeProgram();
+        }
+        BinaryIRReader in = BinaryIRReader.open(file);
+        List<CFGMethod> methods = Programs.methods();
+        assertEquals(methods.size(), in.numMethods());
+        for (int i = 0; i < methods.size(); i++) {
+            CFGMethod m = methods.get(i);
+            assertEquals(m.name(), in.methodName(i));
+            assertEquals(m.toString(), in.method(i).toString(), m.name());
+            assertEquals(m.toString(), in.method(m.name()).toString(), m.name());
+        }
+        assertEquals(CtrlFlowGraph.CFGDataBlock.toString(), in.data().toString());
+        assertEquals(cfg.toString(), in.toString());
+    }
+}
@@ -0,0 +1,52 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+// random edge insertions and deletions, each followed by the incremental update, must leave the same
+// tree as computing it from scratch
+class DominatorTreeTest {
+    private static final int EDITS = 200;
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+    void keepsGeneratedCfgsUpToDate(long seed) {
+        Programs.build(Programs.generated(seed));
+        Random random = new Random(seed);
+        for (CFGMethod m : Programs.methods())
+            edit(m.blocks(), random);
+    }
+
+    @Test
+    void keepsRandomGraphsUpToDate() {
+        Random random = new Random(441);
+        for (int graph = 0; graph < 200; graph++)
+            edit(Programs.randomGraph(random, 1 + random.nextInt(12)).blocks(), random);
+    }
+
+    // the entry is blocks.get(0); edges may go anywhere, including back to the entry and to themselves
+    private static void edit(List<BasicBlock> blocks, Random random) {
+        DominatorTree tree = DominatorTree.compute(blocks.get(0));
+        assertTrue(tree.verify(), "initial tree");
+        for (int i = 0; i < EDITS; i++) {
+            BasicBlock from = blocks.get(random.nextInt(blocks.size()));
+            BasicBlock to = blocks.get(random.nextInt(blocks.size()));
+            String edge = from.getIdentifier() + " -> " + to.getIdentifier();
+            if (from.getSuccs().contains(to)) {
+                from.removeSucc(to);
+                tree.deleteEdge(from, to);
+                assertTrue(tree.verify(), () -> "after deleting " + edge);
+            } else {
+                to.addPred(from);
+                tree.insertEdge(from, to);
+                assertTrue(tree.verify(), () -> "after inserting " + edge);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import interp.BytecodeEngine;
+import interp.CWriter;
+import interp.ExecutionEngine;
+import interp.Interpreter;
+import interp.JarWriter;
+import interp.TieredEngine;
+
+// every engine runs the program left in CtrlFlowGraph's static fields and prints what App's -run does,
+// without the stats; a trap ends the output with its message. the in-process engines, a -jar program and,
+// where there is a cc, a -c program must all print the same as the tree interpreter
+class EngineTest {
+    @TempDir
+    Path dir;
+
+    private static final String DIVIDE_BY_ZERO = """
+            main with x:int, y:int:
+                x = 5
+                y = 0
+                print(x)
+                y = (x / y)
+                print(y)
+                return y
+            """;
+
+    static Stream<Arguments> programs() {
+        Stream<Arguments> files = Programs.corpus().stream().map(f -> Arguments.of(f, Programs.load(f)));
+        files = Stream.concat(files, Stream.of(Arguments.of("divide by zero", DIVIDE_BY_ZERO)));
+        return Stream.concat(files, LongStream.rangeClosed(1, 10)
+                .mapToObj(seed -> Arguments.of("generated " + seed, Programs.generated(seed))));
+    }
+
+    @FunctionalInterface
+    interface Engine {
+        ExecutionEngine start(DataBlock data, ArrayList<CFGClass> classes, CFGMethod main, PrintStream out);
+    }
+
+    static Stream<Arguments> engines() {
+        return Stream.of(Arguments.of("tree", (Engine) Interpreter::new),
+                Arguments.of("bytecode", (Engine) BytecodeEngine::new),
+                // every method is compiled on its first call
+                Arguments.of("jit",
+                        (Engine) (data, classes, main, out) -> new TieredEngine(data, classes, main, out, 1, 1)));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("engines")
+    void trapsDivisionByZero(String name, Engine engine) {
+        Programs.optimize(DIVIDE_BY_ZERO);
+        assertEquals("5\nDivision by zero\n", run(engine));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("programs")
+    void enginesAgree(String name, String code) {
+        Programs.optimize(code);
+        String expected = run(Interpreter::new);
+        engines().forEach(a -> assertEquals(expected, run((Engine) a.get()[1]), (String) a.get()[0]));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("programs")
+    void jarAgrees(String name, String code) throws IOException, InterruptedException {
+        Programs.optimize(code);
+        Path jar = dir.resolve("program.jar");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(jar))) {
+            JarWriter.write(out, CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main);
+        }
+        String java = Path.of(System.getProperty("java.home"), "bin", "java").toString();
+        assertEquals(run(Interpreter::new), output(java, "-jar", jar.toString()));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("programs")
+    void cAgrees(String name, String code) throws IOException, InterruptedException {
+        assumeTrue(hasCc(), "no cc on the path");
+        Programs.optimize(code);
+        Path source = dir.resolve("program.c"), binary = dir.resolve("program");
+        try (Writer out = Files.newBufferedWriter(source, StandardCharsets.UTF_8)) {
+            CWriter.write(out, CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main);
+        }
+        assertEquals("", output("cc", "-O1", "-Wall", "-o", binary.toString(), source.toString()));
+        assertEquals(run(Interpreter::new), output(binary.toString()));
+    }
+
+    static String run(Engine engine) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        PrintStream out = new PrintStream(bytes, true, StandardCharsets.UTF_8);
+        ExecutionEngine e = engine.start(CtrlFlowGraph.CFGDataBlock, CtrlFlowGraph.classes, CtrlFlowGraph.main,
+                out);
+        try {
+            out.println("Final result: Data { val: " + e.run() + " }");
+        } catch (IllegalStateException ex) {
+            out.println(ex.getMessage());
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    // stdout and stderr of the command, once it has exited
+    private static String output(String... command) throws IOException, InterruptedException {
+        Process p = new ProcessBuilder(command).redirectErrorStream(true).start();
+        String out = new String(p.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        p.waitFor();
+        return out;
+    }
+
+    private static boolean hasCc() {
+        try {
+            return new ProcessBuilder("cc", "--version").redirectErrorStream(true).start().waitFor() == 0;
+        } catch (IOException | InterruptedException e) {
+            return false;
+        }
+    }
+}
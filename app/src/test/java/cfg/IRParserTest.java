@@ -0,0 +1,36 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// the textual IR read back as -ir reads it prints as the program it was written from, as built and optimized
+class IRParserTest {
+    static Stream<String> programs() {
+        return Stream.concat(Programs.corpus().stream().map(Programs::load),
+                LongStream.rangeClosed(1, 20).mapToObj(Programs::generated));
+    }
+
+    @ParameterizedTest
+    @MethodSource("programs")
+    void roundTripsBuiltCfg(String code) {
+        String ir = Programs.build(code).toString();
+        CtrlFlowGraph read = new CtrlFlowGraph();
+        assertFalse(read.readIR(ir), "phis in IR before SSA");
+        assertEquals(ir, read.toString());
+    }
+
+    @ParameterizedTest
+    @MethodSource("programs")
+    void roundTripsOptimizedCfg(String code) {
+        String ir = Programs.optimize(code).toString();
+        CtrlFlowGraph read = new CtrlFlowGraph();
+        read.readIR(ir);
+        assertEquals(ir, read.toString());
+    }
+}
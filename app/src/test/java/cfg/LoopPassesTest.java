@@ -0,0 +1,116 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import interp.Interpreter;
+
+// unrolling, rotation and the code copying they share must not change what a program prints: each program
+// runs on the tree interpreter as built at -O0, and again after the loop passes, alone and in the pipelines
+// around them
+class LoopPassesTest {
+    // 13 trips are unrolled fully. 21 are past MAX_FULL_TRIPS and not a multiple of 8, 4 or 2, so 5 of them
+    // run in front of the loop unrolled by 8
+    private static final String FULL = counted(13), REMAINDER = counted(21);
+    private static final String NESTED = """
+            main with i:int, j:int, s:int:
+                i = 3
+                s = 0
+                while (i > 0): {
+                    j = 5
+                    while (j > 0): {
+                        s = (s + (i * j))
+                        j = (j - 1)
+                    }
+                    print(s)
+                    i = (i - 1)
+                }
+                print(s)
+            """;
+    // the counter is not constant, so the loop is rotated but not unrolled
+    private static final String UNCOUNTED = """
+            main with i:int, s:int:
+                i = 1
+                s = 0
+                while (i < 200): {
+                    s = (s + i)
+                    i = (i + s)
+                    print(i)
+                }
+                print(s)
+            """;
+
+    private static String counted(int trips) {
+        return """
+                main with i:int, s:int:
+                    i = %d
+                    s = 0
+                    while (i > 0): {
+                        s = (s + i)
+                        print(s)
+                        i = (i - 1)
+                    }
+                    print(s)
+                """.formatted(trips);
+    }
+
+    static Stream<Arguments> programs() {
+        Stream<Arguments> loops = Stream.of(Arguments.of("13 trips", FULL), Arguments.of("21 trips", REMAINDER),
+                Arguments.of("nested", NESTED), Arguments.of("uncounted", UNCOUNTED));
+        Stream<Arguments> files = Programs.corpus().stream().map(f -> Arguments.of(f, Programs.load(f)));
+        return Stream.concat(Stream.concat(loops, files), LongStream.rangeClosed(1, 20)
+                .mapToObj(seed -> Arguments.of("generated " + seed, Programs.generated(seed))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("programs")
+    void keepOutput(String name, String code) {
+        String expected = run(code, 0);
+        assertEquals(expected, run(code, 0, "unroll"), "unroll");
+        assertEquals(expected, run(code, 0, "rotate"), "rotate");
+        assertEquals(expected, run(code, 1, "unroll", "rotate"), "-O1 with unroll and rotate");
+        assertEquals(expected, run(code, 3), "-O3");
+    }
+
+    @Test
+    void unrollsWithRemainder() {
+        Programs.build(REMAINDER);
+        CFGMethod main = CtrlFlowGraph.main;
+        AnalysisCache analyses = new AnalysisCache();
+        assertEquals(1, LoopUnrolling.unroll(main, analyses.get(Analyses.DOMINATOR_TREE, main),
+                analyses.get(Analyses.LOOPS, main), analyses.get(Analyses.CONSTANTS, main), null));
+        // the loop is still there, its body 8 times over
+        assertEquals(1, Loops.compute(main, DominatorTree.compute(main)).loops().size());
+        StringBuilder expected = new StringBuilder();
+        for (int i = 21, s = 0; i > 0; i--)
+            expected.append(s += i).append('\n');
+        expected.append(21 * 22 / 2).append("\nFinal result: Data { val: 0 }\n");
+        assertEquals(expected.toString(), EngineTest.run(Interpreter::new));
+    }
+
+    @Test
+    void unrollsFully() {
+        Programs.build(FULL);
+        CFGMethod main = CtrlFlowGraph.main;
+        AnalysisCache analyses = new AnalysisCache();
+        assertEquals(1, LoopUnrolling.unroll(main, analyses.get(Analyses.DOMINATOR_TREE, main),
+                analyses.get(Analyses.LOOPS, main), analyses.get(Analyses.CONSTANTS, main), null));
+        assertEquals(0, Loops.compute(main, DominatorTree.compute(main)).loops().size());
+    }
+
+    // the program built, then run through the passes of an -O level and any others enabled
+    private static String run(String code, int level, String... enable) {
+        PassManager passes = new PassManager(Programs.build(code), level, false);
+        for (String p : enable)
+            passes.enable(p);
+        passes.run((phase, work) -> work.run());
+        return EngineTest.run(Interpreter::new);
+    }
+}
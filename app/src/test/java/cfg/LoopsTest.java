@@ -0,0 +1,241 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LoopsTest {
+    @Test
+    void findsNestedLoops() {
+        // outer: h1 -> h2 (inner: h2 -> b -> h2) -> l1 -> h1, leaving from h1
+        CFGMethod m = Programs.graph("e h1", "h1 h2", "h1 x", "h2 b", "b h2", "h2 l1", "l1 h1");
+        Loops loops = compute(m);
+        Loops.Loop outer = loops.loopOf(block(m, "h1")), inner = loops.loopOf(block(m, "h2"));
+        assertEquals(List.of(inner, outer), loops.loops());
+        assertEquals(List.of(outer), loops.topLevel());
+        assertSame(outer, inner.parent());
+        assertEquals(List.of(inner), outer.children());
+        assertEquals(1, outer.depth());
+        assertEquals(2, inner.depth());
+        assertEquals(Set.of(block(m, "l1")), Set.copyOf(outer.latches()));
+        assertSame(block(m, "b"), inner.latch());
+        assertEquals(names("h1", "h2", "b", "l1"), names(outer.blocks()));
+        assertSame(block(m, "h1"), outer.blocks().get(0));
+        assertEquals(names("h2", "b"), names(inner.blocks()));
+        assertEquals(names("x"), names(outer.exits()));
+        assertEquals(names("l1"), names(inner.exits()));
+        assertSame(block(m, "e"), outer.preheader());
+        assertNull(inner.preheader()); // its pred h1 also goes to x
+        assertEquals(0, loops.depth(block(m, "e")));
+        assertEquals(1, loops.depth(block(m, "l1")));
+        assertEquals(2, loops.depth(block(m, "b")));
+        assertEquals(0, loops.depth(block(m, "x")));
+        assertTrue(outer.contains(inner));
+        assertFalse(inner.contains(outer));
+    }
+
+    @Test
+    void findsSiblingLoops() {
+        // two loops one after the other inside a third
+        CFGMethod m = Programs.graph("e o", "o p1", "p1 a", "a a", "a p2", "p2 b", "b c", "c b", "c l", "l o",
+                "o x");
+        Loops loops = compute(m);
+        Loops.Loop outer = loops.loopOf(block(m, "o")), first = loops.loopOf(block(m, "a")),
+                second = loops.loopOf(block(m, "b"));
+        assertEquals(3, loops.loops().size());
+        assertEquals(List.of(outer), loops.topLevel());
+        assertEquals(Set.of(first, second), Set.copyOf(outer.children()));
+        assertSame(outer, first.parent());
+        assertSame(outer, second.parent());
+        assertEquals(2, first.depth());
+        assertEquals(2, second.depth());
+        assertFalse(first.contains(second));
+        assertSame(block(m, "a"), first.latch()); // a self loop
+        assertSame(block(m, "c"), second.latch());
+        assertEquals(names("a"), names(first.blocks()));
+        assertEquals(names("b", "c"), names(second.blocks()));
+        assertEquals(names("o", "p1", "a", "p2", "b", "c", "l"), names(outer.blocks()));
+        assertSame(block(m, "p1"), first.preheader());
+        assertSame(block(m, "p2"), second.preheader());
+        assertEquals(names("p2"), names(first.exits()));
+        assertEquals(names("l"), names(second.exits()));
+        assertEquals(2, loops.depth(block(m, "c")));
+        assertEquals(1, loops.depth(block(m, "p2")));
+    }
+
+    @Test
+    void leavesOutIrreducibleCycles() {
+        // a and b form a cycle entered at both, so neither dominates the other; only h's loop around it counts
+        CFGMethod m = Programs.graph("e h", "h a", "h b", "a b", "b a", "a l", "l h", "h x");
+        Loops loops = compute(m);
+        assertEquals(1, loops.loops().size());
+        Loops.Loop loop = loops.loops().get(0);
+        assertSame(block(m, "h"), loop.header());
+        assertTrue(loop.children().isEmpty());
+        assertEquals(names("h", "a", "b", "l"), names(loop.blocks()));
+        assertFalse(loops.isHeader(block(m, "a")));
+        assertFalse(loops.isHeader(block(m, "b")));
+        assertEquals(1, loops.depth(block(m, "a")));
+        assertEquals(1, loops.depth(block(m, "b")));
+
+        CFGMethod bare = Programs.graph("e a", "e b", "a b", "b a", "b x");
+        assertTrue(compute(bare).loops().isEmpty());
+    }
+
+    @Test
+    void hasNoPreheaderWithSeveralWaysIn() {
+        CFGMethod m = Programs.graph("e p", "e q", "p h", "q h", "h b", "b h", "h x");
+        Loops.Loop loop = compute(m).loopOf(block(m, "h"));
+        assertNull(loop.preheader());
+
+        CFGMethod shared = Programs.graph("e h", "e x", "h h", "h x");
+        assertNull(compute(shared).loopOf(block(shared, "h")).preheader()); // e also goes to x
+
+        CFGMethod atEntry = Programs.graph("h h", "d h", "h x"); // d is dead code
+        assertNull(compute(atEntry).loopOf(block(atEntry, "h")).preheader());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 })
+    void matchesBruteForceOnGeneratedCfgs(long seed) {
+        Programs.build(Programs.generated(seed));
+        for (CFGMethod m : Programs.methods())
+            assertMatchesBruteForce(m);
+        Programs.optimize(Programs.generated(seed));
+        for (CFGMethod m : Programs.methods())
+            assertMatchesBruteForce(m);
+    }
+
+    @Test
+    void matchesBruteForceOnRandomGraphs() {
+        Random random = new Random(441);
+        for (int i = 0; i < 2000; i++)
+            assertMatchesBruteForce(Programs.randomGraph(random, 1 + random.nextInt(10)));
+    }
+
+    private static Loops compute(CFGMethod m) {
+        return Loops.compute(m, DominatorTree.compute(m));
+    }
+
+    private static BasicBlock block(CFGMethod m, String name) {
+        return Programs.block(m, name);
+    }
+
+    private static Set<String> names(String... names) {
+        return Set.of(names);
+    }
+
+    private static Set<String> names(List<BasicBlock> blocks) {
+        HashSet<String> names = new HashSet<>();
+        for (BasicBlock b : blocks)
+            assertTrue(names.add(b.getIdentifier()), "listed twice: " + b.getIdentifier());
+        return names;
+    }
+
+    // natural loops straight from the definition: dominator sets by iterating to a fixed point, a back edge
+    // wherever a block jumps to one of its dominators, and each header's blocks by searching back from its
+    // latches. nesting follows from which loop's blocks contain which
+    private static void assertMatchesBruteForce(CFGMethod m) {
+        List<BasicBlock> reachable = Dataflow.reversePostorder(m);
+        HashMap<BasicBlock, Set<BasicBlock>> doms = new HashMap<>();
+        for (BasicBlock b : reachable)
+            doms.put(b, b == reachable.get(0) ? Set.of(b) : new HashSet<>(reachable));
+        for (boolean changed = true; changed;) {
+            changed = false;
+            for (BasicBlock b : reachable) {
+                if (b == reachable.get(0))
+                    continue;
+                HashSet<BasicBlock> d = new HashSet<>(reachable);
+                for (BasicBlock p : b.getPreds())
+                    if (doms.containsKey(p))
+                        d.retainAll(doms.get(p));
+                d.add(b);
+                if (!d.equals(doms.get(b))) {
+                    doms.put(b, d);
+                    changed = true;
+                }
+            }
+        }
+
+        HashMap<BasicBlock, Set<BasicBlock>> latches = new HashMap<>(), bodies = new HashMap<>();
+        for (BasicBlock b : reachable)
+            for (BasicBlock s : b.getSuccs())
+                if (doms.get(b).contains(s))
+                    latches.computeIfAbsent(s, h -> new HashSet<>()).add(b);
+        for (BasicBlock h : latches.keySet()) {
+            HashSet<BasicBlock> body = new HashSet<>(Set.of(h));
+            ArrayList<BasicBlock> work = new ArrayList<>(latches.get(h));
+            while (!work.isEmpty()) {
+                BasicBlock b = work.remove(work.size() - 1);
+                if (doms.containsKey(b) && body.add(b))
+                    work.addAll(b.getPreds());
+            }
+            bodies.put(h, body);
+        }
+
+        Loops loops = compute(m);
+        String where = m.name() + " " + m.blocks().get(0).getIdentifier();
+        HashSet<BasicBlock> headers = new HashSet<>();
+        for (Loops.Loop l : loops.loops())
+            assertTrue(headers.add(l.header()), where);
+        assertEquals(latches.keySet(), headers, where);
+        for (Loops.Loop l : loops.loops()) {
+            BasicBlock h = l.header();
+            Set<BasicBlock> body = bodies.get(h);
+            assertEquals(latches.get(h), Set.copyOf(l.latches()), where);
+            assertEquals(body, Set.copyOf(l.blocks()), where);
+            assertEquals(body.size(), l.blocks().size(), where);
+            assertSame(h, l.blocks().get(0), where);
+
+            HashSet<BasicBlock> exits = new HashSet<>();
+            for (BasicBlock b : body)
+                for (BasicBlock s : b.getSuccs())
+                    if (!body.contains(s))
+                        exits.add(s);
+            assertEquals(exits, Set.copyOf(l.exits()), where);
+
+            ArrayList<BasicBlock> outside = new ArrayList<>(); // dead preds too, they still take part in phis
+            for (BasicBlock p : h.getPreds())
+                if (!body.contains(p))
+                    outside.add(p);
+            BasicBlock pre = h != reachable.get(0) && outside.size() == 1 && outside.get(0).getSuccs().size() == 1
+                    ? outside.get(0) : null;
+            assertSame(pre, l.preheader(), where);
+
+            Loops.Loop parent = null; // the smallest other loop around this one
+            for (Loops.Loop o : loops.loops())
+                if (o != l && bodies.get(o.header()).contains(h)
+                        && (parent == null || bodies.get(parent.header()).contains(o.header())))
+                    parent = o;
+            assertSame(parent, l.parent(), where);
+        }
+        for (BasicBlock b : reachable) {
+            int depth = 0;
+            Loops.Loop innermost = null;
+            for (Loops.Loop l : loops.loops())
+                if (bodies.get(l.header()).contains(b)) {
+                    depth++;
+                    if (innermost == null || bodies.get(innermost.header()).contains(l.header()))
+                        innermost = l;
+                }
+            assertEquals(depth, loops.depth(b), where);
+            assertSame(innermost, loops.loopOf(b), where);
+            assertEquals(bodies.containsKey(b), loops.isHeader(b), where);
+            if (innermost != null)
+                assertEquals(depth, innermost.depth(), where);
+        }
+    }
+}
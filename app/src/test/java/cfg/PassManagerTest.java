@@ -0,0 +1,139 @@
+package cfg;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+// which passes each -O level and -enable=/-disable= run, and which cached analyses survive each pass
+class PassManagerTest {
+    private static final String LOOP = """
+            main with i:int, s:int:
+                i = 20
+                s = 0
+                while (i > 0): {
+                    s = (s + i)
+                    i = (i - 1)
+                }
+                print(s)
+            """;
+
+    static Stream<String> programs() {
+        return Stream.concat(Stream.concat(Stream.of(LOOP), Programs.corpus().stream().map(Programs::load)),
+                LongStream.rangeClosed(1, 10).mapToObj(Programs::generated));
+    }
+
+    @Test
+    void levelsPickPasses() {
+        assertEquals(List.of(), names(passes(0)));
+        assertEquals(List.of("condense", "layout"), names(passes(1)));
+        assertEquals(List.of("ssa", "vn", "condense", "layout"), names(passes(2)));
+        assertEquals(List.of("unroll", "rotate", "ssa", "vn", "condense", "layout"), names(passes(3)));
+        assertThrows(IllegalArgumentException.class, () -> passes(4));
+        assertThrows(IllegalArgumentException.class, () -> passes(-1));
+    }
+
+    @Test
+    void inputInSsaSkipsSsaAndLoopPasses() {
+        PassManager p = passes(3);
+        p.setInSSA(true);
+        assertEquals(List.of("vn", "condense", "layout"), names(p));
+    }
+
+    @Test
+    void vnNeedsSsa() {
+        PassManager p = passes(2);
+        p.configure(List.of(), List.of("ssa"));
+        assertEquals(List.of("condense", "layout"), names(p));
+    }
+
+    @Test
+    void enablesAndDisablesLists() {
+        PassManager p = passes(0);
+        p.configure(List.of("rotate, vn", "ssa"), List.of());
+        assertEquals(List.of("rotate", "ssa", "vn"), names(p));
+        p = passes(3);
+        p.configure(List.of("unroll"), List.of("unroll,layout", "condense"));
+        assertEquals(List.of("rotate", "ssa", "vn"), names(p));
+    }
+
+    @Test
+    void rejectsUnknownPasses() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> passes(2).configure(List.of("ssa,inline"), List.of()));
+        assertTrue(e.getMessage().startsWith("Error: unknown pass inline"), e.getMessage());
+        assertThrows(IllegalArgumentException.class, () -> passes(2).configure(List.of(), List.of("")));
+        assertThrows(IllegalArgumentException.class, () -> passes(2).disable("SSA"));
+    }
+
+    @Test
+    void cachesUntilInvalidated() {
+        Programs.build(LOOP);
+        CFGMethod m = CtrlFlowGraph.main;
+        AnalysisCache cache = new AnalysisCache();
+        DominatorTree dom = cache.get(Analyses.DOMINATOR_TREE, m);
+        Liveness live = cache.get(Analyses.LIVENESS, m);
+        assertSame(dom, cache.get(Analyses.DOMINATOR_TREE, m));
+        assertEquals(1, cache.hits());
+        assertEquals(2, cache.misses());
+
+        Pass vn = pass("vn");
+        cache.invalidate(m, vn, Pass.Effect.NONE);
+        assertSame(live, cache.get(Analyses.LIVENESS, m));
+        cache.invalidate(m, vn, Pass.Effect.CODE); // liveness reads the code, the tree only the edges
+        assertSame(dom, cache.get(Analyses.DOMINATOR_TREE, m));
+        assertFalse(cache.has(Analyses.LIVENESS, m));
+        cache.invalidate(m, vn, Pass.Effect.CFG);
+        assertFalse(cache.has(Analyses.DOMINATOR_TREE, m));
+
+        dom = cache.get(Analyses.DOMINATOR_TREE, m);
+        Loops loops = cache.get(Analyses.LOOPS, m);
+        cache.invalidate(m, pass("rotate"), Pass.Effect.CFG); // rotate keeps the tree up to date itself
+        assertSame(dom, cache.get(Analyses.DOMINATOR_TREE, m));
+        assertNotSame(loops, cache.get(Analyses.LOOPS, m));
+    }
+
+    // the -O3 pipeline pass by pass, as PassManager runs it: a cached dominator tree must always match the
+    // CFG, in particular after rotate and condense, which keep it rather than drop it
+    @ParameterizedTest
+    @MethodSource("programs")
+    void keepsDominatorTreesValid(String code) {
+        PassManager p = new PassManager(Programs.build(code), 3, false);
+        AnalysisCache cache = p.analyses();
+        for (Pass pass : p.pipeline()) {
+            for (CFGMethod m : Programs.methods()) {
+                boolean cached = cache.has(Analyses.DOMINATOR_TREE, m);
+                cache.invalidate(m, pass, pass.run(m, cache));
+                if (pass.preserves(Analyses.DOMINATOR_TREE) && (cached || pass.name().equals("rotate")))
+                    assertTrue(cache.has(Analyses.DOMINATOR_TREE, m), pass.name() + " dropped the tree of " + m.name());
+                if (cache.has(Analyses.DOMINATOR_TREE, m))
+                    assertTrue(cache.get(Analyses.DOMINATOR_TREE, m).verify(), pass.name() + " on " + m.name());
+            }
+        }
+    }
+
+    private static PassManager passes(int level) {
+        return new PassManager(new CtrlFlowGraph(), level, false);
+    }
+
+    private static Pass pass(String name) {
+        for (Pass p : passes(3).pipeline())
+            if (p.name().equals(name))
+                return p;
+        throw new IllegalArgumentException("No pass " + name);
+    }
+
+    private static List<String> names(PassManager p) {
+        return p.pipeline().stream().map(Pass::name).toList();
+    }
+}
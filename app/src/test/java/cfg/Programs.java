@@ -0,0 +1,110 @@
+package cfg;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Random;
+
+import cfg.expr.data.CFGVar;
+import gen.ProgramGenerator;
+import parser.Parser;
+import tokenize.Tokenizer;
+
+// test inputs: files from test-code, small generated programs, and bare graphs of blocks for the analyses
+// that only look at edges. build and optimize leave the program in CtrlFlowGraph's static fields, as App does
+final class Programs {
+    private static final Path CORPUS = Path.of(System.getProperty("test.corpus", "test-code"));
+
+    private Programs() {
+    }
+
+    // the files in test-code that use typed declarations; the rest predate them and no longer parse
+    static List<String> corpus() {
+        return List.of("complexstack.comp", "ifonly.comp", "simplestack-2.comp", "unary.comp");
+    }
+
+    static String load(String name) {
+        try {
+            return Files.readString(CORPUS.resolve(name), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read test program " + name, e);
+        }
+    }
+
+    static String generated(long seed) {
+        return ProgramGenerator.generate(ProgramGenerator.Config.defaults().withSeed(seed).withClasses(3));
+    }
+
+    // the CFG as built, before any pass
+    static CtrlFlowGraph build(String code) {
+        CtrlFlowGraph cfg = new CtrlFlowGraph();
+        cfg.mkCfg(new Parser(new Tokenizer(code)).parse());
+        return cfg;
+    }
+
+    // the pipeline at -O2
+    static CtrlFlowGraph optimize(String code) {
+        CtrlFlowGraph cfg = build(code);
+        cfg.toSSA(false);
+        cfg.localValueNumber();
+        cfg.cleanBlocks();
+        return cfg;
+    }
+
+    // every method of the program, main last
+    static List<CFGMethod> methods() {
+        List<CFGMethod> all = new ArrayList<>();
+        for (CFGClass c : CtrlFlowGraph.classes)
+            all.addAll(c.methods());
+        all.add(CtrlFlowGraph.main);
+        return all;
+    }
+
+    // a method of empty blocks with the given edges, each "from to"; blocks are named by the edges and
+    // listed in order of first mention, so the first one is the entry
+    static CFGMethod graph(String... edges) {
+        LinkedHashMap<String, BasicBlock> named = new LinkedHashMap<>();
+        ArrayList<BasicBlock> blocks = new ArrayList<>();
+        for (String e : edges) {
+            String[] ends = e.split(" ");
+            BasicBlock from = block(named, blocks, ends[0]);
+            block(named, blocks, ends[1]).addPred(from);
+        }
+        return method(blocks);
+    }
+
+    // n empty blocks b0.. with random edges between them, including to the entry and to themselves
+    static CFGMethod randomGraph(Random random, int n) {
+        ArrayList<BasicBlock> blocks = new ArrayList<>();
+        for (int i = 0; i < n; i++)
+            new BasicBlock(blocks).setIdentifier("b" + i);
+        for (int e = random.nextInt(2 * n + 1); e > 0; e--)
+            blocks.get(random.nextInt(n)).addPred(blocks.get(random.nextInt(n)));
+        return method(blocks);
+    }
+
+    static BasicBlock block(CFGMethod m, String name) {
+        for (BasicBlock b : m.blocks())
+            if (b.getIdentifier().equals(name))
+                return b;
+        throw new IllegalArgumentException("No block " + name);
+    }
+
+    private static BasicBlock block(LinkedHashMap<String, BasicBlock> named, ArrayList<BasicBlock> blocks,
+            String name) {
+        return named.computeIfAbsent(name, n -> {
+            BasicBlock b = new BasicBlock(blocks);
+            b.setIdentifier(n);
+            return b;
+        });
+    }
+
+    private static CFGMethod method(ArrayList<BasicBlock> blocks) {
+        return new CFGMethod("test", new CFGVar[0], new CFGVar[0], blocks.get(0), blocks, new ArrayList<>());
+    }
+}
@@ -0,0 +1,242 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0);
+static int64_t f2(int64_t a0);
+static int64_t f3(int64_t a0, int64_t a1);
+static int64_t f4(int64_t a0, int64_t a1);
+
+#define NUM_FNS 5
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 1, 1, 2, 2, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {8, (-24)}, {9, (-32)},
+    {15, (-40)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 16;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* getValListNode */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    return r2;
+}
+
+/* getNextListNode */
+static int64_t f1(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    return r2;
+}
+
+/* popStack */
+static int64_t f2(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = r2 == 0;
+    if (r3) goto L13; else goto L15;
+L13:;
+    return 0;
+L15:;
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = load(r5);
+    r7 = load(elem(r6, 0));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = load(r5);
+    r10 = load(elem(r9, 1));
+    r11 = ((int64_t (*)(int64_t)) callee(r10, 1))(r5);
+    store(r4, r11);
+    return r8;
+}
+
+/* pushStack */
+static int64_t f3(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(3);
+    store(r2, 8);
+    r3 = add(r2, 8);
+    store(r3, r1);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = add(r2, 16);
+    store(r6, r5);
+    store(r4, r2);
+    return 0;
+}
+
+/* doStacker */
+static int64_t f4(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0;
+    (void) r0;
+    (void) r7;
+    r0 = a0;
+    r1 = a1;
+    r2 = 20;
+L7:;
+    r4 = r2 > 0;
+    if (r4) goto L15; else goto L35;
+L15:;
+    r5 = load(r1);
+    r6 = load(elem(r5, 3));
+    r7 = ((int64_t (*)(int64_t, int64_t)) callee(r6, 2))(r1, r2);
+    r3 = sub(r2, 1);
+    r2 = r3;
+    goto L7;
+L35:;
+    r8 = load(r1);
+    r9 = load(elem(r8, 2));
+    r10 = ((int64_t (*)(int64_t)) callee(r9, 1))(r1);
+    r11 = r10;
+L50:;
+    r13 = r11 != 0;
+    if (r13) goto L58; else goto L75;
+L58:;
+    print(r11);
+    r14 = load(r1);
+    r15 = load(elem(r14, 2));
+    r12 = ((int64_t (*)(int64_t)) callee(r15, 1))(r1);
+    r11 = r12;
+    goto L50;
+L75:;
+    return 0;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0;
+    (void) r5;
+    r0 = alloc(2);
+    store(r0, 48);
+    r1 = add(r0, 8);
+    store(r1, 0);
+    r2 = alloc(1);
+    store(r2, 88);
+    r3 = load(r2);
+    r4 = load(elem(r3, 4));
+    r5 = ((int64_t (*)(int64_t, int64_t)) callee(r4, 2))(r2, r0);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
@@ -0,0 +1,131 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+
+#define NUM_FNS 0
+static const fn_t fns[NUM_FNS + 1] = { 0 };
+static const int arity[NUM_FNS + 1] = { 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = { {0, 0}
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 1;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0;
+    print(5);
+    r0 = div_(5, 0);
+    print(r0);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
@@ -0,0 +1,1299 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0;
+    r0 = a0;
+    r1 = 8;
+    r2 = 3;
+    r4 = 5;
+L13:;
+    r6 = r2 > 0;
+    if (r6) goto L21; else goto L66;
+L21:;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r5 = mul(r8, r1);
+    r9 = add(r0, 8);
+    r10 = load(r9);
+    r11 = r10 != 7;
+    r12 = r1 >= 3;
+    r13 = r11 < r12;
+    print(57);
+    r3 = sub(r2, 1);
+    r1 = 7;
+    r2 = r3;
+    r4 = r5;
+    goto L13;
+L66:;
+    r14 = add(r0, 16);
+    r15 = load(r14);
+    r16 = r15 < r1;
+    print(r16);
+    r17 = add(r0, 8);
+    r18 = load(r17);
+    r19 = 3 == r18;
+    if (r19) goto L90; else goto L295;
+L90:;
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = r1 >= r21;
+    r23 = load(r20);
+    r24 = sub(r22, r23);
+    r25 = load(r20);
+    r26 = sub(r25, r1);
+    r27 = add(r0, 24);
+    r28 = load(r27);
+    r29 = r28 > r1;
+    r30 = r26 == r29;
+    r31 = r24;
+    r32 = r30;
+    r33 = 0;
+L139:;
+    r34 = sub(16, r1);
+    r35 = 5 >= r34;
+    r36 = r1;
+    r38 = 3;
+    r40 = r35;
+L160:;
+    r42 = r38 > 0;
+    if (r42) goto L168; else goto L266;
+L168:;
+    r43 = r31 < r36;
+    r44 = shr(r32, 3);
+    r45 = r43 != r44;
+    r46 = sub(r36, r31);
+    print(r46);
+    r47 = r31 < 35;
+    if (r47) goto L194; else goto L207;
+L194:;
+    r48 = r36 >= r32;
+    print(r48);
+    r41 = r45;
+    goto L227;
+L207:;
+    r49 = add(r0, 16);
+    r50 = load(r49);
+    r51 = r36 < r50;
+    r52 = mul(15, r51);
+    r41 = r52;
+L227:;
+    r53 = sub(r41, r32);
+    r54 = add(r0, 8);
+    r55 = load(r54);
+    r56 = add(r0, 16);
+    r57 = load(r56);
+    r58 = r55 >= r57;
+    r37 = r53 != r58;
+    r39 = sub(r38, 1);
+    r36 = r37;
+    r38 = r39;
+    r40 = r41;
+    goto L160;
+L266:;
+    r59 = 68 > r31;
+    print(r59);
+    r60 = r36 <= r31;
+    r61 = shl(r60, 2);
+    r62 = add(r0, 8);
+    r63 = load(r62);
+    r64 = sub(r63, r61);
+    r65 = mul(r40, r64);
+    return r65;
+L295:;
+    r31 = 3;
+    r32 = 7;
+    r33 = r4;
+    goto L139;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = r1 != r1;
+    r5 = add(r0, 24);
+    store(r5, r4);
+    r6 = load(r3);
+    r7 = load(elem(r6, 0));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r3);
+    r9 = r8;
+    r10 = 0;
+    r11 = 5;
+    r12 = 6 <= r11;
+    if (r12) goto L48; else goto L73;
+L48:;
+    r13 = shl(r10, 2);
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = mul(r15, r1);
+    print(r16);
+    r23 = r9;
+    r24 = r13;
+    goto L106;
+L73:;
+    r17 = sub(r10, 62);
+    r18 = r17 <= 1;
+    r19 = add(r0, 24);
+    store(r19, r18);
+    r20 = load(r3);
+    r21 = load(elem(r20, 0));
+    r22 = ((int64_t (*)(int64_t)) callee(r21, 1))(r3);
+    r23 = r1;
+    r24 = r22;
+L106:;
+    r25 = add(r0, 8);
+    r26 = load(r25);
+    r27 = add(r1, r1);
+    r28 = r26 > r27;
+    r29 = load(r2);
+    r30 = load(elem(r29, 0));
+    r31 = ((int64_t (*)(int64_t)) callee(r30, 1))(r2);
+    r32 = add(54, r1);
+    r33 = 3;
+    r35 = r24;
+L141:;
+    r37 = r33 > 0;
+    if (r37) goto L149; else goto L171;
+L149:;
+    r38 = r35 == r32;
+    r36 = r1 >= r38;
+    r34 = sub(r33, 1);
+    r33 = r34;
+    r35 = r36;
+    goto L141;
+L171:;
+    r39 = mul(r1, r35);
+    r40 = r23 < r32;
+    r41 = add(r39, r40);
+    print(r35);
+    r42 = r23 > r35;
+    r43 = add(r0, 24);
+    r44 = load(r43);
+    r45 = sub(84, r44);
+    r46 = r42 >= r45;
+    return r46;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = alloc(4);
+    store(r4, 40);
+    r5 = add(r0, 24);
+    r6 = load(r5);
+    r7 = 5 > r6;
+    r8 = r7 <= 4;
+    r9 = 5 >= r2;
+    r10 = add(r9, (-56));
+    r11 = 3;
+    r13 = 7;
+    r15 = r8;
+    r17 = 9;
+L49:;
+    r19 = r11 > 0;
+    if (r19) goto L57; else goto L134;
+L57:;
+    r20 = r10 > r17;
+    r21 = r10 != r2;
+    r22 = r20 == r21;
+    r23 = add(r0, 24);
+    store(r23, r22);
+    r24 = r10 >= r2;
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r14 = r24 <= r26;
+    r27 = r2 == r15;
+    r16 = r15 > r27;
+    r28 = add(r0, 8);
+    r29 = load(r28);
+    r30 = r29 >= 93;
+    r31 = mul(r1, 72);
+    r18 = mul(r30, r31);
+    r12 = sub(r11, 1);
+    r11 = r12;
+    r13 = r14;
+    r15 = r16;
+    r17 = r18;
+    goto L49;
+L134:;
+    r32 = r15 >= r10;
+    print(r32);
+    r33 = r17 != r13;
+    if (r33) goto L148; else goto L170;
+L148:;
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = r35 >= 26;
+    r37 = add(r36, r15);
+    r38 = add(r0, 16);
+    store(r38, r37);
+L170:;
+    r39 = add(r0, 8);
+    r40 = load(r39);
+    r41 = r40 < r17;
+    r42 = add(0, r41);
+    r43 = load(r3);
+    r44 = load(elem(r43, 0));
+    r45 = ((int64_t (*)(int64_t)) callee(r44, 1))(r3);
+    r46 = r2 >= 6;
+    if (r46) goto L199; else goto L261;
+L199:;
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r49 = r17 <= r2;
+    r50 = sub(r49, 94);
+    r51 = r50;
+    r52 = r48;
+L222:;
+    r53 = sub(r1, 93);
+    print(r53);
+    r54 = mul(11, r51);
+    r55 = add(r0, 24);
+    r56 = load(r55);
+    r57 = r56 <= r51;
+    r58 = r54 >= r57;
+    print(r58);
+    r59 = add(r17, r2);
+    r60 = sub(r45, r45);
+    r61 = r59 >= r60;
+    return r61;
+L261:;
+    r51 = r10;
+    r52 = r42;
+    goto L222;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0, r69 = 0, r70 = 0, r71 = 0,
+        r72 = 0, r73 = 0, r74 = 0, r75 = 0, r76 = 0, r77 = 0, r78 = 0, r79 = 0,
+        r80 = 0, r81 = 0, r82 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = add(r0, 24);
+    r4 = load(r3);
+    r5 = 9 > r4;
+    r6 = r5 == 0;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = add(3, r8);
+    r10 = 1 == r9;
+    store(r7, r10);
+    r11 = add(r0, 8);
+    r12 = load(r11);
+    r13 = load(r3);
+    r14 = load(r7);
+    r15 = sub(r13, r14);
+    r16 = 3;
+L63:;
+    r18 = r16 > 0;
+    if (r18) goto L71; else goto L101;
+L71:;
+    r19 = add(99, r12);
+    r20 = div_(r12, 3);
+    r21 = r19 != r20;
+    r22 = add(r0, 24);
+    store(r22, r21);
+    r17 = sub(r16, 1);
+    r16 = r17;
+    goto L63;
+L101:;
+    r23 = add(r0, 8);
+    r24 = load(r23);
+    r25 = 85 >= r24;
+    r26 = 1 >= r25;
+    store(r23, r26);
+    r27 = 3;
+    r29 = 0;
+    r31 = r15;
+    r33 = 5;
+L133:;
+    r35 = r27 > 0;
+    if (r35) goto L141; else goto L245;
+L141:;
+    r30 = 2;
+    r37 = r31;
+L151:;
+    r39 = r30 > 0;
+    if (r39) goto L159; else goto L195;
+L159:;
+    r40 = mul(r37, 85);
+    r41 = add(r0, 16);
+    r42 = load(r41);
+    r43 = add(r0, 8);
+    r44 = load(r43);
+    r45 = r42 <= r44;
+    r38 = r40 >= r45;
+    r36 = sub(r30, 1);
+    r30 = r36;
+    r37 = r38;
+    goto L151;
+L195:;
+    r46 = add(r0, 8);
+    r47 = load(r46);
+    r48 = add(r0, 16);
+    r49 = load(r48);
+    r50 = r47 <= r49;
+    r51 = r33 >= 97;
+    r32 = r50 <= r51;
+    r52 = load(r2);
+    r53 = load(elem(r52, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r53, 1))(r2);
+    r28 = sub(r27, 1);
+    r27 = r28;
+    r29 = r30;
+    r31 = r32;
+    r33 = r34;
+    goto L133;
+L245:;
+    r54 = r15 >= 85;
+    r55 = r54 == 85;
+    r56 = add(r0, 16);
+    r57 = load(r56);
+    r58 = 42 < r57;
+    r59 = r55 < r58;
+    r60 = load(r56);
+    r61 = r60 < 85;
+    if (r61) goto L277; else goto L357;
+L277:;
+    r62 = add(r0, 8);
+    r63 = load(r62);
+    r64 = load(r62);
+    r65 = sub(r63, r64);
+    r66 = div_(r59, 6);
+    r67 = r65 == r66;
+    r68 = load(r1);
+    r69 = load(elem(r68, 2));
+    r70 = add(r0, 16);
+    r71 = load(r70);
+    r72 = mul(85, r71);
+    r73 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r69, 3))(r1, r72, r67);
+    r74 = r73;
+    r75 = r67;
+L330:;
+    r76 = add(r0, 8);
+    r77 = load(r76);
+    r78 = r33 != r77;
+    r79 = 16 < r74;
+    r80 = mul(r78, r79);
+    r81 = r80 >= 24;
+    r82 = shl(r81, 3);
+    return r82;
+L357:;
+    r74 = 85;
+    r75 = r31;
+    goto L330;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 42 != r2;
+    if (r3) goto L13; else goto L39;
+L13:;
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = sub(8, r5);
+    r7 = load(r4);
+    r8 = add(r6, r7);
+    store(r4, r8);
+    r9 = 8;
+    goto L46;
+L39:;
+    r9 = 0;
+L46:;
+    r10 = add(r0, 16);
+    r11 = load(r10);
+    r12 = add(r0, 24);
+    r13 = load(r12);
+    r14 = r11 > r13;
+    if (r14) goto L64; else goto L294;
+L64:;
+    r15 = r9 > 39;
+    if (r15) goto L72; else goto L98;
+L72:;
+    r16 = add(r0, 8);
+    r17 = load(r16);
+    r18 = 6 <= r17;
+    r19 = r18 >= 8;
+    r20 = load(r16);
+    r29 = r19;
+    r30 = r20;
+    goto L138;
+L98:;
+    r21 = add(r0, 16);
+    r22 = load(r21);
+    r23 = load(r21);
+    r24 = r22 == r23;
+    r25 = add(r0, 24);
+    r26 = load(r25);
+    r27 = r26 >= 8;
+    r28 = r24 >= r27;
+    store(r25, r28);
+    print(6);
+    r29 = r9;
+    r30 = 3;
+L138:;
+    r31 = r29;
+    r32 = r30;
+    r33 = 0;
+L151:;
+    r34 = add(r0, 16);
+    r35 = load(r34);
+    print(r35);
+    r36 = load(r34);
+    r37 = add(r0, 8);
+    r38 = load(r37);
+    r39 = r36 < r38;
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = r39 >= r41;
+    r43 = load(r34);
+    r44 = 23 >= r43;
+    if (r44) goto L190; else goto L307;
+L190:;
+    r45 = div_(r42, 7);
+    r46 = r31 != 13;
+    r47 = r45 <= r46;
+    r48 = r47;
+L209:;
+    r49 = sub(r42, r42);
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = r49 > r51;
+    r53 = r42 > r52;
+    if (r53) goto L230; else goto L256;
+L230:;
+    r54 = add(r0, 24);
+    r55 = load(r54);
+    r56 = load(r54);
+    r57 = add(r32, r56);
+    r58 = sub(r55, r57);
+    r61 = r58;
+    r62 = r42;
+    goto L271;
+L256:;
+    r59 = add(r0, 24);
+    r60 = load(r59);
+    r61 = r52;
+    r62 = r60;
+L271:;
+    r63 = add(r0, 24);
+    r64 = load(r63);
+    r65 = r64 >= 62;
+    r66 = r62 >= r65;
+    r67 = shl(r62, 2);
+    r68 = 25 < r67;
+    return r68;
+L294:;
+    r31 = r9;
+    r32 = 3;
+    r33 = 2;
+    goto L151;
+L307:;
+    r48 = r31;
+    goto L209;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = load(r2);
+    r4 = load(elem(r3, 0));
+    r5 = ((int64_t (*)(int64_t)) callee(r4, 1))(r2);
+    r6 = r5 == r1;
+    r7 = 0 <= r6;
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = load(r8);
+    r11 = sub(r9, r10);
+    r12 = r11 == 1;
+    r13 = r12 <= r7;
+    r14 = div_(r13, 2);
+    r15 = load(r2);
+    r16 = load(elem(r15, 0));
+    r17 = ((int64_t (*)(int64_t)) callee(r16, 1))(r2);
+    r18 = add(r0, 16);
+    store(r18, r17);
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = add(r20, r17);
+    r22 = mul(r5, r21);
+    if (r6) goto L78; else goto L94;
+L78:;
+    r23 = r5 > r22;
+    print(r23);
+    r27 = r22;
+    r28 = r5;
+    goto L112;
+L94:;
+    r24 = load(r2);
+    r25 = load(elem(r24, 0));
+    r26 = ((int64_t (*)(int64_t)) callee(r25, 1))(r2);
+    r27 = r12;
+    r28 = r26;
+L112:;
+    r29 = 2 < r1;
+    if (r29) goto L120; else goto L144;
+L120:;
+    r30 = r27 <= r27;
+    r31 = add(r0, 24);
+    r32 = load(r31);
+    r33 = shr(r32, 0);
+    r34 = sub(r30, r33);
+    r35 = r34;
+    goto L151;
+L144:;
+    r35 = 93;
+L151:;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = mul(r37, r1);
+    r39 = r38 <= r35;
+    r40 = load(r2);
+    r41 = load(elem(r40, 0));
+    r42 = ((int64_t (*)(int64_t)) callee(r41, 1))(r2);
+    r43 = add(r0, 16);
+    r44 = load(r43);
+    r45 = load(r2);
+    r46 = load(elem(r45, 0));
+    r47 = ((int64_t (*)(int64_t)) callee(r46, 1))(r2);
+    r48 = sub(r1, r44);
+    r49 = r44 != r48;
+    return r49;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = load(r3);
+    r5 = load(elem(r4, 1));
+    r6 = ((int64_t (*)(int64_t, int64_t)) callee(r5, 2))(r3, 7);
+    r7 = r2 != 7;
+    r8 = 2 > r2;
+    r9 = r7 < r8;
+    r10 = add(r0, 16);
+    store(r10, r9);
+    r11 = 2;
+    r13 = 4;
+    r15 = 2;
+L47:;
+    r16 = r13 > 0;
+    if (r16) goto L55; else goto L80;
+L55:;
+    r17 = r6 == 71;
+    r12 = 55 >= r17;
+    r14 = sub(r13, 1);
+    r11 = r12;
+    r13 = r14;
+    r15 = r1;
+    goto L47;
+L80:;
+    r18 = add(64, r6);
+    r19 = r18 > 1;
+    r20 = r2 >= r6;
+    if (r20) goto L96; else goto L106;
+L96:;
+    r22 = r19;
+    r23 = 7;
+    goto L122;
+L106:;
+    r21 = r19 >= 96;
+    print(r21);
+    r22 = r11;
+    r23 = 7;
+L122:;
+    r24 = sub(r11, r22);
+    print(r24);
+    r25 = r23 >= 68;
+    if (r25) goto L136; else goto L159;
+L136:;
+    r26 = add(r0, 16);
+    r27 = load(r26);
+    r28 = add(r27, 5);
+    r29 = r28 <= r6;
+    r33 = r29;
+    r34 = r23;
+    goto L181;
+L159:;
+    r30 = add(72, r23);
+    r31 = r23 < r6;
+    r32 = mul(r30, r31);
+    r33 = r6;
+    r34 = r32;
+L181:;
+    r35 = load(r3);
+    r36 = load(elem(r35, 1));
+    r37 = 58 >= r34;
+    r38 = ((int64_t (*)(int64_t, int64_t)) callee(r36, 2))(r3, r37);
+    r39 = 92 <= r1;
+    if (r39) goto L206; else goto L247;
+L206:;
+    r40 = add(94, r2);
+    r41 = mul(r2, r40);
+    r42 = r41;
+L221:;
+    r43 = add(r0, 24);
+    r44 = load(r43);
+    r45 = add(r44, 74);
+    print(r45);
+    r46 = r22 == r1;
+    r47 = add(r0, 8);
+    r48 = load(r47);
+    r49 = mul(r46, r48);
+    return r49;
+L247:;
+    r42 = r33;
+    goto L221;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = load(r1);
+    r3 = load(elem(r2, 0));
+    r4 = ((int64_t (*)(int64_t)) callee(r3, 1))(r1);
+    r5 = r4;
+    r7 = 2;
+    r8 = 2;
+L27:;
+    r10 = r8 > 0;
+    if (r10) goto L35; else goto L100;
+L35:;
+    r11 = add(r0, 16);
+    r12 = load(r11);
+    r13 = r5 >= 7;
+    r6 = r12 != r13;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r15 >= 52;
+    r17 = load(r11);
+    r18 = sub(r6, r17);
+    r19 = r16 < r18;
+    r20 = load(r11);
+    r21 = r20 <= 82;
+    print(r21);
+    r22 = sub(r6, r6);
+    print(r22);
+    r9 = sub(r8, 1);
+    r5 = r6;
+    r7 = 1;
+    r8 = r9;
+    goto L27;
+L100:;
+    r23 = add(r0, 16);
+    r24 = load(r23);
+    r25 = 89 > r24;
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = sub(r27, r7);
+    r29 = r25 < r28;
+    store(r26, r29);
+    r30 = load(r26);
+    r31 = r30 >= r5;
+    r32 = div_(r31, 7);
+    r33 = load(r26);
+    r34 = sub(r33, 82);
+    print(r34);
+    r35 = load(r23);
+    r36 = 82 <= r35;
+    if (r36) goto L156; else goto L171;
+L156:;
+    r37 = load(r1);
+    r38 = load(elem(r37, 0));
+    r39 = ((int64_t (*)(int64_t)) callee(r38, 1))(r1);
+    r47 = r39;
+    goto L205;
+L171:;
+    r40 = add(r0, 8);
+    r41 = load(r40);
+    r42 = add(r0, 16);
+    store(r42, r41);
+    r43 = r32 < r32;
+    r44 = load(r42);
+    r45 = r5 != r44;
+    r46 = r43 == r45;
+    r47 = r46;
+L205:;
+    r48 = add(r0, 8);
+    r49 = load(r48);
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = sub(r51, 2);
+    r53 = shr(r52, 1);
+    r54 = add(r0, 16);
+    store(r54, r53);
+    r55 = load(r48);
+    r56 = div_(r49, 2);
+    r57 = 82 <= r56;
+    return r57;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = add(r0, 24);
+    r4 = load(r3);
+    r5 = r4 > 58;
+    r6 = 5 == r5;
+    r7 = load(r1);
+    r8 = load(r3);
+    r9 = r7 == r8;
+    print(r9);
+    r10 = 4;
+    r11 = 2;
+L40:;
+    r13 = r11 > 0;
+    if (r13) goto L48; else goto L73;
+L48:;
+    r14 = add(r0, 8);
+    r15 = load(r14);
+    r16 = r15 >= 46;
+    print(r16);
+    r12 = sub(r11, 1);
+    r10 = 1;
+    r11 = r12;
+    goto L40;
+L73:;
+    r17 = sub(4, r10);
+    r18 = add(r6, r6);
+    r19 = mul(r17, r18);
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    print(r21);
+    r22 = 5 > r10;
+    print(r22);
+    r23 = add(r0, 16);
+    store(r23, r19);
+    r24 = 4;
+L112:;
+    r26 = r24 > 0;
+    if (r26) goto L120; else goto L158;
+L120:;
+    r27 = add(r0, 16);
+    store(r27, 4);
+    store(r27, 434);
+    r28 = load(r27);
+    r29 = add(93, r28);
+    r30 = 4 != r29;
+    store(r27, r30);
+    store(r27, 25);
+    r25 = sub(r24, 1);
+    r24 = r25;
+    goto L112;
+L158:;
+    r31 = add(r0, 24);
+    r32 = load(r31);
+    r33 = mul(59, r32);
+    r34 = 1 <= r33;
+    return r34;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = 2;
+    r4 = 7;
+    r5 = 5;
+L13:;
+    r6 = r2 > 0;
+    if (r6) goto L21; else goto L38;
+L21:;
+    r3 = sub(r2, 1);
+    r2 = r3;
+    r4 = 71;
+    r5 = 71;
+    goto L13;
+L38:;
+    r7 = mul(r4, r1);
+    r8 = sub(r7, 1);
+    print(441);
+    r9 = add(r0, 16);
+    r10 = load(r9);
+    r11 = r1 <= 15;
+    r12 = sub(r10, r11);
+    r13 = add(9, r8);
+    r14 = sub(r8, r13);
+    r15 = mul(r1, 9);
+    r16 = r15 < r1;
+    r17 = r8 > 0;
+    r18 = add(r0, 24);
+    r19 = load(r18);
+    r20 = r19 >= r17;
+    r21 = load(r18);
+    r22 = sub(r21, r17);
+    r23 = r20 != r22;
+    r24 = 3;
+    r26 = r23;
+    r28 = r16;
+L114:;
+    r30 = r24 > 0;
+    if (r30) goto L122; else goto L187;
+L122:;
+    r31 = add(r0, 24);
+    store(r31, 9);
+    r32 = r8 >= r28;
+    if (r32) goto L137; else goto L240;
+L137:;
+    r33 = add(r0, 8);
+    r34 = load(r33);
+    r35 = sub(r28, r34);
+    r36 = 9 > r28;
+    r37 = r35 < r36;
+    r38 = 9 >= r8;
+    print(r38);
+    r27 = r8;
+    r29 = r37;
+L170:;
+    r25 = sub(r24, 1);
+    r24 = r25;
+    r26 = r27;
+    r28 = r29;
+    goto L114;
+L187:;
+    r39 = r26 != r1;
+    if (r39) goto L195; else goto L250;
+L195:;
+    r40 = add(r0, 16);
+    r41 = load(r40);
+    r42 = r41 <= r1;
+    r43 = r42 == 5;
+    r44 = add(r0, 8);
+    store(r44, r43);
+    r45 = 8 > r1;
+    r46 = add(r1, r45);
+    r47 = r46;
+L230:;
+    r48 = add(r1, r26);
+    r49 = shr(r48, 0);
+    return r49;
+L240:;
+    r27 = 9;
+    r29 = r28;
+    goto L170;
+L250:;
+    r47 = 9;
+    goto L230;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = shr(r4, 3);
+    r6 = mul(r5, 1);
+    r7 = r1 > 6;
+    if (r7) goto L21; else goto L42;
+L21:;
+    r8 = add(r0, 16);
+    r9 = load(r8);
+    r10 = r6 >= r9;
+    if (r10) goto L34; else goto L36;
+L34:;
+    return 0;
+L36:;
+    r11 = add(r2, 6);
+    return 0;
+L42:;
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = add(6, r13);
+    r15 = 6 < r1;
+    r16 = shl(r15, 2);
+    r17 = add(r0, 8);
+    store(r17, 99);
+    r18 = 6;
+    r19 = r16;
+L76:;
+    r20 = add(r0, 16);
+    r21 = load(r20);
+    r22 = add(r21, r1);
+    r23 = r2 >= r19;
+    r24 = r22 < r23;
+    r25 = r2 < 1;
+    r26 = r25 == 6;
+    print(r26);
+    r27 = r19 >= r2;
+    r28 = r25 < 46;
+    if (r28) goto L115; else goto L200;
+L115:;
+    r29 = 8;
+    r31 = 4;
+    r33 = r25;
+    r34 = r27;
+L131:;
+    r35 = r31 > 0;
+    if (r35) goto L139; else goto L182;
+L139:;
+    r36 = r29 <= r19;
+    r37 = 1 != r19;
+    r38 = r36 >= r37;
+    r39 = r2 >= r19;
+    print(r39);
+    r40 = add(r0, 16);
+    r30 = load(r40);
+    r32 = sub(r31, 1);
+    r29 = r30;
+    r31 = r32;
+    r33 = 0;
+    r34 = 1;
+    goto L131;
+L182:;
+    r41 = r29;
+    r42 = r31;
+    r43 = r33;
+    r44 = r34;
+L198:;
+    return r43;
+L200:;
+    r41 = 8;
+    r42 = 0;
+    r43 = r25;
+    r44 = r27;
+    goto L198;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = 54 >= r2;
+    r4 = sub(r3, 3);
+    r5 = 7;
+    r7 = 4;
+    r9 = 3;
+L26:;
+    r11 = r7 > 0;
+    if (r11) goto L34; else goto L94;
+L34:;
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = r13 >= r4;
+    if (r14) goto L47; else goto L193;
+L47:;
+    r15 = add(r4, r9);
+    print(r15);
+    print(r9);
+    r16 = 3 >= r9;
+    r17 = add(3, r9);
+    r18 = r16 != r17;
+    r6 = 25;
+    r10 = r18;
+L77:;
+    r8 = sub(r7, 1);
+    r5 = r6;
+    r7 = r8;
+    r9 = r10;
+    goto L26;
+L94:;
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = r5 <= r20;
+    r22 = mul(r21, 3);
+    r23 = 57 != r4;
+    r24 = r5 > r5;
+    r25 = sub(r23, r24);
+    r26 = load(r19);
+    r27 = div_(r26, 4);
+    r28 = r27 > 0;
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = r25 != r30;
+    r32 = div_(r31, 1);
+    r33 = r28 < r28;
+    r34 = 57 != r33;
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = load(r19);
+    r38 = r36 >= r37;
+    r39 = r34 <= r34;
+    r40 = r38 >= r39;
+    r41 = load(r19);
+    r42 = r41 < r28;
+    print(r42);
+    r43 = add(68, r34);
+    r44 = 0 > r43;
+    r45 = load(r29);
+    return r45;
+L193:;
+    r6 = r5;
+    r10 = r9;
+    goto L77;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
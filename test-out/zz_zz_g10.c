@@ -0,0 +1,1297 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 0 == r2;
+    if (r3) goto L13; else goto L270;
+L13:;
+    print(86);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = mul(3, r5);
+    r7 = sub(3, r6);
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = load(r8);
+    r11 = r7 >= r10;
+    r12 = sub(r9, r11);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 > 1;
+    r16 = shl(r15, 0);
+    r17 = r16;
+    r18 = 1;
+    r19 = r12;
+L70:;
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = r21 < r19;
+    if (r22) goto L83; else goto L97;
+L83:;
+    r23 = add(r0, 24);
+    store(r23, r18);
+    r32 = r19;
+    goto L134;
+L97:;
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = r25 >= 0;
+    r27 = add(r0, 8);
+    store(r27, r26);
+    r28 = load(r24);
+    r29 = load(r27);
+    r30 = r28 >= r29;
+    r31 = shr(r30, 3);
+    r32 = r31;
+L134:;
+    print(69);
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = 0 <= r34;
+    r36 = add(54, r35);
+    store(r33, r36);
+    r37 = add(r0, 8);
+    r38 = load(r37);
+    r39 = r32 < r38;
+    if (r39) goto L165; else goto L172;
+L165:;
+    r40 = 0;
+    goto L179;
+L172:;
+    r40 = r18;
+L179:;
+    r41 = add(r0, 24);
+    r42 = load(r41);
+    r43 = sub(0, r42);
+    print(r43);
+    r44 = add(r0, 8);
+    r45 = load(r44);
+    r46 = mul(r45, 0);
+    print(r46);
+    r47 = load(r44);
+    r48 = r47 != 55;
+    r49 = r48 > r17;
+    r50 = load(r41);
+    r51 = r50 == 23;
+    if (r51) goto L223; else goto L283;
+L223:;
+    r52 = add(r0, 8);
+    r53 = load(r52);
+    r54 = mul(r17, r53);
+    r55 = add(r0, 24);
+    r56 = load(r55);
+    r57 = div_(r56, 6);
+    r58 = r54 > r57;
+    r59 = 0;
+    r60 = r58;
+L255:;
+    r61 = sub(r59, r60);
+    r62 = add(r0, 16);
+    r63 = load(r62);
+    r64 = r61 == r63;
+    return r64;
+L270:;
+    r17 = 0;
+    r18 = 3;
+    r19 = 3;
+    goto L70;
+L283:;
+    r59 = 0;
+    r60 = r18;
+    goto L255;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = 3 == r5;
+    print(r6);
+    r7 = add(r0, 8);
+    r8 = load(r7);
+    r9 = 7;
+    r10 = 2;
+L38:;
+    r12 = r10 > 0;
+    if (r12) goto L46; else goto L60;
+L46:;
+    r11 = sub(r10, 1);
+    r9 = 11;
+    r10 = r11;
+    goto L38;
+L60:;
+    r13 = r9 <= 35;
+    r14 = r13 > r1;
+    r15 = 12 != r8;
+    r16 = r1 < r15;
+    r17 = add(r0, 24);
+    store(r17, r16);
+    r18 = r1 < 2;
+    r19 = 0 <= r18;
+    r20 = 89 < r14;
+    if (r20) goto L99; else goto L186;
+L99:;
+    r21 = r1 <= r14;
+    r22 = r14 <= r21;
+    r23 = div_(r14, 6);
+    r24 = mul(r23, r19);
+    r25 = r22 < 20;
+    r26 = sub(r25, 0);
+    r27 = div_(r24, 2);
+    r28 = 49 < r27;
+    r29 = r22;
+    r30 = r28;
+    r31 = r24;
+L144:;
+    r32 = load(r2);
+    r33 = load(elem(r32, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r33, 1))(r2);
+    r35 = r1 >= 20;
+    if (r35) goto L160; else goto L199;
+L160:;
+    print(r29);
+    print(r34);
+    r36 = r30;
+L171:;
+    r37 = r1 <= 88;
+    r38 = add(r0, 8);
+    r39 = load(r38);
+    r40 = add(r37, r39);
+    return r40;
+L186:;
+    r29 = r14;
+    r30 = r19;
+    r31 = 2;
+    goto L144;
+L199:;
+    r36 = r14;
+    goto L171;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 40);
+    r4 = alloc(4);
+    store(r4, 72);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = r6 >= 2;
+    r8 = mul(r1, r7);
+    print(83);
+    r9 = add(r0, 24);
+    r10 = load(r9);
+    r11 = sub(r2, r10);
+    r12 = add(r0, 8);
+    r13 = load(r12);
+    r14 = add(r13, r2);
+    r15 = r11 > r14;
+    store(r9, r15);
+    r16 = r8;
+    r17 = 2;
+L62:;
+    r19 = r17 > 0;
+    if (r19) goto L70; else goto L91;
+L70:;
+    r20 = add(r0, 24);
+    store(r20, r16);
+    r18 = sub(r17, 1);
+    r16 = 28;
+    r17 = r18;
+    goto L62;
+L91:;
+    r21 = 0;
+    r23 = 9;
+    r25 = r16;
+    r27 = 2;
+L107:;
+    r29 = r27 > 0;
+    if (r29) goto L115; else goto L181;
+L115:;
+    r22 = 3;
+    r24 = r23;
+    r26 = r25;
+L128:;
+    r32 = r22 > 0;
+    if (r32) goto L136; else goto L161;
+L136:;
+    r33 = load(r4);
+    r34 = load(elem(r33, 0));
+    r31 = ((int64_t (*)(int64_t)) callee(r34, 1))(r4);
+    r30 = sub(r22, 1);
+    r22 = r30;
+    r24 = r31;
+    r26 = 2;
+    goto L128;
+L161:;
+    r28 = sub(r27, 1);
+    r21 = r22;
+    r23 = r24;
+    r25 = r26;
+    r27 = r28;
+    goto L107;
+L181:;
+    r35 = r23 == 6;
+    if (r35) goto L189; else goto L293;
+L189:;
+    r36 = load(r3);
+    r37 = load(elem(r36, 0));
+    r38 = ((int64_t (*)(int64_t)) callee(r37, 1))(r3);
+    r39 = r1 >= r23;
+    print(r39);
+    r40 = r38 >= 6;
+    print(r40);
+    r41 = r38;
+L216:;
+    r42 = add(r0, 8);
+    r43 = load(r42);
+    r44 = r43 >= r41;
+    r45 = div_(r41, 7);
+    r46 = r44 >= r45;
+    r47 = add(r2, r41);
+    print(r47);
+    r48 = 43 != r1;
+    if (r48) goto L247; else goto L262;
+L247:;
+    r49 = add(r0, 16);
+    r50 = load(r49);
+    r55 = r41;
+    r56 = r50;
+    goto L289;
+L262:;
+    r51 = load(r4);
+    r52 = load(elem(r51, 1));
+    r53 = r1 > r41;
+    r54 = ((int64_t (*)(int64_t, int64_t)) callee(r52, 2))(r4, r53);
+    r55 = r54;
+    r56 = r46;
+L289:;
+    print(0);
+    return r55;
+L293:;
+    r41 = r25;
+    goto L216;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = load(r2);
+    r5 = sub(0, r4);
+    r6 = load(r2);
+    r7 = add(r0, 16);
+    store(r7, r6);
+    print(0);
+    r8 = r3 < r3;
+    print(r8);
+    r9 = load(r7);
+    r10 = add(0, r9);
+    r11 = r3 < 0;
+    r12 = mul(r10, r11);
+    r13 = sub(51, r3);
+    r14 = load(r7);
+    r15 = 3 == r14;
+    r16 = r13 < r15;
+    store(r2, r16);
+    r17 = load(r7);
+    r18 = r17 <= r3;
+    r19 = load(r2);
+    r20 = load(r7);
+    r21 = load(r7);
+    r22 = r21 != 0;
+    if (r22) goto L93; else goto L129;
+L93:;
+    r23 = add(r0, 16);
+    r24 = load(r23);
+    r25 = add(r0, 8);
+    r26 = load(r25);
+    r27 = r24 > r26;
+    r28 = add(r19, r20);
+    r29 = mul(r27, r28);
+    r30 = sub(r20, 41);
+    r42 = r18;
+    r43 = r30;
+    goto L174;
+L129:;
+    r31 = add(r0, 16);
+    r32 = load(r31);
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r35 = r20 != r34;
+    r36 = r32 >= r35;
+    r37 = r36 != 0;
+    r38 = add(r0, 8);
+    r39 = load(r38);
+    r40 = r39 == r36;
+    r41 = r37 == r40;
+    r42 = r41;
+    r43 = r36;
+L174:;
+    r44 = r20 >= 94;
+    r45 = add(r20, r43);
+    r46 = add(r44, r45);
+    r47 = r42 < 0;
+    print(r47);
+    r48 = add(r0, 24);
+    r49 = load(r48);
+    r50 = r49 > 0;
+    if (r50) goto L205; else goto L223;
+L205:;
+    r51 = add(r0, 24);
+    r52 = load(r51);
+    r53 = r42 < r52;
+    r54 = r53;
+L221:;
+    return 0;
+L223:;
+    r54 = r20;
+    goto L221;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0;
+    r0 = a0;
+    r1 = 3;
+L7:;
+    r3 = r1 > 0;
+    if (r3) goto L15; else goto L33;
+L15:;
+    r4 = add(r0, 16);
+    store(r4, 288);
+    r2 = sub(r1, 1);
+    r1 = r2;
+    goto L7;
+L33:;
+    r5 = add(r0, 24);
+    store(r5, 28);
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = r7 != 6;
+    r9 = 6 <= r8;
+    r10 = r9 > 1;
+    if (r10) goto L61; else goto L78;
+L61:;
+    r11 = add(r0, 24);
+    r12 = load(r11);
+    print(r12);
+    r22 = r9;
+    r23 = 1;
+    goto L117;
+L78:;
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = shl(r14, 3);
+    r16 = div_(r15, 2);
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = load(r13);
+    r20 = sub(r18, r19);
+    r21 = r20 > r9;
+    r22 = r21;
+    r23 = r16;
+L117:;
+    r24 = add(r0, 8);
+    r25 = load(r24);
+    r26 = r25 >= 52;
+    if (r26) goto L130; else goto L279;
+L130:;
+    r27 = add(r0, 24);
+    store(r27, 25);
+    r28 = r23;
+L144:;
+    r29 = r23 < 6;
+    if (r29) goto L152; else goto L170;
+L152:;
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = r31;
+    r33 = r22;
+    r34 = 6;
+    goto L183;
+L170:;
+    r32 = r28;
+    r33 = 1;
+    r34 = 96;
+L183:;
+    r35 = r32;
+    r37 = 4;
+L193:;
+    r39 = r37 > 0;
+    if (r39) goto L201; else goto L228;
+L201:;
+    r40 = add(r0, 8);
+    r41 = load(r40);
+    r42 = shr(r33, 3);
+    r36 = r41 >= r42;
+    r38 = sub(r37, 1);
+    r35 = r36;
+    r37 = r38;
+    goto L193;
+L228:;
+    print(r33);
+    r43 = 9 <= r23;
+    r44 = add(r23, 14);
+    r45 = add(r43, r44);
+    r46 = add(r0, 24);
+    store(r46, r45);
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r49 = load(r46);
+    r50 = r48 == r49;
+    r51 = add(r0, 8);
+    r52 = load(r51);
+    r53 = load(r47);
+    r54 = r52 > r53;
+    r55 = r50 < r54;
+    return r55;
+L279:;
+    r28 = 6;
+    goto L144;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = r1 <= 0;
+    print(r3);
+    r4 = 0 == r1;
+    if (r4) goto L20; else goto L182;
+L20:;
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = sub(r6, 9);
+    print(r7);
+    r8 = load(r2);
+    r9 = load(elem(r8, 0));
+    r10 = ((int64_t (*)(int64_t)) callee(r9, 1))(r2);
+    r11 = add(r0, 24);
+    r12 = load(r11);
+    r13 = r12 <= 15;
+    r14 = r13 == r1;
+    r15 = shl(r10, 3);
+    r16 = load(r5);
+    r17 = r15 <= r16;
+    store(r11, r17);
+    r18 = r10 != r14;
+    r19 = mul(r18, 72);
+    r20 = r19;
+    r21 = r14;
+L84:;
+    r22 = mul(r1, 1);
+    r23 = r22 >= r20;
+    r24 = add(r0, 16);
+    store(r24, r23);
+    r25 = r1 != 70;
+    r26 = add(r1, r20);
+    r27 = r25 > r26;
+    r28 = add(r1, r1);
+    r29 = shr(r28, 0);
+    r30 = 4;
+    r32 = r27;
+L129:;
+    r33 = r30 > 0;
+    if (r33) goto L137; else goto L157;
+L137:;
+    r34 = r32 != r1;
+    print(r34);
+    r31 = sub(r30, 1);
+    r30 = r31;
+    r32 = 69;
+    goto L129;
+L157:;
+    r35 = add(3, r32);
+    r36 = r35 != r32;
+    r37 = add(r0, 24);
+    store(r37, r36);
+    r38 = 6 == r32;
+    r39 = r38 < r1;
+    return r39;
+L182:;
+    r20 = 9;
+    r21 = 1;
+    goto L84;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 16);
+    store(r4, 0);
+    r5 = load(r3);
+    r6 = load(elem(r5, 0));
+    r7 = ((int64_t (*)(int64_t)) callee(r6, 1))(r3);
+    r8 = r7 < 97;
+    r9 = div_(r8, 7);
+    store(r4, r9);
+    r10 = add(99, r7);
+    r11 = r10 != 3;
+    store(r4, r11);
+    r23 = 0;
+    r24 = 7;
+    r25 = r7;
+    goto L112;
+L56:;
+    print(r2);
+    r12 = load(r3);
+    r13 = load(elem(r12, 0));
+    r14 = ((int64_t (*)(int64_t)) callee(r13, 1))(r3);
+    r15 = r1 > r1;
+    print(r15);
+    r16 = sub(r17, 1);
+    r17 = r16;
+    r18 = r14;
+    r19 = r17 > 0;
+    if (r19) goto L56; else goto L90;
+L90:;
+    r20 = load(r3);
+    r21 = load(elem(r20, 1));
+    r22 = ((int64_t (*)(int64_t, int64_t)) callee(r21, 2))(r3, r2);
+    r23 = r17;
+    r24 = r22;
+    r25 = r18;
+L112:;
+    print(r25);
+    r26 = add(84, r1);
+    r27 = r25 <= r26;
+    r28 = r25 <= r25;
+    if (r28) goto L130; else goto L148;
+L130:;
+    r29 = add(r25, r25);
+    r30 = div_(r29, 4);
+    r33 = r27;
+    r34 = r30;
+    goto L166;
+L148:;
+    r31 = r24 != 38;
+    r32 = r31 >= r25;
+    r33 = r32;
+    r34 = r25;
+L166:;
+    r35 = r1 > r33;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = add(r33, r37);
+    r39 = sub(r35, r38);
+    print(81);
+    r40 = div_(r2, 2);
+    r41 = r34 > r2;
+    r42 = r40 <= r41;
+    store(r36, r42);
+    r43 = r39 <= r25;
+    r44 = div_(r43, 5);
+    r45 = add(r0, 8);
+    store(r45, r44);
+    return 6;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0, r69 = 0, r70 = 0, r71 = 0,
+        r72 = 0, r73 = 0, r74 = 0, r75 = 0, r76 = 0, r77 = 0, r78 = 0, r79 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = 2;
+    r4 = 4;
+    r6 = 3;
+    r8 = 4;
+L22:;
+    r9 = r6 > 0;
+    if (r9) goto L30; else goto L116;
+L30:;
+    r10 = r4 > r8;
+    r11 = r8 > r10;
+    r12 = add(r0, 16);
+    store(r12, r11);
+    r13 = load(r12);
+    r14 = r2 <= r4;
+    r5 = sub(r13, r14);
+    r15 = load(r12);
+    r16 = r15 > 6;
+    r17 = shl(r16, 0);
+    r18 = load(r1);
+    r19 = load(elem(r18, 2));
+    r20 = add(r0, 24);
+    r21 = load(r20);
+    r22 = load(r20);
+    r23 = load(r12);
+    r24 = r22 != r23;
+    r3 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r19, 3))(r1, r21, r24);
+    r7 = sub(r6, 1);
+    r2 = r3;
+    r4 = r5;
+    r6 = r7;
+    r8 = 0;
+    goto L22;
+L116:;
+    r25 = load(r1);
+    r26 = load(elem(r25, 0));
+    r27 = ((int64_t (*)(int64_t)) callee(r26, 1))(r1);
+    r28 = add(r4, 24);
+    r29 = r28 != r4;
+    r30 = r2;
+    r32 = r4;
+    r34 = r29;
+    r36 = 2;
+L148:;
+    r38 = r36 > 0;
+    if (r38) goto L156; else goto L239;
+L156:;
+    r39 = add(r0, 16);
+    r40 = load(r39);
+    r41 = 53 != r40;
+    if (r41) goto L169; else goto L191;
+L169:;
+    r42 = r27 == r32;
+    r43 = r30 < r34;
+    r44 = r42 >= r43;
+    r31 = r44;
+    r33 = r32;
+    goto L211;
+L191:;
+    r45 = load(r1);
+    r46 = load(elem(r45, 2));
+    r47 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r46, 3))(r1, 9, 55);
+    r31 = r30;
+    r33 = r47;
+L211:;
+    r48 = load(r1);
+    r49 = load(elem(r48, 0));
+    r35 = ((int64_t (*)(int64_t)) callee(r49, 1))(r1);
+    r37 = sub(r36, 1);
+    r30 = r31;
+    r32 = r33;
+    r34 = r35;
+    r36 = r37;
+    goto L148;
+L239:;
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = add(r0, 16);
+    r53 = load(r52);
+    r54 = r53 != 81;
+    if (r54) goto L257; else goto L353;
+L257:;
+    r55 = 31 != r27;
+    r56 = 53 > r32;
+    r57 = r55 < r56;
+    r58 = add(r0, 16);
+    store(r58, r57);
+    print(1116);
+    r59 = load(r58);
+    r60 = r30 > r30;
+    r61 = r59 > r60;
+    r62 = r61;
+L296:;
+    r63 = load(r1);
+    r64 = load(elem(r63, 0));
+    r65 = ((int64_t (*)(int64_t)) callee(r64, 1))(r1);
+    r66 = add(r62, r30);
+    print(r66);
+    r67 = add(r0, 24);
+    r68 = load(r67);
+    r69 = r68 < 43;
+    r70 = add(r0, 16);
+    r71 = load(r70);
+    r72 = sub(r71, r62);
+    r73 = r69 >= r72;
+    r74 = load(r67);
+    r75 = load(r70);
+    r76 = r74 > r75;
+    r77 = add(r0, 8);
+    r78 = load(r77);
+    r79 = r76 >= r78;
+    return r79;
+L353:;
+    r62 = r27;
+    goto L296;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = 7 >= r2;
+    if (r3) goto L13; else goto L51;
+L13:;
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = sub(r5, 11);
+    store(r4, r6);
+    r7 = add(r0, 8);
+    r8 = load(r7);
+    r9 = load(r7);
+    r10 = add(r8, r9);
+    print(r10);
+    print(5);
+    r11 = 7;
+    r12 = 5;
+    goto L61;
+L51:;
+    r11 = 14;
+    r12 = 0;
+L61:;
+    r13 = r12 == 0;
+    if (r13) goto L69; else goto L97;
+L69:;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = add(r0, 16);
+    r17 = load(r16);
+    r18 = r15 < r17;
+    r19 = r18 <= r11;
+    store(r14, r19);
+    r20 = 0;
+    goto L104;
+L97:;
+    r20 = r11;
+L104:;
+    r21 = add(r0, 8);
+    r22 = load(r21);
+    r23 = r22 > r20;
+    print(r23);
+    r24 = shr(r12, 2);
+    r25 = r12 != r24;
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = r20 != r27;
+    r29 = load(r21);
+    r30 = 53 > r29;
+    r31 = r28 <= r30;
+    store(r21, r31);
+    r32 = div_(r25, 7);
+    r33 = 86 > r25;
+    r34 = r32 <= r33;
+    r35 = 4;
+    r37 = r11;
+    r38 = 0;
+L171:;
+    r40 = r35 > 0;
+    if (r40) goto L179; else goto L235;
+L179:;
+    r39 = 2;
+L186:;
+    r42 = r39 > 0;
+    if (r42) goto L194; else goto L216;
+L194:;
+    r43 = add(r0, 8);
+    r44 = load(r43);
+    r45 = r34 < r44;
+    print(r45);
+    r41 = sub(r39, 1);
+    r39 = r41;
+    goto L186;
+L216:;
+    print(64);
+    r36 = sub(r35, 1);
+    r35 = r36;
+    r37 = 53;
+    r38 = r39;
+    goto L171;
+L235:;
+    r46 = add(r0, 24);
+    r47 = load(r46);
+    r48 = add(r0, 16);
+    store(r48, r47);
+    return r34;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = r1 >= 6;
+    r3 = add(0, r2);
+    r4 = sub(9, r1);
+    r5 = 7 != r4;
+    r6 = 9 > r5;
+    if (r6) goto L24; else goto L35;
+L24:;
+    r7 = 22 == r5;
+    r11 = r7;
+    goto L57;
+L35:;
+    r8 = add(r3, r1);
+    r9 = r5 <= r8;
+    r10 = add(r0, 16);
+    store(r10, r9);
+    r11 = r5;
+L57:;
+    r12 = add(r11, 1);
+    r13 = add(r0, 16);
+    store(r13, r12);
+    r14 = 9 < r1;
+    r15 = add(r14, r11);
+    r16 = 53 >= r15;
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = sub(r18, r16);
+    r20 = sub(60, r1);
+    r21 = r19 == r20;
+    r22 = r1 != 65;
+    print(r22);
+    r23 = r1 > r21;
+    r24 = load(r17);
+    r25 = r24 < r3;
+    r26 = r23 != r25;
+    r27 = r14 <= 42;
+    if (r27) goto L126; else goto L172;
+L126:;
+    r28 = add(r0, 16);
+    r29 = load(r28);
+    r30 = r3 > r29;
+    if (r30) goto L139; else goto L210;
+L139:;
+    r31 = r1 > 41;
+    r32 = r31;
+L150:;
+    r33 = r16 >= 61;
+    r34 = r26 != r3;
+    r35 = mul(r33, r34);
+    r41 = r35;
+    r42 = r32;
+    goto L204;
+L172:;
+    r36 = r26 != r1;
+    r37 = r16 >= r36;
+    r38 = add(48, r1);
+    r39 = shl(r38, 2);
+    r40 = shr(r1, 1);
+    print(r40);
+    r41 = r39;
+    r42 = r37;
+L204:;
+    r43 = r42 < 62;
+    return 84;
+L210:;
+    r32 = r14;
+    goto L150;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = add(r4, 2);
+    r6 = div_(r5, 7);
+    print(r6);
+    r7 = r2 >= 8;
+    r8 = shl(r1, 1);
+    r9 = sub(r8, 1);
+    r10 = add(r0, 16);
+    r11 = load(r10);
+    r12 = r11 != 8;
+    r13 = sub(r6, r12);
+    r14 = load(r10);
+    r15 = r9 != r14;
+    print(r15);
+    r16 = r13 < r6;
+    if (r16) goto L57; else goto L99;
+L57:;
+    r17 = r1 <= 8;
+    r18 = r2 > 8;
+    r19 = r17 > r18;
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = 55 >= r2;
+    r23 = add(r21, r22);
+    r24 = add(r0, 16);
+    store(r24, r23);
+    r27 = r19;
+    r28 = r13;
+    goto L123;
+L99:;
+    r25 = add(r0, 8);
+    store(r25, 0);
+    r26 = add(r0, 16);
+    store(r26, r6);
+    r27 = 8;
+    r28 = 0;
+L123:;
+    r29 = r28 >= r27;
+    if (r29) goto L131; else goto L230;
+L131:;
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = r2 > r31;
+    r33 = r1 >= r27;
+    r34 = add(r32, r33);
+    r35 = r34;
+    r36 = r2;
+L158:;
+    r37 = r28;
+    r39 = 3;
+L168:;
+    r41 = r39 > 0;
+    if (r41) goto L176; else goto L214;
+L176:;
+    r42 = add(r0, 16);
+    r43 = load(r42);
+    r44 = r2 <= r43;
+    print(r44);
+    r45 = add(r0, 8);
+    r46 = load(r45);
+    r47 = r46 >= 54;
+    r38 = add(r47, r37);
+    r40 = sub(r39, 1);
+    r37 = r38;
+    r39 = r40;
+    goto L168;
+L214:;
+    r48 = 89 != r36;
+    print(r48);
+    r49 = r37 != r36;
+    r50 = r49 <= r1;
+    return r50;
+L230:;
+    r35 = r6;
+    r36 = r27;
+    goto L158;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = 45 > r2;
+    if (r3) goto L13; else goto L93;
+L13:;
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = load(r4);
+    r7 = r5 < r6;
+    if (r7) goto L29; else goto L48;
+L29:;
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = 1 <= r9;
+    r18 = 6;
+    r19 = r10;
+    goto L80;
+L48:;
+    r11 = add(r0, 16);
+    r12 = load(r11);
+    r13 = 4 != r12;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = add(54, r15);
+    r17 = r13 >= r16;
+    r18 = r17;
+    r19 = 6;
+L80:;
+    r24 = r18;
+    r25 = 4;
+    r26 = 96;
+    goto L121;
+L93:;
+    r20 = add(r0, 24);
+    r21 = load(r20);
+    r22 = 6 < r21;
+    r23 = 3 != r22;
+    print(1);
+    r24 = 6;
+    r25 = r23;
+    r26 = 6;
+L121:;
+    r27 = div_(r25, 1);
+    r28 = add(r0, 16);
+    store(r28, r27);
+    r29 = r24 < r26;
+    r30 = mul(55, r29);
+    r31 = add(r0, 8);
+    r32 = load(r31);
+    r33 = load(r28);
+    r34 = r32 != r33;
+    r35 = r26 >= 1;
+    r36 = r34 < r35;
+    r37 = load(r31);
+    r38 = load(r31);
+    r39 = div_(r38, 1);
+    r40 = r36 >= r39;
+    print((-20));
+    r41 = load(r31);
+    print(r41);
+    r42 = load(r31);
+    r43 = mul(r37, r42);
+    r44 = 121 <= r43;
+    r45 = load(r28);
+    r46 = sub(r44, r44);
+    r47 = r45 <= r46;
+    r48 = add(r47, r44);
+    print(r48);
+    r49 = mul(r40, r44);
+    return r49;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
@@ -0,0 +1,1191 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0;
+    r0 = a0;
+    print(7);
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = add(r0, 16);
+    r4 = load(r3);
+    r5 = r2 > r4;
+    r6 = 0 == r5;
+    r7 = add(r0, 24);
+    r8 = load(r7);
+    r9 = r6 != r8;
+    r10 = div_(r9, 3);
+    store(r3, r10);
+    r11 = 0;
+    r13 = 0;
+    r15 = 2;
+L49:;
+    r17 = r15 > 0;
+    if (r17) goto L57; else goto L119;
+L57:;
+    r12 = r11;
+    r14 = 3;
+L67:;
+    r20 = r14 > 0;
+    if (r20) goto L75; else goto L102;
+L75:;
+    r21 = add(r0, 8);
+    r22 = load(r21);
+    r23 = div_(r22, 1);
+    r18 = 8 >= r23;
+    r19 = sub(r14, 1);
+    r12 = r18;
+    r14 = r19;
+    goto L67;
+L102:;
+    r16 = sub(r15, 1);
+    r11 = r12;
+    r13 = r14;
+    r15 = r16;
+    goto L49;
+L119:;
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = r25 <= r11;
+    r27 = r26 <= r6;
+    r28 = r27;
+    r30 = 4;
+L142:;
+    r32 = r30 > 0;
+    if (r32) goto L150; else goto L184;
+L150:;
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = sub(97, r34);
+    r29 = sub(r6, r35);
+    r36 = add(r0, 24);
+    store(r36, 66);
+    r31 = sub(r30, 1);
+    r28 = r29;
+    r30 = r31;
+    goto L142;
+L184:;
+    r37 = add(r0, 16);
+    r38 = load(r37);
+    r39 = sub(8, r38);
+    r40 = add(32, r39);
+    r41 = r40 < r28;
+    r42 = load(r37);
+    r43 = mul(r41, r42);
+    r44 = add(r0, 8);
+    store(r44, 11);
+    r45 = r43 > 72;
+    r46 = 22 > r45;
+    store(r44, r46);
+    r47 = r43 == 49;
+    r48 = 32 >= r40;
+    r49 = r47 != r48;
+    r50 = add(r0, 24);
+    store(r50, r49);
+    r51 = 0 < r43;
+    r52 = load(r37);
+    r53 = r43 <= r52;
+    r54 = 21 >= r53;
+    r55 = r43 == 27;
+    r56 = sub(r40, r55);
+    store(r50, r56);
+    r57 = sub(r40, 96);
+    r58 = load(r44);
+    r59 = r57 < r58;
+    return r59;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = div_(r5, 2);
+    print(r6);
+    r7 = load(r3);
+    r8 = load(elem(r7, 0));
+    r9 = ((int64_t (*)(int64_t)) callee(r8, 1))(r3);
+    r10 = load(r4);
+    r11 = 29 == r10;
+    r12 = 5 == r9;
+    r13 = r11 >= r12;
+    store(r4, r13);
+    r14 = r1 == r1;
+    if (r14) goto L57; else goto L75;
+L57:;
+    r15 = div_(r1, 3);
+    print(r15);
+    print(0);
+    r18 = 0;
+    r19 = 5;
+    goto L93;
+L75:;
+    r16 = r1 != 12;
+    r17 = r16 >= r1;
+    r18 = r1;
+    r19 = r17;
+L93:;
+    r20 = add(r0, 16);
+    store(r20, r1);
+    r21 = 12 > r19;
+    r22 = sub(r21, 336);
+    r23 = 12;
+    r25 = r1;
+    r27 = 2;
+L121:;
+    r29 = r27 > 0;
+    if (r29) goto L129; else goto L164;
+L129:;
+    r26 = shr(r23, 3);
+    r30 = div_(r23, 6);
+    r24 = r26 == r30;
+    r31 = 63 < r9;
+    print(r31);
+    r28 = sub(r27, 1);
+    r23 = r24;
+    r25 = r26;
+    r27 = r28;
+    goto L121;
+L164:;
+    r32 = load(r2);
+    r33 = load(elem(r32, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r33, 1))(r2);
+    return 81;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 40);
+    r4 = alloc(4);
+    store(r4, 72);
+    r5 = sub((-30), r2);
+    r6 = add(r0, 8);
+    store(r6, r5);
+    r19 = 0;
+    r20 = 5;
+    goto L95;
+L33:;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r8 < 1;
+    r10 = add(0, r9);
+    r11 = sub(1, r1);
+    print(r11);
+    r12 = mul(96, r2);
+    r13 = r12 == 1;
+    r14 = add(r0, 8);
+    store(r14, r13);
+    r15 = sub(r16, 1);
+    r16 = r15;
+    r17 = r10;
+    r18 = r16 > 0;
+    if (r18) goto L33; else goto L85;
+L85:;
+    r19 = r16;
+    r20 = r17;
+L95:;
+    r21 = 45 > r2;
+    if (r21) goto L103; else goto L257;
+L103:;
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = sub(1, r23);
+    r25 = add(r2, 3);
+    r26 = add(r24, r25);
+    r27 = 1 == r26;
+    r28 = 0 == r27;
+    r29 = r28;
+    r30 = r26;
+    r31 = 1;
+L141:;
+    r32 = add(r0, 8);
+    r33 = load(r32);
+    r34 = load(r3);
+    r35 = load(elem(r34, 1));
+    r36 = ((int64_t (*)(int64_t, int64_t)) callee(r35, 2))(r3, 94);
+    r37 = add(r0, 16);
+    store(r37, r33);
+    r38 = 34 <= r36;
+    r39 = r29;
+    r41 = r36;
+    r43 = r33;
+    r45 = 3;
+L182:;
+    r47 = r45 > 0;
+    if (r47) goto L190; else goto L235;
+L190:;
+    r48 = add(r0, 8);
+    r44 = load(r48);
+    r49 = load(r4);
+    r50 = load(elem(r49, 1));
+    r51 = r2 != r2;
+    r40 = ((int64_t (*)(int64_t, int64_t)) callee(r50, 2))(r4, r51);
+    r42 = load(r48);
+    r46 = sub(r45, 1);
+    r39 = r40;
+    r41 = r42;
+    r43 = r44;
+    r45 = r46;
+    goto L182;
+L235:;
+    r52 = r41 < r41;
+    r53 = shl(r52, 0);
+    r54 = mul(r43, r41);
+    r55 = r2 == r38;
+    r56 = r54 == r55;
+    return r56;
+L257:;
+    r29 = 1;
+    r30 = 1;
+    r31 = r20;
+    goto L141;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = add(r0, 8);
+    r3 = load(r2);
+    r4 = r3 != 0;
+    if (r4) goto L19; else goto L239;
+L19:;
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = add(r6, 5);
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = r9 < 9;
+    r11 = r7 != r10;
+    r12 = 9;
+    r13 = r11;
+L51:;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r15 != r13;
+    r17 = add(r0, 16);
+    r18 = load(r17);
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = r18 < r20;
+    if (r21) goto L78; else goto L96;
+L78:;
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = add(r0, 24);
+    r25 = load(r24);
+    r26 = mul(r23, r25);
+    print(r26);
+L96:;
+    r27 = add(r0, 8);
+    r28 = load(r27);
+    r29 = add(r0, 16);
+    r30 = load(r29);
+    r31 = r28 <= r30;
+    if (r31) goto L114; else goto L249;
+L114:;
+    r32 = shl(r12, 0);
+    r33 = r32 < r13;
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    print(r35);
+    r36 = load(r34);
+    r37 = mul(0, r36);
+    r38 = load(r1);
+    r39 = load(elem(r38, 0));
+    r40 = ((int64_t (*)(int64_t)) callee(r39, 1))(r1);
+    r41 = r40;
+    r42 = r37;
+    r43 = r33;
+L157:;
+    r44 = add(r0, 24);
+    r45 = load(r44);
+    r46 = r45 > r42;
+    if (r46) goto L170; else goto L262;
+L170:;
+    r47 = load(r1);
+    r48 = load(elem(r47, 2));
+    r49 = sub(r42, r42);
+    r50 = r42 < r12;
+    r51 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r48, 3))(r1, r49, r50);
+    r52 = shl(r51, 2);
+    r53 = r52 != r43;
+    r54 = r43;
+    r55 = r53;
+    r56 = r51;
+L213:;
+    r57 = r54;
+    r58 = r55;
+    r59 = r56;
+    r60 = r41 < r59;
+    r61 = r60 != r59;
+    r62 = add(r0, 24);
+    store(r62, r61);
+    return 30;
+L239:;
+    r12 = 0;
+    r13 = 3;
+    goto L51;
+L249:;
+    r41 = r16;
+    r42 = 5;
+    r43 = r13;
+    goto L157;
+L262:;
+    r54 = r42;
+    r55 = r43;
+    r56 = r12;
+    goto L213;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 6 > r2;
+    if (r3) goto L13; else goto L26;
+L13:;
+    r11 = 9;
+    r12 = 1;
+    r13 = 0;
+    goto L63;
+L26:;
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = mul(r5, 3);
+    r7 = 18 >= r6;
+    r8 = load(r4);
+    r9 = add(r7, r8);
+    r10 = sub(1, r9);
+    r11 = r10;
+    r12 = r7;
+    r13 = 1;
+L63:;
+    r14 = r12 < 91;
+    print(r14);
+    r15 = add(r0, 8);
+    r16 = load(r15);
+    r17 = r16 > 30;
+    if (r17) goto L82; else goto L159;
+L82:;
+    r18 = r11 <= 8;
+    print(r11);
+    print(6);
+    r19 = 0;
+    r20 = 39;
+L100:;
+    r21 = add(r0, 24);
+    r22 = load(r21);
+    r23 = 30 < r11;
+    r24 = add(r22, r23);
+    r25 = load(r21);
+    r26 = r24 >= r25;
+    print(r26);
+    r27 = r19 >= r24;
+    r28 = r27 >= 0;
+    store(r21, r28);
+    r29 = add(r0, 8);
+    r30 = load(r29);
+    r31 = r19 <= r24;
+    r32 = div_(r24, 7);
+    r33 = mul(r31, r32);
+    r34 = load(r29);
+    r35 = r19 != r34;
+    return r35;
+L159:;
+    r19 = r12;
+    r20 = 3;
+    goto L100;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = 2;
+    r5 = 2;
+    r4 = 0;
+L19:;
+    r8 = r5 > 0;
+    if (r8) goto L27; else goto L72;
+L27:;
+    r9 = sub(35, r4);
+    print(r9);
+    r10 = add(r0, 24);
+    store(r10, r3);
+    r11 = load(r2);
+    r12 = load(elem(r11, 0));
+    r7 = ((int64_t (*)(int64_t)) callee(r12, 1))(r2);
+    r13 = add(r0, 16);
+    store(r13, r4);
+    r6 = sub(r5, 1);
+    r3 = r4;
+    r5 = r6;
+    r4 = r7;
+    goto L19;
+L72:;
+    r14 = 5 == r1;
+    r15 = shl(r1, 0);
+    r16 = r14 >= r15;
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = r18 > r1;
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = mul(r21, 40);
+    r23 = r19 != r22;
+    r24 = r4 >= 92;
+    if (r24) goto L114; else goto L213;
+L114:;
+    r25 = r4 != 7;
+    r26 = mul(r4, r25);
+    r27 = add(r4, 83);
+    r28 = r27;
+L133:;
+    r29 = sub(10, r1);
+    r30 = div_(r29, 1);
+    r31 = r4 > 83;
+    r32 = sub(r4, r31);
+    r33 = add(r0, 24);
+    store(r33, r32);
+    r34 = div_(r1, 5);
+    r35 = load(r2);
+    r36 = load(elem(r35, 0));
+    r37 = ((int64_t (*)(int64_t)) callee(r36, 1))(r2);
+    r38 = r37 == 16;
+    r39 = r38 <= r30;
+    r40 = load(r33);
+    r41 = add(r0, 8);
+    store(r41, r40);
+    r42 = 45 >= r37;
+    r43 = add(r0, 16);
+    r44 = load(r43);
+    r45 = r39 >= r44;
+    r46 = r42 > r45;
+    r47 = r46 < 48;
+    r48 = r46 != r47;
+    return r48;
+L213:;
+    r28 = 5;
+    goto L133;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r1, 0);
+    r5 = 18 != r4;
+    r6 = 0 == r5;
+    r7 = add(94, r6);
+    r8 = r7 != 0;
+    if (r8) goto L30; else goto L235;
+L30:;
+    r9 = r5 > r1;
+    if (r9) goto L38; else goto L45;
+L38:;
+    r13 = 0;
+    goto L67;
+L45:;
+    r10 = add(24, r2);
+    r11 = r10 <= 34;
+    r12 = add(r0, 24);
+    store(r12, r11);
+    r13 = r7;
+L67:;
+    r14 = r13 != r13;
+    print(r14);
+    r15 = r13;
+    r16 = r13;
+    r17 = 53;
+L86:;
+    r18 = add(r0, 16);
+    r19 = load(r18);
+    r20 = r17 > r19;
+    r21 = r15 != r15;
+    r22 = r20 >= r21;
+    r23 = r22;
+    r25 = r17;
+    r27 = 2;
+L116:;
+    r29 = r27 > 0;
+    if (r29) goto L124; else goto L183;
+L124:;
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = r31 < r1;
+    if (r32) goto L137; else goto L147;
+L137:;
+    r24 = r5;
+    r26 = r25;
+    goto L166;
+L147:;
+    r33 = add(r0, 8);
+    r34 = load(r33);
+    r35 = 91 < r34;
+    r24 = r35;
+    r26 = 1;
+L166:;
+    r28 = sub(r27, 1);
+    r23 = r24;
+    r25 = r26;
+    r27 = r28;
+    goto L116;
+L183:;
+    r36 = load(r3);
+    r37 = load(elem(r36, 1));
+    r38 = r5 > r5;
+    r39 = ((int64_t (*)(int64_t, int64_t)) callee(r37, 2))(r3, r38);
+    r40 = load(r3);
+    r41 = load(elem(r40, 0));
+    r42 = ((int64_t (*)(int64_t)) callee(r41, 1))(r3);
+    r43 = r42 < r1;
+    r44 = 3 >= r43;
+    r45 = add(r0, 16);
+    r46 = load(r45);
+    r47 = sub(r2, r23);
+    r48 = 0 == r1;
+    r49 = add(r47, r48);
+    return r49;
+L235:;
+    r15 = r7;
+    r16 = 9;
+    r17 = 0;
+    goto L86;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = add(r0, 8);
+    r3 = load(r2);
+    r4 = 480 >= r3;
+    r5 = add(r0, 16);
+    store(r5, r4);
+    r6 = load(r2);
+    r7 = 97 != r6;
+    r8 = 14 > r7;
+    r9 = load(r5);
+    r10 = r9 <= 1;
+    r11 = add(r10, 1);
+    r12 = load(r2);
+    r13 = mul(r12, 33);
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = shl(r15, 1);
+    r17 = r13 >= r16;
+    r18 = load(r14);
+    r19 = 0 > r18;
+    r20 = mul(0, r19);
+    r21 = r19;
+    r23 = r20;
+    r25 = 2;
+    r27 = r8;
+L91:;
+    r29 = r25 > 0;
+    if (r29) goto L99; else goto L194;
+L99:;
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = r31 == r23;
+    if (r32) goto L112; else goto L125;
+L112:;
+    r22 = 1;
+    r24 = r23;
+    r28 = r27;
+    goto L174;
+L125:;
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = 1 == r34;
+    r36 = r27 < 1;
+    r37 = r35 > r36;
+    r38 = add(r0, 8);
+    r39 = load(r38);
+    r40 = load(r38);
+    r41 = load(r38);
+    r42 = sub(r40, r41);
+    r43 = r39 <= r42;
+    r22 = r21;
+    r24 = r37;
+    r28 = r43;
+L174:;
+    r26 = sub(r25, 1);
+    r21 = r22;
+    r23 = r24;
+    r25 = r26;
+    r27 = r28;
+    goto L91;
+L194:;
+    r44 = mul(r27, r21);
+    print(r44);
+    r45 = r27 == 860;
+    r46 = r27 <= r45;
+    r47 = add(r0, 8);
+    r48 = load(r47);
+    r49 = 1 <= r48;
+    r50 = 0 != r49;
+    r51 = r46 <= 61;
+    r52 = add(r0, 16);
+    r53 = load(r52);
+    r54 = r51 > r53;
+    r55 = load(r47);
+    return r55;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0;
+    r0 = a0;
+    r1 = 8;
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = mul(1, r3);
+    r5 = 1 != r4;
+    r6 = r5;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = sub(568, r8);
+    r10 = add(r0, 8);
+    r11 = load(r10);
+    r12 = mul(r9, r11);
+    r13 = shl(r12, 0);
+    r14 = load(r10);
+    store(r7, r13);
+    r15 = 91 > r6;
+    print(r15);
+    r16 = r6 != 62;
+    if (r16) goto L61; else goto L146;
+L61:;
+    r17 = add(r0, 16);
+    r18 = load(r17);
+    r19 = mul(33, r18);
+    r20 = div_(r19, 3);
+    r21 = add(r0, 8);
+    r22 = load(r21);
+    r23 = sub(r13, r22);
+    r24 = r20 == 87;
+    r25 = sub(r23, r24);
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = r27 < 57;
+    r29 = r28 > 67;
+    store(r26, r29);
+    r30 = 57;
+    r31 = r20;
+    r32 = r25;
+L120:;
+    print(r1);
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = r36 > r1;
+    r38 = r34 != r37;
+    r39 = 95 <= r38;
+    return r39;
+L146:;
+    r30 = r6;
+    r31 = r14;
+    r32 = r13;
+    goto L120;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = add(r0, 8);
+    r3 = load(r2);
+    r4 = sub(r3, 8);
+    r5 = r1 != r1;
+    r6 = 6 < r5;
+    r7 = 3;
+    r9 = 8;
+L27:;
+    r11 = r7 > 0;
+    if (r11) goto L35; else goto L85;
+L35:;
+    print(0);
+    r12 = 49 == r6;
+    r13 = r1 <= r12;
+    r14 = add(r0, 8);
+    store(r14, r13);
+    r15 = r1 > 59;
+    r16 = shr(r15, 2);
+    store(r14, r16);
+    r17 = sub(r1, 56);
+    r10 = r17 > 94;
+    r8 = sub(r7, 1);
+    r7 = r8;
+    r9 = r10;
+    goto L27;
+L85:;
+    r18 = add(r9, 22);
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = add(r20, r9);
+    r22 = r18 <= r21;
+    r23 = div_(r1, 3);
+    r24 = mul(82, r23);
+    r25 = add(r0, 24);
+    store(r25, r24);
+    r26 = 2;
+L124:;
+    r28 = r26 > 0;
+    if (r28) goto L132; else goto L170;
+L132:;
+    r29 = r1 < 10;
+    if (r29) goto L140; else goto L144;
+L140:;
+    print(10);
+    goto L148;
+L144:;
+    print(6);
+L148:;
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = r31 != 10;
+    print(r32);
+    r27 = sub(r26, 1);
+    r26 = r27;
+    goto L124;
+L170:;
+    r33 = r1 >= 10;
+    print(r33);
+    r34 = sub(r6, 45);
+    r35 = add(r34, (-32));
+    r36 = add(r0, 8);
+    store(r36, r35);
+    return 0;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = r2 < 7;
+    if (r3) goto L8; else goto L255;
+L8:;
+    r4 = 5;
+    r5 = 3;
+L18:;
+    r7 = r5 > 0;
+    if (r7) goto L26; else goto L40;
+L26:;
+    r6 = sub(r5, 1);
+    r4 = 9;
+    r5 = r6;
+    goto L18;
+L40:;
+    r8 = add(r0, 24);
+    store(r8, 1);
+    r9 = 1089 < r2;
+    r10 = 0;
+    r11 = r9;
+    r12 = r5;
+L64:;
+    r13 = add(r11, r11);
+    r14 = r13 >= r10;
+    r15 = 4;
+    r17 = r14;
+L82:;
+    r19 = r15 > 0;
+    if (r19) goto L90; else goto L137;
+L90:;
+    r20 = add(r1, r1);
+    r21 = r2 >= r2;
+    r22 = r20 == r21;
+    r23 = add(r0, 8);
+    store(r23, r22);
+    r24 = add(31, r11);
+    r25 = r10 > 4;
+    r18 = r24 < r25;
+    print(1);
+    r16 = sub(r15, 1);
+    r15 = r16;
+    r17 = r18;
+    goto L82;
+L137:;
+    r26 = div_(r11, 7);
+    r27 = r10 >= r11;
+    r28 = sub(r27, r26);
+    r29 = add(r0, 24);
+    store(r29, r28);
+    r30 = r10;
+    r32 = 3;
+    r34 = 4;
+L169:;
+    r36 = r32 > 0;
+    if (r36) goto L177; else goto L215;
+L177:;
+    r37 = add(r0, 16);
+    r38 = load(r37);
+    r39 = mul(r30, r38);
+    r31 = add(r39, r11);
+    r40 = sub(43, r11);
+    r35 = mul(r26, r40);
+    r33 = sub(r32, 1);
+    r30 = r31;
+    r32 = r33;
+    r34 = r35;
+    goto L169;
+L215:;
+    r41 = r34 > r2;
+    print(r41);
+    r42 = r26 > 38;
+    if (r42) goto L229; else goto L268;
+L229:;
+    r43 = r2;
+L236:;
+    r44 = r1 <= 77;
+    r45 = r26 >= r43;
+    r46 = add(r44, r45);
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    return r48;
+L255:;
+    r10 = 0;
+    r11 = 5;
+    r12 = 0;
+    goto L64;
+L268:;
+    r43 = r11;
+    goto L236;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = mul(r4, r2);
+    r6 = r5;
+    r7 = 2;
+    r8 = r2;
+    r9 = add(r0, 24);
+    store(r9, r7);
+    r10 = r6 != 5;
+    r11 = 95 > r7;
+    r12 = add(r10, r11);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 == r12;
+    r16 = mul(r6, r15);
+    r17 = r16 >= r16;
+    if (r17) goto L63; else goto L82;
+L63:;
+    r18 = r12 == r6;
+    r19 = sub(83, r12);
+    r20 = r18 != r19;
+    r22 = r20;
+    goto L95;
+L82:;
+    r21 = shr(r7, 0);
+    print(r21);
+    r22 = r12;
+L95:;
+    r23 = add(r16, r6);
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = r7 <= r25;
+    r27 = r23 == r26;
+    r28 = 40 == r27;
+    if (r28) goto L120; else goto L225;
+L120:;
+    r29 = add(r0, 8);
+    r30 = load(r29);
+    r31 = div_(r30, 2);
+    r32 = r31;
+L136:;
+    r33 = sub(36, r27);
+    r34 = 6 < r27;
+    r35 = r33 < r34;
+    r36 = r27 != 23;
+    if (r36) goto L156; else goto L180;
+L156:;
+    r37 = 7 <= r32;
+    r38 = add(r0, 8);
+    r39 = load(r38);
+    r40 = r39 >= r27;
+    r41 = mul(r37, r40);
+    r48 = r41;
+    goto L211;
+L180:;
+    r42 = add(r0, 24);
+    r43 = load(r42);
+    r44 = div_(r43, 7);
+    r45 = add(r7, r32);
+    r46 = r44 <= r45;
+    r47 = add(r0, 16);
+    store(r47, r46);
+    r48 = r27;
+L211:;
+    r49 = div_(r7, 6);
+    r50 = r32 == r32;
+    r51 = mul(r49, r50);
+    return r51;
+L225:;
+    r32 = r16;
+    goto L136;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
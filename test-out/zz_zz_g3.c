@@ -0,0 +1,1123 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = r2 > 0;
+    if (r3) goto L13; else goto L27;
+L13:;
+    r4 = add(r0, 16);
+    store(r4, 1);
+    r5 = 1;
+    goto L34;
+L27:;
+    r5 = 0;
+L34:;
+    print(1);
+    r6 = add(r0, 24);
+    r7 = load(r6);
+    r8 = div_(r7, 6);
+    r9 = div_(r8, 1);
+    r10 = load(r6);
+    r11 = div_(r10, 4);
+    r12 = 1 <= r11;
+    store(r6, r12);
+    r13 = load(r6);
+    r14 = sub(r13, r5);
+    print(r14);
+    r15 = r5 < 0;
+    r16 = add(r0, 8);
+    r17 = load(r16);
+    r18 = load(r6);
+    r19 = add(r17, r18);
+    r20 = add(r15, r19);
+    r21 = add(r0, 16);
+    store(r21, r20);
+    r22 = load(r21);
+    r23 = 0 == r22;
+    print(r23);
+    r24 = 2;
+    r26 = 26;
+L118:;
+    r28 = r24 > 0;
+    if (r28) goto L126; else goto L148;
+L126:;
+    r29 = r5 <= 47;
+    r27 = div_(r29, 5);
+    r25 = sub(r24, 1);
+    r24 = r25;
+    r26 = r27;
+    goto L118;
+L148:;
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = add(r0, 24);
+    r33 = load(r32);
+    r34 = r31 <= r33;
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = load(r35);
+    r38 = r36 <= r37;
+    r39 = r34 == r38;
+    r40 = load(r35);
+    print(r40);
+    r41 = load(r32);
+    r42 = 38 >= r41;
+    if (r42) goto L194; else goto L240;
+L194:;
+    r43 = mul(49, r5);
+    print(r43);
+    r44 = r5 == 0;
+    r45 = div_(r44, 4);
+    r46 = r45;
+L215:;
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r49 = r48 == 0;
+    r50 = mul(0, r49);
+    print(0);
+    r51 = add(64, r46);
+    r52 = r51 != 65;
+    return r52;
+L240:;
+    r46 = r5;
+    goto L215;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = r1 < 6;
+    r5 = r4 == 90;
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = r1 != r7;
+    if (r8) goto L33; else goto L54;
+L33:;
+    r9 = r1 <= 0;
+    r10 = sub(0, r9);
+    r19 = 17;
+    r20 = r10;
+    r21 = 6;
+    goto L94;
+L54:;
+    r11 = add(r0, 24);
+    r12 = load(r11);
+    r13 = 33 >= r12;
+    r14 = r1 >= r13;
+    r15 = r5 >= r5;
+    print(r15);
+    r16 = load(r2);
+    r17 = load(elem(r16, 0));
+    r18 = ((int64_t (*)(int64_t)) callee(r17, 1))(r2);
+    r19 = 0;
+    r20 = r5;
+    r21 = r18;
+L94:;
+    r22 = add(r0, 24);
+    store(r22, 0);
+    r23 = r19 <= r1;
+    r24 = r23 < r20;
+    r25 = r20 == 52;
+    if (r25) goto L117; else goto L142;
+L117:;
+    r26 = r20 <= r24;
+    r27 = r26 > r24;
+    r28 = shr(r27, 3);
+    r32 = r24;
+    r33 = r28;
+    r34 = r21;
+    goto L169;
+L142:;
+    r29 = 39 <= r21;
+    print(r1);
+    r30 = r29 >= r21;
+    r31 = mul(r21, r30);
+    r32 = r29;
+    r33 = r20;
+    r34 = r31;
+L169:;
+    r35 = 0 > r33;
+    r36 = shr(r1, 2);
+    r37 = r35 >= r36;
+    r38 = add(r0, 8);
+    store(r38, r37);
+    r39 = sub(r34, r1);
+    print(r39);
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = r32 > r41;
+    r43 = add(r0, 16);
+    r44 = load(r43);
+    r45 = r44 != r32;
+    r46 = mul(r42, r45);
+    r47 = load(r38);
+    r48 = r47 >= 0;
+    r49 = sub(0, r48);
+    r50 = 23 > r1;
+    r51 = shr(r50, 2);
+    return r51;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = alloc(4);
+    store(r4, 40);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = r1 <= r6;
+    print(r7);
+    store(r5, 0);
+    r8 = 1 <= r1;
+    if (r8) goto L34; else goto L44;
+L34:;
+    r14 = r1;
+    r15 = 0;
+    goto L75;
+L44:;
+    r9 = r1 <= r1;
+    print(r9);
+    r10 = load(r3);
+    r11 = load(elem(r10, 0));
+    r12 = ((int64_t (*)(int64_t)) callee(r11, 1))(r3);
+    r13 = add(r0, 16);
+    store(r13, r12);
+    r14 = r12;
+    r15 = 4;
+L75:;
+    r16 = load(r4);
+    r17 = load(elem(r16, 1));
+    r18 = 32 < r2;
+    r19 = ((int64_t (*)(int64_t, int64_t)) callee(r17, 2))(r4, r18);
+    r20 = load(r3);
+    r21 = load(elem(r20, 1));
+    r22 = r19 >= r2;
+    r23 = ((int64_t (*)(int64_t, int64_t)) callee(r21, 2))(r3, r22);
+    r24 = mul(r2, r1);
+    r25 = 390 > r24;
+    r26 = r25 <= r19;
+    r27 = r1 > r26;
+    r28 = r23;
+    r30 = 4;
+L135:;
+    r32 = r30 > 0;
+    if (r32) goto L143; else goto L174;
+L143:;
+    r33 = load(r3);
+    r34 = load(elem(r33, 1));
+    r35 = mul(r2, r2);
+    r29 = ((int64_t (*)(int64_t, int64_t)) callee(r34, 2))(r3, r35);
+    r31 = sub(r30, 1);
+    r28 = r29;
+    r30 = r31;
+    goto L135;
+L174:;
+    r36 = 4;
+L181:;
+    r38 = r36 > 0;
+    if (r38) goto L189; else goto L200;
+L189:;
+    r37 = sub(r36, 1);
+    r36 = r37;
+    goto L181;
+L200:;
+    r39 = r1 > 2;
+    r40 = r28 < r25;
+    r41 = add(r39, r40);
+    r42 = add(r0, 8);
+    store(r42, r41);
+    r43 = r25 <= 39;
+    r44 = mul(25, r43);
+    r45 = r44 > r43;
+    return r45;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = div_(r4, 1);
+    r6 = add(r0, 24);
+    r7 = load(r6);
+    r8 = r5 != r7;
+    r9 = add(r0, 24);
+    r10 = load(r9);
+    r11 = add(r0, 16);
+    r12 = load(r11);
+    r13 = r10 >= r12;
+    r14 = r13 >= 0;
+    r15 = add(r0, 8);
+    store(r15, r14);
+    print(29);
+    r16 = 9;
+    r17 = load(r1);
+    r18 = load(elem(r17, 2));
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r18, 3))(r1, 9, r20);
+    r22 = load(r19);
+    r23 = r22 == 11;
+    r24 = 11 == r23;
+    r25 = add(r0, 24);
+    store(r25, r24);
+    r26 = load(r19);
+    r27 = shl(r26, 0);
+    r28 = load(r19);
+    r29 = r28 != 74;
+    r30 = add(r0, 16);
+    r31 = load(r30);
+    r32 = mul(r31, 11);
+    r33 = r29 != r32;
+    r34 = load(r19);
+    print(r34);
+    r35 = load(r30);
+    store(r30, r35);
+    r36 = load(r25);
+    store(r30, r36);
+    r37 = load(r25);
+    r38 = add(r37, 59);
+    r39 = load(r25);
+    r40 = mul(r38, r39);
+    r41 = load(r30);
+    r42 = load(r30);
+    r43 = sub(r41, r42);
+    r44 = load(r19);
+    r45 = r44 != r40;
+    r46 = r43 < r45;
+    r47 = load(r30);
+    r48 = 2 >= r47;
+    r49 = load(r30);
+    r50 = add(r49, r40);
+    r51 = r48 <= r50;
+    return r51;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 1 > r2;
+    r4 = 1 > r3;
+    r5 = add(r0, 16);
+    store(r5, r4);
+    r6 = load(r5);
+    r7 = 6;
+    r9 = 0;
+    r11 = 3;
+L36:;
+    r13 = r11 > 0;
+    if (r13) goto L44; else goto L130;
+L44:;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = add(r6, r15);
+    r8 = (-1) > r16;
+    r10 = 2;
+L64:;
+    r18 = r10 > 0;
+    if (r18) goto L72; else goto L87;
+L72:;
+    print(r6);
+    print(0);
+    r17 = sub(r10, 1);
+    r10 = r17;
+    goto L64;
+L87:;
+    r19 = r6 != 81;
+    r20 = add(r19, (-87));
+    r21 = add(r0, 24);
+    store(r21, r20);
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = shl(r23, 1);
+    print(r24);
+    r12 = sub(r11, 1);
+    r7 = r8;
+    r9 = r10;
+    r11 = r12;
+    goto L36;
+L130:;
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r27 = r26 <= 1;
+    r28 = shr(r7, 2);
+    r29 = r27 < r28;
+    r30 = load(r25);
+    r31 = r30 >= 1;
+    r32 = add(r0, 24);
+    r33 = load(r32);
+    r34 = r33 > r6;
+    r35 = r31 == r34;
+    r36 = load(r32);
+    r37 = add(r35, r36);
+    r38 = mul(r6, r37);
+    r39 = shr(r6, 3);
+    r40 = div_(r6, 6);
+    r41 = r39 != r40;
+    r42 = add(r0, 8);
+    r43 = load(r42);
+    r44 = div_(r43, 1);
+    r45 = r6 > 29;
+    r46 = sub(r44, r45);
+    r47 = 19 < r46;
+    if (r47) goto L215; else goto L231;
+L215:;
+    r48 = shl(r46, 1);
+    print(r48);
+    r53 = 91;
+    r54 = 1;
+    goto L255;
+L231:;
+    r49 = r6 != 49;
+    if (r49) goto L239; else goto L249;
+L239:;
+    r50 = r38 != 1;
+    r51 = 94 == r50;
+    return 0;
+L249:;
+    r52 = add(r46, r46);
+    return 0;
+L255:;
+    r55 = add(r0, 16);
+    r56 = load(r55);
+    return r56;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = add(r0, 16);
+    r4 = load(r3);
+    r5 = sub(r4, 32);
+    r6 = r5 != 6;
+    r7 = r6 < 29;
+    store(r3, r7);
+    r8 = r5 <= r1;
+    if (r8) goto L34; else goto L70;
+L34:;
+    r9 = add(r0, 8);
+    r10 = load(r9);
+    r11 = 7 == r10;
+    r12 = r11 < 0;
+    store(r9, r12);
+    r13 = load(r9);
+    r14 = r5 == r13;
+    r15 = r1 > r14;
+    r16 = add(r0, 16);
+    store(r16, r15);
+    goto L91;
+L70:;
+    r17 = add(r0, 16);
+    r18 = load(r17);
+    r19 = 68 != r18;
+    r20 = r1 == r19;
+    r21 = mul(r1, 39);
+    print(r21);
+L91:;
+    r22 = add(r0, 24);
+    r23 = load(r22);
+    r24 = sub(r23, r5);
+    print(r24);
+    r25 = 71 != r1;
+    store(r22, r25);
+    r26 = load(r22);
+    r27 = r26 != r1;
+    r28 = mul(r1, r5);
+    r29 = add(r27, r28);
+    r30 = shl(r29, 0);
+    r31 = add(r30, 2);
+    r32 = r1 <= 7;
+    print(r32);
+    r33 = r29 != 64;
+    r34 = div_(r33, 3);
+    r35 = 56 > r34;
+    r36 = mul(r1, 7);
+    r37 = r35 > r36;
+    r38 = add(r0, 16);
+    r39 = load(r38);
+    r40 = mul(r31, r39);
+    r41 = r1 < 60;
+    r42 = r40 != r41;
+    r43 = r1 <= r31;
+    r44 = div_(r43, 7);
+    return r44;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = 5 > r5;
+    if (r6) goto L19; else goto L169;
+L19:;
+    r7 = 0 != r2;
+    r8 = add(67, r7);
+    r9 = add(r0, 24);
+    store(r9, r1);
+    r10 = r8;
+L41:;
+    r11 = 40 == r2;
+    r12 = 9 <= r11;
+    r13 = add(r0, 16);
+    store(r13, r12);
+    r14 = r10 > 45;
+    if (r14) goto L64; else goto L78;
+L64:;
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    r17 = r16 != 25;
+    store(r15, r17);
+L78:;
+    r18 = 25 >= r10;
+    r19 = r18 <= 4;
+    r20 = r2 >= 4;
+    r21 = r20 < 0;
+    r22 = add(r0, 24);
+    store(r22, r21);
+    r23 = sub(r2, 4);
+    r24 = add(r0, 8);
+    r25 = load(r24);
+    r26 = sub(r25, r1);
+    r27 = sub(r23, r26);
+    r28 = r2;
+    r29 = 0;
+    print(57);
+    r30 = r29 > 30;
+    r31 = r30 > 8;
+    r32 = load(r3);
+    r33 = load(elem(r32, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r33, 1))(r3);
+    r35 = 42 <= r2;
+    r36 = add(4, r35);
+    r37 = add(r0, 24);
+    r38 = load(r37);
+    r39 = r38 >= r2;
+    r40 = r29 > r1;
+    r41 = r39 == r40;
+    return r41;
+L169:;
+    r10 = 0;
+    goto L41;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = add(r0, 16);
+    r3 = load(r2);
+    r4 = r3 >= 8;
+    print(r4);
+    print((-42));
+    r5 = add(r0, 8);
+    r6 = load(r5);
+    r7 = add(r0, 24);
+    r8 = load(r7);
+    r9 = r6 < r8;
+    r10 = shr(r9, 1);
+    r11 = 0;
+    r12 = r10;
+    r13 = 9;
+    r14 = add(r0, 16);
+    r15 = load(r14);
+    r16 = 1 <= r15;
+    r17 = 60 == r11;
+    r18 = add(r11, r12);
+    r19 = add(r17, r18);
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = 25 < r21;
+    if (r22) goto L80; else goto L217;
+L80:;
+    r23 = 4;
+    r25 = r16;
+L90:;
+    r26 = r23 > 0;
+    if (r26) goto L98; else goto L114;
+L98:;
+    print(0);
+    r24 = sub(r23, 1);
+    r23 = r24;
+    r25 = r19;
+    goto L90;
+L114:;
+    r27 = add(r0, 8);
+    r28 = load(r27);
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = div_(r30, 1);
+    r32 = sub(r31, 54);
+    r33 = r28;
+    r34 = r32;
+    r35 = r23;
+    r36 = r25;
+L148:;
+    r37 = add(r0, 8);
+    r38 = load(r37);
+    r39 = add(r38, r34);
+    r40 = r19 <= r39;
+    r41 = load(r1);
+    r42 = load(elem(r41, 1));
+    r43 = add(r0, 16);
+    r44 = load(r43);
+    r45 = 4 <= r44;
+    r46 = ((int64_t (*)(int64_t, int64_t)) callee(r42, 2))(r1, r45);
+    r47 = add(r0, 24);
+    r48 = load(r47);
+    r49 = r48 != 93;
+    print(r49);
+    r50 = load(r37);
+    r51 = mul(r50, 15);
+    print(r51);
+    r52 = r46 == r46;
+    r53 = r19 < r34;
+    r54 = r52 <= r53;
+    return r54;
+L217:;
+    r33 = r11;
+    r34 = 7;
+    r35 = 0;
+    r36 = r16;
+    goto L148;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    print(2);
+    r3 = r2;
+    r4 = 1;
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = 4 > r6;
+    r8 = add(r3, r7);
+    store(r5, r8);
+    r9 = add(r0, 8);
+    store(r9, 4);
+    r10 = r3 > 30;
+    print(r10);
+    r11 = 4;
+    r13 = 3;
+L52:;
+    r15 = r13 > 0;
+    if (r15) goto L60; else goto L125;
+L60:;
+    r16 = r11 <= r11;
+    if (r16) goto L68; else goto L155;
+L68:;
+    r17 = add(r0, 8);
+    r18 = load(r17);
+    r19 = sub(25, r18);
+    r20 = add(r0, 16);
+    store(r20, r19);
+    r21 = load(r20);
+    r22 = r21 == 10;
+    print(r22);
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = add(r3, r24);
+    print(r3);
+    r12 = r25;
+L111:;
+    r14 = sub(r13, 1);
+    r11 = r12;
+    r13 = r14;
+    goto L52;
+L125:;
+    r26 = add(r0, 16);
+    r27 = load(r26);
+    r28 = 0 == r27;
+    print(r28);
+    r29 = div_(r4, 6);
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = r31 <= 0;
+    r33 = div_(r32, 5);
+    return 10;
+L155:;
+    r12 = r11;
+    goto L111;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = 8 != r1;
+    r3 = r2 <= 9;
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = add(r0, 16);
+    store(r6, r5);
+    r7 = add(r0, 24);
+    store(r7, 9);
+    r8 = 0 > r3;
+    print(r8);
+    r9 = 3;
+    r11 = 8;
+L43:;
+    r13 = r9 > 0;
+    if (r13) goto L51; else goto L88;
+L51:;
+    r14 = r1 != 97;
+    r12 = 0 <= r14;
+    r15 = mul(15, r1);
+    r16 = shl(r15, 0);
+    r17 = add(r0, 8);
+    store(r17, r16);
+    r10 = sub(r9, 1);
+    r9 = r10;
+    r11 = r12;
+    goto L43;
+L88:;
+    r18 = add(r0, 16);
+    r19 = load(r18);
+    r20 = add(r1, r19);
+    print(r20);
+    r21 = 0 > r1;
+    if (r21) goto L107; else goto L197;
+L107:;
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = 51 < r23;
+    r25 = r24 > r1;
+    store(r22, r11);
+    r26 = 9 != r1;
+    print(r26);
+    r27 = add(r0, 24);
+    r28 = load(r27);
+    r29 = div_(r28, 2);
+    r30 = r25 <= 94;
+    r31 = r29 == r30;
+    store(r22, r31);
+    r32 = r1;
+    r33 = r25;
+L159:;
+    r34 = 2;
+L166:;
+    r36 = r34 > 0;
+    if (r36) goto L174; else goto L191;
+L174:;
+    r37 = r1 <= r33;
+    print(r37);
+    r35 = sub(r34, 1);
+    r34 = r35;
+    goto L166;
+L191:;
+    r38 = mul(r1, r1);
+    return r1;
+L197:;
+    r32 = 0;
+    r33 = r3;
+    goto L159;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = 7 >= r1;
+    print(r3);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = add(r0, 24);
+    r7 = load(r6);
+    r8 = 1 == r7;
+    print(1);
+    r9 = add(r0, 24);
+    r10 = load(r9);
+    r11 = mul(r10, r2);
+    print(r11);
+    print(28);
+    r12 = 28;
+    r13 = add(r0, 16);
+    store(r13, r5);
+    r14 = 1 >= r1;
+    r15 = r14 >= r12;
+    r16 = add(r0, 8);
+    store(r16, r15);
+    r17 = 34 != r1;
+    if (r17) goto L68; else goto L89;
+L68:;
+    print(8);
+    r18 = r1 != 78;
+    r19 = mul(r2, 80);
+    r20 = r18 < r19;
+    r26 = r20;
+    goto L115;
+L89:;
+    r21 = add(r0, 8);
+    r22 = load(r21);
+    r23 = mul(80, r22);
+    print(r23);
+    r24 = 1 < r5;
+    r25 = div_(r24, 6);
+    r26 = r25;
+L115:;
+    r27 = r12 <= r12;
+    r28 = r1 > r27;
+    r29 = add(r0, 24);
+    store(r29, r28);
+    r30 = 1 != r2;
+    print(r30);
+    r31 = r5 <= r2;
+    r32 = r26 < r31;
+    return r32;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 2 >= r2;
+    r4 = sub(20, r3);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = load(r1);
+    r8 = r6 > r7;
+    r9 = 38 > r8;
+    print(r9);
+    r10 = load(r5);
+    r11 = 8 < r10;
+    if (r11) goto L42; else goto L230;
+L42:;
+    r12 = r8;
+L49:;
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 < 46;
+    if (r15) goto L62; else goto L79;
+L62:;
+    r16 = mul(r10, 8);
+    r17 = r10;
+    r18 = r16;
+    r19 = 35;
+    goto L94;
+L79:;
+    print(r8);
+    r17 = 8;
+    r18 = r12;
+    r19 = 8;
+L94:;
+    r20 = add(r0, 16);
+    r21 = load(r20);
+    r22 = load(r20);
+    r23 = r21 < r22;
+    if (r23) goto L110; else goto L119;
+L110:;
+    r24 = add(r0, 24);
+    store(r24, 0);
+    goto L128;
+L119:;
+    r25 = add(r0, 8);
+    store(r25, r19);
+L128:;
+    r26 = add(r0, 8);
+    r27 = load(r26);
+    r28 = r27 <= 41;
+    if (r28) goto L141; else goto L237;
+L141:;
+    r29 = add(r0, 16);
+    r30 = load(r29);
+    r31 = 30 != r30;
+    r32 = r31 < 2;
+    r33 = r32;
+    r35 = 4;
+L164:;
+    r37 = r35 > 0;
+    if (r37) goto L172; else goto L213;
+L172:;
+    r38 = r18 <= r33;
+    r39 = r19 <= r19;
+    r40 = r38 < r39;
+    r41 = add(r0, 8);
+    store(r41, r40);
+    r42 = r18 < r33;
+    r34 = sub(r42, 14);
+    r36 = sub(r35, 1);
+    r33 = r34;
+    r35 = r36;
+    goto L164;
+L213:;
+    r43 = r33;
+    r44 = r35;
+L223:;
+    r45 = add(r0, 16);
+    r46 = load(r45);
+    return r46;
+L230:;
+    r12 = r4;
+    goto L49;
+L237:;
+    r43 = r19;
+    r44 = 0;
+    goto L223;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
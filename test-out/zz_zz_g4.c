@@ -0,0 +1,1173 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = r2 > r4;
+    print(r5);
+    r6 = load(r1);
+    r7 = add(r6, 8);
+    r8 = 45 > r7;
+    r9 = add(r0, 24);
+    store(r9, r8);
+    r10 = load(r9);
+    r11 = r10 <= 73;
+    r12 = r11 <= 0;
+    r13 = 2;
+L52:;
+    r15 = r13 > 0;
+    if (r15) goto L60; else goto L89;
+L60:;
+    r16 = add(r0, 8);
+    store(r16, 0);
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = sub(r18, 65);
+    print(r19);
+    r14 = sub(r13, 1);
+    r13 = r14;
+    goto L52;
+L89:;
+    r20 = add(r0, 24);
+    r21 = load(r20);
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = r12 >= r23;
+    print(r24);
+    r25 = add(r12, r12);
+    r26 = add(r25, 2);
+    r27 = load(r20);
+    r28 = r27 == 25;
+    r29 = load(r20);
+    r30 = r28 != r29;
+    r31 = add(r0, 16);
+    r32 = load(r31);
+    r33 = add(57, r32);
+    r34 = sub(r26, r33);
+    r35 = 59 >= r21;
+    store(r22, r35);
+    r36 = r34 <= r30;
+    r37 = 540 < r36;
+    r38 = r34 >= r21;
+    r39 = add(0, r38);
+    r40 = load(r31);
+    return 84;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = add(r1, 76);
+    r4 = add(r3, r1);
+    r5 = add(r0, 24);
+    store(r5, r4);
+    r6 = load(r2);
+    r7 = load(elem(r6, 0));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r2);
+    r9 = load(r5);
+    r10 = 4;
+    r11 = r8;
+    r13 = 3;
+L45:;
+    r15 = r13 > 0;
+    if (r15) goto L53; else goto L93;
+L53:;
+    r12 = 10 == r1;
+    r16 = sub(8, r12);
+    r17 = 8 == r9;
+    r18 = r16 < r17;
+    r19 = add(r0, 8);
+    store(r19, r18);
+    r14 = sub(r13, 1);
+    r10 = 8;
+    r11 = r12;
+    r13 = r14;
+    goto L45;
+L93:;
+    r20 = r10 < r11;
+    if (r20) goto L101; else goto L193;
+L101:;
+    r21 = add(r1, 21);
+    print(r21);
+    r22 = load(r2);
+    r23 = load(elem(r22, 0));
+    r24 = ((int64_t (*)(int64_t)) callee(r23, 1))(r2);
+    r25 = load(r2);
+    r26 = load(elem(r25, 0));
+    r27 = ((int64_t (*)(int64_t)) callee(r26, 1))(r2);
+    r28 = r27;
+L130:;
+    r29 = load(r2);
+    r30 = load(elem(r29, 0));
+    r31 = ((int64_t (*)(int64_t)) callee(r30, 1))(r2);
+    r32 = load(r2);
+    r33 = load(elem(r32, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r33, 1))(r2);
+    r35 = shl(r1, 1);
+    r36 = 80 == r1;
+    r37 = r35 > r36;
+    print(r28);
+    r38 = add(r31, r37);
+    print(r38);
+    r39 = mul(r31, r1);
+    r40 = add(r0, 8);
+    r41 = load(r40);
+    r42 = add(r41, r39);
+    r43 = r42 >= 73;
+    r44 = r1 != r1;
+    r45 = r1 <= r44;
+    return r45;
+L193:;
+    r28 = r10;
+    goto L130;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 40);
+    r4 = alloc(4);
+    store(r4, 72);
+    r5 = load(r3);
+    r6 = load(elem(r5, 1));
+    r7 = add(6, r2);
+    r8 = ((int64_t (*)(int64_t, int64_t)) callee(r6, 2))(r3, r7);
+    print(26);
+    r9 = load(r3);
+    r10 = load(elem(r9, 0));
+    r11 = ((int64_t (*)(int64_t)) callee(r10, 1))(r3);
+    r12 = 4;
+    r14 = 2;
+L49:;
+    r15 = r12 > 0;
+    if (r15) goto L57; else goto L94;
+L57:;
+    r16 = load(r4);
+    r17 = load(elem(r16, 0));
+    r18 = ((int64_t (*)(int64_t)) callee(r17, 1))(r4);
+    r19 = r2 < r8;
+    r20 = 92 < r19;
+    r21 = add(r0, 8);
+    store(r21, r20);
+    r13 = sub(r12, 1);
+    r12 = r13;
+    r14 = 92;
+    goto L49;
+L94:;
+    r22 = mul(r8, r1);
+    r23 = r2 == r14;
+    r24 = add(r22, r23);
+    r25 = r2 >= 76;
+    if (r25) goto L114; else goto L132;
+L114:;
+    r26 = load(r4);
+    r27 = load(elem(r26, 0));
+    r28 = ((int64_t (*)(int64_t)) callee(r27, 1))(r4);
+    r37 = r28;
+    r38 = r8;
+    goto L168;
+L132:;
+    r29 = add(r0, 16);
+    r30 = load(r29);
+    r31 = add(r30, 92);
+    r32 = add(r31, 100);
+    r33 = add(r0, 8);
+    r34 = load(r33);
+    r35 = mul(r1, r34);
+    r36 = sub(r32, r35);
+    r37 = 92;
+    r38 = r32;
+L168:;
+    r39 = load(r3);
+    r40 = load(elem(r39, 0));
+    r41 = ((int64_t (*)(int64_t)) callee(r40, 1))(r3);
+    r42 = add(r0, 8);
+    r43 = load(r42);
+    r44 = add(r0, 24);
+    r45 = load(r44);
+    r46 = load(r44);
+    r47 = sub(r45, r46);
+    r48 = r47 != r38;
+    r49 = r1 == 33;
+    r50 = add(r49, r43);
+    return r50;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = 0 >= r4;
+    r6 = mul(456, r5);
+    r7 = r6;
+    r8 = 0;
+    r9 = r8 != r7;
+    r10 = add(r0, 16);
+    r11 = load(r10);
+    r12 = add(r0, 24);
+    r13 = load(r12);
+    r14 = r11 == r13;
+    r15 = add(r9, r14);
+    store(r10, r7);
+    r16 = r15 <= r8;
+    if (r16) goto L64; else goto L260;
+L64:;
+    r17 = load(r2);
+    r18 = load(elem(r17, 1));
+    r19 = ((int64_t (*)(int64_t, int64_t)) callee(r18, 2))(r2, 85);
+    r20 = load(r1);
+    r21 = load(elem(r20, 2));
+    r22 = 45 >= r8;
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = r24 > r8;
+    r26 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r21, 3))(r1, r22, r25);
+    r27 = div_(r26, 6);
+    r28 = 97 == r19;
+    r29 = sub(r27, r28);
+    r30 = shr(r29, 2);
+    r31 = r8 > r29;
+    r32 = sub(r30, r31);
+    r33 = r19;
+    r34 = r32;
+    r35 = r26;
+    r36 = r32;
+L140:;
+    r37 = add(r0, 24);
+    r38 = load(r37);
+    r39 = r38 >= r36;
+    r40 = mul(r35, 23);
+    r41 = r39 >= r40;
+    r42 = 3;
+L164:;
+    r44 = r42 > 0;
+    if (r44) goto L172; else goto L221;
+L172:;
+    r45 = 85 <= r34;
+    if (r45) goto L180; else goto L189;
+L180:;
+    r46 = add(r0, 8);
+    r47 = load(r46);
+    print(r47);
+    goto L210;
+L189:;
+    r48 = 60 <= r41;
+    r49 = sub(r41, r34);
+    r50 = mul(r48, r49);
+    r51 = add(r0, 16);
+    store(r51, r50);
+L210:;
+    r43 = sub(r42, 1);
+    r42 = r43;
+    goto L164;
+L221:;
+    r52 = add(r34, r35);
+    print(r52);
+    r53 = load(r2);
+    r54 = load(elem(r53, 2));
+    r55 = add(r0, 8);
+    r56 = load(r55);
+    r57 = sub(r56, r41);
+    r58 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r54, 3))(r2, r41, r57);
+    r59 = r36 >= r58;
+    r60 = mul(r35, r59);
+    return 56;
+L260:;
+    r33 = 19;
+    r34 = r7;
+    r35 = r15;
+    r36 = r8;
+    goto L140;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = 7;
+    r3 = 3;
+    r5 = 0;
+L13:;
+    r7 = r3 > 0;
+    if (r7) goto L21; else goto L100;
+L21:;
+    r2 = r1;
+    r6 = 4;
+L31:;
+    r9 = r6 > 0;
+    if (r9) goto L39; else goto L53;
+L39:;
+    r8 = sub(r6, 1);
+    r2 = 1;
+    r6 = r8;
+    goto L31;
+L53:;
+    r10 = add(r0, 24);
+    r11 = load(r10);
+    store(r10, r11);
+    r12 = shl(r2, 3);
+    r13 = add(r0, 16);
+    store(r13, r12);
+    r14 = r2 >= 6;
+    r15 = mul(r14, r2);
+    store(r10, r15);
+    r4 = sub(r3, 1);
+    r1 = r2;
+    r3 = r4;
+    r5 = r6;
+    goto L13;
+L100:;
+    r16 = add(r0, 24);
+    r17 = load(r16);
+    r18 = r17 == r1;
+    r19 = mul(0, r18);
+    r20 = add(r0, 16);
+    store(r20, r19);
+    r21 = load(r20);
+    r22 = add(r21, 1);
+    r23 = 67 > r1;
+    r24 = r22 != r23;
+    r25 = r1 != r1;
+    if (r25) goto L143; else goto L264;
+L143:;
+    r26 = add(r0, 8);
+    r27 = load(r26);
+    r28 = 96 >= r27;
+    if (r28) goto L156; else goto L277;
+L156:;
+    r29 = add(r0, 24);
+    store(r29, 122);
+    r30 = r1;
+L170:;
+    r31 = add(r0, 16);
+    r32 = load(r31);
+    r33 = r32 < 36;
+    if (r33) goto L183; else goto L197;
+L183:;
+    r34 = 83 == r1;
+    r35 = r34;
+    r36 = r1;
+    goto L207;
+L197:;
+    r35 = 1;
+    r36 = 92;
+L207:;
+    r37 = add(r0, 16);
+    r38 = load(r37);
+    r39 = r30 >= r38;
+    r40 = r30;
+    r41 = r39;
+    r42 = r36;
+L229:;
+    r43 = add(r0, 24);
+    r44 = load(r43);
+    r45 = mul(r40, r44);
+    r46 = shl(r45, 2);
+    store(r43, r46);
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r49 = mul(92, r48);
+    r50 = mul(r42, r41);
+    r51 = r49 >= r50;
+    return r51;
+L264:;
+    r40 = r1;
+    r41 = 1;
+    r42 = r1;
+    goto L229;
+L277:;
+    r30 = r1;
+    goto L170;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = mul(0, r1);
+    r4 = r3 <= 0;
+    r5 = add(r0, 24);
+    store(r5, r4);
+    r6 = load(r2);
+    r7 = load(elem(r6, 0));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r2);
+    r9 = load(r2);
+    r10 = load(elem(r9, 0));
+    r11 = ((int64_t (*)(int64_t)) callee(r10, 1))(r2);
+    r12 = add(r8, r8);
+    r13 = shl(r12, 0);
+    r14 = sub(r1, r8);
+    r15 = mul(r14, r8);
+    r16 = add(r0, 8);
+    store(r16, r15);
+    r17 = r13 == r1;
+    r18 = r11 > r17;
+    r19 = 94 <= r13;
+    r20 = 3;
+    r22 = r19;
+L82:;
+    r23 = r20 > 0;
+    if (r23) goto L90; else goto L121;
+L90:;
+    r24 = add(r0, 8);
+    r25 = load(r24);
+    r26 = add(r25, 4);
+    r27 = add(20, r11);
+    r28 = r26 != r27;
+    r21 = sub(r20, 1);
+    r20 = r21;
+    r22 = 63;
+    goto L82;
+L121:;
+    r29 = add(r0, 8);
+    r30 = load(r29);
+    r31 = sub(r1, 28);
+    print(r31);
+    r32 = load(r2);
+    r33 = load(elem(r32, 0));
+    r34 = ((int64_t (*)(int64_t)) callee(r33, 1))(r2);
+    r35 = shl(r8, 1);
+    print(r35);
+    return 43;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = 3;
+    r6 = 4;
+L16:;
+    r8 = r4 > 0;
+    if (r8) goto L24; else goto L46;
+L24:;
+    r9 = r2 == r1;
+    r7 = r9 > 0;
+    r5 = sub(r4, 1);
+    r4 = r5;
+    r6 = r7;
+    goto L16;
+L46:;
+    r10 = r2 != 92;
+    print(164);
+    r11 = r10 > 1;
+    r12 = 1 == r2;
+    r13 = r12 <= 1;
+    r14 = add(r0, 24);
+    store(r14, r13);
+    r15 = div_(r1, 6);
+    print(r15);
+    r16 = sub(1, r11);
+    r17 = load(r3);
+    r18 = load(elem(r17, 1));
+    r19 = ((int64_t (*)(int64_t, int64_t)) callee(r18, 2))(r3, 4);
+    r20 = sub(8, r16);
+    r21 = r1 == r1;
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = add(r23, r1);
+    r25 = r21 <= r24;
+    r26 = 4;
+    r28 = r1;
+L121:;
+    r30 = r26 > 0;
+    if (r30) goto L129; else goto L151;
+L129:;
+    r31 = 8 > r16;
+    r29 = 0 < r31;
+    r27 = sub(r26, 1);
+    r26 = r27;
+    r28 = r29;
+    goto L121;
+L151:;
+    r32 = 35 >= r2;
+    r33 = r28 >= 55;
+    r34 = r28 > r28;
+    r35 = sub(r33, r34);
+    return r35;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = load(r1);
+    r3 = load(elem(r2, 0));
+    r4 = ((int64_t (*)(int64_t)) callee(r3, 1))(r1);
+    r5 = r4 < (-1);
+    print(20);
+    r6 = add(64, r5);
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = add(r6, r8);
+    r10 = add(r0, 24);
+    r11 = load(r10);
+    r12 = load(r7);
+    r13 = add(r11, r12);
+    r14 = r13 >= 48;
+    print(295);
+    r15 = 5 == r5;
+    print(r15);
+    r16 = 21 > r5;
+    r17 = load(r10);
+    r18 = r17 < 5;
+    r19 = r16 != r18;
+    r20 = load(r7);
+    r21 = sub(r20, 5);
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = r19 >= r23;
+    r25 = r21 > r24;
+    store(r10, r25);
+    print(5);
+    r26 = 5;
+    r28 = 2;
+L107:;
+    r30 = r28 > 0;
+    if (r30) goto L115; else goto L146;
+L115:;
+    r31 = load(r1);
+    r32 = load(elem(r31, 1));
+    r33 = r25 == r25;
+    r27 = ((int64_t (*)(int64_t, int64_t)) callee(r32, 2))(r1, r33);
+    r29 = sub(r28, 1);
+    r26 = r27;
+    r28 = r29;
+    goto L107;
+L146:;
+    r34 = div_(r26, 4);
+    print(r34);
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = shl(r36, 0);
+    r38 = 67 <= r14;
+    r39 = r37 >= r38;
+    r40 = add(r0, 8);
+    r41 = load(r40);
+    r42 = r25 <= r41;
+    if (r42) goto L182; else goto L254;
+L182:;
+    r43 = r26 < 64;
+    r44 = add(r0, 8);
+    r45 = load(r44);
+    r46 = r43 >= r45;
+    r47 = add(r0, 24);
+    r48 = load(r47);
+    r49 = r48 < 1;
+    r50 = add(r0, 16);
+    r51 = load(r50);
+    r52 = sub(59, r39);
+    r53 = r51 == r52;
+    r54 = r46;
+    r55 = r49;
+    r56 = r53;
+L230:;
+    r57 = add(r0, 8);
+    r58 = load(r57);
+    r59 = sub(r58, r54);
+    r60 = add(r0, 24);
+    r61 = load(r60);
+    r62 = add(r61, 18);
+    r63 = r59 < r62;
+    return r63;
+L254:;
+    r54 = r25;
+    r55 = r14;
+    r56 = r26;
+    goto L230;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    print(r2);
+    r3 = 2;
+    r4 = 5;
+    r6 = 2;
+L20:;
+    r8 = r6 > 0;
+    if (r8) goto L28; else goto L82;
+L28:;
+    r9 = add(r0, 8);
+    r10 = load(r9);
+    r11 = sub(r10, r3);
+    r12 = r11 <= 1;
+    r5 = 9 < r12;
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 != r5;
+    r16 = r15 == 26;
+    r17 = add(r0, 24);
+    store(r17, r16);
+    r7 = sub(r6, 1);
+    r3 = 62;
+    r4 = r5;
+    r6 = r7;
+    goto L20;
+L82:;
+    print(15);
+    r18 = add(r0, 16);
+    r19 = load(r18);
+    r20 = add(r0, 8);
+    store(r20, r19);
+    print(0);
+    r21 = load(r20);
+    r22 = r21 >= 39;
+    if (r22) goto L109; else goto L222;
+L109:;
+    r23 = r4;
+L116:;
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = r4 == r27;
+    r29 = r25 > r28;
+    r30 = r29;
+    r31 = r23;
+    r32 = add(r0, 8);
+    r33 = load(r32);
+    r34 = r30 == r33;
+    r35 = r31 > r34;
+    r36 = add(r0, 16);
+    r37 = load(r36);
+    r38 = load(r36);
+    r39 = r37 < r38;
+    r40 = sub(r3, r39);
+    r41 = r3 <= r3;
+    if (r41) goto L177; else goto L229;
+L177:;
+    r42 = r35 < r4;
+    r43 = 12 >= r40;
+    r44 = r42 != r43;
+    r45 = add(r0, 8);
+    r46 = load(r45);
+    r47 = sub(r46, r3);
+    r48 = r47;
+    r49 = r44;
+L208:;
+    r50 = add(r0, 8);
+    r51 = load(r50);
+    r52 = add(r0, 16);
+    store(r52, r51);
+    return r4;
+L222:;
+    r23 = 9;
+    goto L116;
+L229:;
+    r48 = r35;
+    r49 = r40;
+    goto L208;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0;
+    r0 = a0;
+    r1 = a1;
+    print(13);
+    print(91);
+    r2 = 2 != r1;
+    if (r2) goto L12; else goto L185;
+L12:;
+    r3 = r1 > r1;
+    if (r3) goto L20; else goto L195;
+L20:;
+    print(4);
+    r4 = add(r0, 24);
+    store(r4, 1);
+    r5 = 4;
+    r6 = 1;
+L39:;
+    r7 = 88 >= r5;
+    print(r7);
+    r8 = r5;
+    r9 = r6;
+L55:;
+    r10 = r8 == r9;
+    r11 = 1 != r10;
+    r12 = r1 < 60;
+    r13 = r12 >= 0;
+    r14 = shr(r8, 3);
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    r17 = r16 >= 5;
+    r18 = r14 >= r17;
+    r19 = r13 >= r18;
+    r20 = 4 == r1;
+    r21 = r19 > r20;
+    r22 = add(r0, 24);
+    r23 = load(r22);
+    r24 = r23 > r13;
+    r25 = load(r15);
+    r26 = r24 == r25;
+    if (r26) goto L120; else goto L140;
+L120:;
+    r27 = add(r0, 24);
+    r28 = load(r27);
+    r29 = add(r1, r28);
+    r30 = div_(r29, 2);
+    r33 = r30;
+    goto L155;
+L140:;
+    r31 = r1 > 65;
+    r32 = sub(r13, r31);
+    r33 = r32;
+L155:;
+    r34 = add(r0, 24);
+    r35 = load(r34);
+    r36 = sub(r13, r35);
+    r37 = add(r0, 8);
+    r38 = load(r37);
+    r39 = add(r38, r18);
+    r40 = sub(r36, r39);
+    print(r33);
+    r41 = shr(r1, 2);
+    return r41;
+L185:;
+    r8 = 9;
+    r9 = 2;
+    goto L55;
+L195:;
+    r5 = 9;
+    r6 = 2;
+    goto L39;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 16);
+    r4 = load(r3);
+    r5 = r4 == 0;
+    r6 = r1 <= 1;
+    r7 = r5 < 5;
+    if (r7) goto L21; else goto L241;
+L21:;
+    r8 = mul(0, r6);
+    r9 = shl(r6, 1);
+    r10 = r8 <= r9;
+    r11 = 6;
+    r13 = 4;
+L43:;
+    r15 = r13 > 0;
+    if (r15) goto L51; else goto L88;
+L51:;
+    r16 = 39 <= r1;
+    r17 = r10 == r16;
+    r18 = add(r0, 8);
+    store(r18, r17);
+    r19 = r10 >= r10;
+    r12 = r19 <= r10;
+    r14 = sub(r13, 1);
+    r11 = r12;
+    r13 = r14;
+    goto L43;
+L88:;
+    r20 = add(r0, 8);
+    r21 = load(r20);
+    r22 = mul(r10, r10);
+    r23 = r21 < r22;
+    r24 = r11;
+    r25 = r10;
+    r26 = r23;
+    r27 = r1;
+    r28 = r13;
+L120:;
+    r29 = add(r0, 16);
+    r30 = load(r29);
+    r31 = r26 < r2;
+    r32 = sub(r30, r31);
+    r33 = add(r0, 8);
+    store(r33, r32);
+    r34 = r1 != r2;
+    if (r34) goto L148; else goto L166;
+L148:;
+    r35 = r27 >= r1;
+    r36 = r25 >= r35;
+    r41 = r36;
+    r42 = r27;
+    goto L191;
+L166:;
+    r37 = r26 >= r24;
+    r38 = add(r0, 24);
+    r39 = load(r38);
+    r40 = r39 < r26;
+    print(r40);
+    r41 = r26;
+    r42 = r37;
+L191:;
+    r43 = r24 != r25;
+    r44 = div_(r43, 2);
+    r45 = r44 >= r24;
+    if (r45) goto L207; else goto L209;
+L207:;
+L209:;
+    print(r25);
+    r46 = add(r0, 24);
+    r47 = load(r46);
+    r48 = r25 <= r47;
+    r49 = r48 != r1;
+    r50 = add(r0, 16);
+    store(r50, r49);
+    r51 = add(r25, r42);
+    r52 = div_(r51, 5);
+    return r52;
+L241:;
+    r24 = 6;
+    r25 = 5;
+    r26 = r5;
+    r27 = r6;
+    r28 = 0;
+    goto L120;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = 0 <= r2;
+    if (r3) goto L13; else goto L52;
+L13:;
+    r4 = add(r0, 8);
+    store(r4, 40);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = load(r5);
+    r8 = load(r5);
+    r9 = add(r7, r8);
+    r10 = r6 > r9;
+    r19 = r10;
+    r20 = 1;
+    r21 = 0;
+    goto L113;
+L52:;
+    r11 = 4;
+L59:;
+    r13 = r11 > 0;
+    if (r13) goto L67; else goto L100;
+L67:;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r15 >= 5;
+    r17 = mul(51, r16);
+    r18 = add(r0, 16);
+    store(r18, r17);
+    print(97);
+    r12 = sub(r11, 1);
+    r11 = r12;
+    goto L59;
+L100:;
+    r19 = 2;
+    r20 = 0;
+    r21 = r11;
+L113:;
+    r22 = add(r0, 24);
+    r23 = load(r22);
+    r24 = r23 > 5;
+    r25 = 1 > r24;
+    store(r22, r25);
+    r26 = add(r0, 16);
+    store(r26, (-86));
+    r27 = load(r22);
+    r28 = 1 >= r27;
+    if (r28) goto L147; else goto L237;
+L147:;
+    r29 = add(r0, 8);
+    r30 = load(r29);
+    r31 = mul(r30, 1);
+    r32 = mul(r31, 1);
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = r34 <= (-86);
+    store(r33, r32);
+    print((-86));
+    r36 = r32;
+    r37 = r35;
+L184:;
+    r38 = r37 != 0;
+    r39 = add(r0, 24);
+    r40 = load(r39);
+    r41 = add(r0, 8);
+    r42 = load(r41);
+    r43 = r40 > r42;
+    r44 = load(r39);
+    r45 = r44 == r38;
+    r46 = sub(r43, r45);
+    r47 = add(r0, 16);
+    store(r47, r46);
+    r48 = load(r39);
+    r49 = r48 != r36;
+    r50 = sub(r36, 80);
+    r51 = r49 == r50;
+    return r51;
+L237:;
+    r36 = 1;
+    r37 = 1;
+    goto L184;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
@@ -0,0 +1,1204 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    store(r1, 0);
+    r2 = 2;
+    r4 = 4;
+L17:;
+    r6 = r2 > 0;
+    if (r6) goto L25; else goto L54;
+L25:;
+    print((-43));
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r4 > r8;
+    r5 = sub(r9, 70);
+    r3 = sub(r2, 1);
+    r2 = r3;
+    r4 = r5;
+    goto L17;
+L54:;
+    r10 = r4 == 7;
+    r11 = r4 <= 7;
+    r12 = add(r10, r11);
+    r13 = 4 < r12;
+    r14 = r13 > 1;
+    r15 = add(r0, 24);
+    r16 = load(r15);
+    r17 = sub(r16, 75);
+    r18 = load(r15);
+    r19 = r17 < r18;
+    r20 = div_(r12, 1);
+    r21 = add(r20, 20);
+    r22 = add(r19, r12);
+    r23 = shr(r22, 0);
+    r24 = add(r0, 8);
+    store(r24, r23);
+    r25 = load(r24);
+    r26 = add(r0, 16);
+    r27 = load(r26);
+    r28 = r27 != r21;
+    r29 = add(r25, r28);
+    r30 = r29 <= r4;
+    r31 = sub(r30, r19);
+    r32 = mul(r29, 1);
+    r33 = load(r24);
+    r34 = sub(r33, r32);
+    r35 = r29 > r34;
+    r36 = load(r15);
+    r37 = r36 > r32;
+    print(r37);
+    r38 = load(r26);
+    r39 = sub(r38, 69);
+    r40 = div_(r39, 4);
+    print(r35);
+    r41 = div_(r29, 5);
+    r42 = r40 == r35;
+    r43 = r41 > r42;
+    return r43;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = alloc(4);
+    store(r3, 40);
+    print(8);
+    r4 = sub(r1, 86);
+    print(r4);
+    r5 = load(r3);
+    r6 = load(elem(r5, 0));
+    r7 = ((int64_t (*)(int64_t)) callee(r6, 1))(r3);
+    r8 = load(r3);
+    r9 = load(elem(r8, 0));
+    r10 = ((int64_t (*)(int64_t)) callee(r9, 1))(r3);
+    r11 = r7 == r1;
+    if (r11) goto L44; else goto L252;
+L44:;
+    r12 = add(r0, 8);
+    r13 = load(r12);
+    r14 = add(r0, 16);
+    store(r14, r13);
+    r15 = 21 != r1;
+    print(r15);
+    r16 = load(r2);
+    r17 = load(elem(r16, 0));
+    r18 = ((int64_t (*)(int64_t)) callee(r17, 1))(r2);
+    r19 = load(r3);
+    r20 = load(elem(r19, 0));
+    r21 = ((int64_t (*)(int64_t)) callee(r20, 1))(r3);
+    r22 = 21;
+    r23 = r21;
+L88:;
+    r24 = 1 >= r22;
+    if (r24) goto L96; else goto L111;
+L96:;
+    r25 = div_(r1, 7);
+    r26 = add(r25, 1);
+    r31 = r26;
+    goto L137;
+L111:;
+    r27 = r23 == r1;
+    r28 = r10 == r1;
+    r29 = r27 == r28;
+    r30 = add(r0, 16);
+    store(r30, r29);
+    r31 = 1;
+L137:;
+    r32 = add(r0, 24);
+    r33 = load(r32);
+    r34 = r22 < r33;
+    if (r34) goto L150; else goto L162;
+L150:;
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = r36;
+    goto L169;
+L162:;
+    r37 = r31;
+L169:;
+    r38 = sub(r23, r31);
+    print(r38);
+    r39 = r37 > r23;
+    r40 = add(r0, 8);
+    store(r40, r39);
+    r41 = load(r40);
+    r42 = r41 < r1;
+    r43 = 65 != r42;
+    r44 = r37;
+    r45 = 3;
+L207:;
+    r47 = r45 > 0;
+    if (r47) goto L215; else goto L229;
+L215:;
+    r46 = sub(r45, 1);
+    r44 = r23;
+    r45 = r46;
+    goto L207;
+L229:;
+    r48 = sub(r43, r1);
+    r49 = r31 != r48;
+    r50 = add(r0, 16);
+    r51 = load(r50);
+    r52 = r51 < r44;
+    r53 = r52 <= r43;
+    return r53;
+L252:;
+    r22 = 8;
+    r23 = r7;
+    goto L88;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 40);
+    r4 = alloc(4);
+    store(r4, 72);
+    r5 = 4;
+L19:;
+    r7 = r5 > 0;
+    if (r7) goto L27; else goto L38;
+L27:;
+    r6 = sub(r5, 1);
+    r5 = r6;
+    goto L19;
+L38:;
+    r8 = mul((-6), r2);
+    r9 = sub(40, r8);
+    r10 = 85 > r9;
+    r11 = (-6) > r10;
+    r12 = load(r3);
+    r13 = load(elem(r12, 1));
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r11 <= r15;
+    r17 = ((int64_t (*)(int64_t, int64_t)) callee(r13, 2))(r3, r16);
+    r18 = r17 == 51;
+    r19 = r11 < r17;
+    r20 = mul(r18, r19);
+    print(138);
+    r21 = 6;
+    r23 = 3;
+L100:;
+    r25 = r23 > 0;
+    if (r25) goto L108; else goto L154;
+L108:;
+    r26 = load(r4);
+    r27 = load(elem(r26, 0));
+    r28 = ((int64_t (*)(int64_t)) callee(r27, 1))(r4);
+    r29 = sub(r20, r28);
+    r30 = add(r2, 80);
+    r31 = r29 == r30;
+    r32 = r20 != r11;
+    r33 = r20 != r28;
+    r22 = r32 >= r33;
+    r24 = sub(r23, 1);
+    r21 = r22;
+    r23 = r24;
+    goto L100;
+L154:;
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = r35 != r21;
+    r37 = r36 != 5;
+    r38 = sub(94, r21);
+    r39 = r20 == r20;
+    r40 = r38 > r39;
+    r41 = r2 >= r40;
+    r42 = load(r4);
+    r43 = load(elem(r42, 1));
+    r44 = ((int64_t (*)(int64_t, int64_t)) callee(r43, 2))(r4, r11);
+    r45 = r44 != 7;
+    print(r45);
+    r46 = r11 > r11;
+    r47 = r46 < r2;
+    return r47;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = shl(r4, 2);
+    r6 = 2 < r5;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r8 != 71;
+    if (r9) goto L38; else goto L231;
+L38:;
+    r10 = sub(r6, 3);
+    r11 = add(r0, 24);
+    store(r11, r10);
+    r12 = 9;
+    r13 = 2;
+    r14 = add(r0, 24);
+    store(r14, r12);
+    r15 = r12;
+    r16 = r13;
+L72:;
+    r17 = add(r0, 16);
+    r18 = load(r17);
+    r19 = r18 > r6;
+    r20 = r6 < r6;
+    r21 = sub(r19, r20);
+    r22 = load(r17);
+    r23 = add(2, r22);
+    print(r23);
+    r24 = r15 == 2;
+    r25 = load(r17);
+    r26 = r21 <= r25;
+    r27 = r24 >= r26;
+    r28 = load(r17);
+    r29 = r28 != r21;
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = sub(r31, r15);
+    r33 = r29 < r32;
+    r34 = add(r27, 82);
+    r35 = add(17, r27);
+    r36 = r34 == r35;
+    store(r17, r36);
+    r37 = 2;
+    r39 = 84;
+    r41 = 2;
+L161:;
+    r43 = r41 > 0;
+    if (r43) goto L169; else goto L229;
+L169:;
+    r44 = add(r0, 8);
+    r45 = load(r44);
+    r46 = r45 > 77;
+    if (r46) goto L182; else goto L241;
+L182:;
+    r47 = mul(r15, 95);
+    r48 = r15 == r15;
+    r49 = r47 > r48;
+    r50 = add(r49, r33);
+    r51 = sub(r15, r50);
+    r38 = r49;
+    r40 = r51;
+L212:;
+    r42 = sub(r41, 1);
+    r37 = r38;
+    r39 = r40;
+    r41 = r42;
+    goto L161;
+L229:;
+    return r15;
+L231:;
+    r15 = 9;
+    r16 = 3;
+    goto L72;
+L241:;
+    r38 = r15;
+    r40 = r39;
+    goto L212;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = r2 > 8;
+    r4 = mul(r3, 4);
+    r5 = 2 <= r4;
+    if (r5) goto L21; else goto L37;
+L21:;
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = sub(1, r7);
+    r11 = r8;
+    goto L51;
+L37:;
+    r9 = add(r0, 16);
+    r10 = load(r9);
+    print(r10);
+    r11 = r4;
+L51:;
+    print(17);
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = load(r12);
+    r15 = add(r14, 8);
+    r16 = 198 < r15;
+    r17 = r16 != r16;
+    r18 = r17 != r16;
+    r19 = add(r0, 24);
+    store(r19, r18);
+    print(3770);
+    r20 = load(r12);
+    r21 = r20 > r11;
+    r22 = div_(r21, 2);
+    print(r11);
+    r23 = add(r0, 8);
+    r24 = load(r23);
+    r25 = load(r23);
+    r26 = load(r12);
+    r27 = r26 >= r11;
+    r28 = r25 != r27;
+    store(r23, r28);
+    r29 = load(r23);
+    r30 = r29 == r22;
+    r31 = 2 >= r30;
+    store(r23, r31);
+    r32 = load(r23);
+    r33 = r32 > r22;
+    r34 = sub(r11, r33);
+    r35 = load(r23);
+    r36 = add(r34, r35);
+    print(r36);
+    r37 = r24 == r34;
+    r38 = load(r19);
+    r39 = r38 <= 76;
+    store(r19, r39);
+    r40 = load(r19);
+    r41 = r40 != 89;
+    print(r41);
+    r42 = load(r12);
+    return r42;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = 3;
+    r5 = 3;
+L16:;
+    r7 = r3 > 0;
+    if (r7) goto L24; else goto L46;
+L24:;
+    r8 = r1 != r5;
+    r6 = 9 > r8;
+    r4 = sub(r3, 1);
+    r3 = r4;
+    r5 = r6;
+    goto L16;
+L46:;
+    r9 = add(r0, 16);
+    store(r9, 9);
+    r10 = r1 == 56;
+    r11 = add(r0, 8);
+    r12 = load(r11);
+    r13 = r12 < 9;
+    r14 = r10 <= r13;
+    r15 = r14 <= r1;
+    r16 = 2;
+    r18 = r5;
+    r20 = r15;
+L87:;
+    r21 = r16 > 0;
+    if (r21) goto L95; else goto L132;
+L95:;
+    r22 = load(r2);
+    r23 = load(elem(r22, 0));
+    r19 = ((int64_t (*)(int64_t)) callee(r23, 1))(r2);
+    r24 = r19 > 37;
+    r25 = div_(r19, 4);
+    r26 = sub(r24, r25);
+    r17 = sub(r16, 1);
+    r16 = r17;
+    r18 = r19;
+    r20 = r19;
+    goto L87;
+L132:;
+    r27 = load(r2);
+    r28 = load(elem(r27, 0));
+    r29 = ((int64_t (*)(int64_t)) callee(r28, 1))(r2);
+    r30 = add(r0, 16);
+    r31 = load(r30);
+    r32 = 1 == r31;
+    r33 = div_(r32, 2);
+    r34 = add(39, r1);
+    r35 = r33 >= r34;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = add(r32, r37);
+    r39 = 3 <= r32;
+    r40 = r38 < r39;
+    r41 = load(r36);
+    r42 = r41 == r1;
+    r43 = shl(r42, 0);
+    r44 = r18 != r18;
+    if (r44) goto L197; else goto L230;
+L197:;
+    r45 = load(r2);
+    r46 = load(elem(r45, 0));
+    r47 = ((int64_t (*)(int64_t)) callee(r46, 1))(r2);
+    r48 = 77;
+    r49 = r43;
+    r50 = r47;
+L218:;
+    print(r49);
+    r51 = add(r49, r50);
+    r52 = r51 < 83;
+    return r52;
+L230:;
+    r48 = r43;
+    r49 = r18;
+    r50 = r32;
+    goto L218;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    print(r5);
+    r6 = r2 > r1;
+    r7 = load(r4);
+    r8 = 1 < r7;
+    r9 = r6 != r8;
+    r10 = r9;
+    r11 = 6;
+    r13 = 4;
+L41:;
+    r15 = r13 > 0;
+    if (r15) goto L49; else goto L110;
+L49:;
+    r16 = load(r3);
+    r17 = load(elem(r16, 1));
+    r18 = 33 >= r2;
+    r19 = ((int64_t (*)(int64_t, int64_t)) callee(r17, 2))(r3, r18);
+    r20 = r19;
+    r21 = load(r3);
+    r22 = load(elem(r21, 0));
+    r12 = ((int64_t (*)(int64_t)) callee(r22, 1))(r3);
+    r23 = add(r0, 16);
+    r24 = load(r23);
+    r25 = sub(r24, 28);
+    r26 = r12 < r25;
+    store(r23, r26);
+    r14 = sub(r13, 1);
+    r10 = 8;
+    r11 = r12;
+    r13 = r14;
+    goto L41;
+L110:;
+    r27 = div_(r11, 4);
+    print(r27);
+    r28 = r1 == 83;
+    print(r28);
+    r29 = r10 != 21;
+    if (r29) goto L130; else goto L228;
+L130:;
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = add(18, r31);
+    r33 = r32;
+    r34 = 25;
+L149:;
+    r35 = r33;
+    r37 = 3;
+L159:;
+    r39 = r37 > 0;
+    if (r39) goto L167; else goto L194;
+L167:;
+    r40 = mul(2, r35);
+    r41 = add(r0, 8);
+    r42 = load(r41);
+    r36 = r40 != r42;
+    r38 = sub(r37, 1);
+    r35 = r36;
+    r37 = r38;
+    goto L159;
+L194:;
+    r43 = load(r3);
+    r44 = load(elem(r43, 1));
+    r45 = div_(r34, 1);
+    r46 = ((int64_t (*)(int64_t, int64_t)) callee(r44, 2))(r3, r45);
+    r47 = r46;
+    r48 = r11;
+    r49 = add(r0, 8);
+    r50 = load(r49);
+    r51 = 88 != r2;
+    return r51;
+L228:;
+    r33 = 7;
+    r34 = r10;
+    goto L149;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = 8;
+    r4 = 2;
+    r6 = 4;
+L19:;
+    r8 = r4 > 0;
+    if (r8) goto L27; else goto L70;
+L27:;
+    r9 = load(r1);
+    r10 = load(elem(r9, 0));
+    r7 = ((int64_t (*)(int64_t)) callee(r10, 1))(r1);
+    r11 = add(r0, 24);
+    r12 = load(r11);
+    r13 = add(r0, 8);
+    r14 = load(r13);
+    r15 = r12 != r14;
+    r3 = div_(r15, 7);
+    r5 = sub(r4, 1);
+    r2 = r3;
+    r4 = r5;
+    r6 = r7;
+    goto L19;
+L70:;
+    r16 = add(r0, 8);
+    r17 = load(r16);
+    r18 = load(r16);
+    r19 = r2 == r18;
+    r20 = r19 >= 88;
+    r21 = add(r0, 24);
+    r22 = load(r21);
+    r23 = 1 != r22;
+    if (r23) goto L99; else goto L275;
+L99:;
+    r24 = mul(r20, r17);
+    r25 = r24 >= 1;
+    if (r25) goto L111; else goto L115;
+L111:;
+    print(r24);
+    goto L119;
+L115:;
+    print(0);
+L119:;
+    r26 = r20 >= 33;
+    r27 = r26 == r24;
+    r28 = add(r0, 8);
+    store(r28, r27);
+    r29 = r24;
+    r30 = r24;
+    r31 = r24;
+L147:;
+    r32 = add(r0, 8);
+    r33 = load(r32);
+    r34 = r31 != 71;
+    r35 = r33 == r34;
+    r36 = add(r0, 24);
+    store(r36, r35);
+    r37 = load(r1);
+    r38 = load(elem(r37, 2));
+    r39 = add(r0, 16);
+    r40 = load(r39);
+    r41 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r38, 3))(r1, 55, r40);
+    r42 = load(r32);
+    r43 = r41;
+    r45 = 4;
+    r47 = r30;
+    r49 = r42;
+L205:;
+    r51 = r45 > 0;
+    if (r51) goto L213; else goto L260;
+L213:;
+    r52 = r49 <= r49;
+    r53 = sub(r47, r52);
+    r44 = r53;
+    r50 = r49;
+    r54 = add(r0, 8);
+    r55 = load(r54);
+    r56 = r50 > r55;
+    r48 = shr(r56, 3);
+    r46 = sub(r45, 1);
+    r43 = r44;
+    r45 = r46;
+    r47 = r48;
+    r49 = r50;
+    goto L205;
+L260:;
+    r57 = add(r0, 24);
+    r58 = load(r57);
+    r59 = r49 != r43;
+    r60 = mul(r58, r59);
+    return r60;
+L275:;
+    r29 = r2;
+    r30 = r17;
+    r31 = 1;
+    goto L147;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 6 < r2;
+    r4 = 4 != r3;
+    r5 = add(r0, 8);
+    store(r5, 8);
+    r6 = r4;
+    r7 = 3;
+    r9 = r6;
+L33:;
+    r11 = r7 > 0;
+    if (r11) goto L41; else goto L85;
+L41:;
+    r12 = add(r0, 8);
+    store(r12, 8);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = load(r13);
+    r16 = sub(2, r15);
+    r17 = r14 > r16;
+    r18 = load(r13);
+    r10 = sub(4, r18);
+    r8 = sub(r7, 1);
+    r7 = r8;
+    r9 = r10;
+    goto L33;
+L85:;
+    r19 = 4;
+    r21 = 4;
+    r23 = 8;
+L98:;
+    r25 = r19 > 0;
+    if (r25) goto L106; else goto L159;
+L106:;
+    print(12);
+    r26 = add(r0, 16);
+    r27 = load(r26);
+    r28 = add(r0, 8);
+    r29 = load(r28);
+    print(r29);
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = load(r30);
+    r33 = r31 > r32;
+    r34 = load(r26);
+    r22 = add(r33, r34);
+    r24 = load(r30);
+    r20 = sub(r19, 1);
+    r19 = r20;
+    r21 = r22;
+    r23 = r24;
+    goto L98;
+L159:;
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = sub(r21, 0);
+    r38 = add(r0, 24);
+    r39 = load(r38);
+    r40 = add(r21, r39);
+    print(r40);
+    r41 = add(r0, 16);
+    r42 = load(r41);
+    r43 = load(r35);
+    r44 = add(r42, r43);
+    r45 = 3 > r44;
+    return r45;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = mul(r1, r3);
+    r5 = add((-1), r4);
+    r6 = r5;
+    r7 = 24;
+    r9 = 2;
+    r11 = 7;
+L29:;
+    r12 = r9 > 0;
+    if (r12) goto L37; else goto L71;
+L37:;
+    r13 = r11 == r6;
+    r8 = sub(r11, r13);
+    r14 = mul(r8, r8);
+    print(7);
+    r10 = sub(r9, 1);
+    r7 = r8;
+    r9 = r10;
+    r11 = r6;
+    r6 = r1;
+    goto L29;
+L71:;
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    r17 = r16 < 7;
+    if (r17) goto L84; else goto L192;
+L84:;
+    r18 = r1 == r1;
+    r19 = r18 <= r6;
+    r20 = r19;
+L99:;
+    r21 = r1 == r20;
+    r22 = 7 != r7;
+    r23 = r21 == r22;
+    r24 = div_(r1, 1);
+    r25 = 2 != r1;
+    r26 = add(r24, r25);
+    r27 = add(r0, 8);
+    store(r27, r26);
+    store(r27, 1);
+    r28 = add(r1, r1);
+    r29 = sub(r28, 0);
+    r30 = add(r0, 24);
+    store(r30, r29);
+    r31 = load(r27);
+    r32 = r31 == 14;
+    if (r32) goto L159; else goto L199;
+L159:;
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = sub(r34, 7);
+    r36 = 7 != r1;
+    r37 = r36 != 91;
+    r38 = r35;
+    r39 = r37;
+L186:;
+    r40 = 7 == r38;
+    return r40;
+L192:;
+    r20 = r11;
+    goto L99;
+L199:;
+    r38 = 1;
+    r39 = 91;
+    goto L186;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = 3;
+    r5 = 0;
+    r7 = 25;
+L13:;
+    r9 = r3 > 0;
+    if (r9) goto L21; else goto L80;
+L21:;
+    r10 = r1 <= 93;
+    r6 = mul(r10, 1);
+    r11 = r2 > 89;
+    r12 = 4 > r11;
+    print(1);
+    r13 = add(r12, 59);
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r2 < r15;
+    r8 = r13 == r16;
+    r17 = add(r0, 8);
+    store(r17, 1);
+    r4 = sub(r3, 1);
+    r3 = r4;
+    r5 = r6;
+    r7 = r8;
+    goto L13;
+L80:;
+    r18 = 1 <= r2;
+    r19 = mul(r18, r5);
+    r20 = mul(1, r1);
+    r21 = r1 >= r1;
+    r22 = r20 <= r21;
+    r23 = add(r0, 16);
+    store(r23, r22);
+    store(r23, r1);
+    r24 = add(r0, 24);
+    r25 = load(r24);
+    r26 = 1 <= r25;
+    if (r26) goto L123; else goto L149;
+L123:;
+    r27 = add(r0, 8);
+    store(r27, 6);
+    r28 = r1 < r1;
+    r29 = shr(r2, 1);
+    r30 = r28 < r29;
+    r35 = r30;
+    goto L175;
+L149:;
+    r31 = add(r0, 16);
+    store(r31, r5);
+    r32 = sub(r5, r1);
+    r33 = 6 != r19;
+    r34 = add(r32, r33);
+    r35 = r34;
+L175:;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = add(r0, 8);
+    r39 = load(r38);
+    r40 = r37 == r39;
+    if (r40) goto L193; else goto L200;
+L193:;
+    r41 = r2;
+    goto L209;
+L200:;
+    print(r5);
+    r41 = r35;
+L209:;
+    r42 = 6 == r5;
+    r43 = sub(r1, r42);
+    r44 = add(r0, 24);
+    store(r44, 4);
+    r45 = r2 > 28;
+    r46 = r45 != r2;
+    return r46;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = r2 <= 0;
+    store(r1, r3);
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = r5 < 9;
+    if (r6) goto L25; else goto L63;
+L25:;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = 3 < r8;
+    r10 = r9 <= 1;
+    r11 = add(r0, 8);
+    r12 = load(r11);
+    r13 = load(r7);
+    r14 = add(r12, r13);
+    r16 = r14;
+    r17 = 0;
+    r18 = r10;
+    goto L79;
+L63:;
+    r15 = 0;
+    r16 = 0;
+    r17 = r15;
+    r18 = 9;
+L79:;
+    r19 = 4;
+    r21 = r18;
+L89:;
+    r23 = r19 > 0;
+    if (r23) goto L97; else goto L122;
+L97:;
+    r22 = 170 >= r21;
+    r24 = add(r0, 24);
+    store(r24, 3);
+    r20 = sub(r19, 1);
+    r19 = r20;
+    r21 = r22;
+    goto L89;
+L122:;
+    r25 = r16 < r17;
+    r26 = shl(r25, 1);
+    r27 = 3;
+    r29 = r21;
+L140:;
+    r31 = r27 > 0;
+    if (r31) goto L148; else goto L175;
+L148:;
+    r32 = add(r0, 8);
+    r33 = load(r32);
+    r34 = 4 >= r33;
+    r30 = shr(r34, 0);
+    r28 = sub(r27, 1);
+    r27 = r28;
+    r29 = r30;
+    goto L140;
+L175:;
+    r35 = 1 < r26;
+    r36 = add(r0, 16);
+    store(r36, r35);
+    r37 = 3;
+    r39 = r26;
+    r41 = r17;
+    r43 = r29;
+L202:;
+    r45 = r37 > 0;
+    if (r45) goto L210; else goto L269;
+L210:;
+    r46 = add(r0, 24);
+    r47 = load(r46);
+    r48 = 80 < r47;
+    r49 = add(r0, 16);
+    r50 = load(r49);
+    r40 = r48 < r50;
+    r51 = load(r49);
+    r42 = r41 > r51;
+    r52 = r40 > 64;
+    r44 = sub(85, r52);
+    r53 = load(r49);
+    store(r46, r53);
+    r38 = sub(r37, 1);
+    r37 = r38;
+    r39 = r40;
+    r41 = r42;
+    r43 = r44;
+    goto L202;
+L269:;
+    r54 = mul(r39, r26);
+    r55 = r54 <= r43;
+    return r55;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
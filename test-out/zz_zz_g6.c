@@ -0,0 +1,1243 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    store(r1, 1);
+    r2 = load(r1);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = r4 != r6;
+    r8 = add(r2, r7);
+    r9 = load(r1);
+    r10 = div_(r9, 7);
+    r11 = load(r3);
+    r12 = load(r5);
+    r13 = sub(r11, r12);
+    r14 = sub(r10, r13);
+    store(r1, r14);
+    r15 = load(r3);
+    r16 = 6 > r15;
+    if (r16) goto L63; else goto L299;
+L63:;
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = r8 >= r18;
+    r20 = 1 >= r19;
+    r21 = load(r17);
+    r22 = r21 <= 1;
+    r23 = sub(0, r22);
+    r24 = r20;
+    r25 = r23;
+    r26 = 2;
+L100:;
+    r27 = add(r0, 8);
+    r28 = load(r27);
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = r28 <= r30;
+    if (r31) goto L118; else goto L142;
+L118:;
+    r32 = div_(r26, 6);
+    print(r32);
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r49 = r34;
+    r50 = 0;
+    r51 = r26;
+    goto L223;
+L142:;
+    r35 = r26;
+    r37 = 2;
+    r39 = r26;
+L155:;
+    r41 = r37 > 0;
+    if (r41) goto L163; else goto L210;
+L163:;
+    r42 = mul(r35, 2);
+    r43 = add(r0, 8);
+    r44 = load(r43);
+    r45 = sub(r44, r25);
+    r40 = sub(r42, r45);
+    r46 = mul(r35, 68);
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r36 = r46 > r48;
+    r38 = sub(r37, 1);
+    r35 = r36;
+    r37 = r38;
+    r39 = r40;
+    goto L155;
+L210:;
+    r49 = r35;
+    r50 = r37;
+    r51 = r39;
+L223:;
+    r52 = 8;
+    r54 = 3;
+    r56 = r25;
+L236:;
+    r58 = r54 > 0;
+    if (r58) goto L244; else goto L274;
+L244:;
+    r59 = add(r0, 16);
+    r57 = load(r59);
+    r60 = div_(r49, 4);
+    r53 = sub(r60, r49);
+    r55 = sub(r54, 1);
+    r52 = r53;
+    r54 = r55;
+    r56 = r57;
+    goto L236;
+L274:;
+    r61 = add(r0, 16);
+    r62 = load(r61);
+    r63 = r62 <= r49;
+    r64 = add(r63, 95);
+    print(r49);
+    r65 = r64 < r52;
+    r66 = shr(r65, 0);
+    return r66;
+L299:;
+    r24 = 6;
+    r25 = r8;
+    r26 = 1;
+    goto L100;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = alloc(4);
+    store(r3, 72);
+    print(r1);
+    r4 = 1;
+    r5 = r1 == r1;
+    if (r5) goto L25; else goto L194;
+L25:;
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = r7 == r9;
+    if (r10) goto L43; else goto L207;
+L43:;
+    r11 = 97 < r1;
+    r12 = r11 == 0;
+    r13 = r1;
+    r14 = r12;
+L61:;
+    r15 = r13;
+    r16 = r14;
+    r17 = r1;
+L74:;
+    r18 = add(r0, 24);
+    r19 = load(r18);
+    r20 = mul(7, r19);
+    r21 = r20 >= 23;
+    r22 = 2;
+    r24 = r16;
+L97:;
+    r26 = r22 > 0;
+    if (r26) goto L105; else goto L127;
+L105:;
+    r27 = r24 < r20;
+    r25 = div_(r27, 5);
+    r23 = sub(r22, 1);
+    r22 = r23;
+    r24 = r25;
+    goto L97;
+L127:;
+    r28 = sub(r20, r1);
+    r29 = r1 >= r21;
+    r30 = r28 > r29;
+    r31 = load(r3);
+    r32 = load(elem(r31, 0));
+    r33 = ((int64_t (*)(int64_t)) callee(r32, 1))(r3);
+    r34 = 43 <= r24;
+    if (r34) goto L155; else goto L162;
+L155:;
+    r38 = r24;
+    goto L184;
+L162:;
+    r35 = 41 != r30;
+    r36 = div_(r35, 5);
+    r37 = add(r0, 16);
+    store(r37, r36);
+    r38 = r24;
+L184:;
+    r39 = mul(r38, r24);
+    r40 = 65 == r39;
+    return r40;
+L194:;
+    r15 = 0;
+    r16 = 9;
+    r17 = r4;
+    goto L74;
+L207:;
+    r13 = 0;
+    r14 = 9;
+    goto L61;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 16);
+    store(r4, 56);
+    r5 = 2;
+    r7 = 1;
+L23:;
+    r9 = r5 > 0;
+    if (r9) goto L31; else goto L90;
+L31:;
+    r10 = add(r0, 16);
+    r11 = load(r10);
+    r12 = r11 >= 6;
+    r13 = add(r0, 24);
+    r14 = load(r13);
+    r15 = mul(r1, r14);
+    r16 = r12 > r15;
+    r17 = r2 <= 6;
+    r8 = r17 != 6;
+    r18 = mul(r1, r2);
+    r19 = r2 < r18;
+    r20 = add(r0, 8);
+    store(r20, r19);
+    r6 = sub(r5, 1);
+    r5 = r6;
+    r7 = r8;
+    goto L23;
+L90:;
+    r21 = 32 != r7;
+    r22 = r7 != r21;
+    r23 = add(r0, 16);
+    store(r23, r22);
+    r24 = 3;
+    r26 = 4;
+L115:;
+    r28 = r26 > 0;
+    if (r28) goto L123; else goto L188;
+L123:;
+    r29 = r24 > r2;
+    print(r29);
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = r31 != r1;
+    if (r32) goto L142; else goto L240;
+L142:;
+    r33 = add(r0, 16);
+    store(r33, 59);
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = mul(r7, r35);
+    r37 = div_(r36, 1);
+    store(r34, r37);
+    r25 = r37;
+L172:;
+    print(6);
+    r27 = sub(r26, 1);
+    r24 = r25;
+    r26 = r27;
+    goto L115;
+L188:;
+    print(1);
+    r38 = add(r0, 16);
+    r39 = load(r38);
+    r40 = mul(r7, r39);
+    r41 = div_(r40, 3);
+    r42 = r24 <= r1;
+    r43 = add(r24, r42);
+    r44 = add(r24, r1);
+    r45 = add(10, r44);
+    print(r24);
+    r46 = add(r0, 24);
+    r47 = load(r46);
+    r48 = div_(r24, 6);
+    r49 = r1 >= 37;
+    r50 = r48 != r49;
+    return r50;
+L240:;
+    r25 = r24;
+    goto L172;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = 69;
+    r3 = add(r0, 24);
+    r4 = load(r3);
+    r5 = r4 > 98;
+    if (r5) goto L22; else goto L172;
+L22:;
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = 2 == r7;
+    r9 = r8 < 1;
+    r10 = load(r6);
+    print(r10);
+    r11 = r9;
+    r12 = 86;
+L50:;
+    r13 = add(r0, 8);
+    r14 = load(r13);
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    r17 = r16 < 2;
+    r18 = 2 > r17;
+    store(r15, r18);
+    r19 = load(r15);
+    r20 = r11 < r14;
+    r21 = r19 != r20;
+    store(r15, r21);
+    r22 = div_(r14, 2);
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = r24 >= r19;
+    if (r25) goto L102; else goto L182;
+L102:;
+    r26 = add(r0, 8);
+    store(r26, r14);
+    r27 = add(r0, 16);
+    r28 = load(r27);
+    r29 = r28 > 73;
+    r30 = 0 != r29;
+    r31 = load(r1);
+    r32 = load(elem(r31, 0));
+    r33 = ((int64_t (*)(int64_t)) callee(r32, 1))(r1);
+    r34 = r33;
+L137:;
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = load(r35);
+    r38 = mul(r37, 64);
+    r39 = r36 == r38;
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = sub(r41, 10);
+    r43 = r14 < r19;
+    r44 = r42 >= r43;
+    return r44;
+L172:;
+    r11 = 13;
+    r12 = 3;
+    goto L50;
+L182:;
+    r34 = 2;
+    goto L137;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = r2 != 6;
+    print(r3);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = r5 >= 6;
+    r7 = load(r1);
+    r8 = div_(r7, 3);
+    print(r8);
+    r9 = load(r1);
+    r10 = add(r0, 24);
+    store(r10, r9);
+    store(r1, 8);
+    r11 = 34 != r6;
+    if (r11) goto L50; else goto L260;
+L50:;
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = r13 == 8;
+    r15 = load(r12);
+    r16 = r15 >= 6;
+    r17 = add(r14, r16);
+    r18 = add(r0, 24);
+    r19 = load(r18);
+    r20 = mul(r19, 1);
+    print(r20);
+    r21 = 8;
+    r22 = r17;
+L91:;
+    r23 = 4;
+    r25 = r6;
+L101:;
+    r27 = r23 > 0;
+    if (r27) goto L109; else goto L177;
+L109:;
+    r28 = add(r0, 8);
+    r29 = load(r28);
+    r30 = 6 > r29;
+    if (r30) goto L122; else goto L134;
+L122:;
+    r31 = add(r0, 16);
+    r32 = load(r31);
+    r26 = r32;
+    goto L163;
+L134:;
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r35 = sub(r34, r25);
+    print(r35);
+    r36 = r22 != 8;
+    r37 = add(r0, 8);
+    store(r37, r36);
+    r26 = r25;
+L163:;
+    r24 = sub(r23, 1);
+    r23 = r24;
+    r25 = r26;
+    goto L101;
+L177:;
+    r38 = 4;
+    r40 = r22;
+L187:;
+    r42 = r38 > 0;
+    if (r42) goto L195; else goto L226;
+L195:;
+    r43 = sub(60, r40);
+    r44 = add(r0, 16);
+    r45 = load(r44);
+    r46 = r45 == 22;
+    r41 = add(r43, r46);
+    r39 = sub(r38, 1);
+    r38 = r39;
+    r40 = r41;
+    goto L187;
+L226:;
+    r47 = add(r0, 16);
+    r48 = load(r47);
+    r49 = add(r0, 8);
+    r50 = load(r49);
+    r51 = mul(r50, 62);
+    r52 = div_(r51, 2);
+    store(r47, r52);
+    r53 = load(r47);
+    r54 = r25 < r53;
+    r55 = 13 > r54;
+    return r55;
+L260:;
+    r21 = 8;
+    r22 = 6;
+    goto L91;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = 6 <= r1;
+    r4 = add(r0, 24);
+    store(r4, r3);
+    r5 = add(r0, 8);
+    store(r5, 6);
+    r6 = r1 >= 6;
+    if (r6) goto L32; else goto L223;
+L32:;
+    r7 = add(r0, 24);
+    r8 = load(r7);
+    r9 = r8 == 6;
+    if (r9) goto L45; else goto L233;
+L45:;
+    r10 = add(r1, 6);
+    r11 = (-13) == r10;
+    r12 = r11;
+L60:;
+    r13 = 0 >= r1;
+    r14 = r12 >= 6;
+    r15 = r13 <= r14;
+    r16 = add(r0, 8);
+    store(r16, r15);
+    r17 = r12;
+    r18 = 6;
+L89:;
+    r19 = add(r0, 16);
+    r20 = load(r19);
+    r21 = r17;
+    r23 = 4;
+L104:;
+    r25 = r23 > 0;
+    if (r25) goto L112; else goto L139;
+L112:;
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = r1 <= r27;
+    r22 = add(86, r28);
+    r24 = sub(r23, 1);
+    r21 = r22;
+    r23 = r24;
+    goto L104;
+L139:;
+    r29 = r20 == r18;
+    if (r29) goto L147; else goto L166;
+L147:;
+    r30 = 6 >= r21;
+    r31 = r21 == r18;
+    r32 = r30 == r31;
+    r33 = r32;
+    goto L173;
+L166:;
+    r33 = r1;
+L173:;
+    r34 = add(r0, 16);
+    r35 = load(r34);
+    r36 = 13 <= r35;
+    r37 = r36 >= 0;
+    r38 = r1 <= r37;
+    if (r38) goto L194; else goto L211;
+L194:;
+    r39 = mul(r1, r33);
+    r40 = mul(59, r39);
+    r41 = add(r0, 16);
+    store(r41, r40);
+L211:;
+    print(0);
+    r42 = load(r2);
+    r43 = load(elem(r42, 0));
+    r44 = ((int64_t (*)(int64_t)) callee(r43, 1))(r2);
+    return r33;
+L223:;
+    r17 = 0;
+    r18 = 0;
+    goto L89;
+L233:;
+    r12 = 0;
+    goto L60;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = load(r3);
+    r5 = load(elem(r4, 1));
+    r6 = ((int64_t (*)(int64_t, int64_t)) callee(r5, 2))(r3, 0);
+    r7 = sub(3, r2);
+    r8 = r2 == r7;
+    r9 = 3 > r1;
+    r10 = add(r1, r9);
+    r11 = add(r0, 8);
+    store(r11, r10);
+    print(r8);
+    r12 = add(0, r8);
+    r13 = (-41) < r12;
+    store(r11, r13);
+    r14 = r1 == 3;
+    if (r14) goto L59; else goto L66;
+L59:;
+    r15 = 1;
+    goto L73;
+L66:;
+    r15 = 61;
+L73:;
+    r16 = shr(r2, 0);
+    r17 = r16 != 4;
+    r18 = 0 <= r2;
+    if (r18) goto L89; else goto L165;
+L89:;
+    r19 = 22 <= r2;
+    if (r19) goto L97; else goto L133;
+L97:;
+    r20 = load(r3);
+    r21 = load(elem(r20, 1));
+    r22 = r2 >= r15;
+    r23 = ((int64_t (*)(int64_t, int64_t)) callee(r21, 2))(r3, r22);
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = mul(r2, r25);
+    r27 = r2 > r17;
+    r28 = r26 > r27;
+    return 0;
+L133:;
+    r29 = r17 != 0;
+    print(r29);
+    r30 = add(r0, 16);
+    r31 = load(r30);
+    r32 = add(r2, r31);
+    r33 = r15 != 74;
+    r34 = mul(r32, r33);
+    r35 = add(r0, 24);
+    store(r35, r34);
+    return 0;
+L165:;
+    r36 = r2 >= r2;
+    r37 = add(4, r17);
+    r38 = add(r36, r37);
+    r39 = add(r38, r15);
+    r40 = 0 < r38;
+    r41 = r40 <= r15;
+    return 11;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = 9;
+    r4 = 2;
+    r6 = 5;
+L19:;
+    r8 = r4 > 0;
+    if (r8) goto L27; else goto L122;
+L27:;
+    r9 = load(r1);
+    r10 = load(elem(r9, 2));
+    r11 = add(r6, 8);
+    r3 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r10, 3))(r1, r11, r2);
+    r12 = r3 == 8;
+    print(r12);
+    r13 = r6 <= 9;
+    if (r13) goto L59; else goto L82;
+L59:;
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r15 > r6;
+    r17 = div_(r16, 6);
+    store(r14, r17);
+    r21 = r6;
+    goto L97;
+L82:;
+    r18 = load(r1);
+    r19 = load(elem(r18, 0));
+    r20 = ((int64_t (*)(int64_t)) callee(r19, 1))(r1);
+    r21 = r20;
+L97:;
+    r22 = div_(r21, 6);
+    r7 = sub(r22, 0);
+    r5 = sub(r4, 1);
+    r2 = r3;
+    r4 = r5;
+    r6 = r7;
+    goto L19;
+L122:;
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r27 = add(r24, r26);
+    r28 = 0 == r27;
+    r29 = r6 < r6;
+    if (r29) goto L148; else goto L231;
+L148:;
+    r30 = load(r1);
+    r31 = load(elem(r30, 0));
+    r32 = ((int64_t (*)(int64_t)) callee(r31, 1))(r1);
+    r33 = r32;
+L163:;
+    r34 = 0 == r6;
+    if (r34) goto L171; else goto L184;
+L171:;
+    r39 = 26;
+    r40 = 0;
+    r41 = 26;
+    goto L212;
+L184:;
+    r35 = add(r0, 24);
+    r36 = load(r35);
+    r37 = mul(r6, r33);
+    r38 = r36 < r37;
+    print(r6);
+    r39 = r2;
+    r40 = r38;
+    r41 = r6;
+L212:;
+    r42 = div_(r39, 1);
+    print(r42);
+    print(8);
+    r43 = add(r0, 24);
+    r44 = load(r43);
+    r45 = r39 <= r44;
+    return r40;
+L231:;
+    r33 = 8;
+    goto L163;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = 97 != r2;
+    if (r3) goto L13; else goto L49;
+L13:;
+    r4 = add(r0, 16);
+    r5 = load(r4);
+    r6 = r5 > 1;
+    r7 = r6 > 0;
+    r8 = add(r0, 8);
+    r9 = load(r8);
+    r10 = r7 == 7;
+    r11 = add(r9, r10);
+    r15 = r7;
+    r16 = r11;
+    goto L68;
+L49:;
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = mul(r13, 1);
+    r15 = 7;
+    r16 = r14;
+L68:;
+    r17 = r15;
+    r18 = 2;
+    r20 = r16;
+L81:;
+    r22 = r18 > 0;
+    if (r22) goto L89; else goto L121;
+L89:;
+    r23 = r20 < 0;
+    r21 = r23 <= 1;
+    r24 = add(r0, 16);
+    store(r24, 1);
+    r19 = sub(r18, 1);
+    r17 = 1;
+    r18 = r19;
+    r20 = r21;
+    goto L81;
+L121:;
+    r25 = r17 == 1;
+    if (r25) goto L129; else goto L143;
+L129:;
+    r26 = add(r0, 8);
+    r27 = load(r26);
+    print(r27);
+    r32 = r17;
+    goto L164;
+L143:;
+    r28 = add(r0, 8);
+    r29 = load(r28);
+    r30 = shl(r29, 0);
+    print(r30);
+    r31 = load(r28);
+    r32 = r31;
+L164:;
+    r33 = r20;
+    r34 = add(r0, 24);
+    r35 = load(r34);
+    r36 = r35 < 0;
+    r37 = add(r0, 8);
+    r38 = load(r37);
+    r39 = sub(r38, 1);
+    r40 = r36 != r39;
+    return r40;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = r1 >= 54;
+    r3 = r1 != r2;
+    r4 = 3;
+    r6 = 5;
+L18:;
+    r8 = r4 > 0;
+    if (r8) goto L26; else goto L62;
+L26:;
+    r9 = div_(r3, 7);
+    r10 = add(r0, 24);
+    r11 = load(r10);
+    r12 = add(r0, 8);
+    r13 = load(r12);
+    r14 = add(r11, r13);
+    r7 = add(r9, r14);
+    r5 = sub(r4, 1);
+    r4 = r5;
+    r6 = r7;
+    goto L18;
+L62:;
+    r15 = add(r0, 24);
+    r16 = load(r15);
+    r17 = mul(r6, r16);
+    r18 = mul(r17, r1);
+    r19 = r3 > r3;
+    r20 = div_(r19, 6);
+    r21 = add(r0, 16);
+    r22 = load(r21);
+    r23 = 10 < r22;
+    r24 = r3 >= r1;
+    r25 = add(r0, 8);
+    r26 = load(r25);
+    r27 = add(r23, r26);
+    r28 = r24 <= r27;
+    r29 = r3;
+    r31 = 4;
+L119:;
+    r33 = r31 > 0;
+    if (r33) goto L127; else goto L159;
+L127:;
+    r34 = r1 >= r1;
+    r35 = r1 < 52;
+    r30 = mul(r34, r35);
+    r36 = r23 <= r23;
+    print(r36);
+    r32 = sub(r31, 1);
+    r29 = r30;
+    r31 = r32;
+    goto L119;
+L159:;
+    r37 = r1 >= r29;
+    r38 = mul(r1, r28);
+    r39 = r37 < r38;
+    r40 = add(r0, 8);
+    store(r40, r39);
+    r41 = r29 < r1;
+    r42 = 51 <= r41;
+    r43 = sub(r1, r42);
+    r44 = r43 > r29;
+    r45 = r42 >= r1;
+    print(r45);
+    r46 = mul(90, r1);
+    print(r46);
+    r47 = load(r40);
+    r48 = add(r47, 17);
+    print(r48);
+    r49 = r28 == r42;
+    r50 = r49 < 24;
+    r51 = add(r50, r44);
+    r52 = r23 >= r1;
+    r53 = r51 <= r52;
+    r54 = r53 <= r1;
+    r55 = r23 <= r54;
+    return r55;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 16);
+    r4 = load(r3);
+    r5 = add(r0, 24);
+    r6 = load(r5);
+    r7 = sub(r1, r6);
+    r8 = mul(r4, r7);
+    r9 = 2 > r1;
+    r10 = r8 > r9;
+    r11 = load(r3);
+    r12 = r11 <= 89;
+    r13 = r12 != 36;
+    r14 = 45 > r13;
+    if (r14) goto L45; else goto L95;
+L45:;
+    r15 = r13 < 9;
+    print(r15);
+    r16 = add(r0, 24);
+    r17 = load(r16);
+    r18 = r17 <= r2;
+    r19 = add(r0, 16);
+    r20 = load(r19);
+    r21 = mul(r2, r20);
+    r22 = add(r18, r21);
+    r23 = load(r16);
+    r24 = sub(r23, 63);
+    print(r24);
+    r31 = 9;
+    r32 = r22;
+    r33 = 0;
+    goto L148;
+L95:;
+    r25 = 9;
+    r27 = 4;
+L105:;
+    r29 = r27 > 0;
+    if (r29) goto L113; else goto L135;
+L113:;
+    r30 = mul(r1, r2);
+    r26 = sub(r30, 85);
+    r28 = sub(r27, 1);
+    r25 = r26;
+    r27 = r28;
+    goto L105;
+L135:;
+    r31 = r25;
+    r32 = r13;
+    r33 = r27;
+L148:;
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = load(r36);
+    r39 = add(r37, r38);
+    r40 = mul(r35, r39);
+    r41 = mul(r40, 77);
+    print(r41);
+    r42 = r2;
+    r44 = r32;
+    r46 = 4;
+    r48 = r33;
+L191:;
+    r50 = r46 > 0;
+    if (r50) goto L199; else goto L299;
+L199:;
+    r43 = r42;
+    r45 = r44;
+    r49 = 4;
+L212:;
+    r53 = r49 > 0;
+    if (r53) goto L220; else goto L279;
+L220:;
+    r54 = add(99, r10);
+    r55 = mul(r40, r54);
+    r56 = add(r0, 24);
+    store(r56, r55);
+    r57 = mul(r43, r10);
+    r58 = shr(r43, 2);
+    r51 = mul(r57, r58);
+    r59 = sub(r2, r1);
+    r60 = r51 < r1;
+    r61 = mul(r59, r60);
+    store(r56, r61);
+    r52 = sub(r49, 1);
+    r45 = r43;
+    r43 = r51;
+    r49 = r52;
+    goto L212;
+L279:;
+    r47 = sub(r46, 1);
+    r42 = r43;
+    r44 = r45;
+    r46 = r47;
+    r48 = r49;
+    goto L191;
+L299:;
+    return r40;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    store(r1, 3);
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = r3 <= 24;
+    r5 = r4 == 11;
+    r6 = load(r1);
+    r7 = 78 > r6;
+    print(r7);
+    r8 = 2;
+    r10 = 6;
+    r12 = 24;
+    r14 = r5;
+L45:;
+    r15 = r8 > 0;
+    if (r15) goto L53; else goto L106;
+L53:;
+    r13 = 86 > r10;
+    r16 = add(r0, 16);
+    r17 = load(r16);
+    r18 = r17 >= 87;
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = r14 != r20;
+    r11 = r18 > r21;
+    r22 = add(r0, 24);
+    store(r22, r11);
+    r9 = sub(r8, 1);
+    r8 = r9;
+    r10 = r11;
+    r12 = r13;
+    r14 = 44;
+    goto L45;
+L106:;
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = r14 == r24;
+    r26 = mul(r25, r14);
+    r27 = r14 <= 24;
+    if (r27) goto L127; else goto L205;
+L127:;
+    r28 = 72 > r14;
+    r29 = add(r0, 8);
+    r30 = load(r29);
+    r31 = mul(r30, 89);
+    r32 = r28 > r31;
+    r33 = div_(r14, 2);
+    r34 = shl(r33, 3);
+    store(r29, 29);
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = add(r36, r32);
+    r38 = r37 >= r12;
+    store(r29, r38);
+    r39 = load(r29);
+    r40 = mul(r34, r39);
+    r41 = add(r0, 24);
+    store(r41, r40);
+    r42 = r34;
+    r43 = r32;
+L195:;
+    r44 = add(r12, 17);
+    r45 = 0 < r44;
+    return r45;
+L205:;
+    r42 = r26;
+    r43 = 24;
+    goto L195;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
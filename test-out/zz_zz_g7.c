@@ -0,0 +1,1135 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = add(r2, 6);
+    r4 = 12 < r3;
+    r5 = load(r1);
+    r6 = 76 <= r5;
+    r7 = r6 == 5;
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    print(r9);
+    r10 = add(r7, r7);
+    r11 = 1 != r10;
+    r12 = 6 > r7;
+    print(r12);
+    print(14);
+    r13 = r11 >= r11;
+    print(r13);
+    r14 = load(r8);
+    r15 = 34 >= r14;
+    r16 = 72 > r15;
+    r17 = r7 <= r11;
+    print(r17);
+    r18 = r7 < 5;
+    if (r18) goto L78; else goto L168;
+L78:;
+    r19 = add(r0, 8);
+    r20 = load(r19);
+    r21 = r20 > r11;
+    r22 = r21 < 736;
+    print(r22);
+    r23 = mul(9, r7);
+    r24 = r7 == 3;
+    r25 = mul(r23, r24);
+    r26 = r25;
+L112:;
+    r27 = r7 == 5;
+    if (r27) goto L120; else goto L161;
+L120:;
+    r28 = add(r0, 24);
+    r29 = load(r28);
+    r30 = r7 < r29;
+    if (r30) goto L133; else goto L152;
+L133:;
+    r31 = r16 == r26;
+    r32 = add(r0, 16);
+    r33 = load(r32);
+    r34 = mul(r7, r33);
+    r35 = r31 > r34;
+    return 0;
+L152:;
+    r36 = add(r0, 16);
+    r37 = load(r36);
+    print(r37);
+    return 0;
+L161:;
+    r38 = add(r0, 16);
+    r39 = load(r38);
+    return r39;
+L168:;
+    r26 = r11;
+    goto L112;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = div_(r1, 4);
+    r4 = 80 < r3;
+    r5 = add(r0, 24);
+    r6 = load(r5);
+    r7 = r6 != r4;
+    if (r7) goto L27; else goto L41;
+L27:;
+    r8 = r1 <= 1;
+    r9 = 1;
+    r10 = r8;
+    goto L51;
+L41:;
+    r9 = r1;
+    r10 = 3;
+L51:;
+    print(1);
+    r11 = 2 != r1;
+    r12 = mul(r9, r11);
+    r13 = r12;
+    r14 = add(r1, 80);
+    r15 = div_(r14, 7);
+    r16 = load(r2);
+    r17 = load(elem(r16, 0));
+    r18 = ((int64_t (*)(int64_t)) callee(r17, 1))(r2);
+    r19 = add(r0, 16);
+    r20 = load(r19);
+    r21 = r4 <= r20;
+    r22 = r4 != r4;
+    r23 = add(r21, r22);
+    r24 = add(r1, r23);
+    r25 = r24 < 376;
+    r26 = add(r0, 24);
+    store(r26, r25);
+    store(r26, 12);
+    r27 = 4;
+L122:;
+    r29 = r27 > 0;
+    if (r29) goto L130; else goto L141;
+L130:;
+    r28 = sub(r27, 1);
+    r27 = r28;
+    goto L122;
+L141:;
+    r30 = r1 >= 39;
+    r31 = r1 >= r1;
+    r32 = r30 <= r31;
+    r33 = add(r0, 16);
+    store(r33, r32);
+    r34 = r1 > r4;
+    r35 = r15 != r18;
+    r36 = r34 >= r35;
+    return r36;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    print(r1);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = sub(r1, r5);
+    r7 = r6 >= r1;
+    r8 = r2 != 5;
+    r9 = r2 < r2;
+    r10 = add(r8, r9);
+    r11 = sub(r7, 5);
+    r12 = 4 == r10;
+    r13 = r11 != r12;
+    store(r4, r13);
+    r14 = 4 < r2;
+    print(r14);
+    r15 = load(r4);
+    r16 = sub(r2, r15);
+    r17 = add(r0, 24);
+    r18 = load(r17);
+    r19 = 5 != r18;
+    r20 = r16 < r19;
+    store(r17, r20);
+    r21 = r10 > 22;
+    print(r21);
+    r22 = load(r3);
+    r23 = load(elem(r22, 0));
+    r24 = ((int64_t (*)(int64_t)) callee(r23, 1))(r3);
+    r25 = r1 >= 90;
+    r26 = load(r17);
+    r27 = r26 > r24;
+    r28 = sub(r27, 78);
+    r29 = load(r17);
+    r30 = sub(64, r1);
+    r31 = 94 > r30;
+    r32 = 3;
+L124:;
+    r34 = r32 > 0;
+    if (r34) goto L132; else goto L145;
+L132:;
+    print(32);
+    r33 = sub(r32, 1);
+    r32 = r33;
+    goto L124;
+L145:;
+    return 74;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = 4;
+    r4 = 2;
+L22:;
+    r6 = r4 > 0;
+    if (r6) goto L30; else goto L44;
+L30:;
+    r5 = sub(r4, 1);
+    r3 = 3;
+    r4 = r5;
+    goto L22;
+L44:;
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r8 == r3;
+    if (r9) goto L57; else goto L308;
+L57:;
+    r10 = add(r0, 8);
+    r11 = load(r10);
+    r12 = sub(4, r11);
+    r13 = r12 >= 9;
+    r14 = sub(3, r3);
+    print(r14);
+    r15 = r13;
+L83:;
+    r16 = add(r0, 8);
+    r17 = load(r16);
+    r18 = add(r3, r17);
+    r19 = add(r0, 24);
+    r20 = load(r19);
+    r21 = add(r18, r20);
+    r22 = load(r19);
+    r23 = add(r21, r22);
+    r24 = shl(r23, 0);
+    store(r16, r24);
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r27 = r26 >= 3;
+    if (r27) goto L128; else goto L147;
+L128:;
+    r28 = mul(r3, r3);
+    r29 = r3 <= 79;
+    r30 = mul(r28, r29);
+    r36 = r30;
+    goto L171;
+L147:;
+    r31 = add(r15, r15);
+    r32 = add(r0, 24);
+    r33 = load(r32);
+    r34 = sub(r33, r3);
+    r35 = sub(r31, r34);
+    r36 = 3;
+L171:;
+    r37 = r3 == r15;
+    r38 = shr(r37, 0);
+    r39 = add(r0, 16);
+    store(r39, 12);
+    r40 = 4;
+    r42 = r36;
+    r44 = r15;
+L199:;
+    r46 = r40 > 0;
+    if (r46) goto L207; else goto L277;
+L207:;
+    r47 = add(r0, 24);
+    r48 = load(r47);
+    r49 = add(r0, 16);
+    r50 = load(r49);
+    r51 = load(r47);
+    r52 = r50 != r51;
+    r53 = r42 <= 18;
+    r54 = r3 != 90;
+    r45 = add(r53, r54);
+    r55 = add(r0, 8);
+    r56 = load(r55);
+    r57 = add(r56, r45);
+    r58 = r3 < r3;
+    r59 = mul(r57, r58);
+    r60 = load(r55);
+    r43 = r60 > 5;
+    r41 = sub(r40, 1);
+    r40 = r41;
+    r42 = r43;
+    r44 = r45;
+    goto L199;
+L277:;
+    r61 = shr(r42, 3);
+    r62 = add(r0, 24);
+    r63 = load(r62);
+    r64 = 88 <= r63;
+    r65 = r64 < r61;
+    r66 = mul(r3, r65);
+    r67 = r42 < 58;
+    r68 = r66 > r67;
+    return r68;
+L308:;
+    r15 = 6;
+    goto L83;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0;
+    r0 = a0;
+    r1 = 9;
+    r2 = 6 == r1;
+    print(r2);
+    r3 = add(r0, 24);
+    r4 = load(r3);
+    r5 = r4 <= 8;
+    r6 = 3 < r5;
+    store(r3, (-25));
+    r7 = load(r3);
+    r8 = add((-2), r7);
+    r9 = load(r3);
+    r10 = add(r0, 8);
+    r11 = load(r10);
+    r12 = r9 != r11;
+    if (r12) goto L48; else goto L188;
+L48:;
+    r13 = r6 < r6;
+    r14 = div_(r13, 7);
+    r15 = r14;
+L63:;
+    r16 = r15 <= 9;
+    r17 = div_(r16, 3);
+    r18 = add(r0, 16);
+    r19 = load(r18);
+    r20 = shl(r19, 1);
+    r21 = add(r0, 8);
+    r22 = load(r21);
+    r23 = div_(r22, 6);
+    r24 = mul(r20, r23);
+    r25 = add(r0, 24);
+    store(r25, r24);
+    r26 = load(r18);
+    r27 = div_(r26, 1);
+    r28 = sub(8, r27);
+    r29 = load(r18);
+    r30 = sub(9, r29);
+    print(r30);
+    r31 = r28 < 9;
+    print(r31);
+    r32 = 8;
+    r33 = 2;
+L136:;
+    r35 = r33 > 0;
+    if (r35) goto L144; else goto L169;
+L144:;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = r37 < 8;
+    print(r38);
+    r34 = sub(r33, 1);
+    r32 = 8;
+    r33 = r34;
+    goto L136;
+L169:;
+    r39 = add(r0, 24);
+    r40 = load(r39);
+    r41 = mul(49, r40);
+    r42 = 8 > r32;
+    r43 = r41 == r42;
+    return r43;
+L188:;
+    r15 = r6;
+    goto L63;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = r1 != 9;
+    r4 = shl(r3, 2);
+    r5 = add(r1, 6);
+    r6 = sub(6, r1);
+    r7 = r5 > r6;
+    r8 = shl(r1, 1);
+    print(r8);
+    r9 = 9 < r1;
+    if (r9) goto L40; else goto L207;
+L40:;
+    r10 = mul(r4, r4);
+    r11 = sub(11, r1);
+    r12 = r10 > r11;
+    r13 = r12;
+L59:;
+    r14 = div_(r4, 6);
+    r15 = add(r0, 8);
+    r16 = load(r15);
+    r17 = mul(r16, r13);
+    r18 = mul(r14, r17);
+    r19 = add(r0, 16);
+    store(r19, r18);
+    r20 = sub(36, r4);
+    r21 = mul(r20, 6);
+    r22 = add(r0, 24);
+    r23 = load(r22);
+    r24 = r1 <= r23;
+    if (r24) goto L104; else goto L214;
+L104:;
+    r25 = r1 < 45;
+    r26 = r21 <= r25;
+    r27 = add(r26, 6);
+    r28 = sub(r27, r7);
+    r29 = div_(r1, 3);
+    r30 = shl(r28, 3);
+    r31 = r30 != r1;
+    r32 = add(r0, 16);
+    store(r32, r31);
+    r33 = r29;
+    r34 = r26;
+    r35 = r28;
+L152:;
+    r36 = div_(r1, 7);
+    r37 = r34 == r36;
+    r38 = add(r1, r37);
+    r39 = add(r0, 16);
+    r40 = load(r39);
+    r41 = r38 <= r40;
+    print(r41);
+    r42 = r1 != r36;
+    if (r42) goto L183; else goto L227;
+L183:;
+    r43 = r1 != 89;
+    r44 = r43 > r33;
+    r45 = add(r0, 16);
+    store(r45, r44);
+    r46 = r36;
+L205:;
+    return r33;
+L207:;
+    r13 = 9;
+    goto L59;
+L214:;
+    r33 = 6;
+    r34 = r4;
+    r35 = r21;
+    goto L152;
+L227:;
+    r46 = r38;
+    goto L205;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = 4 <= r1;
+    r5 = r4 == 1;
+    r6 = add(r0, 16);
+    r7 = load(r6);
+    r8 = r2 <= 4;
+    r9 = mul(r7, r8);
+    r10 = load(r3);
+    r11 = load(elem(r10, 0));
+    r12 = ((int64_t (*)(int64_t)) callee(r11, 1))(r3);
+    r19 = 0;
+    r20 = r5;
+    r21 = r12;
+    r22 = r9;
+    goto L95;
+L51:;
+    print(3);
+    r13 = r14 == r14;
+    r15 = r13 != 16;
+    r16 = sub(r17, 1);
+    r17 = r16;
+    r14 = r15;
+    r18 = r17 > 0;
+    if (r18) goto L51; else goto L79;
+L79:;
+    r19 = r17;
+    r20 = r14;
+    r21 = 4;
+    r22 = 4;
+L95:;
+    r23 = add(r0, 16);
+    store(r23, r21);
+    r24 = div_(r21, 3);
+    r25 = r1 < 61;
+    r26 = mul(r24, r25);
+    r27 = r20;
+    r29 = 4;
+L124:;
+    r31 = r29 > 0;
+    if (r31) goto L132; else goto L154;
+L132:;
+    r32 = sub(3, r2);
+    r28 = sub(r32, r26);
+    r30 = sub(r29, 1);
+    r27 = r28;
+    r29 = r30;
+    goto L124;
+L154:;
+    r33 = r2 > r26;
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = add(r35, r26);
+    r37 = r33 > r36;
+    r38 = add(r0, 16);
+    r39 = load(r38);
+    r40 = r39 == r2;
+    r41 = sub(r1, r37);
+    r42 = r40 <= r41;
+    store(r38, r42);
+    r43 = load(r3);
+    r44 = load(elem(r43, 1));
+    r45 = ((int64_t (*)(int64_t, int64_t)) callee(r44, 2))(r3, r27);
+    r46 = add(r0, 24);
+    r47 = load(r46);
+    store(r38, r47);
+    r48 = mul(3, r1);
+    r49 = mul(r48, r27);
+    r50 = load(r46);
+    r51 = 65 < r50;
+    r52 = mul(r27, r2);
+    r53 = add(r51, r52);
+    r54 = load(r3);
+    r55 = load(elem(r54, 0));
+    r56 = ((int64_t (*)(int64_t)) callee(r55, 1))(r3);
+    r57 = load(r34);
+    r58 = r57 == r1;
+    r59 = r27 <= r45;
+    r60 = r58 > r59;
+    return r60;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = sub(r3, 9);
+    r5 = add(r0, 8);
+    r6 = load(r5);
+    r7 = r4 >= r6;
+    r8 = add(r0, 16);
+    store(r8, r7);
+    r9 = load(r5);
+    r10 = 4 == r9;
+    r11 = mul(1, r10);
+    r12 = load(r5);
+    r13 = sub(r12, 9);
+    r14 = div_(r13, 5);
+    store(r8, r14);
+    r15 = 0;
+    r17 = 1;
+    r19 = 3;
+L69:;
+    r21 = r19 > 0;
+    if (r21) goto L77; else goto L150;
+L77:;
+    print(71);
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = r23 != 4;
+    r25 = shr(r24, 1);
+    r26 = add(r0, 8);
+    store(r26, r25);
+    r16 = 2;
+    r18 = r17;
+L109:;
+    r28 = r16 > 0;
+    if (r28) goto L117; else goto L131;
+L117:;
+    r27 = sub(r16, 1);
+    r16 = r27;
+    r18 = 9;
+    goto L109;
+L131:;
+    print(r11);
+    r20 = sub(r19, 1);
+    r15 = r16;
+    r17 = r18;
+    r19 = r20;
+    goto L69;
+L150:;
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = r30 < 36;
+    r32 = shl(r31, 3);
+    store(r29, r32);
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = r34 >= r36;
+    if (r37) goto L184; else goto L287;
+L184:;
+    r38 = 9;
+L191:;
+    r39 = 3;
+    r41 = 9;
+L201:;
+    r43 = r39 > 0;
+    if (r43) goto L209; else goto L251;
+L209:;
+    r44 = 38 > r41;
+    r45 = add(r0, 8);
+    r46 = load(r45);
+    r47 = sub(r41, r46);
+    r42 = r44 == r47;
+    r48 = add(r0, 16);
+    r49 = load(r48);
+    r50 = mul(r49, r17);
+    print(r50);
+    r40 = sub(r39, 1);
+    r39 = r40;
+    r41 = r42;
+    goto L201;
+L251:;
+    r51 = add(r0, 16);
+    r52 = load(r51);
+    r53 = shl(r52, 1);
+    print(r53);
+    r54 = r53 >= r53;
+    r55 = shl(r54, 0);
+    r56 = add(r0, 8);
+    store(r56, r55);
+    r57 = r38 <= r41;
+    r58 = r57 >= r41;
+    return r58;
+L287:;
+    r38 = r11;
+    goto L191;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = add(10, r2);
+    r4 = add(r0, 8);
+    r5 = load(r4);
+    r6 = r5 <= 94;
+    r7 = load(r4);
+    r8 = mul(r6, r7);
+    r9 = add(r0, 16);
+    r10 = load(r9);
+    r11 = mul(0, r10);
+    r12 = 87 != r11;
+    print(r12);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 == 8;
+    r16 = sub(r15, r8);
+    r17 = r16;
+    r18 = 3;
+    r20 = 7;
+L66:;
+    r21 = r18 > 0;
+    if (r21) goto L74; else goto L113;
+L74:;
+    r22 = add(r0, 24);
+    r23 = load(r22);
+    r24 = add(r0, 16);
+    r25 = load(r24);
+    r26 = r23 == r25;
+    r27 = r26 > 8;
+    r28 = add(r0, 8);
+    store(r28, r27);
+    r19 = sub(r18, 1);
+    r18 = r19;
+    r20 = 66;
+    goto L66;
+L113:;
+    r29 = r17 <= r20;
+    r30 = r17 != r17;
+    r31 = r29 < r30;
+    r32 = add(r0, 8);
+    r33 = load(r32);
+    r34 = sub(r33, r20);
+    r35 = add(r0, 24);
+    r36 = load(r35);
+    r37 = r8 == r36;
+    r38 = load(r32);
+    r39 = mul(r38, r8);
+    r40 = r37 != r39;
+    r41 = r40 >= r8;
+    if (r41) goto L162; else goto L201;
+L162:;
+    r42 = add(r0, 24);
+    r43 = load(r42);
+    r44 = sub(r43, r40);
+    print(r44);
+    r45 = r40 < r8;
+    if (r45) goto L181; else goto L191;
+L181:;
+    r46 = r31 == r31;
+    r47 = mul(r46, r17);
+    return 0;
+L191:;
+    r48 = mul(r31, 58);
+    r49 = mul(r17, r48);
+    return 0;
+L201:;
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    return r51;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = add(r0, 8);
+    r3 = load(r2);
+    r4 = r1 < r3;
+    if (r4) goto L13; else goto L175;
+L13:;
+    print(780);
+    r5 = 0;
+L22:;
+    r6 = div_(r1, 4);
+    r7 = mul(r1, r6);
+    r8 = 84 >= r1;
+    r9 = 0 == r8;
+    r10 = r9;
+    r11 = r7;
+    r12 = mul(7, r1);
+    r13 = 7 != r1;
+    print(r13);
+    r14 = add(r0, 24);
+    r15 = load(r14);
+    r16 = r10;
+    r18 = r12;
+    r20 = 3;
+L72:;
+    r22 = r20 > 0;
+    if (r22) goto L80; else goto L134;
+L80:;
+    r23 = add(r1, r18);
+    r24 = r16 >= r23;
+    print(15);
+    r25 = r16 <= r24;
+    r26 = add(r0, 16);
+    r27 = load(r26);
+    r28 = mul(r27, r24);
+    r17 = r25 != r28;
+    r29 = div_(r17, 5);
+    r19 = mul(r1, r29);
+    print(7);
+    r21 = sub(r20, 1);
+    r16 = r17;
+    r18 = r19;
+    r20 = r21;
+    goto L72;
+L134:;
+    print(r15);
+    r30 = add(r0, 16);
+    r31 = load(r30);
+    r32 = 77 == r31;
+    r33 = sub(r32, r18);
+    r34 = r16 > r16;
+    r35 = 7 != r18;
+    r36 = add(r34, r35);
+    r37 = r16 != r33;
+    r38 = div_(r36, 6);
+    r39 = sub(r37, r38);
+    return 19;
+L175:;
+    r5 = 9;
+    goto L22;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = 5 > r4;
+    r6 = sub(r5, 97);
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r8 <= 13;
+    r10 = r9 >= 0;
+    r11 = add(r0, 24);
+    store(r11, r10);
+    r12 = 4;
+L40:;
+    r14 = r12 > 0;
+    if (r14) goto L48; else goto L61;
+L48:;
+    print(34);
+    r13 = sub(r12, 1);
+    r12 = r13;
+    goto L40;
+L61:;
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    print(r16);
+    print(0);
+    print(76);
+    r17 = r6 != r2;
+    r18 = r1 < r17;
+    r19 = r6 <= r16;
+    r20 = r19 >= r18;
+    r21 = r16 != r18;
+    r22 = add(r1, 19);
+    r23 = r21 != r22;
+    store(r15, r23);
+    r24 = add(r0, 24);
+    r25 = load(r24);
+    r26 = load(r15);
+    r27 = sub(r20, r26);
+    r28 = mul(r27, 76);
+    store(r24, r28);
+    r29 = mul(r1, 92);
+    r30 = r29 <= r25;
+    store(r15, r30);
+    print(r25);
+    r31 = div_(r25, 2);
+    print(r31);
+    r32 = load(r15);
+    r33 = add(r16, r32);
+    r34 = r16 <= r16;
+    r35 = r33 >= r34;
+    r36 = load(r15);
+    r37 = load(r15);
+    r38 = r36 != r37;
+    r39 = r38 >= 33;
+    return r39;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = mul(r2, 5);
+    r4 = r3 == 0;
+    r5 = add(r0, 24);
+    r6 = load(r5);
+    r7 = load(r5);
+    r8 = r6 != r7;
+    r9 = mul(45, r8);
+    store(r1, r9);
+    r10 = add(r0, 16);
+    r11 = load(r10);
+    r12 = 21 >= r11;
+    if (r12) goto L45; else goto L83;
+L45:;
+    r13 = 4;
+L52:;
+    r15 = r13 > 0;
+    if (r15) goto L60; else goto L73;
+L60:;
+    print(5);
+    r14 = sub(r13, 1);
+    r13 = r14;
+    goto L52;
+L73:;
+    r21 = 1;
+    r22 = r13;
+    goto L111;
+L83:;
+    r16 = add(r0, 16);
+    r17 = load(r16);
+    print(23);
+    r18 = load(r16);
+    r19 = add(3, r18);
+    r20 = 471 <= r19;
+    r21 = r20;
+    r22 = 0;
+L111:;
+    r23 = 5 != r21;
+    r24 = div_(r23, 4);
+    r25 = add(r0, 24);
+    r26 = load(r25);
+    r27 = add(r0, 16);
+    r28 = load(r27);
+    r29 = r26 >= r28;
+    r30 = load(r25);
+    r31 = sub(r30, 5);
+    r32 = add(r29, r31);
+    r33 = r32 == 5;
+    if (r33) goto L152; else goto L167;
+L152:;
+    r34 = add(r0, 16);
+    r35 = load(r34);
+    r36 = r24 == r35;
+    r37 = add(r36, r24);
+    goto L176;
+L167:;
+    r38 = add(r0, 24);
+    store(r38, 0);
+L176:;
+    r39 = add(r0, 8);
+    r40 = load(r39);
+    r41 = add(r0, 24);
+    r42 = load(r41);
+    r43 = r40 == r42;
+    r44 = add(r0, 16);
+    r45 = load(r44);
+    r46 = r45 < 95;
+    r47 = r43 > r46;
+    r48 = div_(r47, 1);
+    return r48;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
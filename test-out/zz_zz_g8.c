@@ -0,0 +1,1245 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    r2 = load(r1);
+    r3 = 53 < r2;
+    if (r3) goto L13; else goto L26;
+L13:;
+    r4 = 1;
+    r5 = 6;
+    r6 = 4;
+    goto L39;
+L26:;
+    r4 = 1;
+    r5 = 1;
+    r6 = 90;
+L39:;
+    r7 = r5 > 40;
+    if (r7) goto L47; else goto L226;
+L47:;
+    r8 = add(r0, 16);
+    r9 = load(r8);
+    r10 = add(r0, 8);
+    store(r10, r5);
+    r11 = load(r10);
+    r12 = 0 >= r11;
+    r13 = add(43, r12);
+    r14 = load(r10);
+    r15 = r5 != r14;
+    r16 = r15 <= 14;
+    r17 = load(r8);
+    r18 = shl(r17, 2);
+    r19 = load(r10);
+    r20 = r16 >= r19;
+    r21 = mul(r18, r20);
+    store(r8, 95);
+    r22 = r16;
+    r23 = r21;
+L112:;
+    r24 = r6 < r6;
+    if (r24) goto L120; else goto L140;
+L120:;
+    print(91);
+    r25 = add(r0, 8);
+    r26 = load(r25);
+    r27 = shl(r26, 2);
+    print(r27);
+    r40 = r6;
+    goto L187;
+L140:;
+    r28 = 0 == r23;
+    if (r28) goto L148; else goto L163;
+L148:;
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = r6 != r30;
+    r32 = div_(r31, 1);
+    return 0;
+L163:;
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r35 = div_(r34, 3);
+    r36 = add(r0, 16);
+    r37 = load(r36);
+    r38 = r22 == r37;
+    r39 = r35 == r38;
+    return 0;
+L187:;
+    r41 = div_(r22, 3);
+    r42 = add(r0, 8);
+    r43 = load(r42);
+    r44 = 0 <= r43;
+    r45 = r41 <= r44;
+    r46 = add(r0, 16);
+    store(r46, r22);
+    r47 = 0 <= r22;
+    r48 = add(r0, 24);
+    r49 = load(r48);
+    r50 = r47 <= r49;
+    return r50;
+L226:;
+    r22 = r4;
+    r23 = r5;
+    goto L112;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 40);
+    r3 = add(r0, 24);
+    store(r3, 4);
+    r4 = 2;
+    r6 = 4;
+L23:;
+    r7 = r4 > 0;
+    if (r7) goto L31; else goto L47;
+L31:;
+    print(1);
+    r5 = sub(r4, 1);
+    r4 = r5;
+    r6 = 1;
+    goto L23;
+L47:;
+    r8 = 4 > r6;
+    if (r8) goto L55; else goto L92;
+L55:;
+    r9 = add(r0, 24);
+    r10 = load(r9);
+    r11 = mul(0, r10);
+    r12 = r11 < 7;
+    r13 = 54 >= r12;
+    r14 = add(r0, 16);
+    store(r14, r13);
+    r18 = 7;
+    r19 = 61;
+    r20 = r11;
+    goto L114;
+L92:;
+    r15 = add(r0, 24);
+    r16 = load(r15);
+    r17 = div_(r16, 3);
+    r18 = r6;
+    r19 = r17;
+    r20 = r6;
+L114:;
+    r21 = 4;
+    r23 = 4;
+    r25 = r19;
+    r27 = r20;
+L130:;
+    r29 = r21 > 0;
+    if (r29) goto L138; else goto L217;
+L138:;
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = 34 >= r31;
+    r33 = load(r30);
+    r34 = r32 <= r33;
+    r35 = mul(r27, r18);
+    r28 = shl(r35, 3);
+    r36 = r1 < r1;
+    r37 = add(r34, r18);
+    r26 = r36 == r37;
+    r38 = add(r34, r26);
+    r39 = r26 > r1;
+    r40 = r38 != r39;
+    store(r30, r40);
+    r41 = sub(r1, 33);
+    r24 = 69 > r41;
+    r22 = sub(r21, 1);
+    r21 = r22;
+    r23 = r24;
+    r25 = r26;
+    r27 = r28;
+    goto L130;
+L217:;
+    r42 = r25 <= r1;
+    r43 = r42 != r1;
+    return r43;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 24);
+    r5 = load(r4);
+    r6 = sub(r5, 3);
+    print(32);
+    r7 = 3;
+    r9 = 3;
+L27:;
+    r10 = r7 > 0;
+    if (r10) goto L35; else goto L71;
+L35:;
+    r11 = add(r0, 24);
+    store(r11, 1);
+    r12 = div_(r6, 4);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r14 != 2;
+    print(r15);
+    r8 = sub(r7, 1);
+    r7 = r8;
+    r9 = r6;
+    goto L27;
+L71:;
+    r16 = add(r0, 16);
+    r17 = load(r16);
+    r18 = r17 >= 29;
+    r19 = r6 == 59;
+    if (r19) goto L88; else goto L188;
+L88:;
+    r20 = r9 <= r2;
+    if (r20) goto L96; else goto L201;
+L96:;
+    r21 = load(r3);
+    r22 = load(elem(r21, 1));
+    r23 = r6 != r18;
+    r24 = ((int64_t (*)(int64_t, int64_t)) callee(r22, 2))(r3, r23);
+    r25 = 93;
+    r26 = r24;
+L123:;
+    r27 = r2;
+    r28 = r25;
+    r29 = r26;
+L136:;
+    print(r1);
+    r30 = shr(r29, 1);
+    r31 = 2 == r30;
+    r32 = r31 == 68;
+    r33 = add(r0, 16);
+    r34 = load(r33);
+    r35 = div_(r34, 4);
+    r36 = r32 < r35;
+    store(r33, r36);
+    r37 = 2 < r1;
+    r38 = r37 <= r27;
+    r39 = load(r33);
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = div_(r41, 5);
+    return r42;
+L188:;
+    r27 = r6;
+    r28 = r18;
+    r29 = r9;
+    goto L136;
+L201:;
+    r25 = r18;
+    r26 = r9;
+    goto L123;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = add(r0, 8);
+    store(r4, r3);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = load(r2);
+    r8 = r6 == r7;
+    if (r8) goto L34; else goto L66;
+L34:;
+    r9 = load(r1);
+    r10 = load(elem(r9, 1));
+    r11 = ((int64_t (*)(int64_t, int64_t)) callee(r10, 2))(r1, 9);
+    r12 = add(r0, 24);
+    r13 = load(r12);
+    r14 = add(r13, 87);
+    r15 = r14 > 49;
+    r20 = 9;
+    r21 = r11;
+    goto L91;
+L66:;
+    r16 = add(r0, 8);
+    store(r16, 0);
+    r17 = load(r1);
+    r18 = load(elem(r17, 0));
+    r19 = ((int64_t (*)(int64_t)) callee(r18, 1))(r1);
+    r20 = 0;
+    r21 = 7;
+L91:;
+    r22 = load(r1);
+    r23 = load(elem(r22, 0));
+    r24 = ((int64_t (*)(int64_t)) callee(r23, 1))(r1);
+    r25 = add(r0, 24);
+    r26 = load(r25);
+    r27 = 88 > r26;
+    r28 = add(r0, 16);
+    r29 = load(r28);
+    r30 = r27 != r29;
+    r31 = load(r28);
+    r32 = load(r25);
+    r33 = mul(r24, r32);
+    r34 = r31 != r33;
+    store(r28, r34);
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = r30 >= r36;
+    r38 = load(r25);
+    r39 = load(r35);
+    r40 = add(r39, 93);
+    r41 = r38 >= r40;
+    r42 = load(r35);
+    r43 = load(r25);
+    r44 = r42 > r43;
+    r45 = r44 >= r24;
+    store(r25, r45);
+    r46 = load(r1);
+    r47 = load(elem(r46, 2));
+    r48 = load(r35);
+    r49 = r48 != r37;
+    r50 = load(r28);
+    r51 = div_(r50, 6);
+    r52 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r47, 3))(r1, r49, r51);
+    r53 = load(r25);
+    r54 = 86 >= r53;
+    r55 = 91 < r54;
+    r56 = load(r1);
+    r57 = load(elem(r56, 1));
+    r58 = load(r28);
+    r59 = r58 >= r37;
+    r60 = ((int64_t (*)(int64_t, int64_t)) callee(r57, 2))(r1, r59);
+    r61 = r60 >= r24;
+    r62 = sub(r60, 14);
+    r63 = r61 != r62;
+    r64 = r60 <= r24;
+    r65 = add(78, r64);
+    return r65;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = add(r0, 24);
+    store(r1, 1);
+    print(3);
+    r2 = add(r0, 8);
+    r3 = load(r2);
+    r4 = 3 < r3;
+    print(r4);
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    store(r5, r6);
+    print(4);
+    r7 = 4;
+    r9 = 4;
+    r11 = 0;
+    r13 = 1;
+L46:;
+    r15 = r9 > 0;
+    if (r15) goto L54; else goto L157;
+L54:;
+    r16 = add(r0, 24);
+    r17 = load(r16);
+    r18 = r17 > 5;
+    if (r18) goto L67; else goto L198;
+L67:;
+    r14 = 84;
+L74:;
+    r19 = add(r0, 16);
+    r20 = load(r19);
+    r21 = r11 > r20;
+    if (r21) goto L87; else goto L205;
+L87:;
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = sub(r23, 97);
+    r25 = add(r0, 24);
+    r26 = load(r25);
+    r27 = load(r22);
+    r28 = mul(r26, r27);
+    r29 = r24 != r28;
+    r30 = load(r22);
+    r31 = r7 >= r30;
+    r32 = add(38, r29);
+    r33 = mul(r31, r32);
+    r8 = r33;
+    r12 = r29;
+L137:;
+    r10 = sub(r9, 1);
+    r7 = r8;
+    r9 = r10;
+    r11 = r12;
+    r13 = r14;
+    goto L46;
+L157:;
+    r34 = r7 <= r13;
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = mul(r36, r13);
+    r38 = add(r34, r37);
+    r39 = load(r35);
+    r40 = r39 <= r38;
+    r41 = 0 > r40;
+    r42 = load(r35);
+    r43 = r7 <= 1;
+    r44 = r42 == r43;
+    return r44;
+L198:;
+    r14 = r13;
+    goto L74;
+L205:;
+    r8 = r7;
+    r12 = r11;
+    goto L137;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = 67 < r4;
+    if (r5) goto L19; else goto L26;
+L19:;
+    r12 = 0;
+    goto L59;
+L26:;
+    r6 = add(r0, 8);
+    r7 = load(r6);
+    r8 = 7 != r7;
+    r9 = r1 != 57;
+    r10 = r8 != r9;
+    r11 = add(r0, 24);
+    store(r11, r10);
+    print(1);
+    r12 = 0;
+L59:;
+    r13 = mul(r12, 0);
+    print(r13);
+    r14 = add(r0, 8);
+    store(r14, r1);
+    r15 = r1 < r1;
+    if (r15) goto L80; else goto L184;
+L80:;
+    print(r1);
+    r16 = 96;
+L89:;
+    r17 = 0 > r12;
+    if (r17) goto L97; else goto L191;
+L97:;
+    r18 = r12 <= 76;
+    r19 = r1 <= 80;
+    r20 = mul(r18, r19);
+    r21 = 54 > r1;
+    r22 = mul(r21, r20);
+    r23 = r16 < 33;
+    if (r23) goto L125; else goto L201;
+L125:;
+    r24 = add(r0, 8);
+    r25 = load(r24);
+    r26 = add(r0, 24);
+    r27 = load(r26);
+    r28 = r1 <= r27;
+    r29 = mul(r25, r28);
+    r30 = load(r24);
+    r31 = add(r0, 16);
+    store(r31, r30);
+    r32 = r1;
+    r33 = r29;
+L163:;
+    r34 = r32;
+    r35 = r33;
+L173:;
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = mul(r37, 87);
+    return r38;
+L184:;
+    r16 = 0;
+    goto L89;
+L191:;
+    r34 = 0;
+    r35 = r12;
+    goto L173;
+L201:;
+    r32 = r22;
+    r33 = r12;
+    goto L163;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = load(r3);
+    r5 = load(elem(r4, 1));
+    r6 = add(r0, 8);
+    r7 = load(r6);
+    r8 = ((int64_t (*)(int64_t, int64_t)) callee(r5, 2))(r3, r7);
+    r9 = r8 == 69;
+    if (r9) goto L32; else goto L241;
+L32:;
+    r10 = load(r3);
+    r11 = load(elem(r10, 0));
+    r12 = ((int64_t (*)(int64_t)) callee(r11, 1))(r3);
+    print(72);
+    r13 = 2;
+L49:;
+    r14 = add(r0, 8);
+    r15 = load(r14);
+    r16 = r15 == 7;
+    r17 = 8 < r13;
+    r18 = sub(r16, r17);
+    r19 = add(97, r2);
+    r20 = shl(r19, 3);
+    r21 = add(r0, 24);
+    store(r21, r20);
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = r23 == r2;
+    r25 = sub(r24, 7);
+    store(r22, r25);
+    r26 = r2 <= r18;
+    r27 = r26 > r8;
+    store(r22, r27);
+    r28 = mul(8, r8);
+    r29 = add(r2, r8);
+    r30 = r28 <= r29;
+    store(r14, r30);
+    r31 = r2 == r2;
+    if (r31) goto L131; else goto L191;
+L131:;
+    r32 = r2;
+    r33 = 4;
+L141:;
+    r35 = r33 > 0;
+    if (r35) goto L149; else goto L163;
+L149:;
+    r34 = sub(r33, 1);
+    r32 = 78;
+    r33 = r34;
+    goto L141;
+L163:;
+    r36 = mul(76, r18);
+    r37 = r18 > r36;
+    r38 = add(r0, 24);
+    store(r38, r37);
+    r41 = r32;
+    r42 = r18;
+    r43 = r33;
+    goto L214;
+L191:;
+    print(12);
+    r39 = div_(r1, 3);
+    r40 = add(5, r39);
+    r41 = r40;
+    r42 = 66;
+    r43 = 0;
+L214:;
+    r44 = load(r3);
+    r45 = load(elem(r44, 0));
+    r46 = ((int64_t (*)(int64_t)) callee(r45, 1))(r3);
+    r47 = 8 > r1;
+    r48 = add(r0, 16);
+    r49 = load(r48);
+    r50 = r49 == 99;
+    r51 = r47 >= r50;
+    return r51;
+L241:;
+    r13 = 7;
+    goto L49;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    print(1);
+    r2 = add(r0, 24);
+    r3 = load(r2);
+    r4 = div_(r3, 2);
+    r5 = 0 > r4;
+    r6 = 0;
+    print(0);
+    r7 = add(r0, 8);
+    r8 = load(r7);
+    r9 = sub(r6, r8);
+    r10 = 0 < r9;
+    r11 = r6;
+    r13 = 4;
+    r15 = 0;
+    r17 = 0;
+L55:;
+    r19 = r13 > 0;
+    if (r19) goto L63; else goto L139;
+L63:;
+    r20 = add(r0, 24);
+    r21 = load(r20);
+    r22 = r21 == 28;
+    r23 = mul(9, r15);
+    r16 = r22 <= r23;
+    r24 = load(r1);
+    r25 = load(elem(r24, 2));
+    r26 = add(r17, r11);
+    r27 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r25, 3))(r1, r26, 20);
+    r28 = add(r0, 16);
+    r29 = load(r28);
+    r30 = r29 == r11;
+    r12 = r30 > r16;
+    r31 = shl(r16, 0);
+    r18 = r31 <= 0;
+    r14 = sub(r13, 1);
+    r11 = r12;
+    r13 = r14;
+    r15 = r16;
+    r17 = r18;
+    goto L55;
+L139:;
+    r32 = load(r1);
+    r33 = load(elem(r32, 2));
+    r34 = add(r0, 8);
+    r35 = load(r34);
+    r36 = add(r0, 24);
+    r37 = load(r36);
+    r38 = r37 >= 76;
+    r39 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r33, 3))(r1, r35, r38);
+    r40 = add(r11, 64);
+    r41 = r39 < r40;
+    r42 = r17 != r41;
+    r43 = add(r42, r17);
+    r44 = load(r34);
+    r45 = sub(116, r44);
+    r46 = load(r1);
+    r47 = load(elem(r46, 1));
+    r48 = load(r34);
+    r49 = r48 < 13;
+    r50 = ((int64_t (*)(int64_t, int64_t)) callee(r47, 2))(r1, r49);
+    return 47;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = 9 >= r2;
+    r4 = sub(r3, 1);
+    r5 = load(r1);
+    r6 = mul(r5, 78);
+    r7 = add(r0, 24);
+    r8 = load(r7);
+    r9 = add(r6, r8);
+    r10 = load(r1);
+    r11 = r4 != r10;
+    if (r11) goto L40; else goto L85;
+L40:;
+    r12 = add(r0, 8);
+    r13 = load(r12);
+    r14 = sub(r9, r13);
+    r15 = 82 < r14;
+    r16 = load(r12);
+    r17 = 50 <= r16;
+    r18 = sub(7, r15);
+    r19 = sub(r17, r18);
+    r20 = add(r0, 16);
+    store(r20, r19);
+    r23 = r9;
+    r24 = r15;
+    goto L105;
+L85:;
+    r21 = add(64, r9);
+    r22 = r21 == r4;
+    print(14);
+    r23 = r22;
+    r24 = r4;
+L105:;
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r27 = r26 <= r23;
+    r28 = r27 > 28;
+    r29 = 7;
+    r31 = r24;
+    r33 = 4;
+    r35 = r28;
+L134:;
+    r37 = r33 > 0;
+    if (r37) goto L142; else goto L196;
+L142:;
+    r38 = add(r0, 8);
+    r32 = load(r38);
+    r39 = load(r38);
+    print(r39);
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = load(r40);
+    r43 = r42 == r35;
+    r30 = r41 == r43;
+    r44 = mul(26, r35);
+    r36 = 16 != r44;
+    r34 = sub(r33, 1);
+    r29 = r30;
+    r31 = r32;
+    r33 = r34;
+    r35 = r36;
+    goto L134;
+L196:;
+    r45 = r29;
+    r47 = 3;
+L206:;
+    r49 = r47 > 0;
+    if (r49) goto L214; else goto L243;
+L214:;
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = r51 < 13;
+    print(r52);
+    r46 = r23 > r35;
+    r48 = sub(r47, 1);
+    r45 = r46;
+    r47 = r48;
+    goto L206;
+L243:;
+    r53 = r35 > r45;
+    print(r53);
+    r54 = r31 > 79;
+    print(r54);
+    r55 = add(r0, 24);
+    r56 = load(r55);
+    r57 = sub(r31, r56);
+    r58 = add(r0, 16);
+    r59 = load(r58);
+    r60 = r59 <= r45;
+    r61 = mul(r57, r60);
+    store(r58, r61);
+    r62 = add(r0, 8);
+    r63 = load(r62);
+    r64 = r63 <= r45;
+    r65 = load(r55);
+    r66 = div_(r35, 7);
+    r67 = sub(r65, r66);
+    return r67;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = r1 < 1;
+    r3 = mul(1, r2);
+    r4 = 1;
+    r6 = 6;
+    r8 = 2;
+    r10 = 7;
+L24:;
+    r11 = r8 > 0;
+    if (r11) goto L32; else goto L88;
+L32:;
+    r12 = add(r0, 24);
+    store(r12, r6);
+    r13 = shl(r1, 1);
+    r14 = sub(r4, r10);
+    r5 = mul(r13, r14);
+    r15 = add(r0, 16);
+    r16 = load(r15);
+    r17 = r16 < 1;
+    r18 = r5 == 0;
+    r7 = r17 > r18;
+    r9 = sub(r8, 1);
+    r4 = r5;
+    r6 = r7;
+    r8 = r9;
+    r10 = 0;
+    goto L24;
+L88:;
+    r19 = mul(r10, r10);
+    r20 = add(r0, 16);
+    r21 = load(r20);
+    r22 = r21 <= r1;
+    r23 = r19 <= r22;
+    r24 = add(r0, 8);
+    r25 = load(r24);
+    r26 = r25 < r6;
+    print(r26);
+    r27 = r23;
+    r29 = 3;
+    r31 = r10;
+L129:;
+    r33 = r29 > 0;
+    if (r33) goto L137; else goto L193;
+L137:;
+    r34 = add(65, r27);
+    print(r34);
+    r35 = add(r0, 8);
+    r36 = load(r35);
+    r37 = r36 > 1;
+    r28 = r37 <= r27;
+    r38 = load(r35);
+    r39 = r38 != r31;
+    print(r39);
+    r40 = load(r35);
+    r41 = r40 > r28;
+    r32 = shl(r41, 0);
+    r30 = sub(r29, 1);
+    r27 = r28;
+    r29 = r30;
+    r31 = r32;
+    goto L129;
+L193:;
+    r42 = r27 <= r1;
+    r43 = r31 != 74;
+    r44 = sub(r42, r43);
+    r45 = r27;
+    r46 = r44;
+    r47 = r29;
+    r48 = r31;
+    r49 = r45;
+    r51 = r46;
+    r53 = 4;
+L230:;
+    r55 = r53 > 0;
+    if (r55) goto L238; else goto L272;
+L238:;
+    r56 = add(r0, 16);
+    r57 = load(r56);
+    r58 = r57 != 78;
+    r50 = shl(r58, 1);
+    r52 = r50 > 7;
+    r54 = sub(r53, 1);
+    r49 = r50;
+    r51 = r52;
+    r53 = r54;
+    goto L230;
+L272:;
+    r59 = add(r0, 16);
+    r60 = load(r59);
+    r61 = add(r0, 24);
+    r62 = load(r61);
+    r63 = mul(r62, 1);
+    r64 = add(r0, 8);
+    r65 = load(r64);
+    r66 = r65 == r60;
+    r67 = r63 == r66;
+    return r67;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 16);
+    r4 = load(r3);
+    r5 = r4 > r1;
+    r6 = add(r0, 24);
+    r7 = load(r6);
+    r8 = r1 != r7;
+    r9 = r5 <= r8;
+    r10 = add(r0, 8);
+    r11 = load(r10);
+    r12 = 1 != r11;
+    r13 = add(47, r12);
+    r14 = 14 > r9;
+    r15 = sub(r2, 29);
+    r16 = r14 > r15;
+    r17 = load(r6);
+    r18 = shr(r17, 0);
+    r19 = r2 <= r2;
+    r20 = mul(r18, r19);
+    r21 = shl(r16, 1);
+    print(r2);
+    r22 = mul(25, r16);
+    r23 = 1 < r20;
+    r24 = div_(r23, 7);
+    r25 = r1 != r24;
+    if (r25) goto L88; else goto L101;
+L88:;
+    r26 = mul(r2, r1);
+    r27 = add(r0, 8);
+    store(r27, r26);
+L101:;
+    r28 = 33 < r2;
+    r29 = add(r0, 24);
+    r30 = load(r29);
+    r31 = r30 < 59;
+    r32 = add(r0, 16);
+    r33 = load(r32);
+    r34 = sub(19, r33);
+    print(r34);
+    r35 = r2 > r31;
+    r36 = r35 != 1;
+    return r36;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0, r69 = 0, r70 = 0, r71 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = r2 != 8;
+    r4 = (-3) < r3;
+    r5 = add(r0, 16);
+    r6 = load(r5);
+    r7 = add(r0, 24);
+    store(r7, r6);
+    r8 = load(r7);
+    r9 = shl(r8, 1);
+    r10 = add(0, r9);
+    r11 = mul(71, r10);
+    r12 = add(r11, 22);
+    store(r1, r12);
+    r13 = 6;
+    r15 = 5;
+    r17 = 4;
+    r19 = r4;
+L63:;
+    r21 = r17 > 0;
+    if (r21) goto L71; else goto L165;
+L71:;
+    r22 = r15 == r13;
+    if (r22) goto L79; else goto L101;
+L79:;
+    r23 = add(r0, 8);
+    r24 = load(r23);
+    r25 = r24 == 82;
+    r14 = r13;
+    r16 = r25;
+    r20 = r25;
+    goto L145;
+L101:;
+    r26 = r13 <= r15;
+    r27 = r10 == 58;
+    r28 = sub(r26, r27);
+    r29 = sub(r10, r28);
+    r30 = 52 != r10;
+    r31 = r29 < r30;
+    r32 = add(r0, 8);
+    store(r32, r31);
+    r14 = r28;
+    r16 = r15;
+    r20 = r19;
+L145:;
+    r18 = sub(r17, 1);
+    r13 = r14;
+    r15 = r16;
+    r17 = r18;
+    r19 = r20;
+    goto L63;
+L165:;
+    r33 = add(r0, 8);
+    r34 = load(r33);
+    r35 = r34 <= 29;
+    if (r35) goto L178; else goto L205;
+L178:;
+    r36 = add(r0, 8);
+    r37 = load(r36);
+    r38 = add(r37, 72);
+    r39 = r38 == r10;
+    r40 = add(r0, 16);
+    store(r40, r39);
+    r49 = r10;
+    goto L237;
+L205:;
+    r41 = add(r0, 24);
+    r42 = load(r41);
+    r43 = add(r0, 16);
+    r44 = load(r43);
+    r45 = mul(r42, r44);
+    r46 = load(r43);
+    r47 = r46 >= r10;
+    r48 = r45 != r47;
+    r49 = r48;
+L237:;
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = add(r0, 16);
+    r53 = load(r52);
+    r54 = r51 <= r53;
+    r55 = r54 > 72;
+    r56 = add(r0, 8);
+    r57 = load(r56);
+    r58 = r55 >= r57;
+    if (r58) goto L268; else goto L312;
+L268:;
+    print(r13);
+    r59 = shl(r49, 2);
+    r60 = sub(r59, r13);
+    r61 = r19 == r19;
+    if (r61) goto L286; else goto L288;
+L286:;
+    return 0;
+L288:;
+    r62 = add(r0, 16);
+    r63 = load(r62);
+    r64 = r63 == 90;
+    r65 = add(r0, 24);
+    r66 = load(r65);
+    r67 = r19 == r66;
+    r68 = mul(r64, r67);
+    return 0;
+L312:;
+    r69 = r49 < r49;
+    r70 = mul(r69, r49);
+    r71 = shr(r13, 3);
+    return r71;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}
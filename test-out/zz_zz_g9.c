@@ -0,0 +1,1216 @@
+/* generated C99 - build with cc -O2 */
+#include <inttypes.h>
+#include <stdint.h>
+#include <stdio.h>
+#include <stdlib.h>
+#include <string.h>
+
+typedef void (*fn_t)(void); /* any function, cast back to its own type to call */
+
+static int64_t *words;
+static int64_t cap, top;
+
+static void trap(const char *msg) {
+    printf("%s\n", msg);
+    exit(1);
+}
+
+static int64_t word(int64_t addr) {
+    if (addr <= 0 || addr % 8 != 0 || addr / 8 >= top) {
+        printf("Bad memory access at %" PRId64 "\n", addr);
+        exit(1);
+    }
+    return addr / 8;
+}
+
+static inline int64_t load(int64_t addr) {
+    return words[word(addr)];
+}
+
+static inline void store(int64_t addr, int64_t val) {
+    words[word(addr)] = val;
+}
+
+static inline int64_t alloc(int64_t n) {
+    int64_t addr = top * 8;
+    if (n < 0 || top + n > INT32_MAX) {
+        printf("Cannot allocate %" PRId64 " words\n", n);
+        exit(1);
+    }
+    if (top + n > cap) {
+        int64_t grown = cap * 2 > top + n ? cap * 2 : top + n;
+        words = realloc(words, (size_t) grown * sizeof(int64_t));
+        if (!words)
+            trap("Out of memory");
+        memset(words + cap, 0, (size_t) (grown - cap) * sizeof(int64_t));
+        cap = grown;
+    }
+    top += n;
+    return addr;
+}
+
+static inline void print(int64_t val) {
+    printf("%" PRId64 "\n", val);
+}
+
+static inline int64_t add(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a + (uint64_t) b);
+}
+
+static inline int64_t sub(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a - (uint64_t) b);
+}
+
+static inline int64_t mul(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a * (uint64_t) b);
+}
+
+static inline int64_t div_(int64_t a, int64_t b) {
+    if (b == 0)
+        trap("Division by zero");
+    return b == -1 ? sub(0, a) : a / b;
+}
+
+static inline int64_t shl(int64_t a, int64_t b) {
+    return (int64_t) ((uint64_t) a << (b & 63));
+}
+
+static inline int64_t shr(int64_t a, int64_t b) {
+    return a >> (b & 63);
+}
+
+static inline int64_t elem(int64_t base, int64_t i) {
+    return add(base, mul(i, 8));
+}
+
+static int64_t f0(int64_t a0);
+static int64_t f1(int64_t a0, int64_t a1);
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f3(int64_t a0);
+static int64_t f4(int64_t a0);
+static int64_t f5(int64_t a0, int64_t a1);
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f7(int64_t a0);
+static int64_t f8(int64_t a0);
+static int64_t f9(int64_t a0, int64_t a1);
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2);
+static int64_t f11(int64_t a0);
+
+#define NUM_FNS 12
+static const fn_t fns[NUM_FNS + 1] = { (fn_t) f0, (fn_t) f1, (fn_t) f2, (fn_t) f3, (fn_t) f4, (fn_t) f5, (fn_t) f6, (fn_t) f7, (fn_t) f8, (fn_t) f9, (fn_t) f10, (fn_t) f11, 0 };
+static const int arity[NUM_FNS + 1] = { 1, 2, 3, 1, 1, 2, 3, 1, 1, 2, 3, 1, 0 };
+
+static inline fn_t callee(int64_t fn, int nargs) {
+    int64_t id = -(fn / 8) - 1;
+    if (fn >= 0 || fn % 8 != 0 || id >= NUM_FNS) {
+        printf("Called %" PRId64 ", which is not a function\n", fn);
+        exit(1);
+    }
+    if (arity[id] != nargs) {
+        printf("Function %" PRId64 " takes %d args, got %d\n", fn, arity[id], nargs);
+        exit(1);
+    }
+    return fns[id];
+}
+
+static const int64_t image[][2] = {
+    {1, (-8)}, {2, (-16)}, {3, (-24)}, {4, (-32)},
+    {5, (-40)}, {6, (-48)}, {7, (-56)}, {8, (-64)},
+    {9, (-72)}, {10, (-80)}, {11, (-88)}, {12, (-96)},
+};
+
+static void init(void) {
+    size_t i;
+    cap = 1024;
+    top = 13;
+    words = calloc((size_t) cap, sizeof(int64_t));
+    if (!words)
+        trap("Out of memory");
+    for (i = 0; i < sizeof(image) / sizeof(image[0]); i++)
+        words[image[i][0]] = image[i][1];
+}
+
+/* m0C0 */
+static int64_t f0(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = add(r0, 16);
+    r2 = load(r1);
+    r3 = add(r0, 8);
+    r4 = load(r3);
+    r5 = load(r1);
+    r6 = r4 <= r5;
+    r7 = mul(0, r6);
+    r8 = add(r0, 24);
+    r9 = load(r8);
+    r10 = load(r3);
+    r11 = r9 <= r10;
+    if (r11) goto L37; else goto L47;
+L37:;
+    r12 = r7;
+    r13 = 1;
+    goto L57;
+L47:;
+    r12 = 72;
+    r13 = 9;
+L57:;
+    r14 = add(r0, 16);
+    r15 = load(r14);
+    r16 = r15 <= r12;
+    if (r16) goto L70; else goto L84;
+L70:;
+    r17 = add(r0, 16);
+    store(r17, 5);
+    r21 = r13;
+    goto L102;
+L84:;
+    r18 = add(r0, 16);
+    r19 = load(r18);
+    r20 = 5 < r19;
+    print(5);
+    r21 = r20;
+L102:;
+    r22 = add(r0, 16);
+    r23 = load(r22);
+    r24 = r23 > 25;
+    r25 = r24 >= 1;
+    r26 = add(r0, 8);
+    r27 = load(r26);
+    print(8);
+    store(r26, 5);
+    r28 = load(r26);
+    r29 = 98 > r28;
+    r30 = r25 >= r29;
+    r31 = r30 > 42;
+    r32 = div_(r31, 1);
+    r33 = add(r0, 24);
+    store(r33, r32);
+    r34 = load(r33);
+    r35 = r34 >= 31;
+    r36 = r35 != 5;
+    r37 = load(r26);
+    r38 = 98 >= r37;
+    r39 = div_(r38, 6);
+    r40 = load(r22);
+    r41 = div_(r40, 3);
+    r42 = shl(r41, 2);
+    r43 = load(r33);
+    r44 = r43 > 98;
+    r45 = load(r33);
+    r46 = 98 > r45;
+    r47 = r44 >= r46;
+    r48 = 98 == r47;
+    r49 = add(r47, r48);
+    return r49;
+}
+
+/* m1C0 */
+static int64_t f1(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = alloc(4);
+    store(r3, 40);
+    r4 = add(r0, 16);
+    r5 = load(r4);
+    r6 = 5 <= r5;
+    if (r6) goto L25; else goto L43;
+L25:;
+    r7 = r1 != 11;
+    r8 = shl(r7, 3);
+    r11 = r8;
+    r12 = 0;
+    goto L61;
+L43:;
+    r9 = r1 <= 9;
+    r10 = div_(r9, 7);
+    r11 = 5;
+    r12 = r10;
+L61:;
+    r13 = add(r0, 24);
+    store(r13, r1);
+    r14 = r11;
+    r15 = r12;
+    r16 = r1 >= 9;
+    if (r16) goto L82; else goto L205;
+L82:;
+    r17 = 0;
+    r18 = 39;
+L92:;
+    r19 = 9 < r18;
+    if (r19) goto L100; else goto L141;
+L100:;
+    r20 = load(r3);
+    r21 = load(elem(r20, 0));
+    r22 = ((int64_t (*)(int64_t)) callee(r21, 1))(r3);
+    r23 = 15 <= r17;
+    print(r23);
+    r24 = sub(r1, r18);
+    r25 = add(r0, 8);
+    r26 = load(r25);
+    r27 = r26 <= r1;
+    r28 = r24 < r27;
+    r36 = r28;
+    r37 = r22;
+    goto L175;
+L141:;
+    r29 = load(r3);
+    r30 = load(elem(r29, 0));
+    r31 = ((int64_t (*)(int64_t)) callee(r30, 1))(r3);
+    r32 = add(r0, 24);
+    r33 = load(r32);
+    r34 = div_(r33, 7);
+    r35 = add(r1, r34);
+    store(r32, r35);
+    r36 = r31;
+    r37 = 0;
+L175:;
+    r38 = 43 != r18;
+    r39 = shl(r38, 2);
+    r40 = div_(r39, 6);
+    print(r40);
+    r41 = r1 < r1;
+    print(r41);
+    r42 = r18 != r1;
+    r43 = 0 <= r42;
+    return r43;
+L205:;
+    r17 = r14;
+    r18 = r15;
+    goto L92;
+}
+
+/* m2C0 */
+static int64_t f2(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = add(r0, 24);
+    store(r4, 7);
+    r5 = 2 != r1;
+    r6 = mul(r5, 0);
+    r7 = sub(r1, 2);
+    r8 = 2 <= r7;
+    r9 = 59 != r6;
+    if (r9) goto L37; else goto L45;
+L37:;
+    r10 = add(r2, 39);
+    print(r10);
+L45:;
+    r11 = r2 > 2;
+    r12 = add(r0, 24);
+    r13 = load(r12);
+    r14 = mul(r13, r6);
+    r15 = mul(r11, r14);
+    r16 = 7;
+    r17 = r15;
+    r18 = 30;
+    r19 = r6 >= 70;
+    if (r19) goto L79; else goto L117;
+L79:;
+    r20 = 23 == r6;
+    r21 = r20 != r2;
+    r22 = r21 < r16;
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = 75 < r24;
+    r26 = mul(r22, r25);
+    r33 = r16;
+    r34 = r21;
+    r35 = r26;
+    goto L152;
+L117:;
+    r27 = load(r3);
+    r28 = load(elem(r27, 0));
+    r29 = ((int64_t (*)(int64_t)) callee(r28, 1))(r3);
+    r30 = div_(r17, 7);
+    print(r30);
+    r31 = 92 <= r29;
+    r32 = add(r31, r29);
+    r33 = r32;
+    r34 = r17;
+    r35 = r18;
+L152:;
+    r36 = r35 <= r34;
+    r37 = add(r0, 16);
+    store(r37, r36);
+    r38 = add(r0, 8);
+    store(r38, r35);
+    r39 = r35 > r35;
+    if (r39) goto L178; else goto L205;
+L178:;
+    r40 = add(r34, 20);
+    r41 = r40;
+L189:;
+    r42 = r33 == r1;
+    print(r42);
+    r43 = add(r41, r33);
+    r44 = 1 < r43;
+    return r44;
+L205:;
+    r41 = r35;
+    goto L189;
+}
+
+/* m3C0 */
+static int64_t f3(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0, r69 = 0, r70 = 0, r71 = 0,
+        r72 = 0, r73 = 0, r74 = 0, r75 = 0, r76 = 0, r77 = 0, r78 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 40);
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = 2;
+    r5 = 7;
+    r7 = 8;
+L25:;
+    r9 = r3 > 0;
+    if (r9) goto L33; else goto L98;
+L33:;
+    r10 = add(r0, 8);
+    r11 = load(r10);
+    r12 = add(r0, 24);
+    r13 = load(r12);
+    r14 = r11 >= r13;
+    r15 = shr(r14, 0);
+    r16 = 45 != r15;
+    r8 = div_(r16, 4);
+    r17 = load(r1);
+    r18 = load(elem(r17, 2));
+    r19 = r8 == r8;
+    r20 = sub(4, r5);
+    r6 = ((int64_t (*)(int64_t, int64_t, int64_t)) callee(r18, 3))(r1, r19, r20);
+    r4 = sub(r3, 1);
+    r3 = r4;
+    r5 = r6;
+    r7 = r8;
+    goto L25;
+L98:;
+    r21 = add(r0, 16);
+    r22 = load(r21);
+    r23 = r22 != r5;
+    r24 = r23 == 0;
+    r25 = r7 >= 65;
+    r26 = mul(15, r25);
+    r27 = r24 >= r26;
+    r28 = add(r0, 8);
+    r29 = load(r28);
+    r30 = add(r0, 24);
+    r31 = load(r30);
+    r32 = r29 != r31;
+    r33 = r27 <= r32;
+    r34 = load(r28);
+    r35 = mul(r34, r26);
+    r36 = 1 == r35;
+    r37 = load(r21);
+    r38 = div_(r37, 3);
+    r39 = load(r21);
+    r40 = add(r39, 20);
+    r41 = add(r38, r40);
+    store(r30, r41);
+    r42 = load(r30);
+    r43 = sub(r42, 19);
+    r44 = 2;
+    r46 = 0;
+    r48 = r33;
+    r50 = r24;
+L196:;
+    r52 = r44 > 0;
+    if (r52) goto L204; else goto L290;
+L204:;
+    r53 = add(r0, 16);
+    r54 = load(r53);
+    r55 = r46 >= r54;
+    r56 = load(r53);
+    r57 = 48 == r56;
+    r51 = r55 <= r57;
+    r58 = load(r53);
+    r59 = r58 == 51;
+    r49 = r59 > r43;
+    r60 = r51 > r51;
+    if (r60) goto L243; else goto L342;
+L243:;
+    r61 = add(r0, 24);
+    store(r61, r49);
+    r62 = r51 != 21;
+    r63 = r49 < r62;
+    r64 = r63;
+L265:;
+    r65 = add(r0, 16);
+    r47 = load(r65);
+    r45 = sub(r44, 1);
+    r44 = r45;
+    r46 = r47;
+    r48 = r49;
+    r50 = r51;
+    goto L196;
+L290:;
+    r66 = add(r0, 16);
+    r67 = load(r66);
+    r68 = load(r66);
+    r69 = add(r0, 24);
+    r70 = load(r69);
+    r71 = r68 > r70;
+    r72 = r67 != r71;
+    r73 = add(r0, 8);
+    store(r73, r72);
+    r74 = shr(r46, 3);
+    print(r74);
+    r75 = shr(r48, 2);
+    r76 = r75 >= 66;
+    r77 = sub(r43, r46);
+    r78 = r77 != 5;
+    return r78;
+L342:;
+    r64 = r46;
+    goto L265;
+}
+
+/* m0C1 */
+static int64_t f4(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0, r59 = 0, r60 = 0, r61 = 0, r62 = 0, r63 = 0,
+        r64 = 0, r65 = 0, r66 = 0, r67 = 0, r68 = 0, r69 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = add((-60), r2);
+    r4 = r3;
+    r6 = 1;
+    r8 = 4;
+    r7 = 8;
+L25:;
+    r11 = r8 > 0;
+    if (r11) goto L33; else goto L117;
+L33:;
+    r12 = add(r0, 16);
+    r13 = load(r12);
+    r14 = r7 > r13;
+    r15 = sub(23, r14);
+    store(r12, r15);
+    print(1);
+    r16 = add(r0, 24);
+    r17 = load(r16);
+    r18 = sub(7, r17);
+    r19 = r7 != r4;
+    r5 = r18 >= r19;
+    r20 = load(r16);
+    r21 = mul(r5, r20);
+    print(r21);
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = shl(r23, 2);
+    r25 = load(r22);
+    r26 = r25 >= 7;
+    r10 = mul(r24, r26);
+    r9 = sub(r8, 1);
+    r4 = r5;
+    r6 = r7;
+    r8 = r9;
+    r7 = r10;
+    goto L25;
+L117:;
+    r27 = add(r0, 24);
+    r28 = load(r27);
+    r29 = sub(6, r28);
+    r30 = load(r27);
+    r31 = r30 < r7;
+    r32 = r29 <= r31;
+    r33 = r4 == r32;
+    if (r33) goto L145; else goto L173;
+L145:;
+    r34 = add(r0, 24);
+    r35 = load(r34);
+    r36 = add(r0, 8);
+    r37 = load(r36);
+    r38 = r35 < r37;
+    r39 = r38 < 7;
+    r46 = 60;
+    r47 = r39;
+    goto L207;
+L173:;
+    r40 = add(r0, 24);
+    r41 = load(r40);
+    r42 = r41 > 18;
+    r43 = div_(r32, 5);
+    r44 = r42 < r43;
+    r45 = add(r0, 16);
+    store(r45, r44);
+    r46 = 37;
+    r47 = r7;
+L207:;
+    r48 = r32 <= r47;
+    r49 = add(r0, 8);
+    store(r49, r48);
+    r50 = add(r0, 24);
+    r51 = load(r50);
+    r52 = r51 == r4;
+    if (r52) goto L231; else goto L254;
+L231:;
+    r53 = add(23, r4);
+    r54 = add(r0, 16);
+    r55 = load(r54);
+    r56 = r53 <= r55;
+    r59 = r4;
+    r60 = r56;
+    goto L272;
+L254:;
+    r57 = shl(r32, 3);
+    r58 = 0 <= r57;
+    r59 = r58;
+    r60 = r46;
+L272:;
+    r61 = r47 != r32;
+    r62 = r61 == 0;
+    r63 = add(r0, 16);
+    store(r63, r62);
+    r64 = load(r63);
+    r65 = shl(r64, 2);
+    r66 = shr(r65, 1);
+    r67 = add(r0, 8);
+    store(r67, r66);
+    r68 = 0 >= r32;
+    r69 = r68 != 0;
+    return r69;
+}
+
+/* m1C1 */
+static int64_t f5(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = alloc(4);
+    store(r2, 72);
+    r3 = r1 != r1;
+    if (r3) goto L14; else goto L33;
+L14:;
+    r4 = 4;
+    r5 = 8;
+    r6 = 0;
+    r7 = r4;
+    r8 = r5;
+    goto L46;
+L33:;
+    r6 = 8;
+    r7 = 4;
+    r8 = 0;
+L46:;
+    r9 = mul(r6, 49);
+    r10 = add(r0, 24);
+    r11 = load(r10);
+    r12 = r11 >= 7;
+    r13 = div_(r12, 7);
+    print(r8);
+    print(7);
+    r14 = r8 <= r8;
+    r15 = 25 < r1;
+    r16 = r14 >= r15;
+    r17 = 28 <= r13;
+    if (r17) goto L87; else goto L99;
+L87:;
+    r18 = r8 < 72;
+    if (r18) goto L95; else goto L97;
+L95:;
+    return 0;
+L97:;
+    return 0;
+L99:;
+    r19 = sub(r16, 52);
+    print(r19);
+    return r13;
+}
+
+/* m2C1 */
+static int64_t f6(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = alloc(4);
+    store(r3, 72);
+    r4 = sub(r2, 0);
+    r5 = r1 != r4;
+    r6 = 2 <= r2;
+    if (r6) goto L22; else goto L182;
+L22:;
+    r7 = 2;
+    r8 = r5;
+    r9 = r7;
+    r10 = r8;
+L38:;
+    r11 = r9;
+    r13 = 0;
+    r14 = 2;
+L51:;
+    r16 = r14 > 0;
+    if (r16) goto L59; else goto L141;
+L59:;
+    r17 = 3 <= r1;
+    if (r17) goto L67; else goto L86;
+L67:;
+    r18 = 3 == r2;
+    r19 = 18 > r13;
+    r20 = r18 >= r19;
+    r22 = r20;
+    goto L99;
+L86:;
+    r21 = shr(r1, 3);
+    print(r21);
+    r22 = r11;
+L99:;
+    r23 = add(r0, 24);
+    r24 = load(r23);
+    r25 = 75 == r24;
+    r26 = shr(r10, 2);
+    r27 = mul(r25, r26);
+    r28 = load(r3);
+    r29 = load(elem(r28, 0));
+    r12 = ((int64_t (*)(int64_t)) callee(r29, 1))(r3);
+    r15 = sub(r14, 1);
+    r11 = r12;
+    r13 = r2;
+    r14 = r15;
+    goto L51;
+L141:;
+    r30 = add(r0, 16);
+    store(r30, 178);
+    r31 = 79 > r13;
+    if (r31) goto L156; else goto L192;
+L156:;
+    r32 = mul(r2, 0);
+    r33 = r32;
+L167:;
+    print(44);
+    r34 = r1 != r33;
+    r35 = add(r0, 8);
+    store(r35, r34);
+    return r2;
+L182:;
+    r9 = 2;
+    r10 = r5;
+    goto L38;
+L192:;
+    r33 = r13;
+    goto L167;
+}
+
+/* m3C1 */
+static int64_t f7(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0, r51 = 0, r52 = 0, r53 = 0, r54 = 0, r55 = 0,
+        r56 = 0, r57 = 0, r58 = 0;
+    r0 = a0;
+    r1 = alloc(4);
+    store(r1, 72);
+    r2 = 0;
+    r4 = 1;
+    r6 = 4;
+    r8 = 0;
+    r10 = 2;
+L25:;
+    r12 = r6 > 0;
+    if (r12) goto L33; else goto L138;
+L33:;
+    r3 = r2;
+    r9 = 4;
+    r15 = r10;
+L46:;
+    r17 = r9 > 0;
+    if (r17) goto L54; else goto L98;
+L54:;
+    r18 = load(r1);
+    r19 = load(elem(r18, 1));
+    r20 = shr(r4, 1);
+    r16 = ((int64_t (*)(int64_t, int64_t)) callee(r19, 2))(r1, r20);
+    r21 = r16 > r16;
+    r13 = div_(r21, 5);
+    print(r4);
+    r14 = sub(r9, 1);
+    r3 = r13;
+    r9 = r14;
+    r15 = r16;
+    goto L46;
+L98:;
+    r5 = 0 == r15;
+    r22 = add(r0, 8);
+    r23 = load(r22);
+    r24 = r23 > 20;
+    r11 = add(r24, 9);
+    r7 = sub(r6, 1);
+    r2 = r3;
+    r4 = r5;
+    r6 = r7;
+    r8 = r9;
+    r10 = r11;
+    goto L25;
+L138:;
+    r25 = r2 != r4;
+    r26 = add(r4, r10);
+    r27 = r25 != r26;
+    r28 = add(r0, 16);
+    store(r28, r27);
+    r29 = load(r28);
+    r30 = 68 > r29;
+    if (r30) goto L168; else goto L299;
+L168:;
+    r31 = add(r0, 8);
+    r32 = load(r31);
+    r33 = r32 > 24;
+    r34 = add(r0, 24);
+    r35 = load(r34);
+    r36 = r35 > r10;
+    r37 = r33 > r36;
+    r38 = r37;
+L197:;
+    r39 = r4 < 76;
+    if (r39) goto L205; else goto L306;
+L205:;
+    r40 = r4 == r4;
+    if (r40) goto L213; else goto L313;
+L213:;
+    r41 = sub(32, r2);
+    r42 = r41 != 75;
+    r43 = mul(68, r42);
+    r44 = r43;
+L232:;
+    r45 = r44;
+L239:;
+    r46 = add(r0, 8);
+    r47 = load(r46);
+    r48 = r47 > r2;
+    if (r48) goto L252; else goto L267;
+L252:;
+    r49 = add(r0, 16);
+    r50 = load(r49);
+    r51 = 68;
+    r52 = r50;
+    goto L277;
+L267:;
+    r51 = r4;
+    r52 = r4;
+L277:;
+    r53 = add(r0, 8);
+    r54 = load(r53);
+    r55 = mul(r54, r4);
+    r56 = load(r53);
+    r57 = r56 == r4;
+    r58 = add(r55, r57);
+    return r58;
+L299:;
+    r38 = r10;
+    goto L197;
+L306:;
+    r45 = r38;
+    goto L239;
+L313:;
+    r44 = r38;
+    goto L232;
+}
+
+/* m0C2 */
+static int64_t f8(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0;
+    r0 = a0;
+    r1 = add(r0, 8);
+    r2 = load(r1);
+    r3 = div_(r2, 5);
+    print(r3);
+    r4 = 2;
+    r6 = 8;
+L21:;
+    r8 = r4 > 0;
+    if (r8) goto L29; else goto L71;
+L29:;
+    r9 = add(r0, 8);
+    r10 = load(r9);
+    r11 = r10 <= 3;
+    print(r11);
+    r12 = shl(r6, 1);
+    r13 = add(r0, 16);
+    r14 = load(r13);
+    r15 = r6 <= r14;
+    r7 = sub(r12, r15);
+    r5 = sub(r4, 1);
+    r4 = r5;
+    r6 = r7;
+    goto L21;
+L71:;
+    r16 = r6 == 89;
+    r17 = add(r0, 16);
+    r18 = load(r17);
+    r19 = r16 == r18;
+    r20 = add(r0, 24);
+    r21 = load(r20);
+    r22 = load(r20);
+    r23 = add(r0, 8);
+    r24 = load(r23);
+    r25 = sub(r22, r24);
+    r26 = sub(32, r25);
+    r27 = load(r17);
+    r28 = r27 <= r21;
+    r29 = load(r20);
+    r30 = r28 == r29;
+    store(r20, r30);
+    r31 = 2;
+    r33 = 18;
+L132:;
+    r34 = r31 > 0;
+    if (r34) goto L140; else goto L165;
+L140:;
+    r35 = add(r0, 16);
+    r36 = load(r35);
+    r37 = shl(r36, 0);
+    print(r37);
+    r32 = sub(r31, 1);
+    r31 = r32;
+    r33 = 1;
+    goto L132;
+L165:;
+    r38 = r31;
+    r39 = 32;
+    r40 = r33;
+    print(12);
+    r41 = add(r0, 24);
+    r42 = load(r41);
+    r43 = r42 <= r40;
+    r44 = add(r0, 16);
+    r45 = load(r44);
+    r46 = 57 > r45;
+    r47 = r43 != r46;
+    r48 = add(r0, 8);
+    r49 = load(r48);
+    return r49;
+}
+
+/* m1C2 */
+static int64_t f9(int64_t a0, int64_t a1) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = 3;
+    r3 = 0;
+    r5 = 2;
+    r7 = 7;
+L16:;
+    r9 = r5 > 0;
+    if (r9) goto L24; else goto L100;
+L24:;
+    r10 = r7 == 7;
+    print(r10);
+    r11 = r2;
+    r4 = 3;
+    r8 = r7;
+L43:;
+    r14 = r4 > 0;
+    if (r14) goto L51; else goto L80;
+L51:;
+    r15 = r11 == 1;
+    r16 = r11 == r1;
+    r12 = mul(r15, r16);
+    r13 = sub(r4, 1);
+    r11 = r12;
+    r4 = r13;
+    r8 = 1;
+    goto L43;
+L80:;
+    r6 = sub(r5, 1);
+    r2 = 5;
+    r3 = r4;
+    r5 = r6;
+    r7 = r8;
+    goto L16;
+L100:;
+    r17 = r2;
+    r19 = 3;
+    r21 = 1;
+L113:;
+    r22 = r19 > 0;
+    if (r22) goto L121; else goto L155;
+L121:;
+    print(36);
+    r23 = shr(r1, 2);
+    r18 = shr(r23, 2);
+    r24 = add(r0, 24);
+    store(r24, 17);
+    r20 = sub(r19, 1);
+    r17 = r18;
+    r19 = r20;
+    r21 = r7;
+    goto L113;
+L155:;
+    r25 = add(r0, 16);
+    r26 = load(r25);
+    r27 = r26;
+    r28 = 4;
+    r30 = r7;
+L173:;
+    r31 = r28 > 0;
+    if (r31) goto L181; else goto L210;
+L181:;
+    r32 = 57 > r21;
+    r33 = sub(1, r1);
+    r34 = r32 >= r33;
+    r29 = sub(r28, 1);
+    r27 = 1;
+    r28 = r29;
+    r30 = 85;
+    goto L173;
+L210:;
+    r35 = add(r0, 24);
+    store(r35, 26);
+    r36 = r21 == r30;
+    r37 = add(r0, 16);
+    r38 = load(r37);
+    r39 = r1 != r38;
+    r40 = r36 != r39;
+    return r40;
+}
+
+/* m2C2 */
+static int64_t f10(int64_t a0, int64_t a1, int64_t a2) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0, r42 = 0, r43 = 0, r44 = 0, r45 = 0, r46 = 0, r47 = 0,
+        r48 = 0, r49 = 0, r50 = 0;
+    r0 = a0;
+    r1 = a1;
+    r2 = a2;
+    r3 = add(r0, 24);
+    r4 = load(r3);
+    r5 = r4 >= r1;
+    r6 = sub(r5, 0);
+    r7 = add(r0, 16);
+    r8 = load(r7);
+    r9 = r8 <= r2;
+    r10 = 4 != r9;
+    r11 = sub(r10, r6);
+    r12 = r6 > r10;
+    r13 = mul(r11, r12);
+    r14 = add(r0, 8);
+    r15 = load(r14);
+    r16 = r10 != r15;
+    r17 = r1 < r1;
+    r18 = r16 >= r17;
+    r19 = r13 < r1;
+    if (r19) goto L63; else goto L198;
+L63:;
+    r20 = div_(r13, 6);
+    r21 = r1 >= 66;
+    r22 = r2 != r20;
+    r23 = r21 != r22;
+    r24 = r23;
+    r25 = r20;
+L89:;
+    r26 = shr(r24, 2);
+    print(r26);
+    r27 = r24 < r13;
+    r28 = add(r13, 41);
+    r29 = sub(r27, r28);
+    r30 = add(r0, 16);
+    r31 = load(r30);
+    r32 = r1 > r31;
+    r33 = mul(r25, r32);
+    r34 = add(r33, r29);
+    r35 = sub(r2, r29);
+    print(r35);
+    r36 = 25 <= r32;
+    if (r36) goto L138; else goto L208;
+L138:;
+    r37 = 67 >= r34;
+    r38 = add(r0, 24);
+    r39 = load(r38);
+    r40 = r39 == r34;
+    r41 = sub(r37, r40);
+    r42 = add(r0, 8);
+    store(r42, r41);
+    r43 = load(r38);
+    r44 = 81 <= r43;
+    r45 = r29 != 37;
+    r46 = r44 == r45;
+    r47 = r46;
+L184:;
+    r48 = r29 >= 18;
+    r49 = sub(r34, r47);
+    r50 = mul(r48, r49);
+    return r50;
+L198:;
+    r24 = 4;
+    r25 = r18;
+    goto L89;
+L208:;
+    r47 = r34;
+    goto L184;
+}
+
+/* m3C2 */
+static int64_t f11(int64_t a0) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0, r15 = 0,
+        r16 = 0, r17 = 0, r18 = 0, r19 = 0, r20 = 0, r21 = 0, r22 = 0, r23 = 0,
+        r24 = 0, r25 = 0, r26 = 0, r27 = 0, r28 = 0, r29 = 0, r30 = 0, r31 = 0,
+        r32 = 0, r33 = 0, r34 = 0, r35 = 0, r36 = 0, r37 = 0, r38 = 0, r39 = 0,
+        r40 = 0, r41 = 0;
+    r0 = a0;
+    r1 = 1;
+    r2 = 3;
+    r3 = r1;
+    r4 = r2;
+    r5 = r4 != 14;
+    if (r5) goto L20; else goto L24;
+L20:;
+    print(7);
+L24:;
+    r6 = 4;
+    r8 = 7;
+    r10 = r4;
+L37:;
+    r12 = r6 > 0;
+    if (r12) goto L45; else goto L114;
+L45:;
+    r13 = r10 <= 2;
+    r14 = add(10, r10);
+    r15 = add(r13, r14);
+    r16 = add(r0, 8);
+    r17 = load(r16);
+    r18 = 2 != r17;
+    if (r18) goto L70; else goto L194;
+L70:;
+    r19 = add(r0, 16);
+    r20 = load(r19);
+    r21 = r3 != r20;
+    r22 = r15 > r20;
+    r23 = sub(r21, r22);
+    r9 = r23;
+    r11 = r3;
+L97:;
+    r7 = sub(r6, 1);
+    r6 = r7;
+    r8 = r9;
+    r10 = r11;
+    goto L37;
+L114:;
+    r24 = shl(r10, 0);
+    r25 = 2 <= r10;
+    r26 = mul(r24, r25);
+    r27 = 59 == r25;
+    r28 = add(r0, 16);
+    r29 = load(r28);
+    print(r29);
+    r30 = add(r0, 8);
+    r31 = load(r30);
+    r32 = 2 != r31;
+    if (r32) goto L150; else goto L160;
+L150:;
+    r37 = 2;
+    r38 = r26;
+    goto L183;
+L160:;
+    r33 = add(r0, 24);
+    r34 = load(r33);
+    r35 = r34 >= 58;
+    r36 = div_(r35, 4);
+    r37 = r36;
+    r38 = r27;
+L183:;
+    r39 = add(r0, 16);
+    r40 = load(r39);
+    r41 = sub(3591, r40);
+    return r41;
+L194:;
+    r9 = r15;
+    r11 = r10;
+    goto L97;
+}
+
+/* main */
+static int64_t program(void) {
+    int64_t r0 = 0, r1 = 0, r2 = 0, r3 = 0, r4 = 0, r5 = 0, r6 = 0, r7 = 0,
+        r8 = 0, r9 = 0, r10 = 0, r11 = 0, r12 = 0, r13 = 0, r14 = 0;
+    r0 = alloc(4);
+    store(r0, 8);
+    r1 = load(r0);
+    r2 = load(elem(r1, 3));
+    r3 = ((int64_t (*)(int64_t)) callee(r2, 1))(r0);
+    r4 = add(0, r3);
+    r5 = alloc(4);
+    store(r5, 40);
+    r6 = load(r5);
+    r7 = load(elem(r6, 3));
+    r8 = ((int64_t (*)(int64_t)) callee(r7, 1))(r5);
+    r9 = add(r4, r8);
+    r10 = alloc(4);
+    store(r10, 72);
+    r11 = load(r10);
+    r12 = load(elem(r11, 3));
+    r13 = ((int64_t (*)(int64_t)) callee(r12, 1))(r10);
+    r14 = add(r9, r13);
+    print(r14);
+    return 0;
+}
+
+int main(void) {
+    init();
+    printf("Final result: Data { val: %" PRId64 " }\n", program());
+    return 0;
+}